@@ -89,10 +89,18 @@ class AggregateChangeExecutor {
 			executionContext.executeBatchInsert(batchInsert);
 		} else if (action instanceof DbAction.UpdateRoot<?> updateRoot) {
 			executionContext.executeUpdateRoot(updateRoot);
+		} else if (action instanceof DbAction.BatchUpdateRoot<?> batchUpdateRoot) {
+			executionContext.executeBatchUpdateRoot(batchUpdateRoot);
+		} else if (action instanceof DbAction.UpsertRoot<?> upsertRoot) {
+			executionContext.executeUpsertRoot(upsertRoot);
+		} else if (action instanceof DbAction.BatchUpsertRoot<?> batchUpsertRoot) {
+			executionContext.executeBatchUpsertRoot(batchUpsertRoot);
 		} else if (action instanceof DbAction.Delete<?> delete) {
 			executionContext.executeDelete(delete);
 		} else if (action instanceof DbAction.BatchDelete<?> batchDelete) {
 			executionContext.executeBatchDelete(batchDelete);
+		} else if (action instanceof DbAction.SynchronizeReferenced<?> synchronizeReferenced) {
+			executionContext.executeSynchronizeReferenced(synchronizeReferenced);
 		} else if (action instanceof DbAction.DeleteAll<?> deleteAll) {
 			executionContext.executeDeleteAll(deleteAll);
 		} else if (action instanceof DbAction.DeleteRoot<?> deleteRoot) {
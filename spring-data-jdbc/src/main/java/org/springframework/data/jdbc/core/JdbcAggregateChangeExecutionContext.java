@@ -37,6 +37,7 @@ import org.springframework.data.jdbc.core.convert.InsertSubject;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.JdbcIdentifierBuilder;
 import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.PersistentPropertyPathAccessor;
 import org.springframework.data.relational.core.conversion.DbAction;
@@ -50,6 +51,7 @@ import org.springframework.data.relational.core.mapping.RelationalPersistentProp
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.util.Pair;
 import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
 
 /**
  * A container for the data required and produced by an aggregate change execution. Most importantly it holds the
@@ -130,6 +132,46 @@ class JdbcAggregateChangeExecutionContext {
 		add(new DbActionExecutionResult(update));
 	}
 
+	<T> void executeBatchUpdateRoot(DbAction.BatchUpdateRoot<T> batchUpdateRoot) {
+
+		List<DbAction.UpdateRoot<T>> updates = batchUpdateRoot.getActions();
+		List<T> instances = updates.stream().map(DbAction.UpdateRoot::entity).toList();
+
+		if (batchUpdateRoot.getBatchValue()) {
+
+			List<Number> previousVersions = updates.stream().map(DbAction.UpdateRoot::getPreviousVersion).toList();
+			boolean[] updated = accessStrategy.updateAllWithVersion(instances, batchUpdateRoot.getEntityType(),
+					previousVersions);
+
+			for (int i = 0; i < updated.length; i++) {
+				if (!updated[i]) {
+					throw OptimisticLockingUtils.updateFailed(instances.get(i), previousVersions.get(i),
+							getRequiredPersistentEntity(batchUpdateRoot.getEntityType()));
+				}
+			}
+		} else {
+			accessStrategy.updateAll(instances, batchUpdateRoot.getEntityType());
+		}
+
+		updates.forEach(update -> add(new DbActionExecutionResult(update)));
+	}
+
+	<T> void executeUpsertRoot(DbAction.UpsertRoot<T> upsert) {
+
+		accessStrategy.upsert(upsert.entity(), upsert.getEntityType());
+		add(new DbActionExecutionResult(upsert));
+	}
+
+	<T> void executeBatchUpsertRoot(DbAction.BatchUpsertRoot<T> batchUpsertRoot) {
+
+		List<DbAction.UpsertRoot<T>> upserts = batchUpsertRoot.getActions();
+
+		accessStrategy.upsertAll(upserts.stream().map(DbAction.UpsertRoot::entity).toList(),
+				batchUpsertRoot.getEntityType());
+
+		upserts.forEach(upsert -> add(new DbActionExecutionResult(upsert)));
+	}
+
 	<T> void executeDeleteRoot(DbAction.DeleteRoot<T> delete) {
 
 		if (delete.previousVersion() != null) {
@@ -156,6 +198,53 @@ class JdbcAggregateChangeExecutionContext {
 		accessStrategy.delete(rootIds, batchDelete.getBatchValue());
 	}
 
+	/**
+	 * Synchronizes the rows referenced via the path of the action with the desired state by comparing them by id. Rows
+	 * without matching element get deleted, elements without matching row get inserted and elements whose state differs
+	 * from the stored row get updated.
+	 */
+	<T> void executeSynchronizeReferenced(DbAction.SynchronizeReferenced<T> synchronize) {
+
+		PersistentPropertyPath<RelationalPersistentProperty> propertyPath = synchronize.propertyPath();
+		AggregatePath aggregatePath = context.getAggregatePath(propertyPath);
+		RelationalPersistentEntity<T> entity = getRequiredPersistentEntity(synchronize.getEntityType());
+
+		Identifier rootKeys = JdbcIdentifierBuilder //
+				.forBackReferences(converter, aggregatePath, getIdMapper(synchronize.rootId(), aggregatePath, converter)) //
+				.build();
+
+		Map<Object, Object> persisted = new LinkedHashMap<>();
+		for (Object element : accessStrategy.findAllByPath(rootKeys, propertyPath)) {
+			persisted.put(entity.getIdentifierAccessor(element).getRequiredIdentifier(), element);
+		}
+
+		List<DbAction.Insert<T>> updates = new ArrayList<>();
+		Map<IdValueSource, List<DbAction.Insert<T>>> inserts = new LinkedHashMap<>();
+
+		for (DbAction.Insert<T> element : synchronize.elements()) {
+
+			Object id = entity.getIdentifierAccessor(element.entity()).getIdentifier();
+			Object current = id == null ? null : persisted.remove(id);
+
+			if (current == null) {
+				inserts.computeIfAbsent(element.idValueSource(), it -> new ArrayList<>()).add(element);
+			} else {
+
+				if (!hasSameState(entity, current, element.entity())) {
+					updates.add(element);
+				}
+				add(new DbActionExecutionResult(element));
+			}
+		}
+
+		if (!persisted.isEmpty()) {
+			accessStrategy.delete(new ArrayList<>(persisted.keySet()), entity.getType());
+		}
+
+		updates.forEach(update -> accessStrategy.update(update.entity(), update.getEntityType()));
+		inserts.values().forEach(batch -> executeBatchInsert(new DbAction.BatchInsert<>(batch)));
+	}
+
 	<T> void executeDeleteAllRoot(DbAction.DeleteAllRoot<T> deleteAllRoot) {
 
 		accessStrategy.deleteAll(deleteAllRoot.getEntityType());
@@ -276,7 +365,7 @@ class JdbcAggregateChangeExecutionContext {
 
 			Object newEntity = setIdAndCascadingProperties(action, result.getGeneratedId(), cascadingValues);
 
-			if (action instanceof DbAction.InsertRoot || action instanceof DbAction.UpdateRoot) {
+			if (action instanceof DbAction.WithRoot) {
 				// noinspection unchecked
 				roots.add((T) newEntity);
 			}
@@ -341,7 +430,7 @@ class JdbcAggregateChangeExecutionContext {
 			return pathToValue;
 		}
 
-		if (action instanceof DbAction.UpdateRoot) {
+		if (action instanceof DbAction.UpdateRoot || action instanceof DbAction.UpsertRoot) {
 			return pathToValue;
 		}
 
@@ -368,6 +457,20 @@ class JdbcAggregateChangeExecutionContext {
 		}
 	}
 
+	private static boolean hasSameState(RelationalPersistentEntity<?> entity, Object persisted, Object current) {
+
+		PersistentPropertyAccessor<Object> persistedAccessor = entity.getPropertyAccessor(persisted);
+		PersistentPropertyAccessor<Object> currentAccessor = entity.getPropertyAccessor(current);
+
+		for (RelationalPersistentProperty property : entity) {
+			if (!ObjectUtils.nullSafeEquals(persistedAccessor.getProperty(property), currentAccessor.getProperty(property))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
 	/**
 	 * Accumulates information about staged immutable objects in an aggregate that require updating because their state
 	 * changed because of {@link DbAction} execution.
@@ -21,9 +21,12 @@ import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.relational.core.query.Query;
@@ -115,6 +118,36 @@ public interface JdbcAggregateOperations {
 	 */
 	<T> List<T> updateAll(Iterable<T> instances);
 
+	/**
+	 * Dedicated upsert function. Inserts the aggregate root or updates it if a row with the same id already exists, using
+	 * a single statement, without checking whether the aggregate is new. Referenced entities get deleted and inserted
+	 * again as for {@link #update(Object)}.
+	 * <p>
+	 * This is useful if the client provides the id and does not know whether the aggregate exists.
+	 * </p>
+	 *
+	 * @param instance the aggregate root of the aggregate to be upserted. Must not be {@code null} and must have its id
+	 *          set.
+	 * @param <T> the type of the aggregate root.
+	 * @return the saved instance.
+	 * @throws IllegalStateException if the id of the aggregate root is not set or the aggregate root is versioned.
+	 * @since 4.1
+	 */
+	<T> T upsert(T instance);
+
+	/**
+	 * Upserts all aggregate instances, including all the members of each aggregate instance. The upserts of the aggregate
+	 * roots are executed as a batch.
+	 *
+	 * @param instances the aggregate roots to be upserted. Must not be {@code null}.
+	 * @param <T> the type of the aggregate root.
+	 * @return the saved instances.
+	 * @throws IllegalStateException if the id of an aggregate root is not set or the aggregate root is versioned.
+	 * @since 4.1
+	 * @see #upsert(Object)
+	 */
+	<T> List<T> upsertAll(Iterable<T> instances);
+
 	/**
 	 * Counts the number of aggregates of a given type.
 	 *
@@ -273,6 +306,20 @@ public interface JdbcAggregateOperations {
 	 */
 	<T> Stream<T> streamAll(Query query, Class<T> domainType);
 
+	/**
+	 * Execute a {@code SELECT} query and return a {@link Window} of the resulting items starting at the given
+	 * {@link ScrollPosition}. The {@link Query#getLimit() limit} of the query determines the size of the window.
+	 * {@link KeysetScrollPosition Keyset positions} seek to the position using criteria on the sort columns, so the cost
+	 * of obtaining a window does not grow with the number of preceding rows.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param domainType the type of entities. Must not be {@code null}.
+	 * @param scrollPosition the position to start the window at. Must not be {@code null}.
+	 * @return a {@link Window} of the matching results.
+	 * @since 4.1
+	 */
+	<T> Window<T> scroll(Query query, Class<T> domainType, ScrollPosition scrollPosition);
+
 	/**
 	 * Returns a {@link Page} of entities matching the given {@link Query}. In case no match could be found, an empty
 	 * {@link Page} is returned.
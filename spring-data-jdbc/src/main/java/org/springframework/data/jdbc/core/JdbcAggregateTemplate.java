@@ -36,12 +36,17 @@ import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.OffsetScrollPosition;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.EntityRowMapper;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.repository.support.ScrollDelegate;
 import org.springframework.data.mapping.IdentifierAccessor;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.relational.core.EntityLifecycleEventDelegate;
@@ -52,6 +57,7 @@ import org.springframework.data.relational.core.conversion.MutableAggregateChang
 import org.springframework.data.relational.core.conversion.RelationalEntityDeleteWriter;
 import org.springframework.data.relational.core.conversion.RelationalEntityInsertWriter;
 import org.springframework.data.relational.core.conversion.RelationalEntityUpdateWriter;
+import org.springframework.data.relational.core.conversion.RelationalEntityUpsertWriter;
 import org.springframework.data.relational.core.conversion.RelationalEntityVersionUtils;
 import org.springframework.data.relational.core.conversion.RootAggregateChange;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
@@ -89,6 +95,7 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations, Applicati
 	private final JdbcConverter converter;
 
 	private @Nullable EntityCallbacks entityCallbacks;
+	private int batchSize = 0;
 
 	/**
 	 * Creates a new {@link JdbcAggregateTemplate} given {@link RelationalMappingContext} and {@link DataAccessStrategy}.
@@ -192,6 +199,23 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations, Applicati
 		this.eventDelegate.setEventsEnabled(enabled);
 	}
 
+	/**
+	 * Configure the maximum number of aggregates that {@link #saveAll(Iterable)}, {@link #insertAll(Iterable)} and
+	 * {@link #updateAll(Iterable)} process in a single batch. Larger inputs are split into consecutive batches that are
+	 * executed one after the other, so that changes and parameters of completed batches can be released. Each batch is
+	 * handed to the {@link DataAccessStrategy} as a whole. Defaults to {@literal 0}, processing all aggregates in a single
+	 * batch.
+	 *
+	 * @param batchSize the maximum number of aggregates per batch, {@literal 0} for no limit.
+	 * @since 4.1
+	 */
+	public void setBatchSize(int batchSize) {
+
+		Assert.isTrue(batchSize >= 0, "Batch size must not be negative");
+
+		this.batchSize = batchSize;
+	}
+
 	/**
 	 * Return a {@link RowMapper} to map results for {@link Class type}.
 	 *
@@ -266,6 +290,19 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations, Applicati
 		return doInBatch(instances, entity -> createUpdateChange(prepareVersionForUpdate(entity)));
 	}
 
+	@Override
+	public <T> T upsert(T instance) {
+
+		Assert.notNull(instance, "Aggregate instance must not be null");
+
+		return performSave(new EntityAndChangeCreator<>(instance, this::createUpsertChange));
+	}
+
+	@Override
+	public <T> List<T> upsertAll(Iterable<T> instances) {
+		return doInBatch(instances, this::createUpsertChange);
+	}
+
 	private <T> List<T> saveInBatch(Iterable<T> instances, Function<T, AggregateChangeCreator<T>> changes) {
 
 		Assert.notNull(instances, "Aggregate instances must not be null");
@@ -389,14 +426,29 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations, Applicati
 		return accessStrategy.streamAll(query, domainType).map(this::triggerAfterConvert);
 	}
 
+	@Override
+	public <T> Window<T> scroll(Query query, Class<T> domainType, ScrollPosition scrollPosition) {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(domainType, "Domain type must not be null");
+		Assert.notNull(scrollPosition, "ScrollPosition must not be null");
+
+		Query queryToUse = query;
+		if (scrollPosition instanceof OffsetScrollPosition offset && !offset.isInitial()) {
+			queryToUse = query.offset(offset.getOffset() + 1);
+		}
+
+		return ScrollDelegate.scroll(queryToUse, it -> findAll(it, domainType), scrollPosition,
+				context.getRequiredPersistentEntity(domainType));
+	}
+
 	@Override
 	@Deprecated(since = "4.0", forRemoval = true)
 	public <T> Page<T> findAll(Query query, Class<T> domainType, Pageable pageable) {
 
-		Iterable<T> items = triggerAfterConvert(accessStrategy.findAll(query, domainType, pageable));
-		List<T> content = StreamSupport.stream(items.spliterator(), false).collect(Collectors.toList());
+		Page<T> page = accessStrategy.findPage(query, domainType, pageable);
 
-		return PageableExecutionUtils.getPage(content, pageable, () -> accessStrategy.count(query, domainType));
+		return new PageImpl<>(triggerAfterConvert(page.getContent()), pageable, page.getTotalElements());
 	}
 
 	@Override
@@ -596,6 +648,28 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations, Applicati
 
 	private <T> List<T> performSaveAll(Iterable<EntityAndChangeCreator<T>> instances) {
 
+		List<T> results = new ArrayList<>();
+		List<EntityAndChangeCreator<T>> chunk = new ArrayList<>();
+
+		for (EntityAndChangeCreator<T> instance : instances) {
+
+			chunk.add(instance);
+
+			if (batchSize > 0 && chunk.size() == batchSize) {
+				results.addAll(performSaveChunk(chunk));
+				chunk.clear();
+			}
+		}
+
+		if (!chunk.isEmpty() || results.isEmpty()) {
+			results.addAll(performSaveChunk(chunk));
+		}
+
+		return results;
+	}
+
+	private <T> List<T> performSaveChunk(List<EntityAndChangeCreator<T>> instances) {
+
 		BatchingAggregateChange<T, RootAggregateChange<T>> batchingAggregateChange = null;
 
 		for (EntityAndChangeCreator<T> instance : instances) {
@@ -639,6 +713,20 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations, Applicati
 		return aggregateChange;
 	}
 
+	private <T> RootAggregateChange<T> createUpsertChange(T instance) {
+
+		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(instance);
+
+		Assert.state(!persistentEntity.hasVersionProperty(),
+				() -> "Versioned aggregate %s cannot be upserted".formatted(persistentEntity.getName()));
+		Assert.state(persistentEntity.getIdentifierAccessor(instance).getIdentifier() != null,
+				() -> "Aggregate %s must have its id set to be upserted".formatted(persistentEntity.getName()));
+
+		RootAggregateChange<T> aggregateChange = MutableAggregateChange.forSave(instance);
+		new RelationalEntityUpsertWriter<T>(context).write(instance, aggregateChange);
+		return aggregateChange;
+	}
+
 	private <T> T prepareVersionForInsert(T instance) {
 
 		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(instance);
@@ -22,9 +22,15 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.jspecify.annotations.Nullable;
+import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.mapping.AggregatePath;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
@@ -35,7 +41,6 @@ import org.springframework.data.relational.core.sql.Condition;
 import org.springframework.data.relational.core.sql.Table;
 import org.springframework.data.relational.core.sqlgeneration.AliasFactory;
 import org.springframework.data.relational.core.sqlgeneration.SingleQuerySqlGenerator;
-import org.springframework.data.relational.core.sqlgeneration.SqlGenerator;
 import org.springframework.data.relational.domain.RowDocument;
 import org.springframework.data.util.Streamable;
 import org.springframework.jdbc.core.ResultSetExtractor;
@@ -54,19 +59,29 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
  */
 class AggregateReader implements PathToColumnMapping {
 
+	/**
+	 * Maximum number of distinct query shapes for which the generated SQL gets cached.
+	 */
+	private static final int STATEMENT_CACHE_SIZE = 256;
+
 	private final AliasFactory aliasFactory;
-	private final SqlGenerator sqlGenerator;
+	private final SingleQuerySqlGenerator sqlGenerator;
 	private final JdbcConverter converter;
+	private final QueryMapper queryMapper;
 	private final NamedParameterJdbcOperations jdbcTemplate;
 	private final RowDocumentResultSetExtractor extractor;
+	private final StatementCache<QueryShape> statementCache;
 
 	AggregateReader(Dialect dialect, JdbcConverter converter, NamedParameterJdbcOperations jdbcTemplate) {
 
 		this.aliasFactory = new AliasFactory();
 		this.converter = converter;
+		this.queryMapper = new QueryMapper(converter);
 		this.jdbcTemplate = jdbcTemplate;
 		this.sqlGenerator = new SingleQuerySqlGenerator(converter.getMappingContext(), aliasFactory, dialect);
 		this.extractor = new RowDocumentResultSetExtractor(converter.getMappingContext(), this);
+		this.statementCache = new StatementCache<>(STATEMENT_CACHE_SIZE, shape -> sqlGenerator.findAll(shape.entity(),
+				shape.condition(), shape.sort(), shape.limit(), shape.offset()));
 	}
 
 	@Override
@@ -96,7 +111,7 @@ class AggregateReader implements PathToColumnMapping {
 	 */
 	public <T> @Nullable T findById(Object id, RelationalPersistentEntity<T> entity) {
 
-		Query query = Query.query(Criteria.where(entity.getRequiredIdProperty().getName()).is(id)).limit(1);
+		Query query = Query.query(Criteria.where(entity.getRequiredIdProperty().getName()).is(id));
 
 		return findOne(query, entity);
 	}
@@ -124,11 +139,26 @@ class AggregateReader implements PathToColumnMapping {
 	 * @param <T> aggregator type.
 	 */
 	public <T> List<T> findAllById(Iterable<?> ids, RelationalPersistentEntity<T> entity) {
+		return findAll(byIds(ids, entity), entity);
+	}
 
-		Collection<?> identifiers = ids instanceof Collection<?> idl ? idl : Streamable.of(ids).toList();
-		Query query = Query.query(Criteria.where(entity.getRequiredIdProperty().getName()).in(identifiers));
+	/**
+	 * Stream aggregates by their identifiers.
+	 *
+	 * @param ids the identifiers, must not be {@literal null}.
+	 * @param entity the persistent entity type must not be {@literal null}.
+	 * @return a {@link Stream} of the found aggregate roots. Must be closed after use.
+	 * @param <T> aggregator type.
+	 * @since 4.1
+	 */
+	public <T> Stream<T> streamAllById(Iterable<?> ids, RelationalPersistentEntity<T> entity) {
+		return streamAll(byIds(ids, entity), entity);
+	}
+
+	private static Query byIds(Iterable<?> ids, RelationalPersistentEntity<?> entity) {
 
-		return findAll(query, entity);
+		Collection<?> identifiers = ids instanceof Collection<?> idl ? idl : Streamable.of(ids).toList();
+		return Query.query(Criteria.where(entity.getRequiredIdProperty().getName()).in(identifiers));
 	}
 
 	/**
@@ -140,7 +170,7 @@ class AggregateReader implements PathToColumnMapping {
 	 */
 	@SuppressWarnings("ConstantConditions")
 	public <T> List<T> findAll(RelationalPersistentEntity<T> entity) {
-		return jdbcTemplate.query(sqlGenerator.findAll(entity),
+		return jdbcTemplate.query(statementCache.get(QueryShape.of(entity, null, Query.empty())),
 				(ResultSetExtractor<? extends List<T>>) rs -> extractAll(rs, entity));
 	}
 
@@ -156,23 +186,70 @@ class AggregateReader implements PathToColumnMapping {
 		return doFind(query, entity, rs -> extractAll(rs, entity));
 	}
 
+	/**
+	 * Stream aggregates by query. Aggregates are read from the underlying {@link ResultSet} one at a time while the
+	 * {@link Stream} is consumed, so the complete result never needs to be held in memory.
+	 *
+	 * @param query the query to run, must not be {@literal null}.
+	 * @param entity the persistent entity type must not be {@literal null}.
+	 * @return a {@link Stream} of the found aggregate roots. Must be closed after use to release database resources.
+	 * @param <T> aggregator type.
+	 * @since 4.1
+	 */
+	public <T> Stream<T> streamAll(Query query, RelationalPersistentEntity<T> entity) {
+
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+		String sql = getSql(query, parameterSource, entity);
+
+		// the row mapper exposes the ResultSet positioned on the first row, which then gets advanced by the
+		// RowDocumentIterator. The Stream provided by the template is only used to release resources on close.
+		Stream<ResultSet> resultSets = jdbcTemplate.queryForStream(sql, parameterSource, (rs, rowNum) -> rs);
+
+		try {
+
+			Iterator<ResultSet> cursor = resultSets.iterator();
+			if (!cursor.hasNext()) {
+
+				resultSets.close();
+				return Stream.empty();
+			}
+
+			Iterator<RowDocument> documents = extractor.iterate(entity, cursor.next());
+			return StreamSupport
+					.stream(Spliterators.spliteratorUnknownSize(documents, Spliterator.ORDERED | Spliterator.NONNULL), false)
+					.map(document -> converter.read(entity.getType(), document)) //
+					.onClose(resultSets::close);
+		} catch (SQLException e) {
+
+			resultSets.close();
+			throw new DataRetrievalFailureException("Cannot read aggregates from ResultSet", e);
+		} catch (RuntimeException e) {
+
+			resultSets.close();
+			throw e;
+		}
+	}
+
 	@SuppressWarnings("ConstantConditions")
 	private <T, R extends @Nullable Object> R doFind(Query query, RelationalPersistentEntity<T> entity,
 			ResultSetExtractor<R> extractor) {
 
 		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
-		Condition condition = createCondition(query, parameterSource, entity);
-		String sql = sqlGenerator.findAll(entity, condition);
+		String sql = getSql(query, parameterSource, entity);
 
 		return jdbcTemplate.query(sql, parameterSource, extractor);
 	}
 
+	private String getSql(Query query, MapSqlParameterSource parameterSource, RelationalPersistentEntity<?> entity) {
+
+		Condition condition = createCondition(query, parameterSource, entity);
+		return statementCache.get(QueryShape.of(entity, condition, query));
+	}
+
 	@Nullable
 	private Condition createCondition(Query query, MapSqlParameterSource parameterSource,
 			RelationalPersistentEntity<?> entity) {
 
-		QueryMapper queryMapper = new QueryMapper(converter);
-
 		Optional<CriteriaDefinition> criteria = query.getCriteria();
 		return criteria.map(criteriaDefinition -> queryMapper.getMappedObject(parameterSource, criteriaDefinition,
 				Table.create(entity.getQualifiedTableName()), entity)).orElse(null);
@@ -227,4 +304,28 @@ class AggregateReader implements PathToColumnMapping {
 		return null;
 	}
 
+	/**
+	 * @return the cache holding the generated SQL per query shape.
+	 */
+	StatementCache<QueryShape> getStatementCache() {
+		return statementCache;
+	}
+
+	/**
+	 * The shape of a query determining the generated SQL. Mapped {@link Condition conditions} only contain bind markers
+	 * for values, so queries that differ only in their bind values share the same shape.
+	 *
+	 * @param entity the aggregate root to load.
+	 * @param condition the mapped condition, may be {@literal null}.
+	 * @param sort the order of the aggregate roots.
+	 * @param limit the maximum number of aggregate roots to load, negative for no limit.
+	 * @param offset the number of aggregate roots to skip.
+	 */
+	record QueryShape(RelationalPersistentEntity<?> entity, @Nullable Condition condition, Sort sort, int limit,
+			long offset) {
+
+		static QueryShape of(RelationalPersistentEntity<?> entity, @Nullable Condition condition, Query query) {
+			return new QueryShape(entity, condition, query.getSort(), query.getLimit(), query.getOffset());
+		}
+	}
 }
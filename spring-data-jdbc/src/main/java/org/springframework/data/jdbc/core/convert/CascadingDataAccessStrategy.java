@@ -19,13 +19,17 @@ import static java.lang.Boolean.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.PersistentPropertyPath;
@@ -39,7 +43,9 @@ import org.springframework.util.Assert;
 
 /**
  * Delegates each method to the {@link DataAccessStrategy}s passed to the constructor in turn until the first that does
- * not throw an exception.
+ * not throw an exception. {@link SelectiveDataAccessStrategy Selective strategies} that do not support an operation are
+ * skipped without invoking them. Which strategies support an operation is determined once per
+ * {@link DataAccessOperation} and cached.
  *
  * @author Jens Schauder
  * @author Mark Paluch
@@ -54,6 +60,9 @@ import org.springframework.util.Assert;
 public class CascadingDataAccessStrategy implements DataAccessStrategy {
 
 	private final List<DataAccessStrategy> strategies;
+	private final Map<DataAccessOperation, List<DataAccessStrategy>> resolvedStrategies = new ConcurrentHashMap<>();
+	private final LongAdder resolutionCacheHits = new LongAdder();
+	private final LongAdder resolutionCacheMisses = new LongAdder();
 
 	public CascadingDataAccessStrategy(List<DataAccessStrategy> strategies) {
 		this.strategies = new ArrayList<>(strategies);
@@ -78,165 +87,240 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public <T> @Nullable Object insert(T instance, Class<T> domainType, Identifier identifier,
 			IdValueSource idValueSource) {
-		return collect(das -> das.insert(instance, domainType, identifier, idValueSource));
+		return collect(DataAccessOperation.of("insert", domainType),
+				das -> das.insert(instance, domainType, identifier, idValueSource));
 	}
 
 	@Override
 	public <T> @Nullable Object[] insert(List<InsertSubject<T>> insertSubjects, Class<T> domainType,
 			IdValueSource idValueSource) {
-		return collect(das -> das.insert(insertSubjects, domainType, idValueSource));
+		return collect(DataAccessOperation.of("insertBatch", domainType),
+				das -> das.insert(insertSubjects, domainType, idValueSource));
 	}
 
 	@Override
 	public <S> boolean update(S instance, Class<S> domainType) {
-		return collect(das -> das.update(instance, domainType));
+		return collect(DataAccessOperation.of("update", domainType), das -> das.update(instance, domainType));
 	}
 
 	@Override
 	public <S> boolean updateWithVersion(S instance, Class<S> domainType, Number previousVersion) {
-		return collect(das -> das.updateWithVersion(instance, domainType, previousVersion));
+		return collect(DataAccessOperation.of("updateWithVersion", domainType),
+				das -> das.updateWithVersion(instance, domainType, previousVersion));
+	}
+
+	@Override
+	public <T> boolean[] updateAll(List<T> instances, Class<T> domainType) {
+		return collect(DataAccessOperation.of("updateAll", domainType), das -> das.updateAll(instances, domainType));
+	}
+
+	@Override
+	public <T> boolean[] updateAllWithVersion(List<T> instances, Class<T> domainType, List<Number> previousVersions) {
+		return collect(DataAccessOperation.of("updateAllWithVersion", domainType),
+				das -> das.updateAllWithVersion(instances, domainType, previousVersions));
+	}
+
+	@Override
+	public <T> void upsert(T instance, Class<T> domainType) {
+		collectVoid(DataAccessOperation.of("upsert", domainType), das -> das.upsert(instance, domainType));
+	}
+
+	@Override
+	public <T> void upsertAll(List<T> instances, Class<T> domainType) {
+		collectVoid(DataAccessOperation.of("upsertAll", domainType), das -> das.upsertAll(instances, domainType));
 	}
 
 	@Override
 	public void delete(Object id, Class<?> domainType) {
-		collectVoid(das -> das.delete(id, domainType));
+		collectVoid(DataAccessOperation.of("delete", domainType), das -> das.delete(id, domainType));
 	}
 
 	@Override
 	public void delete(Iterable<Object> ids, Class<?> domainType) {
-		collectVoid(das -> das.delete(ids, domainType));
+		collectVoid(DataAccessOperation.of("deleteBatch", domainType), das -> das.delete(ids, domainType));
 	}
 
 	@Override
 	public <T> void deleteWithVersion(Object id, Class<T> domainType, Number previousVersion) {
-		collectVoid(das -> das.deleteWithVersion(id, domainType, previousVersion));
+		collectVoid(DataAccessOperation.of("deleteWithVersion", domainType),
+				das -> das.deleteWithVersion(id, domainType, previousVersion));
 	}
 
 	@Override
 	public void delete(Object rootId, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
-		collectVoid(das -> das.delete(rootId, propertyPath));
+		collectVoid(DataAccessOperation.of("delete", propertyPath), das -> das.delete(rootId, propertyPath));
 	}
 
 	@Override
 	public void delete(Iterable<Object> rootIds, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
-		collectVoid(das -> das.delete(rootIds, propertyPath));
+		collectVoid(DataAccessOperation.of("deleteBatch", propertyPath), das -> das.delete(rootIds, propertyPath));
 	}
 
 	@Override
 	public <T> void deleteAll(Class<T> domainType) {
-		collectVoid(das -> das.deleteAll(domainType));
+		collectVoid(DataAccessOperation.of("deleteAll", domainType), das -> das.deleteAll(domainType));
 	}
 
 	@Override
 	public void deleteAll(PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
-		collectVoid(das -> das.deleteAll(propertyPath));
+		collectVoid(DataAccessOperation.of("deleteAll", propertyPath), das -> das.deleteAll(propertyPath));
 	}
 
 	@Override
 	public <T> void acquireLockById(Object id, LockMode lockMode, Class<T> domainType) {
-		collectVoid(das -> das.acquireLockById(id, lockMode, domainType));
+		collectVoid(DataAccessOperation.of("acquireLockById", domainType),
+				das -> das.acquireLockById(id, lockMode, domainType));
 	}
 
 	@Override
 	public <T> void acquireLockAll(LockMode lockMode, Class<T> domainType) {
-		collectVoid(das -> das.acquireLockAll(lockMode, domainType));
+		collectVoid(DataAccessOperation.of("acquireLockAll", domainType), das -> das.acquireLockAll(lockMode, domainType));
 	}
 
 	@Override
 	public long count(Class<?> domainType) {
-		return collect(das -> das.count(domainType));
+		return collect(DataAccessOperation.of("count", domainType), das -> das.count(domainType));
 	}
 
 	@Override
 	public <T extends @Nullable Object> T findById(Object id, Class<T> domainType) {
-		return collect(das -> das.findById(id, domainType));
+		return collect(DataAccessOperation.of("findById", domainType), das -> das.findById(id, domainType));
 	}
 
 	@Override
 	public <T> Iterable<T> findAll(Class<T> domainType) {
-		return collect(das -> das.findAll(domainType));
+		return collect(DataAccessOperation.of("findAll", domainType), das -> das.findAll(domainType));
 	}
 
 	@Override
 	public <T> Stream<T> streamAll(Class<T> domainType) {
-		return collect(das -> das.streamAll(domainType));
+		return collect(DataAccessOperation.of("streamAll", domainType), das -> das.streamAll(domainType));
 	}
 
 	@Override
 	public <T> Iterable<T> findAllById(Iterable<?> ids, Class<T> domainType) {
-		return collect(das -> das.findAllById(ids, domainType));
+		return collect(DataAccessOperation.of("findAllById", domainType), das -> das.findAllById(ids, domainType));
 	}
 
 	@Override
 	public <T> Stream<T> streamAllByIds(Iterable<?> ids, Class<T> domainType) {
-		return collect(das -> das.streamAllByIds(ids, domainType));
+		return collect(DataAccessOperation.of("streamAllByIds", domainType), das -> das.streamAllByIds(ids, domainType));
 	}
 
 	@Override
 	public Iterable<Object> findAllByPath(Identifier identifier,
 			PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
-		return collect(das -> das.findAllByPath(identifier, path));
+		return collect(DataAccessOperation.of("findAllByPath", path), das -> das.findAllByPath(identifier, path));
 	}
 
 	@Override
 	public <T> boolean existsById(Object id, Class<T> domainType) {
-		return collect(das -> das.existsById(id, domainType));
+		return collect(DataAccessOperation.of("existsById", domainType), das -> das.existsById(id, domainType));
 	}
 
 	@Override
 	public <T> Iterable<T> findAll(Class<T> domainType, Sort sort) {
-		return collect(das -> das.findAll(domainType, sort));
+		return collect(DataAccessOperation.of("findAllSorted", domainType), das -> das.findAll(domainType, sort));
 	}
 
 	@Override
 	public <T> Stream<T> streamAll(Class<T> domainType, Sort sort) {
-		return collect(das -> das.streamAll(domainType, sort));
+		return collect(DataAccessOperation.of("streamAllSorted", domainType), das -> das.streamAll(domainType, sort));
 	}
 
 	@Override
 	public <T> Iterable<T> findAll(Class<T> domainType, Pageable pageable) {
-		return collect(das -> das.findAll(domainType, pageable));
+		return collect(DataAccessOperation.of("findAllPaged", domainType), das -> das.findAll(domainType, pageable));
 	}
 
 	@Override
 	public <T> Optional<T> findOne(Query query, Class<T> domainType) {
-		return collect(das -> das.findOne(query, domainType));
+		return collect(DataAccessOperation.of("findOneByQuery", domainType), das -> das.findOne(query, domainType));
 	}
 
 	@Override
 	public <T> Iterable<T> findAll(Query query, Class<T> domainType) {
-		return collect(das -> das.findAll(query, domainType));
+		return collect(DataAccessOperation.of("findAllByQuery", domainType), das -> das.findAll(query, domainType));
 	}
 
 	@Override
 	public <T> Stream<T> streamAll(Query query, Class<T> domainType) {
-		return collect(das -> das.streamAll(query, domainType));
+		return collect(DataAccessOperation.of("streamAllByQuery", domainType), das -> das.streamAll(query, domainType));
 	}
 
 	@Override
 	public <T> Iterable<T> findAll(Query query, Class<T> domainType, Pageable pageable) {
-		return collect(das -> das.findAll(query, domainType, pageable));
+		return collect(DataAccessOperation.of("findAllByQueryPaged", domainType),
+				das -> das.findAll(query, domainType, pageable));
+	}
+
+	@Override
+	public <T> Page<T> findPage(Query query, Class<T> domainType, Pageable pageable) {
+		return collect(DataAccessOperation.of("findPageByQuery", domainType),
+				das -> das.findPage(query, domainType, pageable));
 	}
 
 	@Override
 	public <T> boolean exists(Query query, Class<T> domainType) {
-		return collect(das -> das.exists(query, domainType));
+		return collect(DataAccessOperation.of("existsByQuery", domainType), das -> das.exists(query, domainType));
 	}
 
 	@Override
 	public <T> long count(Query query, Class<T> domainType) {
-		return collect(das -> das.count(query, domainType));
+		return collect(DataAccessOperation.of("countByQuery", domainType), das -> das.count(query, domainType));
+	}
+
+	/**
+	 * @return the number of operations routed using a previously resolved list of supporting strategies.
+	 * @since 4.1
+	 */
+	public long getResolutionCacheHitCount() {
+		return resolutionCacheHits.sum();
 	}
 
-	private <T extends @Nullable Object> T collect(Function<DataAccessStrategy, T> function) {
-		return strategies.stream().collect(new FunctionCollector<>(function));
+	/**
+	 * @return the number of operations that required determining the supporting strategies.
+	 * @since 4.1
+	 */
+	public long getResolutionCacheMissCount() {
+		return resolutionCacheMisses.sum();
 	}
 
-	private void collectVoid(Consumer<DataAccessStrategy> consumer) {
+	private <T extends @Nullable Object> T collect(DataAccessOperation operation,
+			Function<DataAccessStrategy, T> function) {
+		return resolve(operation).stream().collect(new FunctionCollector<>(function));
+	}
 
-		collect(das -> {
+	private void collectVoid(DataAccessOperation operation, Consumer<DataAccessStrategy> consumer) {
+
+		collect(operation, das -> {
 			consumer.accept(das);
 			return TRUE;
 		});
 	}
+
+	/**
+	 * Determine the strategies to try for {@code operation}, skipping {@link SelectiveDataAccessStrategy selective
+	 * strategies} that do not support it. Falls back to all strategies if none remains so that the failure gets reported
+	 * as before.
+	 */
+	private List<DataAccessStrategy> resolve(DataAccessOperation operation) {
+
+		List<DataAccessStrategy> resolved = resolvedStrategies.get(operation);
+
+		if (resolved != null) {
+			resolutionCacheHits.increment();
+			return resolved;
+		}
+
+		resolutionCacheMisses.increment();
+
+		return resolvedStrategies.computeIfAbsent(operation, key -> {
+
+			List<DataAccessStrategy> supporting = strategies.stream()
+					.filter(it -> !(it instanceof SelectiveDataAccessStrategy selective) || selective.supports(key)).toList();
+
+			return supporting.isEmpty() ? strategies : supporting;
+		});
+	}
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+
+/**
+ * Describes an operation invoked on a {@link DataAccessStrategy}. The {@link #name()} identifies the
+ * {@link DataAccessStrategy} method, using the method name with a suffix to distinguish overloads, e.g.
+ * {@code findAllSorted} for {@link DataAccessStrategy#findAll(Class, org.springframework.data.domain.Sort)} or
+ * {@code countByQuery} for {@link DataAccessStrategy#count(org.springframework.data.relational.core.query.Query, Class)}.
+ * Bulk variants of a method have their own names, {@code insertBatch} and {@code deleteBatch} for the overloads of
+ * {@code insert} and {@code delete} taking multiple rows, and the method name otherwise, e.g. {@code updateAll} for
+ * {@link DataAccessStrategy#updateAll(java.util.List, Class)}.
+ *
+ * @param name the name of the operation.
+ * @param domainType the domain type the operation applies to, {@literal null} for operations on a property path.
+ * @param path the property path the operation applies to, {@literal null} for operations on a domain type.
+ * @since 4.1
+ * @see SelectiveDataAccessStrategy
+ */
+public record DataAccessOperation(String name, @Nullable Class<?> domainType,
+		@Nullable PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
+
+	/**
+	 * Create a {@link DataAccessOperation} for a domain type.
+	 *
+	 * @param name the name of the operation.
+	 * @param domainType the domain type the operation applies to.
+	 * @return the {@link DataAccessOperation}.
+	 */
+	public static DataAccessOperation of(String name, Class<?> domainType) {
+		return new DataAccessOperation(name, domainType, null);
+	}
+
+	/**
+	 * Create a {@link DataAccessOperation} for a property path.
+	 *
+	 * @param name the name of the operation.
+	 * @param path the property path the operation applies to.
+	 * @return the {@link DataAccessOperation}.
+	 */
+	public static DataAccessOperation of(String name,
+			PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
+		return new DataAccessOperation(name, null, path);
+	}
+}
@@ -22,6 +22,7 @@ import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.JdbcAggregateOperations;
@@ -31,6 +32,8 @@ import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.data.util.Streamable;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 
 /**
@@ -118,6 +121,85 @@ public interface DataAccessStrategy extends ReadingDataAccessStrategy, RelationR
 	 */
 	<T> boolean updateWithVersion(T instance, Class<T> domainType, Number previousVersion);
 
+	/**
+	 * Updates the data of multiple entities of the same type in the database, preferably using a single batch.
+	 * Referenced entities don't get handled. The default implementation updates the entities one by one using
+	 * {@link #update(Object, Class)}.
+	 *
+	 * @param instances the instances to save. Must not be {@code null} nor empty.
+	 * @param domainType the type of the instances to save. Must not be {@code null}.
+	 * @param <T> the type of the instances to save.
+	 * @return for each instance, whether the update actually updated a row.
+	 * @since 4.1
+	 */
+	default <T> boolean[] updateAll(List<T> instances, Class<T> domainType) {
+
+		boolean[] updated = new boolean[instances.size()];
+
+		for (int i = 0; i < updated.length; i++) {
+			updated[i] = update(instances.get(i), domainType);
+		}
+
+		return updated;
+	}
+
+	/**
+	 * Updates the data of multiple entities of the same type in the database, preferably using a single batch, and
+	 * enforce optimistic record locking using the {@code previousVersions}. Referenced entities don't get handled. The
+	 * default implementation updates the entities one by one using {@link #updateWithVersion(Object, Class, Number)}.
+	 *
+	 * @param instances the instances to save. Must not be {@code null} nor empty.
+	 * @param domainType the type of the instances to save. Must not be {@code null}.
+	 * @param previousVersions the previous versions assigned to the instances being saved, in the order of
+	 *          {@code instances}. Must not be {@code null}.
+	 * @param <T> the type of the instances to save.
+	 * @return for each instance, whether the update actually updated a row.
+	 * @throws OptimisticLockingFailureException if the update fails to update a row for any of the instances assuming
+	 *           the optimistic locking version check failed.
+	 * @since 4.1
+	 */
+	default <T> boolean[] updateAllWithVersion(List<T> instances, Class<T> domainType, List<Number> previousVersions) {
+
+		boolean[] updated = new boolean[instances.size()];
+
+		for (int i = 0; i < updated.length; i++) {
+			updated[i] = updateWithVersion(instances.get(i), domainType, previousVersions.get(i));
+		}
+
+		return updated;
+	}
+
+	/**
+	 * Inserts the data of a single entity or updates the existing row if a row with the same id exists, using a single
+	 * statement. The id of the instance must be set. Referenced entities don't get handled. The default implementation
+	 * throws {@link UnsupportedOperationException}.
+	 *
+	 * @param instance the instance to save. Must not be {@code null}.
+	 * @param domainType the type of the instance to save. Must not be {@code null}.
+	 * @param <T> the type of the instance to save.
+	 * @since 4.1
+	 */
+	default <T> void upsert(T instance, Class<T> domainType) {
+		throw new UnsupportedOperationException("Upsert is not supported by " + getClass().getName());
+	}
+
+	/**
+	 * Inserts or updates the data of multiple entities of the same type, preferably using a single batch of upsert
+	 * statements. The ids of the instances must be set. Referenced entities don't get handled. The default implementation
+	 * upserts the entities one by one using {@link #upsert(Object, Class)}.
+	 *
+	 * @param instances the instances to save. Must not be {@code null} nor empty.
+	 * @param domainType the type of the instances to save. Must not be {@code null}.
+	 * @param <T> the type of the instances to save.
+	 * @since 4.1
+	 */
+	default <T> void upsertAll(List<T> instances, Class<T> domainType) {
+
+		for (T instance : instances) {
+			upsert(instance, domainType);
+		}
+	}
+
 	/**
 	 * Deletes a single row identified by the id, from the table identified by the domainType. Does not handle cascading
 	 * deletes.
@@ -391,4 +473,22 @@ public interface DataAccessStrategy extends ReadingDataAccessStrategy, RelationR
 	@Override
 	<T> Iterable<T> findAll(Query query, Class<T> domainType, Pageable pageable);
 
+	/**
+	 * Execute a {@code SELECT} query for the page requested by {@link Pageable} and determine the total number of
+	 * matching rows. The default implementation loads the page through {@link #findAll(Query, Class, Pageable)} and
+	 * obtains the total through {@link #count(Query, Class)} unless it can be determined from the page itself.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param domainType the type of entities. Must not be {@literal null}.
+	 * @param pageable the pagination that should be applied. Must not be {@literal null}.
+	 * @return the requested page.
+	 * @since 4.1
+	 */
+	default <T> Page<T> findPage(Query query, Class<T> domainType, Pageable pageable) {
+
+		List<T> content = Streamable.of(findAll(query, domainType, pageable)).toList();
+
+		return PageableExecutionUtils.getPage(content, pageable, () -> count(query, domainType));
+	}
+
 }
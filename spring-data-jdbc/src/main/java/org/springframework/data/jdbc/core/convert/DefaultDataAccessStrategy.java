@@ -18,17 +18,27 @@ package org.springframework.data.jdbc.core.convert;
 import static org.springframework.data.jdbc.core.convert.SqlGenerator.*;
 
 import java.sql.ResultSet;
-import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.data.core.TypeInformation;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jdbc.core.dialect.JdbcDialect;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.conversion.IdValueSource;
 import org.springframework.data.relational.core.dialect.Dialect;
@@ -41,11 +51,16 @@ import org.springframework.data.relational.core.mapping.RelationalPersistentProp
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.relational.domain.RowDocument;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.EmptySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.util.Assert;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
 
 /**
  * The default {@link DataAccessStrategy} is to generate SQL statements based on metadata from the entity.
@@ -76,6 +91,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	private final SqlParametersFactory sqlParametersFactory;
 	private final InsertStrategyFactory insertStrategyFactory;
 	private final QueryMappingConfiguration queryMappingConfiguration;
+	private final ThreadLocal<BatchingRelationResolver> batchingRelationResolver = new ThreadLocal<>();
 
 	/**
 	 * Creates a {@link DefaultDataAccessStrategy}
@@ -136,17 +152,30 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 		Assert.notEmpty(insertSubjects, "Batch insert must contain at least one InsertSubject");
 
-		SqlIdentifierParameterSource[] sqlParameterSources = insertSubjects.stream()
-				.map(insertSubject -> sqlParametersFactory.forInsert( //
-						insertSubject.getInstance(), //
-						domainType, //
-						insertSubject.getIdentifier(), //
-						idValueSource //
-				) //
-				) //
-				.toArray(SqlIdentifierParameterSource[]::new);
+		SqlIdentifierParameterSource[] sqlParameterSources = new SqlIdentifierParameterSource[insertSubjects.size()];
 
-		String insertSql = sql(domainType).getInsert(sqlParameterSources[0].getIdentifiers());
+		for (int i = 0; i < sqlParameterSources.length; i++) {
+
+			InsertSubject<T> insertSubject = insertSubjects.get(i);
+			sqlParameterSources[i] = sqlParametersFactory.forInsert( //
+					insertSubject.getInstance(), //
+					domainType, //
+					insertSubject.getIdentifier(), //
+					idValueSource //
+			);
+		}
+
+		Set<SqlIdentifier> columns = sqlParameterSources[0].getIdentifiers();
+		MultiRowInsertStrategy multiRowInsertStrategy = sqlParameterSources.length > 1 && !columns.isEmpty()
+				? insertStrategyFactory.multiRowInsertStrategy(idValueSource, getIdColumn(domainType))
+				: null;
+
+		if (multiRowInsertStrategy != null) {
+			return multiRowInsertStrategy.execute(rows -> sql(domainType).getMultiRowInsert(columns, rows),
+					sqlParameterSources);
+		}
+
+		String insertSql = sql(domainType).getInsert(columns);
 
 		return insertStrategyFactory.batchInsertStrategy(idValueSource, getIdColumn(domainType)).execute(insertSql,
 				sqlParameterSources);
@@ -179,6 +208,104 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		return true;
 	}
 
+	@Override
+	public <T> boolean[] updateAll(List<T> instances, Class<T> domainType) {
+
+		Assert.notEmpty(instances, "Batch update must contain at least one instance");
+
+		SqlIdentifierParameterSource[] parameterSources = new SqlIdentifierParameterSource[instances.size()];
+		for (int i = 0; i < parameterSources.length; i++) {
+			parameterSources[i] = sqlParametersFactory.forUpdate(instances.get(i), domainType);
+		}
+
+		boolean[] updated = new boolean[instances.size()];
+
+		if (parameterSources[0].size() <= 1) {
+			Arrays.fill(updated, true); // conceptually the rows were correctly updated, see update(…)
+			return updated;
+		}
+
+		int[] updateCounts = operations.batchUpdate(sql(domainType).getUpdate(), parameterSources);
+
+		for (int i = 0; i < updated.length; i++) {
+			updated[i] = isUpdated(updateCounts[i]);
+		}
+
+		return updated;
+	}
+
+	@Override
+	public <T> boolean[] updateAllWithVersion(List<T> instances, Class<T> domainType, List<Number> previousVersions) {
+
+		Assert.notEmpty(instances, "Batch update must contain at least one instance");
+		Assert.isTrue(instances.size() == previousVersions.size(),
+				"Batch update requires a previous version for each instance");
+
+		boolean[] updated = new boolean[instances.size()];
+
+		if (!JdbcDialect.supportsBatchUpdateCounts(getDialect())) {
+
+			for (int i = 0; i < updated.length; i++) {
+				updated[i] = updateWithVersion(instances.get(i), domainType, previousVersions.get(i));
+			}
+
+			return updated;
+		}
+
+		SqlIdentifierParameterSource[] parameterSources = new SqlIdentifierParameterSource[instances.size()];
+		for (int i = 0; i < parameterSources.length; i++) {
+
+			parameterSources[i] = sqlParametersFactory.forUpdate(instances.get(i), domainType);
+			parameterSources[i].addValue(VERSION_SQL_PARAMETER, previousVersions.get(i));
+		}
+
+		int[] updateCounts = operations.batchUpdate(sql(domainType).getUpdateWithVersion(), parameterSources);
+
+		for (int i = 0; i < updated.length; i++) {
+
+			updated[i] = isUpdated(updateCounts[i]);
+
+			if (!updated[i]) {
+				RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(domainType);
+				throw OptimisticLockingUtils.updateFailed(instances.get(i), previousVersions.get(i), persistentEntity);
+			}
+		}
+
+		return updated;
+	}
+
+	@Override
+	public <T> void upsert(T instance, Class<T> domainType) {
+
+		SqlIdentifierParameterSource parameterSource = sqlParametersFactory.forInsert(instance, domainType,
+				Identifier.empty(), IdValueSource.PROVIDED);
+
+		operations.update(sql(domainType).getUpsert(parameterSource.getIdentifiers()), parameterSource);
+	}
+
+	@Override
+	public <T> void upsertAll(List<T> instances, Class<T> domainType) {
+
+		Assert.notEmpty(instances, "Batch upsert must contain at least one instance");
+
+		SqlIdentifierParameterSource[] parameterSources = new SqlIdentifierParameterSource[instances.size()];
+		for (int i = 0; i < parameterSources.length; i++) {
+			parameterSources[i] = sqlParametersFactory.forInsert(instances.get(i), domainType, Identifier.empty(),
+					IdValueSource.PROVIDED);
+		}
+
+		operations.batchUpdate(sql(domainType).getUpsert(parameterSources[0].getIdentifiers()), parameterSources);
+	}
+
+	/**
+	 * Drivers may report {@link Statement#SUCCESS_NO_INFO} instead of the actual row count for batch elements, which is
+	 * considered a successful update as there is no row count to verify. Versioned entities only get updated in batches
+	 * if the {@link JdbcDialect#supportsBatchUpdateCounts() dialect} declares that the driver reports row counts.
+	 */
+	private static boolean isUpdated(int updateCount) {
+		return updateCount > 0 || updateCount == Statement.SUCCESS_NO_INFO;
+	}
+
 	@Override
 	public void delete(Object id, Class<?> domainType) {
 
@@ -295,7 +422,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 	@Override
 	public <T> List<T> findAll(Class<T> domainType) {
-		return operations.query(sql(domainType).getFindAll(), getRowMapper(domainType));
+		return query(sql(domainType).getFindAll(), EmptySqlParameterSource.INSTANCE, domainType);
 	}
 
 	@Override
@@ -313,7 +440,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 		SqlParameterSource parameterSource = sqlParametersFactory.forQueryByIds(ids, domainType);
 		String findAllInListSql = sql(domainType).getFindAllInList();
-		return operations.query(findAllInListSql, parameterSource, getRowMapper(domainType));
+		return query(findAllInListSql, parameterSource, domainType);
 	}
 
 	@Override
@@ -336,6 +463,16 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		Assert.notNull(identifier, "identifier must not be null");
 		Assert.notNull(propertyPath, "propertyPath must not be null");
 
+		BatchingRelationResolver resolver = batchingRelationResolver.get();
+
+		return resolver != null //
+				? resolver.findAllByPath(identifier, propertyPath) //
+				: findAllByPathWithoutBatching(identifier, propertyPath);
+	}
+
+	private List<Object> findAllByPathWithoutBatching(Identifier identifier,
+			PersistentPropertyPath<? extends RelationalPersistentProperty> propertyPath) {
+
 		AggregatePath path = context.getAggregatePath(propertyPath);
 		RelationalPersistentEntity<?> leafEntity = path.getLeafEntity();
 
@@ -347,27 +484,27 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 				.getFindAllByProperty(identifier, propertyPath);
 
 		SqlParameterSource parameterSource = sqlParametersFactory.forQueryByIdentifier(identifier);
-		return operations.query(findAllByProperty, parameterSource, new RowMapper<>() {
+		RowDocumentRowMapper documentMapper = new RowDocumentRowMapper();
+		return operations.query(findAllByProperty, parameterSource,
+				(rs, rowNum) -> mapReferencedEntity(path, identifier, documentMapper.mapRow(rs, rowNum), rowNum));
+	}
 
-			@Override
-			public Object mapRow(ResultSet rs, int rowNum) throws SQLException {
+	private Object mapReferencedEntity(AggregatePath path, Identifier identifier, RowDocument document, int rowNum) {
 
-				if (path.isMap()) {
-					return getMapEntityRowMapper(path, identifier).mapRow(rs, rowNum);
-				}
+		if (path.isMap()) {
+			return getMapEntityRowMapper(path, identifier).mapDocument(document);
+		}
 
-				// Add row number as key for paths that do not define an identifier and that are contained in a collection.
-				Identifier identifierToUse = identifier;
-				if (!path.hasIdProperty() && path.isQualified()) {
+		// Add row number as key for paths that do not define an identifier and that are contained in a collection.
+		Identifier identifierToUse = identifier;
+		if (!path.hasIdProperty() && path.isQualified()) {
 
-					TableInfo tableInfo = path.getTableInfo();
-					identifierToUse = identifierToUse.withPart(tableInfo.getRequiredQualifierColumnInfo().name(), rowNum,
-							Object.class);
-				}
+			TableInfo tableInfo = path.getTableInfo();
+			identifierToUse = identifierToUse.withPart(tableInfo.getRequiredQualifierColumnInfo().name(), rowNum,
+					Object.class);
+		}
 
-				return getEntityRowMapper(path, identifierToUse).mapRow(rs, rowNum);
-			}
-		});
+		return getEntityRowMapper(path, identifierToUse).mapDocument(document);
 	}
 
 	@Override
@@ -384,7 +521,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 	@Override
 	public <T> List<T> findAll(Class<T> domainType, Sort sort) {
-		return operations.query(sql(domainType).getFindAll(sort), getRowMapper(domainType));
+		return query(sql(domainType).getFindAll(sort), EmptySqlParameterSource.INSTANCE, domainType);
 	}
 
 	@Override
@@ -395,7 +532,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 	@Override
 	public <T> List<T> findAll(Class<T> domainType, Pageable pageable) {
-		return operations.query(sql(domainType).getFindAll(pageable), getRowMapper(domainType));
+		return query(sql(domainType).getFindAll(pageable), EmptySqlParameterSource.INSTANCE, domainType);
 	}
 
 	@Override
@@ -417,7 +554,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
 		String sqlQuery = sql(domainType).selectByQuery(query, parameterSource);
 
-		return operations.query(sqlQuery, parameterSource, getRowMapper(domainType));
+		return query(sqlQuery, parameterSource, domainType);
 	}
 
 	@Override
@@ -435,7 +572,32 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
 		String sqlQuery = sql(domainType).selectByQuery(query, parameterSource, pageable);
 
-		return operations.query(sqlQuery, parameterSource, getRowMapper(domainType));
+		return query(sqlQuery, parameterSource, domainType);
+	}
+
+	/**
+	 * Selects the total number of matching rows along with the page using {@code COUNT(*) OVER()} if the dialect
+	 * {@link Dialect#supportsWindowFunctions() supports window functions}, saving the count query unless the requested
+	 * page is empty.
+	 */
+	@Override
+	public <T> Page<T> findPage(Query query, Class<T> domainType, Pageable pageable) {
+
+		if (pageable.isUnpaged() || !getDialect().supportsWindowFunctions()) {
+			return DataAccessStrategy.super.findPage(query, domainType, pageable);
+		}
+
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+		String sqlQuery = sql(domainType).selectByQueryWithWindowCount(query, parameterSource, pageable);
+
+		WindowCount windowCount = new WindowCount();
+		List<T> content = query(sqlQuery, parameterSource, domainType, windowCount);
+
+		if (content.isEmpty()) {
+			return PageableExecutionUtils.getPage(content, pageable, () -> count(query, domainType));
+		}
+
+		return new PageImpl<>(content, pageable, windowCount.getCount());
 	}
 
 	@Override
@@ -464,6 +626,55 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		return result;
 	}
 
+	private <T> List<T> query(String sql, SqlParameterSource parameterSource, Class<T> domainType) {
+		return query(sql, parameterSource, domainType, null);
+	}
+
+	/**
+	 * Executes a query for aggregate roots. If batched relation loading is enabled, the rows of the result are read
+	 * before any aggregate gets created, so referenced entities can get loaded for all aggregates at once. A given
+	 * {@link WindowCount} captures the total number of rows from the first row of the result.
+	 */
+	private <T> List<T> query(String sql, SqlParameterSource parameterSource, Class<T> domainType,
+			@Nullable WindowCount windowCount) {
+
+		if (!context.isBatchedRelationLoadingEnabled() || queryMappingConfiguration.getRowMapper(domainType) != null) {
+
+			if (windowCount == null) {
+				return operations.query(sql, parameterSource, getRowMapper(domainType));
+			}
+
+			return operations.query(sql, parameterSource, windowCount.capture(getRowMapper(domainType)));
+		}
+
+		RowMapper<RowDocument> documentRowMapper = windowCount != null ? windowCount.capture(new RowDocumentRowMapper())
+				: new RowDocumentRowMapper();
+		List<RowDocument> documents = operations.query(sql, parameterSource, documentRowMapper);
+		RelationalPersistentEntity<T> entity = getRequiredPersistentEntity(domainType);
+		EntityRowMapper<T> rowMapper = new EntityRowMapper<>(entity, converter);
+
+		BatchingRelationResolver previous = batchingRelationResolver.get();
+		BatchingRelationResolver resolver = new BatchingRelationResolver();
+		resolver.register(context.getAggregatePath(entity), documents);
+		batchingRelationResolver.set(resolver);
+
+		try {
+
+			List<T> result = new ArrayList<>(documents.size());
+			for (RowDocument document : documents) {
+				result.add(rowMapper.mapDocument(document));
+			}
+			return result;
+		} finally {
+
+			if (previous == null) {
+				batchingRelationResolver.remove();
+			} else {
+				batchingRelationResolver.set(previous);
+			}
+		}
+	}
+
 	private <T> RowMapper<? extends T> getRowMapper(Class<T> domainType) {
 
 		RowMapper<? extends T> targetRowMapper;
@@ -479,7 +690,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		return new EntityRowMapper<>(path, converter, identifier);
 	}
 
-	private RowMapper<?> getMapEntityRowMapper(AggregatePath path, Identifier identifier) {
+	private MapEntityRowMapper<?> getMapEntityRowMapper(AggregatePath path, Identifier identifier) {
 
 		AggregatePath.ColumnInfo qualifierColumnInfo = path.getTableInfo().qualifierColumnInfo();
 		Assert.notNull(qualifierColumnInfo, () -> "Qualifier column must not be null for " + path);
@@ -512,4 +723,140 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 		return baseProperty.getOwner().getType();
 	}
+
+	/**
+	 * Captures the total number of rows selected as {@link SqlGenerator#WINDOW_COUNT_COLUMN} from the first row of a
+	 * result.
+	 */
+	private static class WindowCount {
+
+		private long count;
+
+		<R> RowMapper<R> capture(RowMapper<? extends R> delegate) {
+
+			return (resultSet, rowNum) -> {
+
+				if (rowNum == 0) {
+					count = resultSet.getLong(WINDOW_COUNT_COLUMN.getReference());
+				}
+
+				return delegate.mapRow(resultSet, rowNum);
+			};
+		}
+
+		long getCount() {
+			return count;
+		}
+	}
+
+	/**
+	 * {@link RelationResolver} loading referenced entities for all entities of a result at once. Documents of entities
+	 * read in the scope of a resolver get registered with it by the {@link AggregatePath} they were read for. The first
+	 * request for a relation of such an entity loads that relation for all entities registered for the same path, using
+	 * {@code IN} conditions on the back reference that contain at most {@link Dialect#getInConditionMaximumSize()} values.
+	 * Loaded entities get registered in turn, so nested relations get batched as well. Requests for relations of entities
+	 * without a simple id or which weren't registered are loaded individually.
+	 *
+	 * @since 4.1
+	 */
+	private class BatchingRelationResolver implements RelationResolver {
+
+		private final MultiValueMap<AggregatePath, RowDocument> documents = new LinkedMultiValueMap<>();
+		private final Map<AggregatePath, Map<Object, List<Object>>> relations = new HashMap<>();
+
+		void register(AggregatePath path, List<RowDocument> documents) {
+			this.documents.addAll(path, documents);
+		}
+
+		@Override
+		public List<Object> findAllByPath(Identifier identifier,
+				PersistentPropertyPath<? extends RelationalPersistentProperty> propertyPath) {
+
+			AggregatePath path = context.getAggregatePath(propertyPath);
+
+			if (!isBatchable(identifier, path)) {
+				return findAllByPathWithoutBatching(identifier, propertyPath);
+			}
+
+			Identifier.SingleIdentifierValue backReference = identifier.getParts().iterator().next();
+			Map<Object, List<Object>> relation = relations.computeIfAbsent(path, it -> new HashMap<>());
+
+			if (!relation.containsKey(backReference.getValue())) {
+				load(path, backReference, relation);
+			}
+
+			return relation.get(backReference.getValue());
+		}
+
+		private boolean isBatchable(Identifier identifier, AggregatePath path) {
+
+			if (identifier.size() != 1) {
+				return false;
+			}
+
+			AggregatePath parentPath = path.getIdDefiningParentPath();
+
+			return parentPath.hasIdProperty() && documents.containsKey(parentPath);
+		}
+
+		private void load(AggregatePath path, Identifier.SingleIdentifierValue backReference,
+				Map<Object, List<Object>> relation) {
+
+			Class<?> keyType = backReference.getValue().getClass();
+			AggregatePath parentPath = path.getIdDefiningParentPath();
+			String idColumn = parentPath.getRequiredLeafEntity().getRequiredIdProperty().getColumnName().getReference();
+
+			Set<Object> keys = new LinkedHashSet<>();
+			keys.add(backReference.getValue());
+			for (RowDocument document : documents.getOrDefault(parentPath, Collections.emptyList())) {
+
+				Object key = readKey(document.get(idColumn), keyType);
+				if (key != null && !relation.containsKey(key)) {
+					keys.add(key);
+				}
+			}
+
+			List<Object> pending = new ArrayList<>(keys);
+			int chunkSize = getDialect().getInConditionMaximumSize();
+
+			for (int i = 0; i < pending.size(); i += chunkSize) {
+				load(path, backReference, pending.subList(i, Math.min(i + chunkSize, pending.size())), relation);
+			}
+		}
+
+		private void load(AggregatePath path, Identifier.SingleIdentifierValue backReference, List<Object> keys,
+				Map<Object, List<Object>> relation) {
+
+			Class<?> leafType = path.getRequiredLeafEntity().getType();
+			String findAllInList = sql(leafType).getFindAllInListByProperty(backReference.getName(),
+					path.getRequiredPersistentPropertyPath());
+			SqlParameterSource parameterSource = sqlParametersFactory.forQueryByBackReferences(keys);
+
+			List<RowDocument> rows = operations.query(findAllInList, parameterSource, new RowDocumentRowMapper());
+
+			// register before mapping, so relations of the loaded entities get loaded for all of them.
+			register(path, rows);
+
+			for (Object key : keys) {
+				relation.put(key, new ArrayList<>());
+			}
+
+			String backReferenceColumn = backReference.getName().getReference();
+			for (RowDocument row : rows) {
+
+				Object key = readKey(row.get(backReferenceColumn), backReference.getValue().getClass());
+				Assert.state(key != null, () -> "Back reference %s must not be null".formatted(backReferenceColumn));
+
+				List<Object> entities = relation.get(key);
+				Assert.state(entities != null, () -> "Unexpected back reference value %s".formatted(key));
+
+				Identifier parentIdentifier = Identifier.of(backReference.getName(), key, backReference.getTargetType());
+				entities.add(mapReferencedEntity(path, parentIdentifier, row, entities.size()));
+			}
+		}
+
+		private @Nullable Object readKey(@Nullable Object value, Class<?> keyType) {
+			return value == null ? null : converter.readValue(value, TypeInformation.of(keyType));
+		}
+	}
 }
@@ -20,6 +20,7 @@ import java.util.Optional;
 import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.PersistentPropertyPath;
@@ -91,6 +92,26 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 
 	}
 
+	@Override
+	public <T> boolean[] updateAll(List<T> instances, Class<T> domainType) {
+		return delegate.updateAll(instances, domainType);
+	}
+
+	@Override
+	public <T> boolean[] updateAllWithVersion(List<T> instances, Class<T> domainType, List<Number> previousVersions) {
+		return delegate.updateAllWithVersion(instances, domainType, previousVersions);
+	}
+
+	@Override
+	public <T> void upsert(T instance, Class<T> domainType) {
+		delegate.upsert(instance, domainType);
+	}
+
+	@Override
+	public <T> void upsertAll(List<T> instances, Class<T> domainType) {
+		delegate.upsertAll(instances, domainType);
+	}
+
 	@Override
 	public void delete(Object rootId, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
 		delegate.delete(rootId, propertyPath);
@@ -215,6 +236,11 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.findAll(query, domainType, pageable);
 	}
 
+	@Override
+	public <T> Page<T> findPage(Query query, Class<T> domainType, Pageable pageable) {
+		return delegate.findPage(query, domainType, pageable);
+	}
+
 	@Override
 	public <T> boolean exists(Query query, Class<T> domainType) {
 		return delegate.exists(query, domainType);
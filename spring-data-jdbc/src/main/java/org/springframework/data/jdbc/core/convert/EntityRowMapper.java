@@ -16,8 +16,10 @@
 package org.springframework.data.jdbc.core.convert;
 
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.data.core.TypeInformation;
 import org.springframework.data.relational.core.mapping.AggregatePath;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
@@ -40,6 +42,10 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 	private final TypeInformation<T> typeInformation;
 	private final JdbcConverter converter;
 	private final Identifier identifier;
+	private final RowDocumentRowMapper documentMapper = new RowDocumentRowMapper();
+
+	private @Nullable Boolean flatEntity;
+	private volatile @Nullable BoundReader<T> reader;
 
 	@SuppressWarnings("unchecked")
 	public EntityRowMapper(AggregatePath path, JdbcConverter converter, Identifier identifier) {
@@ -60,9 +66,73 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 	@Override
 	public T mapRow(ResultSet resultSet, int rowNumber) throws SQLException {
 
-		RowDocument document = RowDocumentResultSetExtractor.toRowDocument(resultSet);
+		if (isFlatEntity()) {
+			return getReader(resultSet).read(resultSet);
+		}
+
+		return mapDocument(documentMapper.mapRow(resultSet, rowNumber));
+	}
 
+	/**
+	 * Maps a {@link RowDocument} that has already been extracted from a {@link ResultSet}.
+	 *
+	 * @param document the document to map. Must not be {@literal null}.
+	 * @return the mapped entity.
+	 * @since 4.1
+	 */
+	T mapDocument(RowDocument document) {
 		return converter.readAndResolve(typeInformation, document, identifier);
 	}
 
+	/**
+	 * Entities consisting of simple properties only get read directly from the {@link ResultSet} by a
+	 * {@link FlatEntityRowReader} if enabled through {@link MappingJdbcConverter#setReadFlatEntitiesDirectly(boolean)}.
+	 */
+	private boolean isFlatEntity() {
+
+		Boolean flatEntity = this.flatEntity;
+
+		if (flatEntity == null) {
+
+			flatEntity = converter instanceof MappingJdbcConverter mappingConverter
+					&& mappingConverter.isReadFlatEntitiesDirectly()
+					&& FlatEntityRowReader.supports(mappingConverter, getEntity());
+			this.flatEntity = flatEntity;
+		}
+
+		return flatEntity;
+	}
+
+	/**
+	 * Returns the {@link FlatEntityRowReader} for the given {@link ResultSet}, which is created once per
+	 * {@link ResultSet}. A {@link ResultSet} with the same columns as the previous one reuses its reader.
+	 */
+	private FlatEntityRowReader<T> getReader(ResultSet resultSet) throws SQLException {
+
+		BoundReader<T> bound = this.reader;
+
+		if (bound == null || bound.resultSet() != resultSet) {
+
+			ResultSetMetaData metaData = resultSet.getMetaData();
+			FlatEntityRowReader<T> reader = bound != null && bound.reader().matches(metaData) ? bound.reader()
+					: FlatEntityRowReader.create((MappingJdbcConverter) converter, getEntity(), metaData);
+
+			bound = new BoundReader<>(resultSet, reader);
+			this.reader = bound;
+		}
+
+		return bound.reader();
+	}
+
+	@SuppressWarnings("unchecked")
+	private RelationalPersistentEntity<T> getEntity() {
+		return (RelationalPersistentEntity<T>) converter.getMappingContext().getRequiredPersistentEntity(typeInformation);
+	}
+
+	/**
+	 * {@link FlatEntityRowReader} created for a particular {@link ResultSet}.
+	 */
+	private record BoundReader<T>(ResultSet resultSet, FlatEntityRowReader<T> reader) {
+	}
+
 }
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.convert.CustomConversions;
+import org.springframework.data.core.TypeInformation;
+import org.springframework.data.mapping.InstanceCreatorMetadata;
+import org.springframework.data.mapping.Parameter;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
+import org.springframework.data.mapping.model.EntityInstantiator;
+import org.springframework.data.mapping.model.ParameterValueProvider;
+import org.springframework.data.relational.core.mapping.AggregatePath;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.domain.RowDocument;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+/**
+ * Reads flat entities, i.e. entities consisting of simple properties only, directly from a {@link ResultSet} without
+ * creating a {@link RowDocument} first. All decisions that don't depend on the values of a row, like the column index
+ * of each property, the instantiator and the constructor arguments, are made once when the reader gets created for the
+ * columns of a {@link ResultSet}. Conversion of values is delegated to {@link MappingJdbcConverter#readValue}, unless a
+ * previous value of the same type was found to be assignable to the property without conversion.
+ * <p>
+ * Readers don't hold state of the rows they read, so a reader can be used concurrently for all result sets
+ * {@link #matches(ResultSetMetaData) matching} the columns it was created for.
+ *
+ * @param <T> the type of the entity to read.
+ * @since 4.1
+ */
+class FlatEntityRowReader<T> {
+
+	private final MappingJdbcConverter converter;
+	private final RelationalPersistentEntity<T> entity;
+	private final EntityInstantiator instantiator;
+	private final String[] columnNames;
+	private final ColumnReader[] columns;
+	private final Map<Parameter<?, RelationalPersistentProperty>, ColumnReader> parameters;
+	private final ColumnReader[] properties;
+
+	private FlatEntityRowReader(MappingJdbcConverter converter, RelationalPersistentEntity<T> entity,
+			String[] columnNames) {
+
+		this.converter = converter;
+		this.entity = entity;
+		this.instantiator = converter.getEntityInstantiators().getInstantiatorFor(entity);
+		this.columnNames = columnNames;
+
+		Map<String, Integer> columnIndexes = new LinkedCaseInsensitiveMap<>(columnNames.length);
+		for (int i = 0; i < columnNames.length; i++) {
+			columnIndexes.putIfAbsent(columnNames[i], i);
+		}
+
+		AggregatePath path = converter.getMappingContext().getAggregatePath(entity);
+		Map<RelationalPersistentProperty, ColumnReader> readers = new IdentityHashMap<>();
+		List<ColumnReader> propertiesToPopulate = new ArrayList<>();
+
+		for (RelationalPersistentProperty property : entity) {
+
+			Integer index = columnIndexes.get(path.append(property).getColumnInfo().alias().getReference());
+			ColumnReader reader = new ColumnReader(property, readers.size(), index == null ? -1 : index + 1);
+
+			readers.put(property, reader);
+			if (!entity.isCreatorArgument(property) && reader.isPresent()) {
+				propertiesToPopulate.add(reader);
+			}
+		}
+
+		this.columns = readers.values().toArray(new ColumnReader[0]);
+		this.properties = propertiesToPopulate.toArray(new ColumnReader[0]);
+		this.parameters = new IdentityHashMap<>();
+
+		InstanceCreatorMetadata<RelationalPersistentProperty> creator = entity.getInstanceCreatorMetadata();
+		if (creator != null) {
+			for (Parameter<Object, RelationalPersistentProperty> parameter : creator.getParameters()) {
+
+				String name = parameter.getName();
+				Assert.state(name != null, "Constructor parameter names must be available");
+
+				parameters.put(parameter, readers.get(entity.getRequiredPersistentProperty(name)));
+			}
+		}
+	}
+
+	/**
+	 * Determines if entities of the given type can be read by a {@link FlatEntityRowReader}. This is the case for entities
+	 * that consist only of simple properties, which don't use SpEL expressions and aren't read by a custom converter.
+	 *
+	 * @param converter the converter used for reading values. Must not be {@literal null}.
+	 * @param entity the entity to check. Must not be {@literal null}.
+	 * @return whether a {@link FlatEntityRowReader} can read the entity.
+	 */
+	static boolean supports(MappingJdbcConverter converter, RelationalPersistentEntity<?> entity) {
+
+		CustomConversions conversions = converter.getConversions();
+
+		if (conversions.hasCustomReadTarget(RowDocument.class, entity.getType())) {
+			return false;
+		}
+
+		for (RelationalPersistentProperty property : entity) {
+
+			if (property.isEntity() || property.isEmbedded() || property.isMap() || property.getSpelExpression() != null
+					|| !conversions.isSimpleType(property.getActualType())) {
+				return false;
+			}
+		}
+
+		InstanceCreatorMetadata<RelationalPersistentProperty> creator = entity.getInstanceCreatorMetadata();
+		if (creator != null) {
+
+			for (Parameter<Object, RelationalPersistentProperty> parameter : creator.getParameters()) {
+
+				String name = parameter.getName();
+
+				if (parameter.hasValueExpression() || name == null || entity.getPersistentProperty(name) == null) {
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Creates a {@link FlatEntityRowReader} for the columns described by the given {@link ResultSetMetaData}.
+	 *
+	 * @param converter the converter used for reading values. Must not be {@literal null}.
+	 * @param entity the entity to read. Must be {@link #supports(MappingJdbcConverter, RelationalPersistentEntity)
+	 *          supported}.
+	 * @param metaData the {@link ResultSetMetaData} of the {@link ResultSet} to read from. Must not be {@literal null}.
+	 * @return a {@link FlatEntityRowReader} for the columns of the {@link ResultSet}.
+	 */
+	static <T> FlatEntityRowReader<T> create(MappingJdbcConverter converter, RelationalPersistentEntity<T> entity,
+			ResultSetMetaData metaData) throws SQLException {
+
+		int columnCount = metaData.getColumnCount();
+		String[] columnNames = new String[columnCount];
+
+		for (int i = 0; i < columnCount; i++) {
+			columnNames[i] = JdbcUtils.lookupColumnName(metaData, i + 1);
+		}
+
+		return new FlatEntityRowReader<>(converter, entity, columnNames);
+	}
+
+	/**
+	 * @param metaData the {@link ResultSetMetaData} of a {@link ResultSet} to read from. Must not be {@literal null}.
+	 * @return whether the {@link ResultSet} has the same columns as the one this reader was created for.
+	 */
+	boolean matches(ResultSetMetaData metaData) throws SQLException {
+
+		if (metaData.getColumnCount() != columnNames.length) {
+			return false;
+		}
+
+		for (int i = 0; i < columnNames.length; i++) {
+			if (!columnNames[i].equals(JdbcUtils.lookupColumnName(metaData, i + 1))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Reads the entity from the current row of the {@link ResultSet}.
+	 *
+	 * @param resultSet must not be {@literal null}.
+	 * @return the entity.
+	 */
+	T read(ResultSet resultSet) throws SQLException {
+
+		@Nullable Object[] values = new Object[columns.length];
+
+		for (ColumnReader column : columns) {
+			values[column.position] = column.read(resultSet);
+		}
+
+		ParameterValueProvider<RelationalPersistentProperty> provider = new ParameterValueProvider<>() {
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <P> @Nullable P getParameterValue(Parameter<P, RelationalPersistentProperty> parameter) {
+
+				ColumnReader column = parameters.get(parameter);
+				return column == null ? null : (P) values[column.position];
+			}
+		};
+
+		T instance = instantiator.createInstance(entity, provider);
+
+		if (properties.length == 0 || !entity.requiresPropertyPopulation()) {
+			return instance;
+		}
+
+		PersistentPropertyAccessor<T> accessor = new ConvertingPropertyAccessor<>(entity.getPropertyAccessor(instance),
+				converter.getConversionService());
+
+		// like MappingRelationalConverter, set all properties with a column, including those with a null value
+		for (ColumnReader property : properties) {
+			accessor.setProperty(property.property, values[property.position]);
+		}
+
+		return accessor.getBean();
+	}
+
+	/**
+	 * Reads and converts the value of a single property.
+	 */
+	private class ColumnReader {
+
+		private final RelationalPersistentProperty property;
+		private final TypeInformation<?> type;
+		private final int position;
+		private final int index;
+
+		/**
+		 * Type of values found to need no conversion. Racy writes are harmless, as the field only ever changes from
+		 * {@literal null} to the type of a value.
+		 */
+		private @Nullable Class<?> unconvertedType;
+
+		/**
+		 * @param property the property to read.
+		 * @param position the position of the value within the values of a row.
+		 * @param index the index of the column within the {@link ResultSet}, or {@literal -1} if not present.
+		 */
+		ColumnReader(RelationalPersistentProperty property, int position, int index) {
+
+			this.property = property;
+			this.type = property.getTypeInformation();
+			this.position = position;
+			this.index = index;
+		}
+
+		boolean isPresent() {
+			return index > 0;
+		}
+
+		@Nullable
+		Object read(ResultSet resultSet) throws SQLException {
+
+			Object rawValue = index > 0 ? JdbcUtils.getResultSetValue(resultSet, index) : null;
+
+			if (rawValue == null) {
+				return null;
+			}
+
+			if (rawValue.getClass() == unconvertedType) {
+				return rawValue;
+			}
+
+			Object value = converter.readValue(rawValue, type);
+
+			if (value == rawValue && unconvertedType == null && isUnconverted(rawValue)) {
+				unconvertedType = rawValue.getClass();
+			}
+
+			return value;
+		}
+
+		/**
+		 * A value needs no conversion if there is no custom converter for its type and it is already assignable to the
+		 * property.
+		 */
+		private boolean isUnconverted(Object rawValue) {
+
+			return !converter.getConversions().hasCustomReadTarget(rawValue.getClass(), type.getType())
+					&& ClassUtils.isAssignableValue(type.getType(), rawValue) && !rawValue.getClass().isArray()
+					&& !type.isCollectionLike();
+		}
+	}
+}
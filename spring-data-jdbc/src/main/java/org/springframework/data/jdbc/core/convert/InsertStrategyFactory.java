@@ -34,11 +34,32 @@ public class InsertStrategyFactory {
 
 	private final NamedParameterJdbcOperations jdbcOperations;
 	private final Dialect dialect;
+	private final boolean multiRowInserts;
 
 	public InsertStrategyFactory(NamedParameterJdbcOperations jdbcOperations, Dialect dialect) {
+		this(jdbcOperations, dialect, false);
+	}
+
+	private InsertStrategyFactory(NamedParameterJdbcOperations jdbcOperations, Dialect dialect,
+			boolean multiRowInserts) {
 
 		this.jdbcOperations = jdbcOperations;
 		this.dialect = dialect;
+		this.multiRowInserts = multiRowInserts;
+	}
+
+	/**
+	 * Return a new {@link InsertStrategyFactory} that uses multi-row {@code INSERT … VALUES (…), (…)} statements for
+	 * batch inserts if enabled and supported by the {@link Dialect}. Otherwise, batch inserts use JDBC batching.
+	 *
+	 * @param multiRowInserts whether to use multi-row inserts.
+	 * @return a new {@link InsertStrategyFactory}.
+	 * @since 4.1
+	 * @see Dialect#supportsMultiRowInsert()
+	 * @see org.springframework.data.relational.core.dialect.IdGeneration#supportedForMultiRowInserts()
+	 */
+	public InsertStrategyFactory withMultiRowInserts(boolean multiRowInserts) {
+		return new InsertStrategyFactory(jdbcOperations, dialect, multiRowInserts);
 	}
 
 	/**
@@ -70,6 +91,28 @@ public class InsertStrategyFactory {
 		return new DefaultBatchInsertStrategy(jdbcOperations);
 	}
 
+	/**
+	 * @param idValueSource the {@link IdValueSource} for the insert.
+	 * @param idColumn the identifier for the id, if an ids are expected to be generated. May be {@code null}.
+	 * @return the {@link MultiRowInsertStrategy} to be used for the batch insert or {@literal null} if multi-row inserts
+	 *         are not enabled or not supported for the insert.
+	 * @since 4.1
+	 */
+	@Nullable
+	MultiRowInsertStrategy multiRowInsertStrategy(IdValueSource idValueSource, @Nullable SqlIdentifier idColumn) {
+
+		if (!multiRowInserts || !dialect.supportsMultiRowInsert()) {
+			return null;
+		}
+
+		boolean generatesIds = IdValueSource.GENERATED.equals(idValueSource);
+		if (generatesIds && !dialect.getIdGeneration().supportedForMultiRowInserts()) {
+			return null;
+		}
+
+		return new MultiRowInsertStrategy(dialect, jdbcOperations, generatesIds, idColumn);
+	}
+
 	private record DefaultInsertStrategy(NamedParameterJdbcOperations jdbcOperations) implements InsertStrategy {
 
 		@Override
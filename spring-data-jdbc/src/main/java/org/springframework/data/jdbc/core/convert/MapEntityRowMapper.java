@@ -41,6 +41,7 @@ class MapEntityRowMapper<T> implements RowMapper<Map.Entry<Object, T>> {
 	private final JdbcConverter converter;
 	private final Identifier identifier;
 	private final SqlIdentifier keyColumn;
+	private final RowDocumentRowMapper documentMapper = new RowDocumentRowMapper();
 
 	MapEntityRowMapper(AggregatePath path, JdbcConverter converter, Identifier identifier, SqlIdentifier keyColumn) {
 
@@ -52,8 +53,17 @@ class MapEntityRowMapper<T> implements RowMapper<Map.Entry<Object, T>> {
 
 	@Override
 	public Map.Entry<Object, T> mapRow(ResultSet rs, int rowNum) throws SQLException {
+		return mapDocument(documentMapper.mapRow(rs, rowNum));
+	}
 
-		RowDocument document = RowDocumentResultSetExtractor.toRowDocument(rs);
+	/**
+	 * Maps a {@link RowDocument} that has already been extracted from a {@link ResultSet}.
+	 *
+	 * @param document the document to map. Must not be {@literal null}.
+	 * @return the map entry for the mapped entity.
+	 * @since 4.1
+	 */
+	Map.Entry<Object, T> mapDocument(RowDocument document) {
 
 		Object key = document.get(keyColumn.getReference());
 
@@ -74,6 +74,7 @@ public class MappingJdbcConverter extends MappingRelationalConverter implements
 	private static final Converter<Iterable<?>, Map<?, ?>> ITERABLE_OF_ENTRY_TO_MAP_CONVERTER = new IterableOfEntryToMapConverter();
 
 	private SQLExceptionTranslator exceptionTranslator = new SQLExceptionSubclassTranslator();
+	private boolean readFlatEntitiesDirectly = false;
 	private final JdbcTypeFactory typeFactory;
 	private final RelationResolver relationResolver;
 
@@ -124,6 +125,30 @@ public class MappingJdbcConverter extends MappingRelationalConverter implements
 		this.exceptionTranslator = exceptionTranslator;
 	}
 
+	/**
+	 * Configure whether entities consisting of simple properties only get read directly from the
+	 * {@link java.sql.ResultSet} by {@link EntityRowMapper}, instead of creating a
+	 * {@link org.springframework.data.relational.domain.RowDocument} for each row first. Entities requiring SpEL
+	 * expressions, custom read converters, references or embedded properties are always read through a
+	 * {@link org.springframework.data.relational.domain.RowDocument}. Defaults to {@literal false}.
+	 *
+	 * @param readFlatEntitiesDirectly {@literal true} to read flat entities directly from the
+	 *          {@link java.sql.ResultSet}.
+	 * @since 4.1
+	 */
+	public void setReadFlatEntitiesDirectly(boolean readFlatEntitiesDirectly) {
+		this.readFlatEntitiesDirectly = readFlatEntitiesDirectly;
+	}
+
+	/**
+	 * @return whether flat entities get read directly from the {@link java.sql.ResultSet}.
+	 * @since 4.1
+	 * @see #setReadFlatEntitiesDirectly(boolean)
+	 */
+	public boolean isReadFlatEntitiesDirectly() {
+		return readFlatEntitiesDirectly;
+	}
+
 	@Nullable
 	private Class<?> getEntityColumnType(TypeInformation<?> type) {
 
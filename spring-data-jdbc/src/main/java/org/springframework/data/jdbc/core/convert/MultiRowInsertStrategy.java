@@ -0,0 +1,160 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+
+/**
+ * Inserts multiple rows using {@code INSERT … VALUES (…), (…)} statements instead of a JDBC batch of single-row
+ * inserts. Rows are split into chunks so that a statement does not exceed {@link Dialect#getBindParameterMaximumCount()}
+ * bind parameters nor {@link #MAXIMUM_ROWS} rows. Rows remaining after the full chunks get inserted in chunks of
+ * decreasing powers of two, which limits the number of distinct statements to cache. Generated ids are obtained from
+ * the generated keys of each statement, which requires the driver to report the keys of all rows in order, see
+ * {@link org.springframework.data.relational.core.dialect.IdGeneration#supportedForMultiRowInserts()}.
+ *
+ * @since 4.1
+ */
+class MultiRowInsertStrategy {
+
+	/**
+	 * Maximum number of rows of a single statement, as some databases limit the number of rows of a {@code VALUES}
+	 * clause.
+	 */
+	static final int MAXIMUM_ROWS = 1000;
+
+	private final Dialect dialect;
+	private final NamedParameterJdbcOperations jdbcOperations;
+	private final boolean generatesIds;
+	private final @Nullable SqlIdentifier idColumn;
+
+	MultiRowInsertStrategy(Dialect dialect, NamedParameterJdbcOperations jdbcOperations, boolean generatesIds,
+			@Nullable SqlIdentifier idColumn) {
+
+		this.dialect = dialect;
+		this.jdbcOperations = jdbcOperations;
+		this.generatesIds = generatesIds;
+		this.idColumn = idColumn;
+	}
+
+	/**
+	 * Inserts the rows described by the given parameter sources, which must all contain the same parameters.
+	 *
+	 * @param sqlForRows function returning the multi-row insert for a given number of rows, using bind parameters named
+	 *          as obtained from {@link SqlGenerator#getMultiRowParameterName(String, int)}.
+	 * @param sqlParameterSources the parameters of each row. Must not be empty.
+	 * @return the generated ids in the order of the parameter sources. Elements are {@literal null} if no ids get
+	 *         generated.
+	 */
+	@Nullable
+	Object[] execute(IntFunction<String> sqlForRows, SqlParameterSource[] sqlParameterSources) {
+
+		String[] parameterNames = sqlParameterSources[0].getParameterNames();
+		int rowsPerStatement = getRowsPerStatement(parameterNames != null ? parameterNames.length : 1);
+		Object[] ids = new Object[sqlParameterSources.length];
+
+		for (int offset = 0, rows; offset < sqlParameterSources.length; offset += rows) {
+
+			rows = getRows(rowsPerStatement, sqlParameterSources.length - offset);
+			String sql = sqlForRows.apply(rows);
+			SqlParameterSource parameterSource = combine(sqlParameterSources, offset, rows);
+
+			if (!generatesIds) {
+				jdbcOperations.update(sql, parameterSource);
+				continue;
+			}
+
+			GeneratedKeyHolder holder = new GeneratedKeyHolder();
+			jdbcOperations.update(sql, parameterSource, holder);
+
+			List<Map<String, Object>> keyList = holder.getKeyList();
+			if (keyList.size() != rows) {
+				throw new IllegalStateException(
+						"Expected %d generated keys for multi-row insert but got %d".formatted(rows, keyList.size()));
+			}
+
+			for (int i = 0; i < rows; i++) {
+				ids[offset + i] = getId(keyList.get(i));
+			}
+		}
+
+		return ids;
+	}
+
+	/**
+	 * @param parametersPerRow the number of bind parameters of each row.
+	 * @return the number of rows to insert with a single statement.
+	 */
+	int getRowsPerStatement(int parametersPerRow) {
+		return Math.max(1, Math.min(MAXIMUM_ROWS, dialect.getBindParameterMaximumCount() / Math.max(1, parametersPerRow)));
+	}
+
+	/**
+	 * @param rowsPerStatement the maximum number of rows of a statement.
+	 * @param remaining the number of rows still to insert.
+	 * @return the number of rows of the next statement, either {@code rowsPerStatement} or a power of two.
+	 */
+	private static int getRows(int rowsPerStatement, int remaining) {
+		return remaining >= rowsPerStatement ? rowsPerStatement : Integer.highestOneBit(remaining);
+	}
+
+	private static SqlParameterSource combine(SqlParameterSource[] sqlParameterSources, int offset, int rows) {
+
+		MapSqlParameterSource combined = new MapSqlParameterSource();
+
+		for (int row = 0; row < rows; row++) {
+
+			SqlParameterSource source = sqlParameterSources[offset + row];
+			String[] parameterNames = source.getParameterNames();
+
+			if (parameterNames == null) {
+				throw new IllegalArgumentException("Parameter source must provide its parameter names");
+			}
+
+			for (String name : parameterNames) {
+
+				String rowName = SqlGenerator.getMultiRowParameterName(name, row);
+				combined.addValue(rowName, source.getValue(name));
+
+				int sqlType = source.getSqlType(name);
+				if (sqlType != SqlParameterSource.TYPE_UNKNOWN) {
+					combined.registerSqlType(rowName, sqlType);
+				}
+			}
+		}
+
+		return combined;
+	}
+
+	private @Nullable Object getId(Map<String, Object> keys) {
+
+		if (keys.size() > 1) {
+			return idColumn != null ? keys.get(idColumn.getReference()) : null;
+		}
+
+		return keys.values().stream().findFirst()
+				.orElseThrow(() -> new IllegalStateException("KeyHolder contains an empty key list"));
+	}
+}
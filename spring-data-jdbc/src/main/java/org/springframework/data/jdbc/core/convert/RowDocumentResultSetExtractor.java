@@ -66,22 +66,7 @@ class RowDocumentResultSetExtractor {
 	 * @throws SQLException
 	 */
 	static RowDocument toRowDocument(ResultSet resultSet) throws SQLException {
-
-		ResultSetMetaData md = resultSet.getMetaData();
-		int columnCount = md.getColumnCount();
-		RowDocument document = new RowDocument(columnCount);
-
-		for (int i = 0; i < columnCount; i++) {
-
-			Object rsv = JdbcUtils.getResultSetValue(resultSet, i + 1);
-			String columnName = JdbcUtils.lookupColumnName(md, i + 1);
-			Object old = document.putIfAbsent(columnName, rsv instanceof Array a ? a.getArray() : rsv);
-			if (old != null) {
-				log.warn(DUPLICATE_COLUMN_WARNING.formatted(columnName, i));
-			}
-		}
-
-		return document;
+		return RowDocumentRowMapper.toRowDocument(resultSet);
 	}
 
 	/**
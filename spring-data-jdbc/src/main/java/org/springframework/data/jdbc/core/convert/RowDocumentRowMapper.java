@@ -0,0 +1,157 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.relational.domain.RowDocument;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+/**
+ * {@link RowMapper} creating a {@link RowDocument} for each row. Columns get determined once per {@link ResultSet} and
+ * are shared by all documents created for its rows, which store their values in an array. Subsequent rows of the same
+ * {@link ResultSet} do not consult its {@link ResultSetMetaData} again. A {@link ResultSet} with the same columns as the
+ * previous one reuses its columns. Instances are thread-safe, though mapping rows of different {@link ResultSet}s
+ * concurrently resolves columns more often.
+ *
+ * @since 4.1
+ */
+class RowDocumentRowMapper implements RowMapper<RowDocument> {
+
+	private static final Log log = LogFactory.getLog(RowDocumentRowMapper.class);
+
+	private volatile @Nullable BoundColumns bound;
+
+	@Override
+	public RowDocument mapRow(ResultSet resultSet, int rowNum) throws SQLException {
+
+		BoundColumns bound = this.bound;
+
+		if (bound == null || bound.resultSet() != resultSet) {
+
+			ResultSetMetaData metaData = resultSet.getMetaData();
+			ResultSetColumns columns = bound != null && bound.columns().matches(metaData) ? bound.columns()
+					: ResultSetColumns.of(metaData);
+
+			bound = new BoundColumns(resultSet, columns);
+			this.bound = bound;
+		}
+
+		return bound.columns().toRowDocument(resultSet);
+	}
+
+	/**
+	 * Create a {@link RowDocument} from the current {@link ResultSet} row, without sharing column names with other rows.
+	 *
+	 * @param resultSet must not be {@literal null}.
+	 * @return the {@link RowDocument} for the current row.
+	 */
+	static RowDocument toRowDocument(ResultSet resultSet) throws SQLException {
+		return ResultSetColumns.of(resultSet.getMetaData()).toRowDocument(resultSet);
+	}
+
+	/**
+	 * {@link ResultSetColumns} resolved for a particular {@link ResultSet}.
+	 */
+	private record BoundColumns(ResultSet resultSet, ResultSetColumns columns) {
+	}
+
+	/**
+	 * Columns of a {@link ResultSet}. Columns contained multiple times in the {@link ResultSet} are considered only for
+	 * their first occurrence.
+	 *
+	 * @param names the names of all columns of the {@link ResultSet}, identifying its shape.
+	 * @param columns the distinct columns.
+	 * @param positions the position within {@literal columns} for each column of the {@link ResultSet}, or {@literal -1}
+	 *          for columns to be skipped.
+	 */
+	private record ResultSetColumns(String[] names, RowDocument.Columns columns, int[] positions) {
+
+		static ResultSetColumns of(ResultSetMetaData md) throws SQLException {
+
+			int columnCount = md.getColumnCount();
+
+			String[] allNames = new String[columnCount];
+			List<String> names = new ArrayList<>(columnCount);
+			Map<String, Integer> distinctNames = new LinkedCaseInsensitiveMap<>(columnCount);
+			int[] positions = new int[columnCount];
+
+			for (int i = 0; i < columnCount; i++) {
+
+				String columnName = JdbcUtils.lookupColumnName(md, i + 1);
+				allNames[i] = columnName;
+
+				if (distinctNames.putIfAbsent(columnName, names.size()) != null) {
+
+					log.warn(RowDocumentResultSetExtractor.DUPLICATE_COLUMN_WARNING.formatted(columnName, i));
+					positions[i] = -1;
+					continue;
+				}
+
+				positions[i] = names.size();
+				names.add(columnName);
+			}
+
+			return new ResultSetColumns(allNames, RowDocument.Columns.of(names), positions);
+		}
+
+		/**
+		 * @return whether the {@link ResultSetMetaData} describes the same columns these columns were created for.
+		 */
+		boolean matches(ResultSetMetaData md) throws SQLException {
+
+			if (md.getColumnCount() != names.length) {
+				return false;
+			}
+
+			for (int i = 0; i < names.length; i++) {
+				if (!names[i].equals(JdbcUtils.lookupColumnName(md, i + 1))) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		RowDocument toRowDocument(ResultSet resultSet) throws SQLException {
+
+			@Nullable Object[] values = new Object[columns.size()];
+
+			for (int i = 0; i < positions.length; i++) {
+
+				if (positions[i] < 0) {
+					continue;
+				}
+
+				Object rsv = JdbcUtils.getResultSetValue(resultSet, i + 1);
+				values[positions[i]] = rsv instanceof Array a ? a.getArray() : rsv;
+			}
+
+			return new RowDocument(columns, values);
+		}
+	}
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+/**
+ * {@link DataAccessStrategy} that handles only a subset of operations and is able to tell upfront which ones.
+ * {@link CascadingDataAccessStrategy} uses this to route an operation directly to the strategies supporting it instead
+ * of invoking each strategy and falling back on exceptions.
+ *
+ * @since 4.1
+ */
+public interface SelectiveDataAccessStrategy extends DataAccessStrategy {
+
+	/**
+	 * Determine whether this strategy is able to perform {@code operation}. The outcome must not change over the
+	 * lifetime of the strategy for the same operation as it may be cached.
+	 *
+	 * @param operation the operation to perform. Must not be {@literal null}.
+	 * @return {@literal true} if the operation is supported; {@literal false} to skip this strategy.
+	 */
+	boolean supports(DataAccessOperation operation);
+}
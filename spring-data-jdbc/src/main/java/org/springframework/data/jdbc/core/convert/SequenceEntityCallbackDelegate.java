@@ -20,6 +20,7 @@ import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.relational.core.conversion.SequenceValueAllocator;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
@@ -44,6 +45,7 @@ class SequenceEntityCallbackDelegate {
 
 	private final Dialect dialect;
 	private final NamedParameterJdbcOperations operations;
+	private final SequenceValueAllocator allocator = new SequenceValueAllocator();
 
 	public SequenceEntityCallbackDelegate(Dialect dialect, NamedParameterJdbcOperations operations) {
 		this.dialect = dialect;
@@ -99,6 +101,13 @@ class SequenceEntityCallbackDelegate {
 		}
 
 		String sql = dialect.getIdGeneration().createSequenceQuery(sequence);
+		int allocationSize = property.getSequenceAllocationSize();
+
+		if (allocationSize > 1) {
+			return allocator.next(sequence, allocationSize,
+					() -> operations.queryForObject(sql, EMPTY_PARAMETERS, (rs, rowNum) -> rs.getObject(1)));
+		}
+
 		return operations.queryForObject(sql, EMPTY_PARAMETERS, (rs, rowNum) -> rs.getObject(1));
 	}
 
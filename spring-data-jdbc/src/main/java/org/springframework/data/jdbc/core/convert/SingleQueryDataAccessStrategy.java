@@ -62,7 +62,7 @@ class SingleQueryDataAccessStrategy implements ReadingDataAccessStrategy {
 
 	@Override
 	public <T> Stream<T> streamAll(Class<T> domainType) {
-		throw new UnsupportedOperationException();
+		return aggregateReader.streamAll(Query.empty(), getPersistentEntity(domainType));
 	}
 
 	@Override
@@ -72,22 +72,22 @@ class SingleQueryDataAccessStrategy implements ReadingDataAccessStrategy {
 
 	@Override
 	public <T> Stream<T> streamAllByIds(Iterable<?> ids, Class<T> domainType) {
-		throw new UnsupportedOperationException();
+		return aggregateReader.streamAllById(ids, getPersistentEntity(domainType));
 	}
 
 	@Override
 	public <T> List<T> findAll(Class<T> domainType, Sort sort) {
-		throw new UnsupportedOperationException();
+		return aggregateReader.findAll(Query.empty().sort(sort), getPersistentEntity(domainType));
 	}
 
 	@Override
 	public <T> Stream<T> streamAll(Class<T> domainType, Sort sort) {
-		throw new UnsupportedOperationException();
+		return aggregateReader.streamAll(Query.empty().sort(sort), getPersistentEntity(domainType));
 	}
 
 	@Override
 	public <T> List<T> findAll(Class<T> domainType, Pageable pageable) {
-		throw new UnsupportedOperationException();
+		return aggregateReader.findAll(Query.empty().with(pageable), getPersistentEntity(domainType));
 	}
 
 	@Override
@@ -102,12 +102,12 @@ class SingleQueryDataAccessStrategy implements ReadingDataAccessStrategy {
 
 	@Override
 	public <T> Stream<T> streamAll(Query query, Class<T> domainType) {
-		throw new UnsupportedOperationException();
+		return aggregateReader.streamAll(query, getPersistentEntity(domainType));
 	}
 
 	@Override
 	public <T> List<T> findAll(Query query, Class<T> domainType, Pageable pageable) {
-		throw new UnsupportedOperationException();
+		return aggregateReader.findAll(query.with(pageable), getPersistentEntity(domainType));
 	}
 
 	@SuppressWarnings("unchecked")
@@ -16,12 +16,24 @@
 package org.springframework.data.jdbc.core.convert;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.mapping.AggregatePath;
+import org.springframework.data.relational.core.mapping.AggregatePathTraversal;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.data.util.Streamable;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.util.Assert;
 
@@ -89,10 +101,64 @@ class SingleQueryFallbackDataAccessStrategy extends DelegatingDataAccessStrategy
 		return super.findAllById(ids, domainType);
 	}
 
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+
+		if (isSingleSelectQuerySupported(domainType)) {
+			return singleSelectDelegate.streamAll(domainType);
+		}
+
+		return super.streamAll(domainType);
+	}
+
+	@Override
+	public <T> Stream<T> streamAllByIds(Iterable<?> ids, Class<T> domainType) {
+
+		if (!ids.iterator().hasNext()) {
+			return Stream.empty();
+		}
+
+		if (isSingleSelectQuerySupported(domainType)) {
+			return singleSelectDelegate.streamAllByIds(ids, domainType);
+		}
+
+		return super.streamAllByIds(ids, domainType);
+	}
+
+	@Override
+	public <T> Iterable<T> findAll(Class<T> domainType, Sort sort) {
+
+		if (isSingleSelectQuerySupported(domainType) && isSingleSelectQuerySupported(sort, domainType)) {
+			return singleSelectDelegate.findAll(domainType, sort);
+		}
+
+		return super.findAll(domainType, sort);
+	}
+
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType, Sort sort) {
+
+		if (isSingleSelectQuerySupported(domainType) && isSingleSelectQuerySupported(sort, domainType)) {
+			return singleSelectDelegate.streamAll(domainType, sort);
+		}
+
+		return super.streamAll(domainType, sort);
+	}
+
+	@Override
+	public <T> Iterable<T> findAll(Class<T> domainType, Pageable pageable) {
+
+		if (isSingleSelectQuerySupported(domainType) && isSingleSelectQuerySupported(pageable.getSort(), domainType)) {
+			return singleSelectDelegate.findAll(domainType, pageable);
+		}
+
+		return super.findAll(domainType, pageable);
+	}
+
 	@Override
 	public <T> Optional<T> findOne(Query query, Class<T> domainType) {
 
-		if (isSingleSelectQuerySupported(domainType) && isSingleSelectQuerySupported(query)) {
+		if (isSingleSelectQuerySupported(domainType) && isSingleSelectQuerySupported(query, domainType)) {
 			return singleSelectDelegate.findOne(query, domainType);
 		}
 
@@ -102,15 +168,78 @@ class SingleQueryFallbackDataAccessStrategy extends DelegatingDataAccessStrategy
 	@Override
 	public <T> Iterable<T> findAll(Query query, Class<T> domainType) {
 
-		if (isSingleSelectQuerySupported(domainType) && isSingleSelectQuerySupported(query)) {
+		if (isSingleSelectQuerySupported(domainType) && isSingleSelectQuerySupported(query, domainType)) {
 			return singleSelectDelegate.findAll(query, domainType);
 		}
 
 		return super.findAll(query, domainType);
 	}
 
-	private static boolean isSingleSelectQuerySupported(Query query) {
-		return !query.isSorted() && !query.isLimited();
+	@Override
+	public <T> Stream<T> streamAll(Query query, Class<T> domainType) {
+
+		if (isSingleSelectQuerySupported(domainType) && isSingleSelectQuerySupported(query, domainType)) {
+			return singleSelectDelegate.streamAll(query, domainType);
+		}
+
+		return super.streamAll(query, domainType);
+	}
+
+	@Override
+	public <T> Iterable<T> findAll(Query query, Class<T> domainType, Pageable pageable) {
+
+		if (isSingleSelectQuerySupported(domainType) && isSingleSelectQuerySupported(query, domainType)
+				&& isSingleSelectQuerySupported(pageable.getSort(), domainType)) {
+			return singleSelectDelegate.findAll(query, domainType, pageable);
+		}
+
+		return super.findAll(query, domainType, pageable);
+	}
+
+	@Override
+	public <T> Page<T> findPage(Query query, Class<T> domainType, Pageable pageable) {
+
+		if (isSingleSelectQuerySupported(domainType) && isSingleSelectQuerySupported(query, domainType)
+				&& isSingleSelectQuerySupported(pageable.getSort(), domainType)) {
+
+			List<T> content = Streamable.of(singleSelectDelegate.findAll(query, domainType, pageable)).toList();
+			return PageableExecutionUtils.getPage(content, pageable, () -> count(query, domainType));
+		}
+
+		return super.findPage(query, domainType, pageable);
+	}
+
+	private boolean isSingleSelectQuerySupported(Query query, Class<?> entityType) {
+		return isSingleSelectQuerySupported(query.getSort(), entityType);
+	}
+
+	/**
+	 * Single Query Loading sorts aggregate roots within the table of the aggregate root, so only case-sensitive sorting
+	 * by properties persisted in that table is supported.
+	 */
+	private boolean isSingleSelectQuerySupported(Sort sort, Class<?> entityType) {
+
+		RelationalMappingContext mappingContext = converter.getMappingContext();
+
+		for (Sort.Order order : sort) {
+
+			if (order.isIgnoreCase()) {
+				return false;
+			}
+
+			try {
+
+				AggregatePath path = mappingContext
+						.getAggregatePath(mappingContext.getPersistentPropertyPath(order.getProperty(), entityType));
+				if (path.isEntity() || !AggregatePathTraversal.getTableOwningPath(path).isRoot()) {
+					return false;
+				}
+			} catch (MappingException e) {
+				return false;
+			}
+		}
+
+		return true;
 	}
 
 	private boolean isSingleSelectQuerySupported(Class<?> entityType) {
@@ -120,30 +249,49 @@ class SingleQueryFallbackDataAccessStrategy extends DelegatingDataAccessStrategy
 				&& entityQualifiesForSingleQueryLoading(entityType);
 	}
 
+	/**
+	 * Single Query Loading joins referenced entities via the id of the entity referencing them. Therefore every entity
+	 * referenced by another entity needs a simple id, and composite ids are not supported.
+	 */
 	private boolean entityQualifiesForSingleQueryLoading(Class<?> entityType) {
 
-		for (PersistentPropertyPath<RelationalPersistentProperty> path : converter.getMappingContext()
+		RelationalMappingContext mappingContext = converter.getMappingContext();
+		RelationalPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(entityType);
+
+		if (!entity.hasIdProperty() || entity.getRequiredIdProperty().isEntity()) {
+			return false;
+		}
+
+		for (PersistentPropertyPath<RelationalPersistentProperty> path : mappingContext
 				.findPersistentPropertyPaths(entityType, __ -> true)) {
+
 			RelationalPersistentProperty property = path.getLeafProperty();
-			if (property.isEntity()) {
+			if (!property.isEntity()) {
+				continue;
+			}
 
-				// single references are currently not supported
-				if (!(property.isMap() || property.isCollectionLike())) {
-					return false;
-				}
+			// composite ids are currently not supported
+			if (property.isIdProperty()) {
+				return false;
+			}
 
-				// embedded entities are currently not supported
-				if (property.isEmbedded()) {
-					return false;
-				}
+			if (property.isEmbedded()) {
+				continue;
+			}
 
-				// nested references are currently not supported
-				if (path.getLength() > 1) {
-					return false;
-				}
+			AggregatePath aggregatePath = mappingContext.getAggregatePath(path);
+			AggregatePath referencedTable = AggregatePathTraversal.getTableOwningPath(aggregatePath.getParentPath());
+
+			// entities referenced by an entity without an id are currently not supported
+			if (!aggregatePath.getIdDefiningParentPath().equals(referencedTable)) {
+				return false;
+			}
+
+			RelationalPersistentProperty idProperty = aggregatePath.getRequiredLeafEntity().getIdProperty();
+			if (idProperty != null && idProperty.isEntity()) {
+				return false;
 			}
 		}
 		return true;
-
 	}
 }
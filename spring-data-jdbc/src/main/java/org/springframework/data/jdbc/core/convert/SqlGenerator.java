@@ -67,11 +67,22 @@ public class SqlGenerator {
 	static final SqlIdentifier VERSION_SQL_PARAMETER = SqlIdentifier.unquoted("___oldOptimisticLockingVersion");
 	static final SqlIdentifier IDS_SQL_PARAMETER = SqlIdentifier.unquoted("ids");
 
+	/**
+	 * Alias of the column holding the total number of rows selected by
+	 * {@link #selectByQueryWithWindowCount(Query, MapSqlParameterSource, Pageable)}.
+	 */
+	static final SqlIdentifier WINDOW_COUNT_COLUMN = SqlIdentifier.unquoted("window_count");
+
 	/**
 	 * Length of an aggregate path that is one longer then the root path.
 	 */
 	private static final int FIRST_NON_ROOT_LENGTH = 2;
 
+	/**
+	 * Maximum number of statements depending on arguments that get cached per {@link SqlGenerator}.
+	 */
+	private static final int STATEMENT_CACHE_SIZE = 256;
+
 	private final RelationalPersistentEntity<?> entity;
 	private final RelationalMappingContext mappingContext;
 
@@ -93,6 +104,8 @@ public class SqlGenerator {
 	private final Lazy<String> deleteByIdInSql = Lazy.of(this::createDeleteByIdInSql);
 	private final Lazy<String> deleteByIdAndVersionSql = Lazy.of(this::createDeleteByIdAndVersionSql);
 	private final Lazy<String> deleteByListSql = Lazy.of(this::createDeleteByListSql);
+	private final StatementCache<StatementKey> statementCache = new StatementCache<>(STATEMENT_CACHE_SIZE,
+			this::createStatement);
 	private final QueryMapper queryMapper;
 	private final Dialect dialect;
 
@@ -126,7 +139,23 @@ public class SqlGenerator {
 	 * @since 4.0
 	 */
 	public SelectBuilder.SelectWhere createSelectBuilder(Table table, Predicate<AggregatePath> pathFilter) {
-		return createSelectBuilder(table, pathFilter, Collections.emptyList(), Query.empty());
+		return createSelectBuilder(table, pathFilter, Collections.emptyList());
+	}
+
+	/**
+	 * Create a basic select structure with all the necessary joins, selecting {@code additionalExpressions} after the
+	 * columns of the entity.
+	 *
+	 * @param table the table to base the select on
+	 * @param pathFilter a filter for excluding paths from the select. All paths for which the filter returns
+	 *          {@literal true} will be skipped when determining columns to select.
+	 * @param additionalExpressions expressions to add to the select list, such as window functions.
+	 * @return a select structure suitable for constructing more specialized selects by adding conditions.
+	 * @since 4.1
+	 */
+	public SelectBuilder.SelectWhere createSelectBuilder(Table table, Predicate<AggregatePath> pathFilter,
+			Collection<? extends Expression> additionalExpressions) {
+		return createSelectBuilder(table, pathFilter, Collections.emptyList(), Query.empty(), additionalExpressions);
 	}
 
 	/**
@@ -217,6 +246,11 @@ public class SqlGenerator {
 		return SQL.bindMarker(":" + BindParameterNameSanitizer.sanitize(renderReference(columnName)));
 	}
 
+	private BindMarker getMultiRowBindMarker(SqlIdentifier columnName, int row) {
+		return SQL.bindMarker(
+				":" + getMultiRowParameterName(BindParameterNameSanitizer.sanitize(renderReference(columnName)), row));
+	}
+
 	/**
 	 * Returns a query for selecting all simple properties of an entity, including those for one-to-one relationships.
 	 * Results are filtered using an {@code IN}-clause on the id column.
@@ -243,17 +277,24 @@ public class SqlGenerator {
 	 * @return a SQL statement. Guaranteed to be not {@code null}.
 	 */
 	String getFindAll(Sort sort) {
-		return render(selectBuilder(Collections.emptyList(), sort, Pageable.unpaged()).build());
+		return statementCache.get(FindAllKey.of(sort, Pageable.unpaged()));
 	}
 
 	/**
 	 * Returns a query for selecting all simple properties of an entity, including those for one-to-one relationships,
-	 * paged and sorted by the given parameter.
+	 * paged and sorted by the given parameter. Only statements for the first page get cached, as dialects render the
+	 * offset as literal and caching each page would evict other statements when paging deeply.
 	 *
 	 * @return a SQL statement. Guaranteed to be not {@code null}.
 	 */
 	String getFindAll(Pageable pageable) {
-		return render(selectBuilder(Collections.emptyList(), pageable.getSort(), pageable).build());
+
+		if (pageable.isPaged() && pageable.getOffset() > 0) {
+			return render(selectBuilder(Collections.emptyList(), pageable.getSort(), pageable.getPageSize(),
+					pageable.getOffset()).build());
+		}
+
+		return statementCache.get(FindAllKey.of(pageable.getSort(), pageable));
 	}
 
 	/**
@@ -295,6 +336,36 @@ public class SqlGenerator {
 		Assert.isTrue(keyColumn != null || !ordered,
 				"If the SQL statement should be ordered a keyColumn to order by must be provided");
 
+		return statementCache
+				.get(new FindAllByPropertyKey(List.copyOf(parentIdentifier.toMap().keySet()), keyColumn, ordered));
+	}
+
+	/**
+	 * Returns a query for selecting all simple properties of an entity, including those for one-to-one relationships.
+	 * Results are limited to those rows referencing any of multiple entities using the back reference column. The back
+	 * reference column gets selected as well, so the loaded entities can get assigned to the entities referencing them.
+	 * Results are filtered using an {@code IN}-clause on the back reference column.
+	 *
+	 * @param backReferenceColumn name of the column of the FK back to the referencing entity.
+	 * @param propertyPath used to determine if the property is ordered and if there is a key column.
+	 * @return a SQL String.
+	 * @since 4.1
+	 */
+	String getFindAllInListByProperty(SqlIdentifier backReferenceColumn,
+			PersistentPropertyPath<? extends RelationalPersistentProperty> propertyPath) {
+
+		Assert.notNull(backReferenceColumn, "backReferenceColumn must not be null");
+		Assert.notNull(propertyPath, "propertyPath must not be null");
+
+		AggregatePath path = mappingContext.getAggregatePath(propertyPath);
+
+		return statementCache.get(new FindAllInListByPropertyKey(backReferenceColumn,
+				path.getTableInfo().qualifierColumnInfo(), path.isOrdered()));
+	}
+
+	private String createFindAllByPropertySql(List<SqlIdentifier> backReferenceColumns,
+			AggregatePath.@Nullable ColumnInfo keyColumn, boolean ordered) {
+
 		Table table = getTable();
 
 		SelectBuilder.SelectWhere builder = selectBuilder( //
@@ -303,7 +374,7 @@ public class SqlGenerator {
 						: Collections.singleton(keyColumn.name()) //
 		);
 
-		Condition condition = buildConditionForBackReference(parentIdentifier, table);
+		Condition condition = buildConditionForBackReference(backReferenceColumns, table);
 		SelectBuilder.SelectWhereAndOr withWhereClause = builder.where(condition);
 
 		Select select;
@@ -319,10 +390,34 @@ public class SqlGenerator {
 		return render(select);
 	}
 
-	private Condition buildConditionForBackReference(Identifier parentIdentifier, Table table) {
+	private String createFindAllInListByPropertySql(SqlIdentifier backReferenceColumn,
+			AggregatePath.@Nullable ColumnInfo keyColumn, boolean ordered) {
+
+		Table table = getTable();
+
+		List<SqlIdentifier> additionalColumns = new ArrayList<>(2);
+		additionalColumns.add(backReferenceColumn);
+		if (keyColumn != null) {
+			additionalColumns.add(keyColumn.name());
+		}
+
+		SelectBuilder.SelectWhereAndOr withWhereClause = selectBuilder(additionalColumns)
+				.where(Conditions.in(table.column(backReferenceColumn), getBindMarker(IDS_SQL_PARAMETER)));
+
+		if (ordered) {
+
+			Assert.isTrue(keyColumn != null, "KeyColumn must not be null");
+
+			return render(withWhereClause.orderBy(table.column(keyColumn.name()).as(keyColumn.alias())).build());
+		}
+
+		return render(withWhereClause.build());
+	}
+
+	private Condition buildConditionForBackReference(List<SqlIdentifier> backReferenceColumns, Table table) {
 
 		Condition condition = null;
-		for (SqlIdentifier backReferenceColumn : parentIdentifier.toMap().keySet()) {
+		for (SqlIdentifier backReferenceColumn : backReferenceColumns) {
 
 			Assert.isTrue(!SqlIdentifier.EMPTY.equals(backReferenceColumn),
 					"An empty SqlIdentifier can't be used in condition. Make sure that all composite primary keys are defined in the query");
@@ -361,7 +456,7 @@ public class SqlGenerator {
 	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
 	 */
 	String getAcquireLockById(LockMode lockMode) {
-		return this.createAcquireLockById(lockMode);
+		return statementCache.get(new LockKey(lockMode, true));
 	}
 
 	/**
@@ -371,7 +466,7 @@ public class SqlGenerator {
 	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
 	 */
 	String getAcquireLockAll(LockMode lockMode) {
-		return this.createAcquireLockAll(lockMode);
+		return statementCache.get(new LockKey(lockMode, false));
 	}
 
 	/**
@@ -380,7 +475,47 @@ public class SqlGenerator {
 	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
 	 */
 	String getInsert(Set<SqlIdentifier> additionalColumns) {
-		return createInsertSql(additionalColumns);
+		return statementCache.get(new InsertKey(Set.copyOf(additionalColumns)));
+	}
+
+	/**
+	 * Create a {@code INSERT INTO … (…) VALUES (…), (…)} statement inserting {@code rows} rows. The bind parameters of
+	 * each row are named as obtained from {@link #getMultiRowParameterName(String, int)}. Statements are cached per number
+	 * of rows, so callers should limit the number of distinct row counts as {@link MultiRowInsertStrategy} does.
+	 *
+	 * @param additionalColumns the columns to insert in addition to the insertable columns of the entity.
+	 * @param rows the number of rows to insert. Must be greater than zero.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 */
+	String getMultiRowInsert(Set<SqlIdentifier> additionalColumns, int rows) {
+
+		Assert.isTrue(rows > 0, "Number of rows must be greater than zero");
+
+		return statementCache.get(new MultiRowInsertKey(Set.copyOf(additionalColumns), rows));
+	}
+
+	/**
+	 * Return the name of a bind parameter of a multi-row insert.
+	 *
+	 * @param parameterName the name of the parameter of a single-row insert.
+	 * @param row the index of the row.
+	 * @return the name of the parameter for the given row.
+	 */
+	static String getMultiRowParameterName(String parameterName, int row) {
+		return "r" + row + "_" + parameterName;
+	}
+
+	/**
+	 * Create a statement inserting a row or updating it if a row with the same id exists. The syntax depends on the
+	 * {@link org.springframework.data.relational.core.dialect.Dialect#getUpsertRenderContext() dialect}, for example
+	 * {@code MERGE INTO …} or {@code INSERT INTO … ON CONFLICT (…) DO UPDATE SET …}.
+	 *
+	 * @param columns the columns to write, including the id columns.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 4.1
+	 */
+	String getUpsert(Set<SqlIdentifier> columns) {
+		return statementCache.get(new UpsertByIdKey(Set.copyOf(columns)));
 	}
 
 	/**
@@ -453,16 +588,7 @@ public class SqlGenerator {
 	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
 	 */
 	String createDeleteAllSql(@Nullable PersistentPropertyPath<RelationalPersistentProperty> path) {
-
-		Table table = getTable();
-
-		DeleteBuilder.DeleteWhere deleteAll = Delete.builder().from(table);
-
-		if (path == null) {
-			return render(deleteAll.build());
-		}
-
-		return createDeleteByPathAndCriteria(mappingContext.getAggregatePath(path), this::isNotNullCondition);
+		return statementCache.get(new DeleteByPathKey(path, DeleteKind.ALL));
 	}
 
 	/**
@@ -475,7 +601,7 @@ public class SqlGenerator {
 	String createDeleteByPath(PersistentPropertyPath<RelationalPersistentProperty> path) {
 		// TODO: When deleting by path, why do we expect the where-value to be id and not named after the path?
 		// See SqlGeneratorEmbeddedUnitTests.deleteByPath
-		return createDeleteByPathAndCriteria(mappingContext.getAggregatePath(path), this::equalityCondition);
+		return statementCache.get(new DeleteByPathKey(path, DeleteKind.EQUALITY));
 	}
 
 	/**
@@ -486,7 +612,69 @@ public class SqlGenerator {
 	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
 	 */
 	String createDeleteInByPath(PersistentPropertyPath<RelationalPersistentProperty> path) {
-		return createDeleteByPathAndCriteria(mappingContext.getAggregatePath(path), this::inCondition);
+		return statementCache.get(new DeleteByPathKey(path, DeleteKind.IN));
+	}
+
+	/**
+	 * @return the cache holding statements that depend on the arguments they get created for.
+	 */
+	StatementCache<StatementKey> getStatementCache() {
+		return statementCache;
+	}
+
+	private String createStatement(StatementKey key) {
+
+		if (key instanceof FindAllKey findAll) {
+			return render(selectBuilder(Collections.emptyList(), findAll.sort(), findAll.pageSize(), 0).build());
+		}
+
+		if (key instanceof FindAllByPropertyKey findAllByProperty) {
+			return createFindAllByPropertySql(findAllByProperty.backReferenceColumns(), findAllByProperty.keyColumn(),
+					findAllByProperty.ordered());
+		}
+
+		if (key instanceof FindAllInListByPropertyKey findAllInListByProperty) {
+			return createFindAllInListByPropertySql(findAllInListByProperty.backReferenceColumn(),
+					findAllInListByProperty.keyColumn(), findAllInListByProperty.ordered());
+		}
+
+		if (key instanceof LockKey lock) {
+			return lock.byId() ? createAcquireLockById(lock.lockMode()) : createAcquireLockAll(lock.lockMode());
+		}
+
+		if (key instanceof InsertKey insert) {
+			return createInsertSql(insert.additionalColumns(), 1, (column, row) -> getBindMarker(column));
+		}
+
+		if (key instanceof MultiRowInsertKey insert) {
+			return createInsertSql(insert.additionalColumns(), insert.rows(), this::getMultiRowBindMarker);
+		}
+
+		if (key instanceof UpsertByIdKey upsert) {
+			return createUpsertSql(upsert.columns());
+		}
+
+		if (key instanceof DeleteByPathKey deleteByPath) {
+			return createDeleteByPathSql(deleteByPath.path(), deleteByPath.kind());
+		}
+
+		throw new IllegalArgumentException("Unsupported statement key " + key);
+	}
+
+	private String createDeleteByPathSql(@Nullable PersistentPropertyPath<RelationalPersistentProperty> path,
+			DeleteKind kind) {
+
+		if (path == null) {
+			return render(Delete.builder().from(getTable()).build());
+		}
+
+		AggregatePath aggregatePath = mappingContext.getAggregatePath(path);
+
+		return switch (kind) {
+			case ALL -> createDeleteByPathAndCriteria(aggregatePath, this::isNotNullCondition);
+			case EQUALITY -> createDeleteByPathAndCriteria(aggregatePath, this::equalityCondition);
+			case IN -> createDeleteByPathAndCriteria(aggregatePath, this::inCondition);
+		};
 	}
 
 	/**
@@ -613,14 +801,15 @@ public class SqlGenerator {
 	}
 
 	private SelectBuilder.SelectWhere selectBuilder(Collection<SqlIdentifier> keyColumns, Query query) {
-		return createSelectBuilder(getTable(), ap -> false, keyColumns, query);
+		return createSelectBuilder(getTable(), ap -> false, keyColumns, query, Collections.emptyList());
 	}
 
 	private SelectBuilder.SelectWhere createSelectBuilder(Table table, Predicate<AggregatePath> pathFilter,
-			Collection<SqlIdentifier> keyColumns, Query query) {
+			Collection<SqlIdentifier> keyColumns, Query query, Collection<? extends Expression> additionalExpressions) {
 
 		Projection projection = getProjection(pathFilter, keyColumns, query, table);
-		SelectBuilder.SelectJoin baseSelect = StatementBuilder.select(projection.columns()).from(table);
+		SelectBuilder.SelectJoin baseSelect = StatementBuilder.select(projection.columns()).select(additionalExpressions)
+				.from(table);
 
 		return (SelectBuilder.SelectWhere) addJoins(baseSelect, projection.joins());
 	}
@@ -724,11 +913,11 @@ public class SqlGenerator {
 		}
 	}
 
-	private SelectBuilder.SelectOrdered selectBuilder(Collection<SqlIdentifier> keyColumns, Sort sort,
-			Pageable pageable) {
+	private SelectBuilder.SelectOrdered selectBuilder(Collection<SqlIdentifier> keyColumns, Sort sort, int pageSize,
+			long offset) {
 
 		SelectBuilder.SelectOrdered sortable = this.selectBuilder(keyColumns);
-		sortable = applyPagination(pageable, sortable);
+		sortable = applyPagination(pageSize, offset, sortable);
 		return sortable.orderBy(extractOrderByFields(sort));
 
 	}
@@ -739,11 +928,23 @@ public class SqlGenerator {
 			return select;
 		}
 
+		return applyPagination(pageable.getPageSize(), pageable.getOffset(), select);
+	}
+
+	/**
+	 * Applies limit and offset to the select. A negative {@code pageSize} indicates an unpaged select.
+	 */
+	private SelectBuilder.SelectOrdered applyPagination(int pageSize, long offset, SelectBuilder.SelectOrdered select) {
+
+		if (pageSize < 0) {
+			return select;
+		}
+
 		Assert.isTrue(select instanceof SelectBuilder.SelectLimitOffset,
 				() -> String.format("Can't apply limit clause to statement of type %s", select.getClass()));
 
 		SelectBuilder.SelectLimitOffset limitable = (SelectBuilder.SelectLimitOffset) select;
-		SelectBuilder.SelectLimitOffset limitResult = limitable.limitOffset(pageable.getPageSize(), pageable.getOffset());
+		SelectBuilder.SelectLimitOffset limitResult = limitable.limitOffset(pageSize, offset);
 
 		Assert.state(limitResult instanceof SelectBuilder.SelectOrdered, String.format(
 				"The result of applying the limit-clause must be of type SelectOrdered in order to apply the order-by-clause but is of type %s",
@@ -865,7 +1066,8 @@ public class SqlGenerator {
 		return render(select);
 	}
 
-	private String createInsertSql(Set<SqlIdentifier> additionalColumns) {
+	private String createInsertSql(Set<SqlIdentifier> additionalColumns, int rows,
+			BiFunction<SqlIdentifier, Integer, BindMarker> bindMarkers) {
 
 		Table table = getTable();
 
@@ -884,8 +1086,14 @@ public class SqlGenerator {
 		}
 
 		InsertBuilder.InsertValuesWithBuild insertWithValues = null;
-		for (SqlIdentifier cn : columnNamesForInsert) {
-			insertWithValues = (insertWithValues == null ? insert : insertWithValues).values(getBindMarker(cn));
+		for (int row = 0; row < rows; row++) {
+
+			InsertBuilder.InsertValues values = insertWithValues == null ? insert : insertWithValues.row();
+			for (SqlIdentifier cn : columnNamesForInsert) {
+
+				insertWithValues = values.value(bindMarkers.apply(cn, row));
+				values = insertWithValues;
+			}
 		}
 
 		Assert.state(insertWithValues != null, "InsertWithValues must not be null");
@@ -893,6 +1101,30 @@ public class SqlGenerator {
 		return render(insertWithValues.build());
 	}
 
+	private String createUpsertSql(Set<SqlIdentifier> columnNames) {
+
+		Table table = getTable();
+
+		Set<SqlIdentifier> columnNamesForUpsert = new TreeSet<>(Comparator.comparing(SqlIdentifier::getReference));
+		columnNamesForUpsert.addAll(columnNames);
+
+		List<Column> columnsForUpsert = new ArrayList<>(columnNamesForUpsert.size());
+		List<Expression> values = new ArrayList<>(columnNamesForUpsert.size());
+		for (SqlIdentifier cn : columnNamesForUpsert) {
+
+			columnsForUpsert.add(table.column(cn));
+			values.add(getBindMarker(cn));
+		}
+
+		Upsert upsert = StatementBuilder.upsert(table) //
+				.columns(columnsForUpsert) //
+				.values(values) //
+				.key(getIdColumns()) //
+				.build();
+
+		return render(upsert);
+	}
+
 	private String createUpdateSql() {
 		return render(createBaseUpdate().build());
 	}
@@ -1006,6 +1238,10 @@ public class SqlGenerator {
 		return this.sqlRenderer.render(delete);
 	}
 
+	private String render(Upsert upsert) {
+		return this.sqlRenderer.render(upsert);
+	}
+
 	private Table getTable() {
 		return sqlContext.getTable();
 	}
@@ -1116,10 +1352,33 @@ public class SqlGenerator {
 	 * @return a non null query string.
 	 */
 	public String selectByQuery(Query query, MapSqlParameterSource parameterSource, Pageable pageable) {
+		return selectByQuery(query, parameterSource, pageable, Collections.emptyList());
+	}
+
+	/**
+	 * Constructs a single sql query that performs select based on the provided query and pagination information and
+	 * selects the total number of rows matching the query as additional column {@link #WINDOW_COUNT_COLUMN} using
+	 * {@code COUNT(*) OVER()}. Requires {@link Dialect#supportsWindowFunctions() window function support}. Additional the
+	 * bindings for the where clause are stored after execution into the <code>parameterSource</code>
+	 *
+	 * @param query the query to base the select on. Must not be null.
+	 * @param pageable the pageable to perform on the select.
+	 * @param parameterSource the source for holding the bindings.
+	 * @return a non null query string.
+	 * @since 4.1
+	 */
+	public String selectByQueryWithWindowCount(Query query, MapSqlParameterSource parameterSource, Pageable pageable) {
+		return selectByQuery(query, parameterSource, pageable,
+				List.of(AnalyticFunction.create("COUNT", Expressions.asterisk()).as(WINDOW_COUNT_COLUMN)));
+	}
+
+	private String selectByQuery(Query query, MapSqlParameterSource parameterSource, Pageable pageable,
+			Collection<? extends Expression> additionalExpressions) {
 
 		Assert.notNull(parameterSource, "parameterSource must not be null");
 
-		SelectBuilder.SelectWhere selectBuilder = selectBuilder();
+		SelectBuilder.SelectWhere selectBuilder = createSelectBuilder(getTable(), ap -> false, Collections.emptyList(),
+				Query.empty(), additionalExpressions);
 
 		// first apply query and then pagination. This means possible query sorting and limiting might be overwritten by the
 		// pagination. This is desired.
@@ -1375,4 +1634,45 @@ public class SqlGenerator {
 			return updatableColumns;
 		}
 	}
+
+	/**
+	 * Marker for keys of statements held in the {@link StatementCache}.
+	 */
+	interface StatementKey {}
+
+	private record FindAllKey(Sort sort, int pageSize) implements StatementKey {
+
+		static FindAllKey of(Sort sort, Pageable pageable) {
+			return new FindAllKey(sort, pageable.isPaged() ? pageable.getPageSize() : -1);
+		}
+	}
+
+	private record FindAllByPropertyKey(List<SqlIdentifier> backReferenceColumns,
+			AggregatePath.@Nullable ColumnInfo keyColumn, boolean ordered) implements StatementKey {
+	}
+
+	private record FindAllInListByPropertyKey(SqlIdentifier backReferenceColumn,
+			AggregatePath.@Nullable ColumnInfo keyColumn, boolean ordered) implements StatementKey {
+	}
+
+	private record LockKey(LockMode lockMode, boolean byId) implements StatementKey {
+	}
+
+	private record InsertKey(Set<SqlIdentifier> additionalColumns) implements StatementKey {
+	}
+
+	private record MultiRowInsertKey(Set<SqlIdentifier> additionalColumns, int rows) implements StatementKey {
+	}
+
+	private record UpsertByIdKey(Set<SqlIdentifier> columns) implements StatementKey {
+	}
+
+	private record DeleteByPathKey(@Nullable PersistentPropertyPath<RelationalPersistentProperty> path,
+			DeleteKind kind) implements StatementKey {
+	}
+
+	private enum DeleteKind {
+		ALL, EQUALITY, IN
+	}
+
 }
@@ -212,6 +212,30 @@ public class SqlParametersFactory {
 		return parameterSource;
 	}
 
+	/**
+	 * Creates the parameters for a SQL query of related entities referencing any of multiple entities.
+	 *
+	 * @param backReferences the values of the back reference identifying the referencing entities. Must not be
+	 *          {@code null}.
+	 * @return the {@link SqlIdentifierParameterSource} for the query. Guaranteed to not be {@code null}.
+	 * @since 4.1
+	 */
+	SqlIdentifierParameterSource forQueryByBackReferences(Collection<?> backReferences) {
+
+		SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource();
+
+		List<@Nullable Object> parameterValues = new ArrayList<>(backReferences.size());
+		for (Object backReference : backReferences) {
+
+			Class<?> javaType = backReference.getClass();
+			JdbcValue jdbcValue = converter.writeJdbcValue(backReference, javaType, JdbcUtil.targetSqlTypeFor(javaType));
+			parameterValues.add(jdbcValue.getValue());
+		}
+
+		parameterSource.addValue(SqlGenerator.IDS_SQL_PARAMETER, parameterValues);
+		return parameterSource;
+	}
+
 	private BiFunction<Object, AggregatePath, Object> getIdMapper(@Nullable RelationalPersistentEntity<?> complexId) {
 
 		if (complexId == null) {
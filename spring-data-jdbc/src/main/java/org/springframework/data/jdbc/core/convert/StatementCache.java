@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * Bounded cache for rendered SQL statements. Statements are created on first access using the generator function and
+ * evicted in least recently used order once the capacity is exceeded. Keeps track of hits and misses to allow
+ * assessing the effectiveness of the cache.
+ *
+ * @param <K> type of the cache key. Must implement {@link Object#equals(Object)} and {@link Object#hashCode()}.
+ * @since 4.1
+ */
+class StatementCache<K> {
+
+	private final ConcurrentLruCache<K, String> cache;
+	private final LongAdder requests = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * @param capacity the maximum number of statements to hold.
+	 * @param generator function creating the statement for a key that is not yet cached. Must not be {@literal null}.
+	 */
+	StatementCache(int capacity, Function<K, String> generator) {
+
+		Assert.notNull(generator, "Generator must not be null");
+
+		this.cache = new ConcurrentLruCache<>(capacity, key -> {
+
+			misses.increment();
+			return generator.apply(key);
+		});
+	}
+
+	/**
+	 * Returns the statement for the given key, creating it if necessary.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return the SQL statement. Guaranteed to be not {@literal null}.
+	 */
+	String get(K key) {
+
+		requests.increment();
+		return cache.get(key);
+	}
+
+	/**
+	 * @return the number of requests served from the cache.
+	 */
+	long getHitCount() {
+		return requests.sum() - misses.sum();
+	}
+
+	/**
+	 * @return the number of requests that required the statement to be created.
+	 */
+	long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return the number of currently cached statements.
+	 */
+	int size() {
+		return cache.size();
+	}
+}
@@ -39,6 +39,7 @@ import org.springframework.data.relational.core.dialect.InsertRenderContext;
 import org.springframework.data.relational.core.dialect.LimitClause;
 import org.springframework.data.relational.core.dialect.LockClause;
 import org.springframework.data.relational.core.dialect.OrderByNullPrecedence;
+import org.springframework.data.relational.core.dialect.UpsertRenderContext;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.SimpleFunction;
 import org.springframework.data.relational.core.sql.render.SelectRenderContext;
@@ -131,10 +132,10 @@ public class DialectResolver {
 				return JdbcH2Dialect.INSTANCE;
 			}
 			if (name.contains("mysql")) {
-				return new JdbcMySqlDialect(getIdentifierProcessing(metaData));
+				return new JdbcMySqlDialect(getIdentifierProcessing(metaData), isAtLeast(metaData, 8, 0));
 			}
 			if (name.contains("mariadb")) {
-				return new JdbcMariaDbDialect(getIdentifierProcessing(metaData));
+				return new JdbcMariaDbDialect(getIdentifierProcessing(metaData), isAtLeast(metaData, 10, 2));
 			}
 			if (name.contains("postgresql")) {
 				return JdbcPostgresDialect.INSTANCE;
@@ -153,6 +154,12 @@ public class DialectResolver {
 			return null;
 		}
 
+		private static boolean isAtLeast(DatabaseMetaData metaData, int major, int minor) throws SQLException {
+
+			int databaseMajor = metaData.getDatabaseMajorVersion();
+			return databaseMajor > major || (databaseMajor == major && metaData.getDatabaseMinorVersion() >= minor);
+		}
+
 		private static IdentifierProcessing getIdentifierProcessing(DatabaseMetaData metaData) throws SQLException {
 
 			// getIdentifierQuoteString() returns a space " " if identifier quoting is not
@@ -268,6 +275,31 @@ public class DialectResolver {
 		public boolean supportsSingleQueryLoading() {
 			return delegate.supportsSingleQueryLoading();
 		}
+
+		@Override
+		public int getInConditionMaximumSize() {
+			return delegate.getInConditionMaximumSize();
+		}
+
+		@Override
+		public boolean supportsMultiRowInsert() {
+			return delegate.supportsMultiRowInsert();
+		}
+
+		@Override
+		public boolean supportsWindowFunctions() {
+			return delegate.supportsWindowFunctions();
+		}
+
+		@Override
+		public int getBindParameterMaximumCount() {
+			return delegate.getBindParameterMaximumCount();
+		}
+
+		@Override
+		public UpsertRenderContext getUpsertRenderContext() {
+			return delegate.getUpsertRenderContext();
+		}
 	}
 
 }
@@ -49,6 +49,11 @@ public class JdbcDb2Dialect extends Db2Dialect implements JdbcDialect {
 		return converters;
 	}
 
+	@Override
+	public boolean supportsBatchUpdateCounts() {
+		return true;
+	}
+
 	/**
 	 * {@link WritingConverter} from {@link OffsetDateTime} to {@link Timestamp}. The conversion preserves the
 	 * {@link java.time.Instant} represented by {@link OffsetDateTime}
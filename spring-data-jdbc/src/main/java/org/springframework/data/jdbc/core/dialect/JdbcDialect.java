@@ -50,4 +50,29 @@ public interface JdbcDialect extends Dialect {
 				: JdbcArrayColumns.DefaultSupport.INSTANCE;
 	}
 
+	/**
+	 * Return whether the JDBC driver reports the number of affected rows for each statement of a batch, instead of
+	 * {@link java.sql.Statement#SUCCESS_NO_INFO}. Updates of versioned entities get batched only if the driver reports
+	 * row counts, as the version check cannot be verified otherwise. Defaults to {@literal false}, updating versioned
+	 * entities one by one.
+	 *
+	 * @return {@literal true} if the driver reports the row count of each statement of a batch.
+	 * @since 4.1
+	 */
+	default boolean supportsBatchUpdateCounts() {
+		return false;
+	}
+
+	/**
+	 * Returns whether the given {@link Dialect} {@link #supportsBatchUpdateCounts() reports row counts of batch
+	 * statements}. Defaults to {@literal false} iff the dialect is not an instance of {@code JdbcDialect}.
+	 *
+	 * @param dialect the dialect to check.
+	 * @return {@literal true} if the driver reports the row count of each statement of a batch.
+	 * @since 4.1
+	 */
+	static boolean supportsBatchUpdateCounts(Dialect dialect) {
+		return dialect instanceof JdbcDialect jdbcDialect && jdbcDialect.supportsBatchUpdateCounts();
+	}
+
 }
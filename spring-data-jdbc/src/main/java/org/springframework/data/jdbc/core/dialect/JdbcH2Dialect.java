@@ -34,4 +34,9 @@ public class JdbcH2Dialect extends H2Dialect implements JdbcDialect {
 		return ARRAY_COLUMNS;
 	}
 
+	@Override
+	public boolean supportsBatchUpdateCounts() {
+		return true;
+	}
+
 }
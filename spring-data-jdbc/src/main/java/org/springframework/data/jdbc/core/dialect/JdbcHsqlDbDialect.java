@@ -32,4 +32,9 @@ public class JdbcHsqlDbDialect extends HsqlDbDialect implements JdbcDialect {
 		return JdbcArrayColumns.DefaultSupport.INSTANCE;
 	}
 
+	@Override
+	public boolean supportsBatchUpdateCounts() {
+		return true;
+	}
+
 }
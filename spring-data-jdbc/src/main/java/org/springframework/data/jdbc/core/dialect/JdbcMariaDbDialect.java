@@ -26,8 +26,33 @@ import org.springframework.data.relational.core.sql.IdentifierProcessing;
  */
 public class JdbcMariaDbDialect extends MariaDbDialect implements JdbcDialect {
 
+	private final boolean windowFunctions;
+
 	public JdbcMariaDbDialect(IdentifierProcessing identifierProcessing) {
+		this(identifierProcessing, false);
+	}
+
+	/**
+	 * Create a new {@link JdbcMariaDbDialect}.
+	 *
+	 * @param identifierProcessing the {@link IdentifierProcessing} to use.
+	 * @param windowFunctions whether the database supports window functions, which requires MariaDB 10.2 or later.
+	 * @since 4.1
+	 */
+	public JdbcMariaDbDialect(IdentifierProcessing identifierProcessing, boolean windowFunctions) {
+
 		super(identifierProcessing);
+		this.windowFunctions = windowFunctions;
+	}
+
+	@Override
+	public boolean supportsBatchUpdateCounts() {
+		return true;
+	}
+
+	@Override
+	public boolean supportsWindowFunctions() {
+		return windowFunctions;
 	}
 
 }
@@ -54,11 +54,28 @@ public class JdbcMySqlDialect extends MySqlDialect implements JdbcDialect {
 	 */
 	@Deprecated(forRemoval = true, since = "4.0") public static final JdbcMySqlDialect INSTANCE = new JdbcMySqlDialect();
 
+	private final boolean windowFunctions;
+
 	public JdbcMySqlDialect(IdentifierProcessing identifierProcessing) {
+		this(identifierProcessing, false);
+	}
+
+	/**
+	 * Create a new {@link JdbcMySqlDialect}.
+	 *
+	 * @param identifierProcessing the {@link IdentifierProcessing} to use.
+	 * @param windowFunctions whether the database supports window functions, which requires MySQL 8.0 or later.
+	 * @since 4.1
+	 */
+	public JdbcMySqlDialect(IdentifierProcessing identifierProcessing, boolean windowFunctions) {
+
 		super(identifierProcessing);
+		this.windowFunctions = windowFunctions;
 	}
 
-	protected JdbcMySqlDialect() {}
+	protected JdbcMySqlDialect() {
+		this.windowFunctions = false;
+	}
 
 	@Override
 	public Collection<Object> getConverters() {
@@ -70,6 +87,16 @@ public class JdbcMySqlDialect extends MySqlDialect implements JdbcDialect {
 		return converters;
 	}
 
+	@Override
+	public boolean supportsBatchUpdateCounts() {
+		return true;
+	}
+
+	@Override
+	public boolean supportsWindowFunctions() {
+		return windowFunctions;
+	}
+
 	@WritingConverter
 	enum OffsetDateTimeToTimestampJdbcValueConverter implements Converter<OffsetDateTime, JdbcValue> {
 
@@ -35,4 +35,9 @@ public class JdbcOracleDialect extends OracleDialect implements JdbcDialect {
 		return ARRAY_COLUMNS;
 	}
 
+	@Override
+	public boolean supportsBatchUpdateCounts() {
+		return true;
+	}
+
 }
@@ -78,6 +78,11 @@ public class JdbcPostgresDialect extends PostgresDialect implements JdbcDialect
 		return ARRAY_COLUMNS;
 	}
 
+	@Override
+	public boolean supportsBatchUpdateCounts() {
+		return true;
+	}
+
 	/**
 	 * If the class is present on the class path, invoke the specified consumer {@code action} with the class object,
 	 * otherwise do nothing.
@@ -73,6 +73,11 @@ public class JdbcSqlServerDialect extends SqlServerDialect implements JdbcDialec
 		return converters;
 	}
 
+	@Override
+	public boolean supportsBatchUpdateCounts() {
+		return true;
+	}
+
 	@ReadingConverter
 	enum DateTimeOffsetToOffsetDateTimeConverter implements Converter<DateTimeOffset, OffsetDateTime> {
 
@@ -17,11 +17,13 @@ package org.springframework.data.jdbc.mybatis;
 
 import static java.util.Arrays.*;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -35,6 +37,7 @@ import org.springframework.data.core.PropertyPath;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.convert.CascadingDataAccessStrategy;
+import org.springframework.data.jdbc.core.convert.DataAccessOperation;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategyFactory;
 import org.springframework.data.jdbc.core.convert.DefaultDataAccessStrategy;
@@ -43,6 +46,7 @@ import org.springframework.data.jdbc.core.convert.Identifier;
 import org.springframework.data.jdbc.core.convert.InsertSubject;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.QueryMappingConfiguration;
+import org.springframework.data.jdbc.core.convert.SelectiveDataAccessStrategy;
 import org.springframework.data.jdbc.core.dialect.DialectResolver;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.conversion.IdValueSource;
@@ -63,6 +67,10 @@ import org.springframework.util.Assert;
  * appended to the statement name. Each statement gets an instance of {@link MyBatisContext}, which at least has the
  * entityType set. For methods taking a {@link PropertyPath} the entityType if the context is set to the class of the
  * leaf type.
+ * <p>
+ * Inserts and deletes of multiple rows use the statements {@code insertBatch}, {@code deleteBatch} and
+ * {@code deleteBatch-<path>} if present, passing at most {@link #setBatchSize(int) batch size} rows to each
+ * invocation, and fall back to invoking the single-row statement for each row otherwise.
  *
  * @author Jens Schauder
  * @author Kazuki Shimizu
@@ -76,14 +84,27 @@ import org.springframework.util.Assert;
  * @author Mikhail Polivakha
  * @author Sergey Korotaev
  */
-public class MyBatisDataAccessStrategy implements DataAccessStrategy {
+public class MyBatisDataAccessStrategy implements SelectiveDataAccessStrategy {
 
 	private static final String VERSION_SQL_PARAMETER_NAME_OLD = "___oldOptimisticLockingVersion";
+	private static final int DEFAULT_BATCH_SIZE = 1000;
+
+	/**
+	 * Bulk operations and the single-row operation they invoke for each row.
+	 */
+	private static final Map<String, String> SINGLE_ROW_OPERATIONS = Map.of("insertBatch", "insert", "deleteBatch",
+			"delete", "updateAll", "update", "updateAllWithVersion", "updateWithVersion", "upsertAll", "upsert");
+
+	/**
+	 * Bulk operations using a batch statement of the same name if present.
+	 */
+	private static final Set<String> BATCH_STATEMENT_OPERATIONS = Set.of("insertBatch", "deleteBatch");
 
 	private final NamedParameterJdbcOperations jdbcOperations;
 	private final Dialect dialect;
 	private final SqlSession sqlSession;
 	private NamespaceStrategy namespaceStrategy = NamespaceStrategy.DEFAULT_INSTANCE;
+	private int batchSize = DEFAULT_BATCH_SIZE;
 
 	/**
 	 * Create a {@link DataAccessStrategy} that first checks for queries defined by MyBatis and if it doesn't find one
@@ -165,6 +186,48 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		this.namespaceStrategy = namespaceStrategy;
 	}
 
+	/**
+	 * Set the maximum number of rows passed to a single invocation of a batch statement such as {@code insertBatch} or
+	 * {@code deleteBatch}. Deletes are additionally limited by {@link Dialect#getInConditionMaximumSize()}. Defaults to
+	 * {@code 1000}.
+	 *
+	 * @param batchSize the maximum number of rows per batch statement. Must be greater than zero.
+	 * @since 4.1
+	 */
+	public void setBatchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero");
+
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Supports an operation if the MyBatis configuration contains the statement it maps to. Bulk operations are also
+	 * supported if only the single-row statement they fall back to exists, e.g. {@code insert} for {@code insertBatch}.
+	 *
+	 * @param operation the operation to perform. Must not be {@literal null}.
+	 * @return whether a mapped statement exists for {@code operation}.
+	 * @since 4.1
+	 */
+	@Override
+	public boolean supports(DataAccessOperation operation) {
+
+		Assert.notNull(operation, "DataAccessOperation must not be null");
+
+		String singleRowOperation = SINGLE_ROW_OPERATIONS.get(operation.name());
+
+		if (singleRowOperation == null) {
+			return hasStatement(getStatementName(operation));
+		}
+
+		if (BATCH_STATEMENT_OPERATIONS.contains(operation.name()) && hasStatement(getStatementName(operation))) {
+			return true;
+		}
+
+		return hasStatement(getStatementName(
+				new DataAccessOperation(singleRowOperation, operation.domainType(), operation.path())));
+	}
+
 	@Override
 	public <T> @Nullable Object insert(T instance, Class<T> domainType, Identifier identifier,
 			IdValueSource idValueSource) {
@@ -179,6 +242,22 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 	public <T> @Nullable Object[] insert(List<InsertSubject<T>> insertSubjects, Class<T> domainType,
 			IdValueSource idValueSource) {
 
+		String statement = namespace(domainType) + ".insertBatch";
+
+		if (hasStatement(statement)) {
+
+			List<MyBatisContext> contexts = insertSubjects.stream()
+					.map(insertSubject -> new MyBatisContext(insertSubject.getIdentifier(), insertSubject.getInstance(),
+							domainType))
+					.toList();
+
+			for (List<MyBatisContext> chunk : partition(contexts, batchSize)) {
+				sqlSession().insert(statement, chunk);
+			}
+
+			return contexts.stream().map(MyBatisContext::getId).toArray();
+		}
+
 		return insertSubjects.stream().map(
 				insertSubject -> insert(insertSubject.getInstance(), domainType, insertSubject.getIdentifier(), idValueSource))
 				.toArray();
@@ -200,6 +279,38 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		return sqlSession().update(statement, parameter) != 0;
 	}
 
+	@Override
+	public <T> boolean[] updateAll(List<T> instances, Class<T> domainType) {
+
+		boolean[] updated = new boolean[instances.size()];
+		for (int i = 0; i < updated.length; i++) {
+			updated[i] = update(instances.get(i), domainType);
+		}
+		return updated;
+	}
+
+	@Override
+	public <T> boolean[] updateAllWithVersion(List<T> instances, Class<T> domainType, List<Number> previousVersions) {
+
+		boolean[] updated = new boolean[instances.size()];
+		for (int i = 0; i < updated.length; i++) {
+			updated[i] = updateWithVersion(instances.get(i), domainType, previousVersions.get(i));
+		}
+		return updated;
+	}
+
+	@Override
+	public <T> void upsert(T instance, Class<T> domainType) {
+
+		sqlSession().update(namespace(domainType) + ".upsert",
+				new MyBatisContext(null, instance, domainType, Collections.emptyMap()));
+	}
+
+	@Override
+	public <T> void upsertAll(List<T> instances, Class<T> domainType) {
+		instances.forEach(instance -> upsert(instance, domainType));
+	}
+
 	@Override
 	public void delete(Object id, Class<?> domainType) {
 
@@ -210,7 +321,17 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 
 	@Override
 	public void delete(Iterable<Object> ids, Class<?> domainType) {
-		ids.forEach(id -> delete(id, domainType));
+
+		String statement = namespace(domainType) + ".deleteBatch";
+
+		if (!hasStatement(statement)) {
+			ids.forEach(id -> delete(id, domainType));
+			return;
+		}
+
+		for (List<Object> chunk : partition(toList(ids), getDeleteBatchSize())) {
+			sqlSession().delete(statement, new MyBatisContext(chunk, null, domainType, Collections.emptyMap()));
+		}
 	}
 
 	@Override
@@ -235,7 +356,19 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 
 	@Override
 	public void delete(Iterable<Object> rootIds, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
-		rootIds.forEach(rootId -> delete(rootId, propertyPath));
+
+		String statement = namespace(getOwnerTyp(propertyPath)) + ".deleteBatch-" + toDashPath(propertyPath);
+
+		if (!hasStatement(statement)) {
+			rootIds.forEach(rootId -> delete(rootId, propertyPath));
+			return;
+		}
+
+		Class<?> leafType = propertyPath.getLeafProperty().getTypeInformation().getType();
+
+		for (List<Object> chunk : partition(toList(rootIds), getDeleteBatchSize())) {
+			sqlSession().delete(statement, new MyBatisContext(chunk, null, leafType, Collections.emptyMap()));
+		}
 	}
 
 	@Override
@@ -407,6 +540,25 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		return sqlSession().selectOne(statement, parameter);
 	}
 
+	private String getStatementName(DataAccessOperation operation) {
+
+		PersistentPropertyPath<? extends RelationalPersistentProperty> path = operation.path();
+
+		if (path == null) {
+
+			Class<?> domainType = operation.domainType();
+
+			Assert.notNull(domainType, "DataAccessOperation must define a domain type or a property path");
+
+			return namespace(domainType) + "." + operation.name();
+		}
+
+		String pathSuffix = "findAllByPath".equals(operation.name()) ? path.toDotPath()
+				: path.toDotPath().replaceAll("\\.", "-");
+
+		return namespace(getOwnerTyp(path)) + "." + operation.name() + "-" + pathSuffix;
+	}
+
 	private String namespace(Class<?> domainType) {
 		return this.namespaceStrategy.getNamespace(domainType);
 	}
@@ -415,6 +567,30 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 		return this.sqlSession;
 	}
 
+	private boolean hasStatement(String statement) {
+		return sqlSession().getConfiguration().hasStatement(statement);
+	}
+
+	private int getDeleteBatchSize() {
+		return Math.min(batchSize, dialect.getInConditionMaximumSize());
+	}
+
+	private static List<Object> toList(Iterable<Object> values) {
+
+		List<Object> list = new ArrayList<>();
+		values.forEach(list::add);
+		return list;
+	}
+
+	private static <T> List<List<T>> partition(List<T> list, int size) {
+
+		List<List<T>> chunks = new ArrayList<>((list.size() + size - 1) / size);
+		for (int offset = 0; offset < list.size(); offset += size) {
+			chunks.add(list.subList(offset, Math.min(list.size(), offset + size)));
+		}
+		return chunks;
+	}
+
 	private static String toDashPath(PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
 		return propertyPath.toDotPath().replaceAll("\\.", "-");
 	}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.jdbc.core.mapping.JdbcValue;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.CriteriaDefinition;
+import org.springframework.data.relational.core.query.CriteriaDefinition.Comparator;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * Cache of the SQL rendered for a derived query method, keyed by the shape of the query. The shape captures everything
+ * that contributes to the SQL text, such as the structure of the criteria, sort, limit, offset, projection and lock
+ * mode, while values are left out as they are bound as named parameters.
+ * <p>
+ * Values that affect the SQL text, such as the number of elements of an {@code IN} collection, are part of the shape.
+ * Criteria containing values for which the effect on the SQL text cannot be determined upfront, such as embedded
+ * objects, have no shape and get rendered for each execution.
+ * <p>
+ * The cache retains up to {@link #CACHE_LIMIT} entries and evicts the least recently used shapes beyond that.
+ *
+ * @param <T> type of the cached SQL.
+ * @since 4.1
+ */
+class DerivedQuerySqlCache<T> {
+
+	/**
+	 * Maximum number of cached statements.
+	 */
+	static final int CACHE_LIMIT = 256;
+
+	private final ConcurrentLruCache<CacheKey<T>, T> cache = new ConcurrentLruCache<>(CACHE_LIMIT, CacheKey::render);
+
+	/**
+	 * Return the SQL for {@code shape}. Cached SQL requires the parameters to be bound through {@code binder}, while
+	 * {@code renderer} is expected to bind the parameters while rendering the SQL.
+	 *
+	 * @param shape the shape of the query, can be {@literal null} if the query cannot be cached.
+	 * @param renderer renders the SQL and binds the parameters.
+	 * @param binder binds the parameters without rendering the SQL.
+	 * @return the SQL of the query.
+	 */
+	T get(@Nullable Object shape, Supplier<T> renderer, Runnable binder) {
+
+		if (shape == null) {
+			return renderer.get();
+		}
+
+		CacheKey<T> key = new CacheKey<>(shape, renderer);
+		T sql = cache.get(key);
+
+		if (!key.isRendered()) {
+			binder.run();
+		}
+
+		return sql;
+	}
+
+	int size() {
+		return cache.size();
+	}
+
+	/**
+	 * Determine the shape of {@code criteria}.
+	 *
+	 * @param criteria the criteria, can be {@literal null}.
+	 * @param entity the queried entity.
+	 * @return the shape of {@code criteria} or {@literal null} if the criteria cannot be cached.
+	 */
+	static @Nullable List<Object> getCriteriaShape(@Nullable CriteriaDefinition criteria,
+			RelationalPersistentEntity<?> entity) {
+
+		if (criteria == null || criteria.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<Object> shape = new ArrayList<>();
+		return appendCriteriaShape(criteria, entity, shape) ? shape : null;
+	}
+
+	private static boolean appendCriteriaShape(CriteriaDefinition criteria, RelationalPersistentEntity<?> entity,
+			List<Object> shape) {
+
+		for (CriteriaDefinition current = criteria; current != null; current = current.getPrevious()) {
+
+			shape.add(current.getCombinator());
+
+			if (current.isEmpty()) {
+				shape.add(Marker.EMPTY);
+				continue;
+			}
+
+			if (current.isGroup()) {
+
+				shape.add(Marker.GROUP_START);
+
+				for (CriteriaDefinition nested : current.getGroup()) {
+					if (!appendCriteriaShape(nested, entity, shape)) {
+						return false;
+					}
+				}
+
+				shape.add(Marker.GROUP_END);
+				continue;
+			}
+
+			SqlIdentifier column = current.getColumn();
+			Object valueShape = getValueShape(current.getComparator(), current.getValue(), current.isIgnoreCase());
+
+			if (column == null || valueShape == null || isEmbedded(column, entity)) {
+				return false;
+			}
+
+			shape.add(column);
+			shape.add(current.getComparator());
+			shape.add(current.isIgnoreCase());
+			shape.add(valueShape);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Values are rendered as a single named parameter, or two for {@code BETWEEN}. Only {@code IN} renders a parameter
+	 * for each element of a collection. Ignoring the case depends on the SQL type of the value.
+	 */
+	private static @Nullable Object getValueShape(@Nullable Comparator comparator, @Nullable Object value,
+			boolean ignoreCase) {
+
+		if (value == null) {
+			return Marker.NULL;
+		}
+
+		if (value instanceof JdbcValue) {
+			return null;
+		}
+
+		if (comparator == Comparator.IN || comparator == Comparator.NOT_IN) {
+
+			if (value instanceof Collection<?> collection) {
+				return collection.size();
+			}
+
+			return value instanceof Iterable<?> || value.getClass().isArray() ? null : Marker.BOUND;
+		}
+
+		return ignoreCase ? value.getClass() : Marker.BOUND;
+	}
+
+	/**
+	 * Embedded objects render a condition for each of their properties, depending on their values.
+	 */
+	private static boolean isEmbedded(SqlIdentifier column, RelationalPersistentEntity<?> entity) {
+
+		String name = column.getReference();
+
+		if (name.contains(".")) {
+			return true;
+		}
+
+		RelationalPersistentProperty property = entity.getPersistentProperty(name);
+		return property != null && property.isEmbedded();
+	}
+
+	private enum Marker {
+		BOUND, NULL, EMPTY, GROUP_START, GROUP_END
+	}
+
+	/**
+	 * Cache key carrying the renderer of the query looked up. Keys are equal if their shapes are equal. The renderer is
+	 * released after rendering so that cached keys do not retain the parameters of the query.
+	 */
+	private static final class CacheKey<T> {
+
+		private final Object shape;
+		private @Nullable Supplier<T> renderer;
+		private boolean rendered;
+
+		CacheKey(Object shape, Supplier<T> renderer) {
+			this.shape = shape;
+			this.renderer = renderer;
+		}
+
+		T render() {
+
+			Supplier<T> renderer = this.renderer;
+
+			Assert.state(renderer != null, "Query already rendered");
+
+			this.renderer = null;
+			this.rendered = true;
+			return renderer.get();
+		}
+
+		boolean isRendered() {
+			return rendered;
+		}
+
+		@Override
+		public boolean equals(@Nullable Object o) {
+			return this == o || (o instanceof CacheKey<?> that && shape.equals(that.shape));
+		}
+
+		@Override
+		public int hashCode() {
+			return shape.hashCode();
+		}
+	}
+}
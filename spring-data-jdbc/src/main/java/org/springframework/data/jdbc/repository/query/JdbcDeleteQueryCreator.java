@@ -16,6 +16,7 @@
 package org.springframework.data.jdbc.repository.query;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Consumer;
 
@@ -65,6 +66,7 @@ class JdbcDeleteQueryCreator extends RelationalQueryCreator<List<ParametrizedQue
 	private final QueryMapper queryMapper;
 	private final RelationalEntityMetadata<?> entityMetadata;
 	private final RenderContextFactory renderContextFactory;
+	private @Nullable DerivedQuerySqlCache<List<String>> sqlCache;
 
 	/**
 	 * Creates new instance of this class with the given {@link PartTree}, {@link JdbcConverter}, {@link Dialect},
@@ -92,6 +94,15 @@ class JdbcDeleteQueryCreator extends RelationalQueryCreator<List<ParametrizedQue
 		this.renderContextFactory = new RenderContextFactory(dialect);
 	}
 
+	/**
+	 * Configure a {@link DerivedQuerySqlCache} to obtain the SQL from instead of rendering it for each query.
+	 *
+	 * @param sqlCache the cache of the query method.
+	 */
+	void setSqlCache(DerivedQuerySqlCache<List<String>> sqlCache) {
+		this.sqlCache = sqlCache;
+	}
+
 	@Override
 	protected List<ParametrizedQuery> complete(@Nullable Criteria criteria, Sort sort) {
 
@@ -99,6 +110,37 @@ class JdbcDeleteQueryCreator extends RelationalQueryCreator<List<ParametrizedQue
 		Table table = Table.create(entityMetadata.getTableName());
 		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
 
+		List<String> statements = sqlCache != null
+				? sqlCache.get(getShape(criteria, entity, table), () -> render(criteria, entity, table, parameterSource),
+						() -> bind(criteria, entity, table, parameterSource))
+				: render(criteria, entity, table, parameterSource);
+
+		List<ParametrizedQuery> queries = new ArrayList<>(statements.size());
+		for (String statement : statements) {
+			queries.add(new ParametrizedQuery(statement, parameterSource, criteria == null ? Criteria.empty() : criteria));
+		}
+
+		return queries;
+	}
+
+	private static @Nullable Object getShape(@Nullable Criteria criteria, RelationalPersistentEntity<?> entity,
+			Table table) {
+
+		List<Object> criteriaShape = DerivedQuerySqlCache.getCriteriaShape(criteria, entity);
+		return criteriaShape != null ? Arrays.asList(table, criteriaShape) : null;
+	}
+
+	private void bind(@Nullable Criteria criteria, RelationalPersistentEntity<?> entity, Table table,
+			MapSqlParameterSource parameterSource) {
+
+		if (criteria != null) {
+			queryMapper.getMappedObject(parameterSource, criteria, table, entity);
+		}
+	}
+
+	private List<String> render(@Nullable Criteria criteria, RelationalPersistentEntity<?> entity, Table table,
+			MapSqlParameterSource parameterSource) {
+
 		Condition condition = criteria == null ? null
 				: queryMapper.getMappedObject(parameterSource, criteria, table, entity);
 
@@ -120,13 +162,12 @@ class JdbcDeleteQueryCreator extends RelationalQueryCreator<List<ParametrizedQue
 
 		SqlRenderer renderer = SqlRenderer.create(renderContextFactory.createRenderContext());
 
-		List<ParametrizedQuery> queries = new ArrayList<>(deleteChain.size());
+		List<String> statements = new ArrayList<>(deleteChain.size());
 		for (Delete d : deleteChain) {
-			queries.add(
-					new ParametrizedQuery(renderer.render(d), parameterSource, criteria == null ? Criteria.empty() : criteria));
+			statements.add(renderer.render(d));
 		}
 
-		return queries;
+		return statements;
 	}
 
 	private void deleteRelations(RelationalPersistentEntity<?> entity, Select parentSelect,
@@ -19,6 +19,10 @@ import java.util.Optional;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.OffsetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.SqlGeneratorSource;
@@ -29,10 +33,12 @@ import org.springframework.data.relational.core.mapping.RelationalMappingContext
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.KeysetScrollDelegate;
 import org.springframework.data.relational.repository.Lock;
 import org.springframework.data.relational.repository.query.RelationalEntityMetadata;
 import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
 import org.springframework.data.relational.repository.query.RelationalQueryCreator;
+import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.parser.Part;
@@ -59,6 +65,8 @@ public class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery>
 	private final ReturnedType returnedType;
 	private final Optional<Lock> lockMode;
 	private final StatementFactory statementFactory;
+	private @Nullable DerivedQuerySqlCache<String> sqlCache;
+	private boolean windowCount;
 
 	/**
 	 * Creates new instance of this class with the given {@link PartTree}, {@link JdbcConverter}, {@link Dialect},
@@ -145,6 +153,25 @@ public class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery>
 		return statementFactory;
 	}
 
+	/**
+	 * Configure a {@link DerivedQuerySqlCache} to obtain the SQL from instead of rendering it for each query.
+	 *
+	 * @param sqlCache the cache of the query method.
+	 */
+	void setSqlCache(DerivedQuerySqlCache<String> sqlCache) {
+		this.sqlCache = sqlCache;
+	}
+
+	/**
+	 * Configure whether to select the total number of matching rows along with the rows of a page.
+	 *
+	 * @param windowCount {@literal true} to select {@link StatementFactory#WINDOW_COUNT_COLUMN}.
+	 * @see StatementFactory.SelectionBuilder#windowCount()
+	 */
+	void setWindowCount(boolean windowCount) {
+		this.windowCount = windowCount;
+	}
+
 	/**
 	 * Validate parameters for the derived query. Specifically checking that the query method defines scalar parameters
 	 * and collection parameters where required and that invalid parameter declarations are rejected.
@@ -203,14 +230,57 @@ public class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery>
 
 		StatementFactory.SelectionBuilder selection = getSelection(entity);
 
-		selection.page(accessor.getPageable()).filter(criteria).orderBy(sort);
+		Criteria criteriaToUse = criteria;
+		Sort sortToUse = sort;
+		ScrollPosition scrollPosition = accessor.getScrollPosition();
+
+		if (scrollPosition != null && !tree.isExistsProjection() && !tree.isCountProjection()) {
+
+			// fetch one more row to determine whether there are more rows to scroll to
+			int limit = getScrollLimit(tree, accessor);
+			if (limit > 0) {
+				selection.limit(limit + 1);
+			}
+
+			if (scrollPosition instanceof KeysetScrollPosition keyset) {
+
+				KeysetScrollDelegate delegate = KeysetScrollDelegate.of(keyset.getDirection());
+				sortToUse = delegate.getSortOrders(sort, entity);
+				criteriaToUse = delegate.createCriteria(criteria, keyset, sortToUse);
+			} else if (scrollPosition instanceof OffsetScrollPosition offset && !offset.isInitial()) {
+				selection.offset(offset.getOffset() + 1);
+			}
+		}
+
+		selection.page(accessor.getPageable()).filter(criteriaToUse).orderBy(sortToUse);
 
 		if (this.lockMode.isPresent()) {
 			selection.lock(this.lockMode.get().value());
 		}
 
-		String sql = selection.build(parameterSource);
-		return new ParametrizedQuery(sql, parameterSource, criteria != null ? criteria : Criteria.empty());
+		if (windowCount) {
+			selection.windowCount();
+		}
+
+		String sql = sqlCache != null
+				? sqlCache.get(selection.getShape(), () -> selection.build(parameterSource), () -> selection.bind(parameterSource))
+				: selection.build(parameterSource);
+
+		return new ParametrizedQuery(sql, parameterSource, criteriaToUse != null ? criteriaToUse : Criteria.empty());
+	}
+
+	/**
+	 * Determine the number of rows requested by a scroll query, either through the subject of the method name (e.g.
+	 * {@code findTop10By…}) or a {@link Limit} parameter.
+	 *
+	 * @param tree the tree of the query method.
+	 * @param accessor the parameters of the query method invocation.
+	 * @return the requested number of rows, {@literal -1} if not limited.
+	 */
+	static int getScrollLimit(PartTree tree, ParameterAccessor accessor) {
+
+		Limit limit = tree.isLimiting() ? tree.getResultLimit() : accessor.getLimit();
+		return limit.isLimited() ? limit.max() : -1;
 	}
 
 	StatementFactory.SelectionBuilder getSelection(RelationalPersistentEntity<?> entity) {
@@ -229,7 +299,8 @@ public class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery>
 			selection = statementFactory.select(entity);
 		}
 
-		if (returnedType.needsCustomConstruction()) {
+		// keyset scrolling requires the sort properties to determine the scroll positions
+		if (returnedType.needsCustomConstruction() && !(accessor.getScrollPosition() instanceof KeysetScrollPosition)) {
 			selection.project(returnedType.getInputProperties());
 		}
 
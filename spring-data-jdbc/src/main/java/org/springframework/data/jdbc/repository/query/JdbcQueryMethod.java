@@ -260,6 +260,14 @@ public class JdbcQueryMethod extends QueryMethod {
 		return doFindAnnotation(Lock.class);
 	}
 
+	/**
+	 * @return is a {@link WindowCount} annotation present or not.
+	 * @since 4.1
+	 */
+	public boolean hasWindowCount() {
+		return doFindAnnotation(WindowCount.class).isPresent();
+	}
+
 	@SuppressWarnings("unchecked")
 	private <A extends Annotation> Optional<A> doFindAnnotation(Class<A> annotationType) {
 
@@ -18,6 +18,7 @@ package org.springframework.data.jdbc.repository.query;
 import static org.springframework.data.jdbc.repository.query.JdbcQueryExecution.*;
 
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -27,15 +28,21 @@ import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.OffsetScrollPosition;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jdbc.core.JdbcAggregateOperations;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.relational.core.conversion.RelationalConverter;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.query.KeysetScrollDelegate;
 import org.springframework.data.relational.repository.query.RelationalEntityMetadata;
 import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
 import org.springframework.data.relational.repository.query.RelationalParametersParameterAccessor;
@@ -71,6 +78,8 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 	private final JdbcConverter converter;
 	private final CachedRowMapperFactory cachedRowMapperFactory;
 	private final PartTree tree;
+	private final DerivedQuerySqlCache<String> sqlCache = new DerivedQuerySqlCache<>();
+	private final DerivedQuerySqlCache<List<String>> deleteSqlCache = new DerivedQuerySqlCache<>();
 
 	/**
 	 * Creates a new {@link PartTreeJdbcQuery}.
@@ -189,6 +198,16 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 				? () -> cachedRowMapperFactory.getRowMapper(processor)
 				: cachedRowMapperFactory;
 
+		if (getQueryMethod().isScrollQuery()) {
+
+			ScrollPosition scrollPosition = accessor.getScrollPosition();
+
+			return new ScrollQueryExecution<>(collectionQuery(cachedRowMapperFactory.getDomainTypeRowMapper(processor)),
+					scrollPosition != null ? scrollPosition : ScrollPosition.offset(),
+					JdbcQueryCreator.getScrollLimit(tree, accessor), tree.getSort().and(getDynamicSort(accessor)),
+					getQueryMethod().getEntityInformation().getTableEntity(), cachedRowMapperFactory.getResultConverter(processor));
+		}
+
 		JdbcQueryExecution<?> queryExecution = getJdbcQueryExecution(extractor, rowMapper);
 
 		if (getQueryMethod().isSliceQuery()) {
@@ -198,25 +217,38 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 
 		if (getQueryMethod().isPageQuery()) {
 
-			// noinspection unchecked
-			return new PageQueryExecution<>((JdbcQueryExecution<Collection<Object>>) queryExecution, accessor.getPageable(),
-					() -> {
+			LongSupplier countSupplier = () -> {
+
+				RelationalEntityMetadata<?> entityMetadata = getQueryMethod().getEntityInformation();
+
+				JdbcCountQueryCreator queryCreator = new JdbcCountQueryCreator(context, tree, converter, dialect,
+						entityMetadata, accessor, false, processor.getReturnedType(), getQueryMethod().lookupLockAnnotation());
+				queryCreator.setSqlCache(sqlCache);
 
-						RelationalEntityMetadata<?> entityMetadata = getQueryMethod().getEntityInformation();
+				ParametrizedQuery countQuery = queryCreator.createQuery(Sort.unsorted());
+				Object count = singleObjectQuery(new SingleColumnRowMapper<>(Number.class)).execute(countQuery.getQuery(),
+						countQuery.getParameterSource(dialect.getLikeEscaper()));
 
-						JdbcCountQueryCreator queryCreator = new JdbcCountQueryCreator(context, tree, converter, dialect,
-								entityMetadata, accessor, false, processor.getReturnedType(), getQueryMethod().lookupLockAnnotation());
+				Long converted = converter.getConversionService().convert(count, Long.class);
 
-						ParametrizedQuery countQuery = queryCreator.createQuery(Sort.unsorted());
-						Object count = singleObjectQuery(new SingleColumnRowMapper<>(Number.class)).execute(countQuery.getQuery(),
-								countQuery.getParameterSource(dialect.getLikeEscaper()));
+				Assert.state(converted != null, "Count must not be null");
 
-						Long converted = converter.getConversionService().convert(count, Long.class);
+				return converted;
+			};
+
+			if (usesWindowCount(accessor)) {
 
-						Assert.state(converted != null, "Count must not be null");
+				// noinspection unchecked
+				WindowCountRowMapper<Object> windowCountRowMapper = new WindowCountRowMapper<>(
+						(RowMapper<Object>) rowMapper.get());
+
+				return new PageQueryExecution<>(collectionQuery(windowCountRowMapper), accessor.getPageable(),
+						() -> windowCountRowMapper.getCount(countSupplier));
+			}
 
-						return converted;
-					});
+			// noinspection unchecked
+			return new PageQueryExecution<>((JdbcQueryExecution<Collection<Object>>) queryExecution, accessor.getPageable(),
+					countSupplier);
 		}
 
 		return queryExecution;
@@ -228,15 +260,29 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 
 		JdbcQueryCreator queryCreator = new JdbcQueryCreator(context, tree, converter, dialect, entityMetadata, accessor,
 				getQueryMethod().isSliceQuery(), returnedType, this.getQueryMethod().lookupLockAnnotation());
+		queryCreator.setSqlCache(sqlCache);
+		queryCreator.setWindowCount(usesWindowCount(accessor));
 		return queryCreator.createQuery(getDynamicSort(accessor));
 	}
 
+	/**
+	 * Determine whether a page query selects the total number of rows along with the content of the page.
+	 *
+	 * @see WindowCount
+	 */
+	private boolean usesWindowCount(RelationalParameterAccessor accessor) {
+
+		return getQueryMethod().isPageQuery() && getQueryMethod().hasWindowCount() && dialect.supportsWindowFunctions()
+				&& accessor.getPageable().isPaged() && !tree.isDistinct() && !getQueryMethod().hasLockMode();
+	}
+
 	private List<ParametrizedQuery> createDeleteQueries(RelationalParametersParameterAccessor accessor) {
 
 		RelationalEntityMetadata<?> entityMetadata = getQueryMethod().getEntityInformation();
 
 		JdbcDeleteQueryCreator queryCreator = new JdbcDeleteQueryCreator(context, tree, converter, dialect, entityMetadata,
 				accessor);
+		queryCreator.setSqlCache(deleteSqlCache);
 		return queryCreator.createQuery();
 	}
 
@@ -318,6 +364,89 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 
 	}
 
+	/**
+	 * {@link RowMapper} capturing the total number of rows selected as {@link StatementFactory#WINDOW_COUNT_COLUMN} from
+	 * the first row before delegating to the actual {@link RowMapper}.
+	 *
+	 * @param <T>
+	 */
+	static class WindowCountRowMapper<T> implements RowMapper<T> {
+
+		private final RowMapper<T> delegate;
+		private long count = -1;
+
+		WindowCountRowMapper(RowMapper<T> delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public @Nullable T mapRow(ResultSet rs, int rowNum) throws SQLException {
+
+			if (rowNum == 0) {
+				count = rs.getLong(StatementFactory.WINDOW_COUNT_COLUMN.getReference());
+			}
+
+			return delegate.mapRow(rs, rowNum);
+		}
+
+		/**
+		 * @param fallback supplier of the count if no row has been mapped.
+		 * @return the total number of rows.
+		 */
+		long getCount(LongSupplier fallback) {
+			return count >= 0 ? count : fallback.getAsLong();
+		}
+	}
+
+	/**
+	 * {@link JdbcQueryExecution} returning a {@link Window}. Expects the query to fetch one more row than requested to
+	 * determine whether more rows are available. Scroll positions are determined from the entities before the results
+	 * get converted into the returned type.
+	 *
+	 * @param <T>
+	 */
+	static class ScrollQueryExecution<T> implements JdbcQueryExecution<Window<T>> {
+
+		private final JdbcQueryExecution<? extends Collection<?>> delegate;
+		private final ScrollPosition scrollPosition;
+		private final int limit;
+		private final Sort sort;
+		private final RelationalPersistentEntity<?> entity;
+		private final Converter<Object, T> resultConverter;
+
+		ScrollQueryExecution(JdbcQueryExecution<? extends Collection<?>> delegate, ScrollPosition scrollPosition,
+				int limit, Sort sort, RelationalPersistentEntity<?> entity, Converter<Object, T> resultConverter) {
+
+			this.delegate = delegate;
+			this.scrollPosition = scrollPosition;
+			this.limit = limit;
+			this.sort = sort;
+			this.entity = entity;
+			this.resultConverter = resultConverter;
+		}
+
+		@Override
+		public Window<T> execute(String query, SqlParameterSource parameter) {
+
+			List<Object> result = new ArrayList<>(delegate.execute(query, parameter));
+			Window<Object> window;
+
+			if (scrollPosition instanceof KeysetScrollPosition keyset) {
+
+				KeysetScrollDelegate keysetDelegate = KeysetScrollDelegate.of(keyset.getDirection());
+				window = keysetDelegate.createWindow(result, limit, keysetDelegate.getSortOrders(sort, entity), entity);
+			} else if (scrollPosition instanceof OffsetScrollPosition offset) {
+
+				boolean hasNext = limit > 0 && result.size() > limit;
+				window = Window.from(hasNext ? result.subList(0, limit) : result, offset.positionFunction(), hasNext);
+			} else {
+				throw new UnsupportedOperationException("ScrollPosition " + scrollPosition + " not supported");
+			}
+
+			return window.map(resultConverter::convert);
+		}
+	}
+
 	/**
 	 * Cached implementation of {@link RowMapper} suppler providing either a cached variant of the RowMapper or creating a
 	 * new one when using dynamic projections.
@@ -326,11 +455,16 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 
 		private final Lazy<RowMapper<?>> rowMapper;
 		private final Function<ResultProcessor, RowMapper<?>> rowMapperFunction;
+		private final RowMapperFactory rowMapperFactory;
+		private final RelationalConverter converter;
 
 		public CachedRowMapperFactory(PartTree tree,
 				RowMapperFactory rowMapperFactory, RelationalConverter converter,
 				ResultProcessor defaultResultProcessor) {
 
+			this.rowMapperFactory = rowMapperFactory;
+			this.converter = converter;
+
 			this.rowMapperFunction = processor -> {
 
 				if (tree.isCountProjection() || tree.isExistsProjection()) {
@@ -358,5 +492,20 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 			return rowMapperFunction.apply(resultProcessor);
 		}
 
+		/**
+		 * Returns a {@link RowMapper} for the domain type, not applying the conversion into the returned type.
+		 */
+		public RowMapper<?> getDomainTypeRowMapper(ResultProcessor resultProcessor) {
+			return rowMapperFactory.create(resultProcessor.getReturnedType().getDomainType());
+		}
+
+		/**
+		 * Returns the {@link Converter} converting domain type instances into the returned type.
+		 */
+		public Converter<Object, Object> getResultConverter(ResultProcessor resultProcessor) {
+			return new ResultProcessingConverter(resultProcessor, converter.getMappingContext(),
+					converter.getEntityInstantiators());
+		}
+
 	}
 }
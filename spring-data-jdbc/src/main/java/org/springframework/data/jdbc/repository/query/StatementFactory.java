@@ -34,12 +34,15 @@ import org.springframework.data.relational.core.dialect.RenderContextFactory;
 import org.springframework.data.relational.core.mapping.AggregatePath;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.sql.AnalyticFunction;
 import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.Expression;
 import org.springframework.data.relational.core.sql.Expressions;
 import org.springframework.data.relational.core.sql.Functions;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.Select;
 import org.springframework.data.relational.core.sql.SelectBuilder;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.core.sql.Table;
 import org.springframework.data.relational.core.sql.render.SqlRenderer;
 import org.springframework.data.repository.query.ParametersSource;
@@ -57,6 +60,12 @@ import org.springframework.lang.Contract;
  */
 public class StatementFactory {
 
+	/**
+	 * Alias of the column holding the total number of rows matching a query selected with
+	 * {@link SelectionBuilder#windowCount()}.
+	 */
+	static final SqlIdentifier WINDOW_COUNT_COLUMN = SqlIdentifier.unquoted("window_count");
+
 	private final JdbcConverter converter;
 	private final RenderContextFactory renderContextFactory;
 	private final QueryMapper queryMapper;
@@ -111,10 +120,12 @@ public class StatementFactory {
 
 		private @Nullable LockMode lockMode;
 		private Limit limit = Limit.unlimited();
+		private long offset;
 		private Pageable pageable = Pageable.unpaged();
 		private Sort sort = Sort.unsorted();
 		private Criteria criteria = Criteria.empty();
 		private List<String> properties = new ArrayList<>();
+		private boolean windowCount;
 
 		private SelectionBuilder(RelationalPersistentEntity<?> entity, Mode mode) {
 			this.entity = entity;
@@ -162,6 +173,12 @@ public class StatementFactory {
 			return this;
 		}
 
+		@Contract("_ -> this")
+		public SelectionBuilder offset(long offset) {
+			this.offset = offset;
+			return this;
+		}
+
 		@Contract("_ -> this")
 		public SelectionBuilder filter(@Nullable Criteria criteria) {
 			this.criteria = criteria == null ? Criteria.empty() : criteria;
@@ -174,6 +191,20 @@ public class StatementFactory {
 			return this;
 		}
 
+		/**
+		 * Select the total number of rows matching the criteria, regardless of limit and offset, using
+		 * {@code COUNT(*) OVER()} as additional column {@link #WINDOW_COUNT_COLUMN}. Requires
+		 * {@link Dialect#supportsWindowFunctions() window function support}.
+		 *
+		 * @return {@code this} builder.
+		 * @since 4.1
+		 */
+		@Contract("-> this")
+		public SelectionBuilder windowCount() {
+			this.windowCount = true;
+			return this;
+		}
+
 		/**
 		 * Build the SQL statement and apply the given function to the SQL string and its parameters.
 		 *
@@ -213,6 +244,50 @@ public class StatementFactory {
 			return SqlRenderer.create(renderContextFactory.createRenderContext()).render(select);
 		}
 
+		/**
+		 * Assign the parameters of the statement to the given {@link MapSqlParameterSource} without rendering the
+		 * statement. Parameters are named the same as by {@link #build(MapSqlParameterSource)}.
+		 *
+		 * @param parameterSource the parameter source to be populated.
+		 */
+		void bind(MapSqlParameterSource parameterSource) {
+
+			if (!criteria.isEmpty()) {
+				queryMapper.getMappedObject(parameterSource, criteria, table, entity);
+			}
+		}
+
+		/**
+		 * Determine the shape of the statement, i.e. all properties that contribute to the SQL text rendered by
+		 * {@link #build(MapSqlParameterSource)}.
+		 *
+		 * Statements with an offset have no shape as each offset renders a different SQL text, keeping the cache from
+		 * filling up with subsequent pages.
+		 *
+		 * @return the shape of the statement or {@literal null} if the SQL text depends on values that are not part of the
+		 *         shape.
+		 * @see DerivedQuerySqlCache
+		 */
+		@Nullable
+		Object getShape() {
+
+			boolean counting = mode == Mode.COUNT;
+			boolean paged = !counting && pageable.isPaged();
+
+			if (!counting && (offset > 0 || (paged && pageable.getOffset() > 0))) {
+				return null;
+			}
+
+			List<Object> criteriaShape = DerivedQuerySqlCache.getCriteriaShape(criteria, entity);
+
+			if (criteriaShape == null) {
+				return null;
+			}
+
+			return Arrays.asList(mode, table, properties, windowCount, lockMode, sort, criteriaShape,
+					counting ? null : limit, paged ? pageable.getPageSize() : null);
+		}
+
 		SelectBuilder.SelectOrdered applyOrderBy(Sort sort, RelationalPersistentEntity<?> entity, Table table,
 				SelectBuilder.SelectOrdered selectOrdered) {
 
@@ -241,6 +316,10 @@ public class StatementFactory {
 				limitOffsetBuilder = limitOffsetBuilder.limit(limit.max());
 			}
 
+			if (offset > 0) {
+				limitOffsetBuilder = limitOffsetBuilder.offset(offset);
+			}
+
 			if (pageable.isPaged()) {
 				limitOffsetBuilder = limitOffsetBuilder
 						.limit(mode == Mode.SLICE ? pageable.getPageSize() + 1 : pageable.getPageSize())
@@ -278,8 +357,12 @@ public class StatementFactory {
 				filter = ap -> !properties.contains(ap.getRequiredBaseProperty().getName());
 			}
 
+			List<Expression> additionalExpressions = windowCount
+					? List.of(AnalyticFunction.create("COUNT", Expressions.asterisk()).as(WINDOW_COUNT_COLUMN))
+					: List.of();
+
 			return (SelectBuilder.SelectJoin) sqlGeneratorSource.getSqlGenerator(entity.getType()).createSelectBuilder(table,
-					filter);
+					filter, additionalExpressions);
 		}
 
 		enum Mode {
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.query;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indicates a derived query method returning a {@link org.springframework.data.domain.Page} should obtain the total
+ * number of rows along with the content of the page by selecting {@code COUNT(*) OVER()} as additional column, instead
+ * of running a separate count query. A count query is still issued if the requested page is empty.
+ * <p>
+ * The annotation is ignored if the {@link org.springframework.data.relational.core.dialect.Dialect} does not
+ * {@link org.springframework.data.relational.core.dialect.Dialect#supportsWindowFunctions() support window functions}
+ * and for distinct queries and queries using a {@link org.springframework.data.relational.repository.Lock}.
+ *
+ * @since 4.1
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface WindowCount {
+}
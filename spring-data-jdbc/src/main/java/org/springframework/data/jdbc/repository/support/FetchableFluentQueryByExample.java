@@ -23,6 +23,7 @@ import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.OffsetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -111,6 +112,21 @@ class FetchableFluentQueryByExample<S, R> extends FluentQuerySupport<S, R> {
 			return ScrollDelegate.scroll(query, this::findAll, osp);
 		}
 
+		if (scrollPosition instanceof KeysetScrollPosition ksp) {
+
+			Query query = createQuery().sort(getSort());
+
+			if (getLimit() > 0) {
+				query = query.limit(getLimit());
+			}
+
+			Window<S> window = ScrollDelegate.scroll(query,
+					it -> this.entityOperations.findAll(it, getExampleType()), ksp,
+					this.entityOperations.getConverter().getMappingContext().getRequiredPersistentEntity(getExampleType()));
+
+			return window.map(getConversionFunction());
+		}
+
 		return super.scroll(scrollPosition);
 	}
 
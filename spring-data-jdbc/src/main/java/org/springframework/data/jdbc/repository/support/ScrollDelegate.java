@@ -19,9 +19,13 @@ import java.util.List;
 import java.util.function.Function;
 import java.util.function.IntFunction;
 
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.OffsetScrollPosition;
 import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Window;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.query.KeysetScrollDelegate;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.util.Assert;
 
@@ -60,6 +64,40 @@ public class ScrollDelegate {
 		throw new UnsupportedOperationException("ScrollPosition " + scrollPosition + " not supported");
 	}
 
+	/**
+	 * Run the {@link Query} and return a scroll {@link Window}. {@link KeysetScrollPosition Keyset positions} are
+	 * translated into criteria seeking to the position so that the cost of a query does not depend on the position.
+	 * {@link OffsetScrollPosition Offset positions} are expected to be applied to the {@link Query} already.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param queryFunction function running the query. Must not be {@literal null}.
+	 * @param scrollPosition must not be {@literal null}.
+	 * @param entity the entity to query. Must not be {@literal null}.
+	 * @return the scroll {@link Window}.
+	 * @since 4.1
+	 */
+	public static <T> Window<T> scroll(Query query, Function<Query, List<T>> queryFunction,
+			ScrollPosition scrollPosition, RelationalPersistentEntity<?> entity) {
+
+		Assert.notNull(scrollPosition, "ScrollPosition must not be null");
+		Assert.notNull(entity, "RelationalPersistentEntity must not be null");
+
+		if (!(scrollPosition instanceof KeysetScrollPosition keyset)) {
+			return scroll(query, queryFunction, scrollPosition);
+		}
+
+		KeysetScrollDelegate delegate = KeysetScrollDelegate.of(keyset.getDirection());
+		Sort sort = delegate.getSortOrders(query.getSort(), entity);
+
+		int limit = query.getLimit();
+		Query keysetQuery = delegate.createQuery(query, keyset, entity);
+		if (limit > 0 && limit != Integer.MAX_VALUE) {
+			keysetQuery = keysetQuery.limit(limit + 1);
+		}
+
+		return delegate.createWindow(queryFunction.apply(keysetQuery), limit, sort, entity);
+	}
+
 	private static <T> Window<T> createWindow(List<T> result, int limit,
 			IntFunction<? extends ScrollPosition> positionFunction) {
 		return Window.from(getFirst(limit, result), positionFunction, hasMoreElements(result, limit));
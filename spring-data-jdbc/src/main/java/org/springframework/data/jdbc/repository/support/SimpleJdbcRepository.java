@@ -34,7 +34,6 @@ import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.repository.query.FluentQuery;
 import org.springframework.data.repository.query.QueryByExampleExecutor;
-import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
@@ -145,10 +144,7 @@ public class SimpleJdbcRepository<T, ID>
 
 		Assert.notNull(pageable, "Pageable must not be null");
 
-		Query query = Query.query(CriteriaDefinition.empty()).with(pageable);
-		List<T> content = entityOperations.findAll(query, entity.getType());
-
-		return PageableExecutionUtils.getPage(content, pageable, () -> entityOperations.count(entity.getType()));
+		return entityOperations.findAll(Query.query(CriteriaDefinition.empty()), entity.getType(), pageable);
 	}
 
 	@Override
@@ -184,10 +180,8 @@ public class SimpleJdbcRepository<T, ID>
 		Assert.notNull(pageable, "Pageable must not be null");
 
 		Query mappedQuery = this.exampleMapper.getMappedExample(example);
-		List<S> content = this.entityOperations.findAll(mappedQuery.with(pageable), example.getProbeType());
 
-		return PageableExecutionUtils.getPage(content, pageable,
-				() -> this.entityOperations.count(mappedQuery, example.getProbeType()));
+		return this.entityOperations.findAll(mappedQuery, example.getProbeType(), pageable);
 	}
 
 	@Override
@@ -18,7 +18,9 @@ package org.springframework.data.jdbc.core
 
 import org.springframework.data.domain.Page
 import org.springframework.data.domain.Pageable
+import org.springframework.data.domain.ScrollPosition
 import org.springframework.data.domain.Sort
+import org.springframework.data.domain.Window
 import org.springframework.data.relational.core.query.Query
 import java.util.*
 
@@ -96,6 +98,14 @@ inline fun <reified T : Any> JdbcAggregateOperations.findOne(query: Query): Opti
 inline fun <reified T : Any> JdbcAggregateOperations.findAll(query: Query): List<T> =
     findAll(query, T::class.java)
 
+/**
+ * Extension for [JdbcAggregateOperations.scroll].
+ *
+ * @since 4.1
+ */
+inline fun <reified T : Any> JdbcAggregateOperations.scroll(query: Query, scrollPosition: ScrollPosition): Window<T> =
+    scroll(query, T::class.java, scrollPosition)
+
 /**
  * Extension for [JdbcAggregateOperations.findAll] with query and pagination.
  */
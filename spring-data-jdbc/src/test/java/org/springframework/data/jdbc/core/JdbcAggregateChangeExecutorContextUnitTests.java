@@ -22,10 +22,13 @@ import static org.springframework.data.jdbc.core.JdbcAggregateChangeExecutionCon
 import static org.springframework.data.jdbc.core.convert.JdbcIdentifierBuilder.*;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.Identifier;
@@ -191,6 +194,59 @@ public class JdbcAggregateChangeExecutorContextUnitTests {
 		assertThat(root.id).isNull();
 	}
 
+	@Test
+	void batchUpdateRootOperation() {
+
+		DummyEntity other = new DummyEntity();
+		when(accessStrategy.updateAll(List.of(root, other), DummyEntity.class)).thenReturn(new boolean[] { true, true });
+
+		executionContext.executeBatchUpdateRoot(new DbAction.BatchUpdateRoot<>(
+				List.of(new DbAction.UpdateRoot<>(root, null), new DbAction.UpdateRoot<>(other, null))));
+
+		List<DummyEntity> newRoots = executionContext.populateIdsIfNecessary();
+
+		assertThat(newRoots).containsExactly(root, other);
+	}
+
+	@Test
+	void batchUpdateRootOperation_withVersion_failsIfRowWasNotUpdated() {
+
+		root.id = 1L;
+		DummyEntity other = new DummyEntity();
+		other.id = 2L;
+		when(accessStrategy.updateAllWithVersion(List.of(root, other), DummyEntity.class, List.of(1, 2)))
+				.thenReturn(new boolean[] { true, false });
+
+		assertThatExceptionOfType(OptimisticLockingFailureException.class)
+				.isThrownBy(() -> executionContext.executeBatchUpdateRoot(new DbAction.BatchUpdateRoot<>(
+						List.of(new DbAction.UpdateRoot<>(root, 1), new DbAction.UpdateRoot<>(other, 2)))));
+	}
+
+	@Test
+	void upsertRootOperation() {
+
+		root.id = 1L;
+
+		executionContext.executeUpsertRoot(new DbAction.UpsertRoot<>(root));
+
+		verify(accessStrategy).upsert(root, DummyEntity.class);
+		assertThat(executionContext.<DummyEntity> populateIdsIfNecessary()).containsExactly(root);
+	}
+
+	@Test
+	void batchUpsertRootOperation() {
+
+		root.id = 1L;
+		DummyEntity other = new DummyEntity();
+		other.id = 2L;
+
+		executionContext.executeBatchUpsertRoot(
+				new DbAction.BatchUpsertRoot<>(List.of(new DbAction.UpsertRoot<>(root), new DbAction.UpsertRoot<>(other))));
+
+		verify(accessStrategy).upsertAll(List.of(root, other), DummyEntity.class);
+		assertThat(executionContext.<DummyEntity> populateIdsIfNecessary()).containsExactly(root, other);
+	}
+
 	@Test // GH-1201
 	void updates_whenReferencesWithImmutableIdAreInserted() {
 
@@ -242,6 +298,44 @@ public class JdbcAggregateChangeExecutorContextUnitTests {
 		assertThat(content2.id).isEqualTo(12L);
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	void synchronizeReferencedOnlyWritesChanges() {
+
+		root.id = 23L;
+		Content unchanged = new Content();
+		unchanged.id = 1L;
+		Content removed = new Content();
+		removed.id = 2L;
+		Content added = new Content();
+
+		when(accessStrategy.findAllByPath(any(Identifier.class), any(PersistentPropertyPath.class)))
+				.thenReturn(List.<Object> of(copyOf(unchanged), removed));
+		when(accessStrategy.insert(anyList(), eq(Content.class), eq(IdValueSource.GENERATED)))
+				.thenReturn(new Object[] { 3L });
+
+		DbAction.UpdateRoot<DummyEntity> rootUpdate = new DbAction.UpdateRoot<>(root, null);
+		executionContext.executeUpdateRoot(rootUpdate);
+		executionContext.executeSynchronizeReferenced(new DbAction.SynchronizeReferenced<>(23L,
+				getPersistentPropertyPath("set"),
+				List.of((DbAction.Insert<Content>) createInsert(rootUpdate, "set", unchanged, null, IdValueSource.PROVIDED),
+						(DbAction.Insert<Content>) createInsert(rootUpdate, "set", added, null, IdValueSource.GENERATED))));
+
+		List<DummyEntity> newRoots = executionContext.populateIdsIfNecessary();
+
+		verify(accessStrategy).delete(List.<Object> of(2L), Content.class);
+		verify(accessStrategy, never()).update(any(Content.class), eq(Content.class));
+		assertThat(newRoots).containsExactly(root);
+		assertThat(added.id).isEqualTo(3L);
+	}
+
+	private static Content copyOf(Content content) {
+
+		Content copy = new Content();
+		copy.id = content.id;
+		return copy;
+	}
+
 	DbAction.Insert<?> createInsert(DbAction.WithEntity<?> parent, String propertyName, Object value,
 			@Nullable Object key, IdValueSource idValueSource) {
 
@@ -281,6 +375,8 @@ public class JdbcAggregateChangeExecutorContextUnitTests {
 		ContentImmutableId contentImmutableId;
 
 		List<Content> list = new ArrayList<>();
+
+		Set<Content> set = new HashSet<>();
 	}
 
 	private static class Content {
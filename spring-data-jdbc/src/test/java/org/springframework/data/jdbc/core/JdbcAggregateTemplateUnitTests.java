@@ -360,6 +360,64 @@ public class JdbcAggregateTemplateUnitTests {
 		assertThat(all).contains(alfred2);
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	void insertAllSplitsAggregatesIntoBatchesOfConfiguredSize() {
+
+		when(callbacks.callback(any(Class.class), any(), any(Object[].class)))
+				.thenAnswer(invocation -> invocation.getArgument(1));
+		when(dataAccessStrategy.insert(anyList(), eq(SampleEntity.class), any())).thenReturn(new Object[2]);
+
+		SampleEntity first = new SampleEntity(1L, "Alfred");
+		SampleEntity second = new SampleEntity(2L, "Berta");
+		SampleEntity third = new SampleEntity(3L, "Carl");
+
+		template.setBatchSize(2);
+		List<SampleEntity> saved = template.insertAll(List.of(first, second, third));
+
+		ArgumentCaptor<List<?>> captor = ArgumentCaptor.forClass(List.class);
+		verify(dataAccessStrategy).insert(captor.capture(), eq(SampleEntity.class), eq(IdValueSource.PROVIDED));
+		verify(dataAccessStrategy).insert(eq(third), eq(SampleEntity.class), eq(Identifier.empty()),
+				eq(IdValueSource.PROVIDED));
+
+		assertThat(captor.getValue()).hasSize(2);
+		assertThat(saved).extracting(SampleEntity::getName).containsExactly("Alfred", "Berta", "Carl");
+	}
+
+	@Test
+	void upsertAllUpsertsAggregateRootsInSingleBatch() {
+
+		when(callbacks.callback(any(Class.class), any(), any(Object[].class)))
+				.thenAnswer(invocation -> invocation.getArgument(1));
+
+		SampleEntity first = new SampleEntity(1L, "Alfred");
+		SampleEntity second = new SampleEntity(2L, "Berta");
+
+		List<SampleEntity> saved = template.upsertAll(List.of(first, second));
+
+		verify(dataAccessStrategy).upsertAll(List.of(first, second), SampleEntity.class);
+		assertThat(saved).containsExactly(first, second);
+	}
+
+	@Test
+	void upsertRejectsAggregateWithoutId() {
+
+		when(callbacks.callback(any(Class.class), any(), any(Object[].class)))
+				.thenAnswer(invocation -> invocation.getArgument(1));
+
+		assertThatIllegalStateException().isThrownBy(() -> template.upsert(new SampleEntity(null, "Alfred")));
+		verifyNoInteractions(dataAccessStrategy);
+	}
+
+	@Test
+	void upsertRejectsVersionedAggregate() {
+
+		when(callbacks.callback(any(Class.class), any(), any(Object[].class)))
+				.thenAnswer(invocation -> invocation.getArgument(1));
+
+		assertThatIllegalStateException().isThrownBy(() -> template.upsert(new EntityWithVersion(1L)));
+	}
+
 	@Test // GH-1401
 	void saveAllWithEmptyListDoesNothing() {
 		assertThat(template.saveAll(emptyList())).isEmpty();
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.dialect.JdbcPostgresDialect;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.mapping.AggregatePath;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * Unit tests for {@link AggregateReader}.
+ */
+class AggregateReaderUnitTests {
+
+	JdbcMappingContext context = new JdbcMappingContext();
+	JdbcConverter converter = new MappingJdbcConverter(context, (identifier, path) -> {
+		throw new UnsupportedOperationException();
+	});
+	NamedParameterJdbcOperations jdbcTemplate = mock(NamedParameterJdbcOperations.class);
+
+	AggregateReader reader = new AggregateReader(JdbcPostgresDialect.INSTANCE, converter, jdbcTemplate);
+
+	@Test
+	void generatesSqlOnlyOncePerQueryShape() {
+
+		RelationalPersistentEntity<DummyEntity> entity = getEntity();
+
+		reader.findById(1L, entity);
+		reader.findById(2L, entity);
+		reader.findAllById(List.of(1L, 2L), entity);
+
+		ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+		ArgumentCaptor<SqlParameterSource> parameters = ArgumentCaptor.forClass(SqlParameterSource.class);
+		verify(jdbcTemplate, times(3)).query(sql.capture(), parameters.capture(), any(ResultSetExtractor.class));
+
+		assertThat(sql.getAllValues().get(1)).isSameAs(sql.getAllValues().get(0));
+		assertThat(parameters.getAllValues().get(1)).isNotSameAs(parameters.getAllValues().get(0));
+		assertThat(reader.getStatementCache().getMissCount()).isEqualTo(2);
+		assertThat(reader.getStatementCache().getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	void streamsAggregatesWhileConsumed() throws SQLException {
+
+		RelationalPersistentEntity<DummyEntity> entity = getEntity();
+		AggregatePath root = context.getAggregatePath(entity);
+		ResultSet resultSet = ResultSetTestUtil.mockResultSet(
+				List.of(reader.column(root.append(entity.getRequiredPersistentProperty("id"))),
+						reader.column(root.append(entity.getRequiredPersistentProperty("name")))),
+				1L, "Jesse", //
+				2L, "Walter", //
+				3L, "Skyler");
+		AtomicBoolean closed = new AtomicBoolean();
+
+		when(jdbcTemplate.queryForStream(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+				.thenReturn(Stream.of(resultSet).onClose(() -> closed.set(true)));
+
+		try (Stream<DummyEntity> stream = reader.streamAll(Query.empty(), entity)) {
+
+			Iterator<DummyEntity> iterator = stream.iterator();
+
+			assertThat(iterator.next()).isEqualTo(new DummyEntity(1L, "Jesse"));
+			assertThat(resultSet.isAfterLast()).isFalse();
+			assertThat(iterator.next()).isEqualTo(new DummyEntity(2L, "Walter"));
+			assertThat(closed).isFalse();
+		}
+
+		assertThat(closed).isTrue();
+	}
+
+	@SuppressWarnings("unchecked")
+	private RelationalPersistentEntity<DummyEntity> getEntity() {
+		return (RelationalPersistentEntity<DummyEntity>) context.getRequiredPersistentEntity(DummyEntity.class);
+	}
+
+	record DummyEntity(@Id Long id, String name) {
+	}
+}
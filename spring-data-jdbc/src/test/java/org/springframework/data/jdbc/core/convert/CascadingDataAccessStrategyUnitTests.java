@@ -22,6 +22,7 @@ import static org.mockito.Mockito.*;
 import junit.framework.AssertionFailedError;
 
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.data.jdbc.core.convert.FunctionCollector.CombinedDataAccessException;
@@ -85,4 +86,64 @@ public class CascadingDataAccessStrategyUnitTests {
 		assertThat(findAll).containsExactly("success");
 	}
 
+	@Test
+	public void skipsSelectiveStrategyNotSupportingOperation() {
+
+		SelectiveDataAccessStrategy selective = mock(SelectiveDataAccessStrategy.class, i -> {
+			if (i.getMethod().getName().equals("supports")) {
+				return false;
+			}
+			throw new AssertionFailedError("this shouldn't have get called");
+		});
+		doReturn("success").when(succeeds).findById(23L, String.class);
+		CascadingDataAccessStrategy access = new CascadingDataAccessStrategy(asList(selective, succeeds));
+
+		assertThat(access.findById(23L, String.class)).isEqualTo("success");
+	}
+
+	@Test
+	public void cachesResolvedStrategiesPerOperation() {
+
+		SelectiveDataAccessStrategy selective = mock(SelectiveDataAccessStrategy.class);
+		when(selective.supports(any())).thenReturn(false);
+		doReturn("success").when(succeeds).findById(any(), any());
+		CascadingDataAccessStrategy access = new CascadingDataAccessStrategy(asList(selective, succeeds));
+
+		access.findById(23L, String.class);
+		access.findById(42L, String.class);
+		access.findById(23L, Integer.class);
+
+		verify(selective).supports(DataAccessOperation.of("findById", String.class));
+		verify(selective).supports(DataAccessOperation.of("findById", Integer.class));
+		verify(selective, never()).findById(any(), any());
+		assertThat(access.getResolutionCacheHitCount()).isEqualTo(1);
+		assertThat(access.getResolutionCacheMissCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void routesBulkOperationsSeparately() {
+
+		SelectiveDataAccessStrategy selective = mock(SelectiveDataAccessStrategy.class);
+		when(selective.supports(DataAccessOperation.of("deleteBatch", String.class))).thenReturn(true);
+		CascadingDataAccessStrategy access = new CascadingDataAccessStrategy(asList(selective, succeeds));
+
+		access.delete(List.<Object> of(23L, 42L), String.class);
+		access.delete(23L, String.class);
+
+		verify(selective).delete(List.<Object> of(23L, 42L), String.class);
+		verify(selective, never()).delete(any(Object.class), any());
+		verify(succeeds).delete(23L, String.class);
+	}
+
+	@Test
+	public void triesAllStrategiesIfNoneSupportsOperation() {
+
+		SelectiveDataAccessStrategy selective = mock(SelectiveDataAccessStrategy.class);
+		when(selective.supports(any())).thenReturn(false);
+		doReturn("success").when(selective).findById(23L, String.class);
+		CascadingDataAccessStrategy access = new CascadingDataAccessStrategy(asList(selective));
+
+		assertThat(access.findById(23L, String.class)).isEqualTo("success");
+	}
+
 }
@@ -16,19 +16,38 @@
 package org.springframework.data.jdbc.core.convert;
 
 import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jdbc.core.dialect.JdbcH2Dialect;
 import org.springframework.data.jdbc.core.dialect.JdbcHsqlDbDialect;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.jdbc.repository.config.DefaultQueryMappingConfiguration;
 import org.springframework.data.relational.core.conversion.IdValueSource;
+import org.springframework.data.relational.core.dialect.AnsiDialect;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.relational.domain.RowDocument;
 import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
 /**
  * Unit tests for {@link DefaultDataAccessStrategy}.
@@ -113,6 +132,178 @@ class DefaultDataAccessStrategyUnitTests {
 		verify(insertStrategyFactory).batchInsertStrategy(IdValueSource.GENERATED, null);
 	}
 
+	@Test
+	void batchUpdateWithVersionFailsForElementWithoutUpdatedRow() {
+
+		when(sqlParametersFactory.forUpdate(any(), any())).thenAnswer(invocation -> new SqlIdentifierParameterSource());
+		when(namedJdbcOperations.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+				.thenReturn(new int[] { 1, 0 });
+
+		assertThatExceptionOfType(OptimisticLockingFailureException.class)
+				.isThrownBy(() -> accessStrategy.updateAllWithVersion(
+						List.of(new VersionedEntity(1L, 2L), new VersionedEntity(2L, 3L)), VersionedEntity.class, List.of(1L, 2L)))
+				.withMessageContaining("id '2'");
+	}
+
+	@Test
+	void batchUpdateWithVersionUpdatesRowByRowIfDialectDoesNotReportBatchUpdateCounts() {
+
+		DataAccessStrategy accessStrategy = new DataAccessStrategyFactory( //
+				new SqlGeneratorSource(context, converter, AnsiDialect.INSTANCE), //
+				converter, //
+				namedJdbcOperations, //
+				sqlParametersFactory, //
+				insertStrategyFactory, //
+				QueryMappingConfiguration.EMPTY //
+		).create();
+
+		when(sqlParametersFactory.forUpdate(any(), any())).thenAnswer(invocation -> new SqlIdentifierParameterSource());
+		when(namedJdbcOperations.update(anyString(), any(SqlParameterSource.class))).thenReturn(1, 0);
+
+		List<VersionedEntity> instances = List.of(new VersionedEntity(1L, 2L), new VersionedEntity(2L, 3L));
+
+		assertThatExceptionOfType(OptimisticLockingFailureException.class)
+				.isThrownBy(() -> accessStrategy.updateAllWithVersion(instances, VersionedEntity.class, List.of(1L, 2L)))
+				.withMessageContaining("id '2'");
+
+		verify(namedJdbcOperations, never()).batchUpdate(anyString(), any(SqlParameterSource[].class));
+		verify(namedJdbcOperations, times(2)).update(anyString(), any(SqlParameterSource.class));
+	}
+
+	@Test
+	void batchUpdateWithVersionAcceptsSuccessWithoutRowCount() {
+
+		when(sqlParametersFactory.forUpdate(any(), any())).thenAnswer(invocation -> new SqlIdentifierParameterSource());
+		when(namedJdbcOperations.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+				.thenReturn(new int[] { Statement.SUCCESS_NO_INFO, 1 });
+
+		boolean[] updated = accessStrategy.updateAllWithVersion(
+				List.of(new VersionedEntity(1L, 2L), new VersionedEntity(2L, 3L)), VersionedEntity.class, List.of(1L, 2L));
+
+		assertThat(updated).containsExactly(true, true);
+		verify(namedJdbcOperations, never()).update(anyString(), any(SqlParameterSource.class));
+	}
+
+	@Test
+	void batchUpdateAcceptsSuccessWithoutRowCount() {
+
+		when(sqlParametersFactory.forUpdate(any(), any())).thenAnswer(invocation -> {
+
+			SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource();
+			parameterSource.addValue(SqlIdentifier.unquoted("id"), 1L);
+			parameterSource.addValue(SqlIdentifier.unquoted("version"), 1L);
+			return parameterSource;
+		});
+		when(namedJdbcOperations.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+				.thenReturn(new int[] { Statement.SUCCESS_NO_INFO, 0 });
+
+		boolean[] updated = accessStrategy.updateAll(List.of(new VersionedEntity(1L, 1L), new VersionedEntity(2L, 1L)),
+				VersionedEntity.class);
+
+		assertThat(updated).containsExactly(true, false);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void loadsReferencedEntitiesOfAllAggregatesWithSingleQuery() {
+
+		context.setBatchedRelationLoadingEnabled(true);
+
+		when(sqlParametersFactory.forQueryByBackReferences(any())).thenReturn(new SqlIdentifierParameterSource());
+		when(namedJdbcOperations.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class))) //
+				.thenReturn(List.of(new RowDocument(Map.of("id", 1L)), new RowDocument(Map.of("id", 2L)))) //
+				.thenReturn(List.of( //
+						new RowDocument(Map.of("name", "one", "parent_with_children", 1L)), //
+						new RowDocument(Map.of("name", "two", "parent_with_children", 2L)), //
+						new RowDocument(Map.of("name", "three", "parent_with_children", 2L))));
+
+		List<ParentWithChildren> parents = accessStrategy.findAll(ParentWithChildren.class);
+
+		assertThat(parents).extracting(ParentWithChildren::id).containsExactly(1L, 2L);
+		assertThat(parents.get(0).children()).extracting(Child::name).containsExactly("one");
+		assertThat(parents.get(1).children()).extracting(Child::name).containsExactlyInAnyOrder("two", "three");
+
+		verify(namedJdbcOperations, times(2)).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+		verify(sqlParametersFactory).forQueryByBackReferences(List.of(1L, 2L));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void loadsNestedReferencedEntitiesWithSingleQueryPerLevel() {
+
+		context.setBatchedRelationLoadingEnabled(true);
+
+		when(sqlParametersFactory.forQueryByBackReferences(any())).thenReturn(new SqlIdentifierParameterSource());
+		when(namedJdbcOperations.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class))) //
+				.thenReturn(List.of(new RowDocument(Map.of("id", 1L)), new RowDocument(Map.of("id", 2L)))) //
+				.thenReturn(List.of( //
+						new RowDocument(Map.of("id", 10L, "root", 1L)), //
+						new RowDocument(Map.of("id", 20L, "root", 2L)), //
+						new RowDocument(Map.of("id", 30L, "root", 2L)))) //
+				.thenReturn(List.of( //
+						new RowDocument(Map.of("name", "one", "middle", 10L)), //
+						new RowDocument(Map.of("name", "two", "middle", 30L)), //
+						new RowDocument(Map.of("name", "three", "middle", 30L))));
+
+		List<Root> roots = accessStrategy.findAll(Root.class);
+
+		assertThat(roots).extracting(Root::id).containsExactly(1L, 2L);
+		assertThat(roots.get(0).middles()).flatExtracting(Middle::leaves).extracting(Leaf::name).containsExactly("one");
+		assertThat(roots.get(1).middles()).flatExtracting(Middle::leaves).extracting(Leaf::name)
+				.containsExactlyInAnyOrder("two", "three");
+
+		verify(namedJdbcOperations, times(3)).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+		verify(sqlParametersFactory).forQueryByBackReferences(List.of(1L, 2L));
+		verify(sqlParametersFactory).forQueryByBackReferences(List.of(10L, 20L, 30L));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void selectsPageTotalUsingWindowFunction() throws SQLException {
+
+		DataAccessStrategy accessStrategy = new DataAccessStrategyFactory( //
+				new SqlGeneratorSource(context, converter, JdbcH2Dialect.INSTANCE), //
+				converter, //
+				namedJdbcOperations, //
+				sqlParametersFactory, //
+				insertStrategyFactory, //
+				new DefaultQueryMappingConfiguration().registerRowMapper(DummyEntity.class,
+						(rs, rowNum) -> new DummyEntity(rs.getLong("id"))) //
+		).create();
+
+		ResultSet resultSet = mock(ResultSet.class);
+		when(resultSet.getLong("id")).thenReturn(1L, 2L);
+		when(resultSet.getLong("window_count")).thenReturn(42L);
+		when(namedJdbcOperations.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+				.thenAnswer(invocation -> {
+
+					RowMapper<?> rowMapper = invocation.getArgument(2);
+					return List.of(rowMapper.mapRow(resultSet, 0), rowMapper.mapRow(resultSet, 1));
+				});
+
+		Page<DummyEntity> page = accessStrategy.findPage(Query.empty(), DummyEntity.class, PageRequest.of(1, 2));
+
+		assertThat(page.getContent()).hasSize(2);
+		assertThat(page.getTotalElements()).isEqualTo(42L);
+		verify(namedJdbcOperations).query(contains("OVER()"), any(SqlParameterSource.class), any(RowMapper.class));
+		verify(namedJdbcOperations, never()).queryForObject(anyString(), any(SqlParameterSource.class), any(Class.class));
+	}
+
+	@Test
+	void countsPageTotalWithoutWindowFunctions() {
+
+		when(namedJdbcOperations.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+				.thenReturn(List.of(new DummyEntity(1L), new DummyEntity(2L)));
+		when(namedJdbcOperations.queryForObject(anyString(), any(SqlParameterSource.class), eq(Long.class)))
+				.thenReturn(42L);
+
+		Page<DummyEntity> page = accessStrategy.findPage(Query.empty(), DummyEntity.class, PageRequest.of(1, 2));
+
+		assertThat(page.getTotalElements()).isEqualTo(42L);
+		verify(namedJdbcOperations, never()).query(contains("OVER()"), any(SqlParameterSource.class),
+				any(RowMapper.class));
+	}
+
 	private static class DummyEntity {
 
 		@Id private final Long id;
@@ -130,4 +321,22 @@ class DefaultDataAccessStrategyUnitTests {
 			this.id = id;
 		}
 	}
+
+	record ParentWithChildren(@Id Long id, Set<Child> children) {
+	}
+
+	record Child(String name) {
+	}
+
+	record Root(@Id Long id, Set<Middle> middles) {
+	}
+
+	record Middle(@Id Long id, Set<Leaf> leaves) {
+	}
+
+	record Leaf(String name) {
+	}
+
+	record VersionedEntity(@Id Long id, @Version Long version) {
+	}
 }
@@ -631,8 +631,90 @@ public class EntityRowMapperUnitTests {
 		assertThat(result.getComputed()).isEqualTo("Hello World");
 	}
 
+	@Test
+	void readsFlatEntitiesOfConsecutiveRowsWithSameMapper() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				1, "alpha", //
+				2L, null, //
+				3L, "gamma");
+		EntityRowMapper<TrivialImmutable> rowMapper = createFlatRowMapper(TrivialImmutable.class);
+
+		List<TrivialImmutable> extracted = new ArrayList<>();
+		while (rs.next()) {
+			extracted.add(rowMapper.mapRow(rs, rs.getRow()));
+		}
+
+		assertThat(extracted) //
+				.extracting(e -> e.id, e -> e.name) //
+				.containsExactly(tuple(1L, "alpha"), tuple(2L, null), tuple(3L, "gamma"));
+	}
+
+	@Test
+	void createsFlatEntityReaderOncePerResultSet() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), 1L, "alpha", 2L, "beta");
+		EntityRowMapper<TrivialImmutable> rowMapper = createFlatRowMapper(TrivialImmutable.class);
+
+		while (rs.next()) {
+			rowMapper.mapRow(rs, rs.getRow());
+		}
+
+		verify(rs).getMetaData();
+	}
+
+	@Test
+	void overridesInitializedPropertyWithNullColumnValue() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), 1L, null);
+		rs.next();
+
+		WithInitializedProperty result = createFlatRowMapper(WithInitializedProperty.class).mapRow(rs, 1);
+
+		assertThat(result.id).isEqualTo(1L);
+		assertThat(result.name).isNull();
+	}
+
+	@Test
+	void keepsInitializedPropertyWithoutColumn() throws SQLException {
+
+		ResultSet rs = mockResultSet(singletonList("ID"), 1L);
+		rs.next();
+
+		WithInitializedProperty result = createFlatRowMapper(WithInitializedProperty.class).mapRow(rs, 1);
+
+		assertThat(result.name).isEqualTo("initial");
+	}
+
+	@Test
+	void readsFlatEntitiesOfInterleavedResultSetsWithSameMapper() throws SQLException {
+
+		ResultSet both = mockResultSet(asList("ID", "NAME"), 1L, "alpha", 2L, "beta");
+		ResultSet idOnly = mockResultSet(singletonList("ID"), 3L);
+		EntityRowMapper<WithInitializedProperty> rowMapper = createFlatRowMapper(WithInitializedProperty.class);
+
+		both.next();
+		idOnly.next();
+
+		WithInitializedProperty alpha = rowMapper.mapRow(both, 0);
+		WithInitializedProperty third = rowMapper.mapRow(idOnly, 0);
+		both.next();
+		WithInitializedProperty beta = rowMapper.mapRow(both, 1);
+
+		assertThat(alpha.name).isEqualTo("alpha");
+		assertThat(third.id).isEqualTo(3L);
+		assertThat(third.name).isEqualTo("initial");
+		assertThat(beta.name).isEqualTo("beta");
+	}
+
 	// Model classes to be used in tests
 
+	static class WithInitializedProperty {
+
+		@Id Long id;
+		String name = "initial";
+	}
+
 	static class TrivialImmutable {
 
 		@Id
@@ -1028,8 +1110,17 @@ public class EntityRowMapperUnitTests {
 		return createRowMapper(type, DefaultNamingStrategy.INSTANCE);
 	}
 
-	@SuppressWarnings("unchecked")
+	private <T> EntityRowMapper<T> createFlatRowMapper(Class<T> type) {
+		return createRowMapper(type, DefaultNamingStrategy.INSTANCE, true);
+	}
+
 	private <T> EntityRowMapper<T> createRowMapper(Class<T> type, NamingStrategy namingStrategy) {
+		return createRowMapper(type, namingStrategy, false);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> EntityRowMapper<T> createRowMapper(Class<T> type, NamingStrategy namingStrategy,
+			boolean readFlatEntitiesDirectly) {
 
 		RelationalMappingContext context = JdbcMappingContext.forQuotedIdentifiers(namingStrategy);
 
@@ -1065,6 +1156,7 @@ public class EntityRowMapperUnitTests {
 
 		MappingJdbcConverter converter = new MappingJdbcConverter(context, accessStrategy, new JdbcCustomConversions(),
 				JdbcTypeFactory.unsupported());
+		converter.setReadFlatEntitiesDirectly(readFlatEntitiesDirectly);
 
 		return new EntityRowMapper<>( //
 				(RelationalPersistentEntity<T>) context.getRequiredPersistentEntity(type), //
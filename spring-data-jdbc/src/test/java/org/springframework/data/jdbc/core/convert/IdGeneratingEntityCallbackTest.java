@@ -18,6 +18,8 @@ package org.springframework.data.jdbc.core.convert;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -134,6 +136,27 @@ class IdGeneratingEntityCallbackTest {
 		assertThat(processed.id).isEqualTo(generatedId);
 	}
 
+	@Test
+	void allocatesPooledValues() {
+
+		when(operations.queryForObject(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+				.thenReturn(10L, 13L);
+
+		IdGeneratingEntityCallback subject = new IdGeneratingEntityCallback(relationalMappingContext,
+				JdbcPostgresDialect.INSTANCE, operations);
+
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+
+			EntityWithPooledSequence processed = (EntityWithPooledSequence) subject.onBeforeSave(
+					new EntityWithPooledSequence(), MutableAggregateChange.forSave(new EntityWithPooledSequence()));
+			ids.add(processed.id);
+		}
+
+		assertThat(ids).containsExactly(10L, 11L, 12L, 13L);
+		verify(operations, times(2)).queryForObject(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+	}
+
 	@Table
 	static class NoSequenceEntity {
 
@@ -169,4 +192,12 @@ class IdGeneratingEntityCallbackTest {
 		@Sequence(value = "id_seq") private UUID id;
 
 	}
+
+	@Table
+	static class EntityWithPooledSequence {
+
+		@Id
+		@Sequence(value = "id_seq", allocationSize = 3) private Long id;
+
+	}
 }
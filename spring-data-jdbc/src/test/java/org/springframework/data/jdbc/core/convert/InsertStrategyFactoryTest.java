@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.data.jdbc.core.dialect.JdbcPostgresDialect;
 import org.springframework.data.relational.core.conversion.IdValueSource;
 import org.springframework.data.relational.core.dialect.AnsiDialect;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
@@ -59,4 +60,22 @@ class InsertStrategyFactoryTest {
 		assertThat(ids).containsOnlyNulls();
 	}
 
+	@Test
+	void multiRowInsertsAreDisabledByDefault() {
+
+		assertThat(insertStrategyFactory.multiRowInsertStrategy(IdValueSource.PROVIDED, null)).isNull();
+		assertThat(insertStrategyFactory.withMultiRowInserts(true).multiRowInsertStrategy(IdValueSource.PROVIDED, null))
+				.isNotNull();
+	}
+
+	@Test
+	void multiRowInsertsRequireGeneratedKeysForAllRows() {
+
+		InsertStrategyFactory factory = insertStrategyFactory.withMultiRowInserts(true);
+
+		assertThat(factory.multiRowInsertStrategy(IdValueSource.GENERATED, null)).isNull();
+		assertThat(new InsertStrategyFactory(namedParameterJdbcOperations, JdbcPostgresDialect.INSTANCE)
+				.withMultiRowInserts(true).multiRowInsertStrategy(IdValueSource.GENERATED, null)).isNotNull();
+	}
+
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.relational.core.dialect.AnsiDialect;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+/**
+ * Unit tests for {@link MultiRowInsertStrategy}.
+ */
+class MultiRowInsertStrategyTest {
+
+	NamedParameterJdbcOperations jdbcOperations = mock(NamedParameterJdbcOperations.class);
+
+	@Test
+	void splitsRowsAccordingToBindParameterLimit() {
+
+		Dialect dialect = new AnsiDialect() {
+			@Override
+			public int getBindParameterMaximumCount() {
+				return 4;
+			}
+		};
+		MultiRowInsertStrategy strategy = new MultiRowInsertStrategy(dialect, jdbcOperations, false, null);
+
+		Object[] ids = strategy.execute(rows -> "insert " + rows,
+				new SqlParameterSource[] { row("a", 1), row("b", 2), row("c", 3), row("d", 4), row("e", 5) });
+
+		ArgumentCaptor<SqlParameterSource> captor = ArgumentCaptor.forClass(SqlParameterSource.class);
+		verify(jdbcOperations, times(2)).update(eq("insert 2"), captor.capture());
+		verify(jdbcOperations).update(eq("insert 1"), captor.capture());
+
+		SqlParameterSource first = captor.getAllValues().get(0);
+		assertThat(first.getValue("r0_name")).isEqualTo("a");
+		assertThat(first.getValue("r1_name")).isEqualTo("b");
+		assertThat(first.getValue("r1_age")).isEqualTo(2);
+		assertThat(captor.getAllValues().get(2).getValue("r0_name")).isEqualTo("e");
+		assertThat(ids).hasSize(5).containsOnlyNulls();
+	}
+
+	@Test
+	void insertsRemainingRowsInChunksOfPowersOfTwo() {
+
+		Dialect dialect = new AnsiDialect() {
+			@Override
+			public int getBindParameterMaximumCount() {
+				return 16;
+			}
+		};
+		MultiRowInsertStrategy strategy = new MultiRowInsertStrategy(dialect, jdbcOperations, false, null);
+
+		SqlParameterSource[] rows = new SqlParameterSource[23];
+		for (int i = 0; i < rows.length; i++) {
+			rows[i] = row("name" + i, i);
+		}
+
+		Object[] ids = strategy.execute(count -> "insert " + count, rows);
+
+		verify(jdbcOperations, times(2)).update(eq("insert 8"), any(SqlParameterSource.class));
+		verify(jdbcOperations).update(eq("insert 4"), any(SqlParameterSource.class));
+		verify(jdbcOperations).update(eq("insert 2"), any(SqlParameterSource.class));
+		verify(jdbcOperations).update(eq("insert 1"), any(SqlParameterSource.class));
+		verifyNoMoreInteractions(jdbcOperations);
+		assertThat(ids).hasSize(23);
+	}
+
+	@Test
+	void returnsGeneratedIdsOfAllRows() {
+
+		MultiRowInsertStrategy strategy = new MultiRowInsertStrategy(AnsiDialect.INSTANCE, jdbcOperations, true,
+				SqlIdentifier.unquoted("id"));
+
+		when(jdbcOperations.update(eq("insert 2"), any(SqlParameterSource.class), any(KeyHolder.class)))
+				.thenAnswer(invocation -> {
+
+					GeneratedKeyHolder holder = invocation.getArgument(2);
+					holder.getKeyList().addAll(List.of(Map.of("id", 23L, "name", "a"), Map.of("id", 42L, "name", "b")));
+					return 2;
+				});
+
+		Object[] ids = strategy.execute(rows -> "insert " + rows, new SqlParameterSource[] { row("a", 1), row("b", 2) });
+
+		assertThat(ids).containsExactly(23L, 42L);
+	}
+
+	private static SqlParameterSource row(String name, int age) {
+
+		SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource();
+		parameterSource.addValue(SqlIdentifier.unquoted("name"), name);
+		parameterSource.addValue(SqlIdentifier.unquoted("age"), age);
+		return parameterSource;
+	}
+}
@@ -160,6 +160,24 @@ public class RowDocumentResultSetExtractorUnitTests {
 						new RowDocument().append("dummy_name", "Dummy Alfred"));
 			});
 		}
+
+		@Test
+		void collectionWithinEntityReferenceGetsExtractedFromMultipleRows() {
+
+			testerFor(WithOneToOneIntermediate.class).resultSet(rsc -> {
+				rsc.withPaths("id1", "intermediate.iId", "intermediate.intermediateName")
+						.withKey("intermediate.dummyList").withPath("intermediate.dummyList.dummyName") //
+						.withRow(1, 23, "Inami", 1, "Dustin") //
+						.withRow(1, null, null, 2, "Dora") //
+						.withRow(1, null, null, null, null);
+			}).run(document -> {
+
+				RowDocument intermediate = (RowDocument) document.get("intermediate");
+				assertThat(intermediate).containsEntry("i_id", 23).containsEntry("intermediate_name", "Inami")
+						.containsEntry("dummy_list",
+								Arrays.asList(RowDocument.of("dummy_name", "Dustin"), RowDocument.of("dummy_name", "Dora")));
+			});
+		}
 	}
 
 	@Nested
@@ -355,6 +373,12 @@ public class RowDocumentResultSetExtractorUnitTests {
 		DummyEntity related;
 	}
 
+	private static class WithOneToOneIntermediate {
+
+		@Id long id1;
+		Intermediate intermediate;
+	}
+
 	private static class Person {
 
 		String name;
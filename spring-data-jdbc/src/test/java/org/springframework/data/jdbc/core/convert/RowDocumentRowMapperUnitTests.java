@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.relational.domain.RowDocument;
+
+/**
+ * Unit tests for {@link RowDocumentRowMapper}.
+ */
+class RowDocumentRowMapperUnitTests {
+
+	RowDocumentRowMapper mapper = new RowDocumentRowMapper();
+
+	@Test
+	void mapsRowsOfInterleavedResultSets() throws SQLException {
+
+		ResultSet people = ResultSetTestUtil.mockResultSet(List.of("id", "name"), 1L, "Jesse", 2L, "Walter");
+		ResultSet products = ResultSetTestUtil.mockResultSet(List.of("sku", "price", "name"), "A-1", 10, "Pen");
+
+		people.next();
+		products.next();
+
+		RowDocument jesse = mapper.mapRow(people, 0);
+		RowDocument pen = mapper.mapRow(products, 0);
+
+		people.next();
+		RowDocument walter = mapper.mapRow(people, 1);
+
+		assertThat(jesse).containsEntry("id", 1L).containsEntry("name", "Jesse").hasSize(2);
+		assertThat(pen).containsEntry("sku", "A-1").containsEntry("price", 10).containsEntry("name", "Pen");
+		assertThat(walter).containsEntry("id", 2L).containsEntry("name", "Walter").hasSize(2);
+	}
+
+	@Test
+	void resolvesColumnsOncePerResultSet() throws SQLException {
+
+		ResultSet people = ResultSetTestUtil.mockResultSet(List.of("id", "name"), 1L, "Jesse", 2L, "Walter");
+
+		people.next();
+		mapper.mapRow(people, 0);
+		people.next();
+		RowDocument walter = mapper.mapRow(people, 1);
+
+		assertThat(walter).containsEntry("id", 2L).containsEntry("name", "Walter");
+		verify(people).getMetaData();
+	}
+
+	@Test
+	void sharesColumnsBetweenResultSetsOfSameShape() throws SQLException {
+
+		ResultSet first = ResultSetTestUtil.mockResultSet(List.of("id", "name"), 1L, "Jesse");
+		ResultSet second = ResultSetTestUtil.mockResultSet(List.of("id", "name"), 2L, "Walter");
+
+		first.next();
+		second.next();
+
+		RowDocument jesse = mapper.mapRow(first, 0);
+		RowDocument walter = mapper.mapRow(second, 0);
+
+		assertThat(jesse.get("NAME")).isEqualTo("Jesse");
+		assertThat(walter.get("name")).isEqualTo("Walter");
+	}
+}
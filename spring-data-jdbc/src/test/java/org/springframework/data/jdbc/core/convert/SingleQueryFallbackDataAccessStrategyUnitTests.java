@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jdbc.core.dialect.JdbcPostgresDialect;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * Unit tests for {@link SingleQueryFallbackDataAccessStrategy}.
+ */
+class SingleQueryFallbackDataAccessStrategyUnitTests {
+
+	JdbcMappingContext context = new JdbcMappingContext();
+	JdbcConverter converter = new MappingJdbcConverter(context, (identifier, path) -> {
+		throw new UnsupportedOperationException();
+	});
+	NamedParameterJdbcOperations operations = mock(NamedParameterJdbcOperations.class);
+	DataAccessStrategy fallback = mock(DataAccessStrategy.class);
+
+	SingleQueryFallbackDataAccessStrategy strategy = new SingleQueryFallbackDataAccessStrategy(
+			new SqlGeneratorSource(context, converter, JdbcPostgresDialect.INSTANCE), converter, operations, fallback);
+
+	@Test
+	void usesSingleQueryForSortByPropertyOfRootTable() {
+
+		context.setSingleQueryLoadingEnabled(true);
+
+		strategy.findAll(WithReference.class, Sort.by("name"));
+		strategy.findAll(WithReference.class, PageRequest.of(0, 10, Sort.by("name")));
+
+		verify(operations, times(2)).query(anyString(), any(SqlParameterSource.class), any(ResultSetExtractor.class));
+		verifyNoInteractions(fallback);
+	}
+
+	@Test
+	void fallsBackForCaseInsensitiveSort() {
+
+		context.setSingleQueryLoadingEnabled(true);
+		Sort sort = Sort.by(Sort.Order.asc("name").ignoreCase());
+
+		strategy.findAll(WithReference.class, sort);
+
+		verify(fallback).findAll(WithReference.class, sort);
+		verifyNoInteractions(operations);
+	}
+
+	@Test
+	void fallsBackForSortByPropertyOfReferencedEntity() {
+
+		context.setSingleQueryLoadingEnabled(true);
+		Sort sort = Sort.by("child.label");
+
+		strategy.findAll(WithReference.class, sort);
+		strategy.findAll(Query.empty().sort(sort), WithReference.class);
+
+		verify(fallback).findAll(WithReference.class, sort);
+		verify(fallback).findAll(any(Query.class), eq(WithReference.class));
+		verifyNoInteractions(operations);
+	}
+
+	@Test
+	void fallsBackForSortByUnknownProperty() {
+
+		context.setSingleQueryLoadingEnabled(true);
+		Sort sort = Sort.by("unknown");
+
+		strategy.streamAll(WithReference.class, sort);
+
+		verify(fallback).streamAll(WithReference.class, sort);
+		verifyNoInteractions(operations);
+	}
+
+	@Test
+	void fallsBackIfSingleQueryLoadingIsDisabled() {
+
+		strategy.findById(1L, WithReference.class);
+
+		verify(fallback).findById(1L, WithReference.class);
+		verifyNoInteractions(operations);
+	}
+
+	@Test
+	void streamsWithSingleQuery() {
+
+		context.setSingleQueryLoadingEnabled(true);
+		when(operations.queryForStream(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+				.thenReturn(Stream.empty());
+
+		assertThat(strategy.streamAll(WithReference.class)).isEmpty();
+
+		verify(operations).queryForStream(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+		verifyNoInteractions(fallback);
+	}
+
+	@Test
+	void doesNotQueryForEmptyIds() {
+
+		context.setSingleQueryLoadingEnabled(true);
+
+		assertThat(strategy.findAllById(List.of(), WithReference.class)).isEmpty();
+		assertThat(strategy.streamAllByIds(List.of(), WithReference.class)).isEmpty();
+
+		verifyNoInteractions(operations, fallback);
+	}
+
+	record WithReference(@Id Long id, String name, Child child) {
+	}
+
+	record Child(String label) {
+	}
+}
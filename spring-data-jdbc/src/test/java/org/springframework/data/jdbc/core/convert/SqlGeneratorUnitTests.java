@@ -456,6 +456,44 @@ class SqlGeneratorUnitTests {
 				"WHERE dummy_entity.backref = :backref");
 	}
 
+	@Test
+	void findAllByPropertyIsRenderedOnlyOnceForSameShape() {
+
+		String first = sqlGenerator.getFindAllByProperty(BACKREF, null, false);
+		String second = sqlGenerator.getFindAllByProperty(BACKREF, null, false);
+
+		assertThat(second).isSameAs(first);
+		assertThat(sqlGenerator.getStatementCache().getMissCount()).isEqualTo(1);
+		assertThat(sqlGenerator.getStatementCache().getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	void pagedFindAllCachesOnlyFirstPage() {
+
+		String firstPage = sqlGenerator.getFindAll(PageRequest.of(0, 10));
+		String secondPage = sqlGenerator.getFindAll(PageRequest.of(1, 10));
+		sqlGenerator.getFindAll(PageRequest.of(2, 10));
+
+		assertThat(sqlGenerator.getFindAll(PageRequest.of(0, 10))).isSameAs(firstPage);
+		assertThat(secondPage).isNotEqualTo(firstPage);
+		assertThat(sqlGenerator.getStatementCache().getMissCount()).isEqualTo(1);
+		assertThat(sqlGenerator.getStatementCache().size()).isEqualTo(1);
+	}
+
+	@Test
+	void findAllInListByPropertySelectsBackReference() {
+
+		String sql = createSqlGenerator(Element.class).getFindAllInListByProperty(unquoted("dummy_entity"),
+				getPath("elements", DummyEntity.class));
+
+		assertThat(sql).contains("SELECT", //
+				"element.x_id AS x_id", //
+				"element.x_content AS x_content", //
+				"element.dummy_entity", //
+				"FROM element", //
+				"WHERE element.dummy_entity IN (:ids)");
+	}
+
 	@Test // DATAJDBC-223
 	void findAllByPropertyWithMultipartIdentifier() {
 
@@ -657,6 +695,39 @@ class SqlGeneratorUnitTests {
 		);
 	}
 
+	@Test
+	void getMultiRowInsertNamesParametersByRow() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(EntityWithReadOnlyProperty.class, AnsiDialect.INSTANCE);
+
+		assertThat(sqlGenerator.getMultiRowInsert(emptySet(), 3)).isEqualToIgnoringCase( //
+				"INSERT INTO \"ENTITY_WITH_READ_ONLY_PROPERTY\" (\"X_NAME\") " //
+						+ "VALUES (:r0_x_name), (:r1_x_name), (:r2_x_name)" //
+		);
+	}
+
+	@Test
+	void getUpsertRendersMergeByDefault() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(EntityWithReadOnlyProperty.class, AnsiDialect.INSTANCE);
+
+		assertThat(sqlGenerator.getUpsert(upsertColumns(EntityWithReadOnlyProperty.class))).isEqualToIgnoringCase( //
+				"MERGE INTO \"ENTITY_WITH_READ_ONLY_PROPERTY\" USING (VALUES (:x_id, :x_name)) AS src (\"X_ID\", \"X_NAME\")" //
+						+ " ON (\"ENTITY_WITH_READ_ONLY_PROPERTY\".\"X_ID\" = src.\"X_ID\")" //
+						+ " WHEN MATCHED THEN UPDATE SET \"X_NAME\" = src.\"X_NAME\"" //
+						+ " WHEN NOT MATCHED THEN INSERT (\"X_ID\", \"X_NAME\") VALUES (src.\"X_ID\", src.\"X_NAME\")");
+	}
+
+	@Test
+	void getUpsertRendersOnConflictForPostgres() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(EntityWithReadOnlyProperty.class, JdbcPostgresDialect.INSTANCE);
+
+		assertThat(sqlGenerator.getUpsert(upsertColumns(EntityWithReadOnlyProperty.class))).isEqualToIgnoringCase( //
+				"INSERT INTO \"ENTITY_WITH_READ_ONLY_PROPERTY\" (\"X_ID\", \"X_NAME\") VALUES (:x_id, :x_name)" //
+						+ " ON CONFLICT (\"X_ID\") DO UPDATE SET \"X_NAME\" = EXCLUDED.\"X_NAME\"");
+	}
+
 	@Test // DATAJDBC-324
 	void readOnlyPropertyIncludedIntoQuery_when_generateFindAllSql() {
 
@@ -965,6 +1036,22 @@ class SqlGeneratorUnitTests {
 				.containsOnly(entry("x_name", probe.name));
 	}
 
+	@Test
+	void selectByQueryWithWindowCount() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class);
+
+		Query query = Query.query(Criteria.where("name").is("Diego"));
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+
+		String generatedSQL = sqlGenerator.selectByQueryWithWindowCount(query, parameterSource, PageRequest.of(2, 1));
+
+		assertThat(generatedSQL) //
+				.containsIgnoringCase("COUNT(*) OVER() AS window_count") //
+				.contains(":x_name") //
+				.containsIgnoringCase("OFFSET 2 LIMIT 1");
+	}
+
 	@Test // GH-1161
 	void backReferenceShouldConsiderRenamedParent() {
 
@@ -1043,6 +1130,13 @@ class SqlGeneratorUnitTests {
 		return PersistentPropertyPathTestUtils.getPath(path, baseType, context);
 	}
 
+	private Set<SqlIdentifier> upsertColumns(Class<?> type) {
+
+		RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(type);
+		return Set.of(entity.getRequiredIdProperty().getColumnName(),
+				entity.getRequiredPersistentProperty("name").getColumnName());
+	}
+
 	@SuppressWarnings("unused")
 	static class DummyEntity {
 
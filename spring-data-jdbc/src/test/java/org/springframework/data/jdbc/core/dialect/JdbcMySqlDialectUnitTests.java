@@ -24,6 +24,7 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.jdbc.core.convert.JdbcCustomConversions;
 import org.springframework.data.jdbc.core.mapping.JdbcValue;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
 
 /**
  * Tests for {@link JdbcMySqlDialect}.
@@ -44,4 +45,16 @@ class JdbcMySqlDialectUnitTests {
 			softly.assertThat(customConversions.getCustomWriteTarget(OffsetDateTime.class)).contains(JdbcValue.class);
 		});
 	}
+
+	@Test
+	void supportsWindowFunctionsOnlyWhenEnabled() {
+
+		assertSoftly(softly -> {
+
+			softly.assertThat(new JdbcMySqlDialect(IdentifierProcessing.ANSI).supportsWindowFunctions())
+					.isFalse();
+			softly.assertThat(new JdbcMySqlDialect(IdentifierProcessing.ANSI, true).supportsWindowFunctions())
+					.isTrue();
+		});
+	}
 }
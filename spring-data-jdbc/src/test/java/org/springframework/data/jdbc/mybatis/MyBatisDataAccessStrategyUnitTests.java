@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.stream.Stream;
 
 import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.SqlSession;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -34,7 +35,9 @@ import org.mockito.ArgumentCaptor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.PersistentPropertyPathTestUtils;
+import org.springframework.data.jdbc.core.convert.DataAccessOperation;
 import org.springframework.data.jdbc.core.convert.Identifier;
+import org.springframework.data.jdbc.core.convert.InsertSubject;
 import org.springframework.data.jdbc.core.dialect.JdbcH2Dialect;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
 import org.springframework.data.mapping.PersistentPropertyPath;
@@ -480,6 +483,92 @@ public class MyBatisDataAccessStrategyUnitTests {
 				);
 	}
 
+	@Test
+	public void supportsOperationsWithMappedStatement() {
+
+		Configuration configuration = mock(Configuration.class);
+		when(session.getConfiguration()).thenReturn(configuration);
+		when(configuration.hasStatement("java.lang.StringMapper.findById")).thenReturn(true);
+		when(configuration.hasStatement(
+				"org.springframework.data.jdbc.mybatis.MyBatisDataAccessStrategyUnitTests$DummyEntityMapper.delete-one-two"))
+				.thenReturn(true);
+
+		assertThat(accessStrategy.supports(DataAccessOperation.of("findById", String.class))).isTrue();
+		assertThat(accessStrategy.supports(DataAccessOperation.of("findAll", String.class))).isFalse();
+		assertThat(accessStrategy.supports(DataAccessOperation.of("delete", path))).isTrue();
+		assertThat(accessStrategy.supports(DataAccessOperation.of("deleteAll", path))).isFalse();
+	}
+
+	@Test
+	public void supportsBulkOperationsWithBatchOrSingleRowStatement() {
+
+		String namespace = "org.springframework.data.jdbc.mybatis.MyBatisDataAccessStrategyUnitTests$DummyEntityMapper";
+		Configuration configuration = mock(Configuration.class);
+		when(session.getConfiguration()).thenReturn(configuration);
+		when(configuration.hasStatement(namespace + ".insertBatch")).thenReturn(true);
+		when(configuration.hasStatement(namespace + ".deleteBatch-one-two")).thenReturn(true);
+		when(configuration.hasStatement(namespace + ".update")).thenReturn(true);
+		when(configuration.hasStatement("java.lang.StringMapper.delete")).thenReturn(true);
+
+		assertThat(accessStrategy.supports(DataAccessOperation.of("insertBatch", DummyEntity.class))).isTrue();
+		assertThat(accessStrategy.supports(DataAccessOperation.of("insert", DummyEntity.class))).isFalse();
+		assertThat(accessStrategy.supports(DataAccessOperation.of("deleteBatch", path))).isTrue();
+		assertThat(accessStrategy.supports(DataAccessOperation.of("delete", path))).isFalse();
+		assertThat(accessStrategy.supports(DataAccessOperation.of("deleteBatch", String.class))).isTrue();
+		assertThat(accessStrategy.supports(DataAccessOperation.of("updateAll", DummyEntity.class))).isTrue();
+		assertThat(accessStrategy.supports(DataAccessOperation.of("upsertAll", DummyEntity.class))).isFalse();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void insertsInBatches() {
+
+		Configuration configuration = mock(Configuration.class);
+		when(session.getConfiguration()).thenReturn(configuration);
+		when(configuration.hasStatement("java.lang.StringMapper.insertBatch")).thenReturn(true);
+		accessStrategy.setBatchSize(2);
+
+		Object[] ids = accessStrategy.insert(
+				asList(InsertSubject.describedBy("a", Identifier.empty()), InsertSubject.describedBy("b", Identifier.empty()),
+						InsertSubject.describedBy("c", Identifier.empty())),
+				String.class, IdValueSource.GENERATED);
+
+		ArgumentCaptor<List<MyBatisContext>> batchCaptor = ArgumentCaptor.forClass(List.class);
+		verify(session, times(2)).insert(eq("java.lang.StringMapper.insertBatch"), batchCaptor.capture());
+		verify(session, never()).insert(eq("java.lang.StringMapper.insert"), any());
+
+		assertThat(batchCaptor.getAllValues().get(0)).extracting(MyBatisContext::getInstance).containsExactly("a", "b");
+		assertThat(batchCaptor.getAllValues().get(1)).extracting(MyBatisContext::getInstance).containsExactly("c");
+		assertThat(ids).hasSize(3);
+	}
+
+	@Test
+	public void deletesIdsInBatches() {
+
+		Configuration configuration = mock(Configuration.class);
+		when(session.getConfiguration()).thenReturn(configuration);
+		when(configuration.hasStatement("java.lang.StringMapper.deleteBatch")).thenReturn(true);
+		accessStrategy.setBatchSize(2);
+
+		List<Object> ids = asList(1, 2, 3);
+		accessStrategy.delete(ids, String.class);
+
+		verify(session, times(2)).delete(eq("java.lang.StringMapper.deleteBatch"), captor.capture());
+
+		assertThat(captor.getAllValues()).extracting(MyBatisContext::getId).containsExactly(asList(1, 2), asList(3));
+	}
+
+	@Test
+	public void deletesIdsOneByOneWithoutBatchStatement() {
+
+		when(session.getConfiguration()).thenReturn(mock(Configuration.class));
+
+		List<Object> ids = asList(1, 2);
+		accessStrategy.delete(ids, String.class);
+
+		verify(session, times(2)).delete(eq("java.lang.StringMapper.delete"), any(MyBatisContext.class));
+	}
+
 	@SuppressWarnings("unused")
 	private static class DummyEntity {
 		ChildOne one;
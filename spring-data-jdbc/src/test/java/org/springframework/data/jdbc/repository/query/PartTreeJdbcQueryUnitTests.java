@@ -20,10 +20,12 @@ import static org.assertj.core.api.SoftAssertions.*;
 import static org.mockito.Mockito.*;
 
 import java.lang.reflect.Method;
+import java.sql.ResultSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import org.junit.jupiter.api.Test;
@@ -31,6 +33,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.MappingJdbcConverter;
 import org.springframework.data.jdbc.core.convert.RelationResolver;
@@ -54,6 +61,7 @@ import org.springframework.data.repository.core.support.PropertiesBasedNamedQuer
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
 /**
  * Unit tests for {@link PartTreeJdbcQuery}.
@@ -648,6 +656,38 @@ public class PartTreeJdbcQueryUnitTests {
 				.contains(" WHERE " + TABLE + ".\"FIRST_NAME\" = :first_name LIMIT 1");
 	}
 
+	@Test
+	void createsKeysetQueryForScrollPosition() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findTop3ByAgeOrderByLastNameAscFirstNameDesc", Integer.class,
+				ScrollPosition.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+		ScrollPosition position = ScrollPosition.forward(Map.of("lastName", "Doe", "firstName", "John"));
+		ParametrizedQuery query = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { 42, position }),
+				returnedType);
+
+		QueryAssert.assertThat(query).containsQuotedAliasedColumns(columns)
+				.contains(TABLE + ".\"AGE\" = :age") //
+				.contains(TABLE + ".\"LAST_NAME\" > :") //
+				.contains(TABLE + ".\"LAST_NAME\" = :") //
+				.contains(TABLE + ".\"FIRST_NAME\" < :") //
+				.contains(" ORDER BY " + TABLE + ".\"LAST_NAME\" ASC, " + TABLE + ".\"FIRST_NAME\" DESC LIMIT 4");
+	}
+
+	@Test
+	void createsOffsetQueryForScrollPosition() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findTop3ByAgeOrderByLastNameAscFirstNameDesc", Integer.class,
+				ScrollPosition.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+		ParametrizedQuery query = jdbcQuery
+				.createQuery(getAccessor(queryMethod, new Object[] { 42, ScrollPosition.offset(5) }), returnedType);
+
+		QueryAssert.assertThat(query).containsQuotedAliasedColumns(columns)
+				.contains(" WHERE " + TABLE + ".\"AGE\" = :age") //
+				.contains("OFFSET 6 ROWS FETCH FIRST 4 ROWS ONLY");
+	}
+
 	@Test // DATAJDBC-318
 	void createsQueryByEmbeddedObject() throws Exception {
 
@@ -693,6 +733,132 @@ public class PartTreeJdbcQueryUnitTests {
 				.isEqualTo("SELECT COUNT(*) FROM " + TABLE + " WHERE " + TABLE + ".\"FIRST_NAME\" = :first_name");
 	}
 
+	@Test
+	void reusesSqlForQueriesOfSameShape() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByFirstName", String.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+
+		ParametrizedQuery first = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { "John" }), returnedType);
+		ParametrizedQuery second = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { "Jane" }), returnedType);
+
+		assertThat(second.getQuery()).isSameAs(first.getQuery());
+		QueryAssert.assertThat(second).hasBindValue("first_name", "Jane");
+	}
+
+	@Test
+	void rendersSqlForEachSizeOfInCollection() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByAgeIn", Collection.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+
+		ParametrizedQuery single = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { List.of(1) }),
+				returnedType);
+		ParametrizedQuery triple = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { List.of(1, 2, 3) }),
+				returnedType);
+		ParametrizedQuery cached = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { List.of(4, 5, 6) }),
+				returnedType);
+
+		assertThat(single.getQuery()).contains(" WHERE " + TABLE + ".\"AGE\" IN (:age)");
+		assertThat(triple.getQuery()).contains(" WHERE " + TABLE + ".\"AGE\" IN (:age, :age1, :age2)");
+		assertThat(cached.getQuery()).isSameAs(triple.getQuery());
+		QueryAssert.assertThat(cached).hasBindValue("age", 4).hasBindValue("age1", 5).hasBindValue("age2", 6);
+	}
+
+	@Test
+	void reusesSqlForKeysetScrollPositions() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findTop3ByAgeOrderByLastNameAscFirstNameDesc", Integer.class,
+				ScrollPosition.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+
+		ParametrizedQuery first = jdbcQuery.createQuery(getAccessor(queryMethod,
+				new Object[] { 42, ScrollPosition.forward(Map.of("lastName", "Doe", "firstName", "John")) }), returnedType);
+		ParametrizedQuery second = jdbcQuery.createQuery(getAccessor(queryMethod,
+				new Object[] { 42, ScrollPosition.forward(Map.of("lastName", "Smith", "firstName", "Jane")) }), returnedType);
+		ParametrizedQuery offset = jdbcQuery
+				.createQuery(getAccessor(queryMethod, new Object[] { 42, ScrollPosition.offset(5) }), returnedType);
+
+		SqlParameterSource parameters = second.getParameterSource(Escaper.DEFAULT);
+
+		assertThat(second.getQuery()).isSameAs(first.getQuery());
+		assertThat(parameters.getParameterNames()).extracting(parameters::getValue).contains("Smith", "Jane");
+		assertThat(offset.getQuery()).isNotEqualTo(first.getQuery());
+	}
+
+	@Test
+	void cachesSqlOfFirstPageOnly() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findPageByFirstName", String.class, Pageable.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+
+		ParametrizedQuery first = jdbcQuery
+				.createQuery(getAccessor(queryMethod, new Object[] { "John", PageRequest.of(0, 10) }), returnedType);
+		ParametrizedQuery firstAgain = jdbcQuery
+				.createQuery(getAccessor(queryMethod, new Object[] { "Jane", PageRequest.of(0, 10) }), returnedType);
+		ParametrizedQuery second = jdbcQuery
+				.createQuery(getAccessor(queryMethod, new Object[] { "John", PageRequest.of(1, 10) }), returnedType);
+		ParametrizedQuery secondAgain = jdbcQuery
+				.createQuery(getAccessor(queryMethod, new Object[] { "Jane", PageRequest.of(1, 10) }), returnedType);
+
+		assertThat(firstAgain.getQuery()).isSameAs(first.getQuery());
+		assertThat(secondAgain.getQuery()).isEqualTo(second.getQuery()).isNotSameAs(second.getQuery());
+		QueryAssert.assertThat(secondAgain).hasBindValue("first_name", "Jane");
+	}
+
+	@Test
+	void selectsWindowCountForAnnotatedPageQuery() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findPageByFirstName", String.class, Pageable.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+
+		ParametrizedQuery query = jdbcQuery
+				.createQuery(getAccessor(queryMethod, new Object[] { "John", PageRequest.of(1, 10) }), returnedType);
+
+		assertThat(query.getQuery()).contains(", COUNT(*) OVER() AS window_count FROM " + TABLE)
+				.contains(" WHERE " + TABLE + ".\"FIRST_NAME\" = :first_name").contains("OFFSET 10");
+	}
+
+	@Test
+	void doesNotSelectWindowCountForUnpagedQuery() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findPageByFirstName", String.class, Pageable.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+
+		ParametrizedQuery query = jdbcQuery
+				.createQuery(getAccessor(queryMethod, new Object[] { "John", Pageable.unpaged() }), returnedType);
+
+		assertThat(query.getQuery()).doesNotContain("OVER()");
+	}
+
+	@Test
+	void windowCountRowMapperTakesTotalFromFirstRow() throws Exception {
+
+		ResultSet resultSet = mock(ResultSet.class);
+		when(resultSet.getLong("window_count")).thenReturn(42L);
+		when(resultSet.getString("first_name")).thenReturn("John", "Jane");
+
+		PartTreeJdbcQuery.WindowCountRowMapper<String> rowMapper = new PartTreeJdbcQuery.WindowCountRowMapper<>(
+				(rs, rowNum) -> rs.getString("first_name"));
+
+		assertThat(rowMapper.mapRow(resultSet, 0)).isEqualTo("John");
+		assertThat(rowMapper.mapRow(resultSet, 1)).isEqualTo("Jane");
+		assertThat(rowMapper.getCount(() -> {
+			throw new IllegalStateException("Count query must not run");
+		})).isEqualTo(42L);
+
+		verify(resultSet).getLong("window_count");
+	}
+
+	@Test
+	void windowCountRowMapperFallsBackToCountQueryForEmptyPage() {
+
+		PartTreeJdbcQuery.WindowCountRowMapper<String> rowMapper = new PartTreeJdbcQuery.WindowCountRowMapper<>(
+				(rs, rowNum) -> rs.getString("first_name"));
+
+		assertThat(rowMapper.getCount(() -> 23L)).isEqualTo(23L);
+	}
+
 	private PartTreeJdbcQuery createQuery(JdbcQueryMethod queryMethod) {
 		return new PartTreeJdbcQuery(mappingContext, queryMethod, JdbcH2Dialect.INSTANCE, converter,
 				mock(NamedParameterJdbcOperations.class), mock(RowMapper.class));
@@ -719,6 +885,11 @@ public class PartTreeJdbcQueryUnitTests {
 
 		List<User> findAllByFirstName(String firstName);
 
+		Window<User> findTop3ByAgeOrderByLastNameAscFirstNameDesc(Integer age, ScrollPosition position);
+
+		@WindowCount
+		Page<User> findPageByFirstName(String firstName, Pageable pageable);
+
 		List<User> findAllByHated(Hobby hobby);
 
 		List<User> findAllByHatedName(String name);
@@ -22,6 +22,7 @@ import org.apache.commons.logging.LogFactory;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.r2dbc.mapping.OutboundRow;
+import org.springframework.data.relational.core.conversion.SequenceValueAllocator;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
@@ -45,6 +46,7 @@ class SequenceEntityCallbackDelegate {
 
 	private final Dialect dialect;
 	private final DatabaseClient databaseClient;
+	private final SequenceValueAllocator allocator = new SequenceValueAllocator();
 
 	public SequenceEntityCallbackDelegate(Dialect dialect, DatabaseClient databaseClient) {
 		this.dialect = dialect;
@@ -102,6 +104,26 @@ class SequenceEntityCallbackDelegate {
 		}
 
 		String sql = dialect.getIdGeneration().createSequenceQuery(sequence);
+		int allocationSize = property.getSequenceAllocationSize();
+
+		if (allocationSize > 1) {
+
+			return Mono.defer(() -> {
+
+				Long pooled = allocator.poll(sequence);
+				if (pooled != null) {
+					return Mono.just(pooled);
+				}
+
+				return querySequence(sql).map(it -> allocator.allocate(sequence, it, allocationSize));
+			});
+		}
+
+		return querySequence(sql);
+	}
+
+	private Mono<Object> querySequence(String sql) {
+
 		return databaseClient //
 				.sql(sql) //
 				.map((r, rowMetadata) -> r.get(0)) //
@@ -325,6 +325,18 @@ public class DefaultReactiveDataAccessStrategy implements ReactiveDataAccessStra
 		return dialect;
 	}
 
+	/**
+	 * Return statistics of the cache holding parsed SQL statements used by
+	 * {@link #processNamedParameters(String, NamedParameterProvider)}. Each processed query performs two lookups.
+	 *
+	 * @return the current cache statistics.
+	 * @since 4.1
+	 */
+	public NamedParameterCacheStatistics getNamedParameterCacheStatistics() {
+		return new NamedParameterCacheStatistics(expander.getCacheHitCount(), expander.getCacheMissCount(),
+				expander.getCacheEvictionCount());
+	}
+
 	private RelationalPersistentEntity<?> getRequiredPersistentEntity(Class<?> typeToRead) {
 		return this.mappingContext.getRequiredPersistentEntity(typeToRead);
 	}
@@ -333,4 +345,15 @@ public class DefaultReactiveDataAccessStrategy implements ReactiveDataAccessStra
 	private RelationalPersistentEntity<?> getPersistentEntity(Class<?> typeToRead) {
 		return this.mappingContext.getPersistentEntity(typeToRead);
 	}
+
+	/**
+	 * Statistics of the cache holding parsed SQL statements with named parameters.
+	 *
+	 * @param hitCount number of lookups served from the cache.
+	 * @param missCount number of lookups that required parsing the SQL statement.
+	 * @param evictionCount number of parsed SQL statements evicted from the cache. Approximate under concurrent access.
+	 * @since 4.1
+	 */
+	public record NamedParameterCacheStatistics(long hitCount, long missCount, long evictionCount) {
+	}
 }
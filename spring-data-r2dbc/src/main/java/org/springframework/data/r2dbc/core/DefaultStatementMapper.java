@@ -53,6 +53,7 @@ class DefaultStatementMapper implements StatementMapper {
 	private final RenderContext renderContext;
 	private final UpdateMapper updateMapper;
 	private final MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> mappingContext;
+	private final StatementShapeCache statementCache = new StatementShapeCache();
 
 	DefaultStatementMapper(R2dbcDialect dialect, R2dbcConverter converter) {
 
@@ -130,7 +131,7 @@ class DefaultStatementMapper implements StatementMapper {
 		}
 
 		Select select = selectBuilder.build();
-		return new DefaultPreparedOperation<>(select, this.renderContext, bindings);
+		return createOperation(select, bindings, StatementShapeCache.getShape(selectSpec, entity));
 	}
 
 	protected List<Expression> getSelectList(SelectSpec selectSpec, @Nullable RelationalPersistentEntity<?> entity) {
@@ -179,7 +180,43 @@ class DefaultStatementMapper implements StatementMapper {
 			}
 		}
 
-		return new DefaultPreparedOperation<>(withBuild.build(), this.renderContext, bindings);
+		return createOperation(withBuild.build(), bindings, StatementShapeCache.getShape(insertSpec, entity));
+	}
+
+	@Override
+	public PreparedOperation<Upsert> getMappedObject(UpsertSpec upsertSpec) {
+		return getMappedObject(upsertSpec, null);
+	}
+
+	private PreparedOperation<Upsert> getMappedObject(UpsertSpec upsertSpec,
+			@Nullable RelationalPersistentEntity<?> entity) {
+
+		BindMarkers bindMarkers = this.dialect.getBindMarkersFactory().create();
+		Table table = Table.create(toSql(upsertSpec.getTable()));
+
+		BoundAssignments boundAssignments = this.updateMapper.getMappedObject(bindMarkers, upsertSpec.getAssignments(),
+				table, entity);
+
+		List<Column> columns = new ArrayList<>();
+		List<Expression> values = new ArrayList<>();
+		List<Column> key = new ArrayList<>();
+
+		for (Assignment assignment : boundAssignments.getAssignments()) {
+
+			if (assignment instanceof AssignValue assignValue) {
+
+				columns.add(assignValue.getColumn());
+				values.add(assignValue.getValue());
+
+				if (upsertSpec.getKey().contains(assignValue.getColumn().getName())) {
+					key.add(assignValue.getColumn());
+				}
+			}
+		}
+
+		Upsert upsert = StatementBuilder.upsert(table).columns(columns).values(values).key(key).build();
+
+		return createOperation(upsert, boundAssignments.getBindings(), StatementShapeCache.getShape(upsertSpec, entity));
 	}
 
 	@Override
@@ -219,7 +256,7 @@ class DefaultStatementMapper implements StatementMapper {
 			update = updateBuilder.build();
 		}
 
-		return new DefaultPreparedOperation<>(update, this.renderContext, bindings);
+		return createOperation(update, bindings, StatementShapeCache.getShape(updateSpec, entity));
 	}
 
 	@Override
@@ -255,7 +292,12 @@ class DefaultStatementMapper implements StatementMapper {
 			delete = deleteBuilder.build();
 		}
 
-		return new DefaultPreparedOperation<>(delete, this.renderContext, bindings);
+		return createOperation(delete, bindings, StatementShapeCache.getShape(deleteSpec, entity));
+	}
+
+	private <T> PreparedOperation<T> createOperation(T source, Bindings bindings,
+			StatementShapeCache.@Nullable StatementShape shape) {
+		return new DefaultPreparedOperation<>(source, this.renderContext, bindings, this.statementCache, shape);
 	}
 
 	private String toSql(SqlIdentifier identifier) {
@@ -266,7 +308,8 @@ class DefaultStatementMapper implements StatementMapper {
 	}
 
 	/**
-	 * Default implementation of {@link PreparedOperation}.
+	 * Default implementation of {@link PreparedOperation}. Rendered SQL is obtained from {@link StatementShapeCache} if
+	 * the operation has a {@link StatementShapeCache.StatementShape shape}.
 	 *
 	 * @param <T>
 	 */
@@ -275,12 +318,17 @@ class DefaultStatementMapper implements StatementMapper {
 		private final T source;
 		private final RenderContext renderContext;
 		private final Bindings bindings;
+		private final @Nullable StatementShapeCache statementCache;
+		private final StatementShapeCache.@Nullable StatementShape shape;
 
-		DefaultPreparedOperation(T source, RenderContext renderContext, Bindings bindings) {
+		DefaultPreparedOperation(T source, RenderContext renderContext, Bindings bindings,
+				@Nullable StatementShapeCache statementCache, StatementShapeCache.@Nullable StatementShape shape) {
 
 			this.source = source;
 			this.renderContext = renderContext;
 			this.bindings = bindings;
+			this.statementCache = statementCache;
+			this.shape = shape;
 		}
 
 		@Override
@@ -291,6 +339,15 @@ class DefaultStatementMapper implements StatementMapper {
 		@Override
 		public String toQuery() {
 
+			if (this.statementCache != null) {
+				return this.statementCache.getSql(this.shape, this::render);
+			}
+
+			return render();
+		}
+
+		private String render() {
+
 			SqlRenderer sqlRenderer = SqlRenderer.create(this.renderContext);
 
 			if (this.source instanceof Select) {
@@ -309,6 +366,10 @@ class DefaultStatementMapper implements StatementMapper {
 				return sqlRenderer.render((Delete) this.source);
 			}
 
+			if (this.source instanceof Upsert) {
+				return sqlRenderer.render((Upsert) this.source);
+			}
+
 			throw new IllegalStateException("Cannot render " + this.getSource());
 		}
 
@@ -352,6 +413,11 @@ class DefaultStatementMapper implements StatementMapper {
 			return DefaultStatementMapper.this.getMappedObject(deleteSpec, this.entity);
 		}
 
+		@Override
+		public PreparedOperation<?> getMappedObject(UpsertSpec upsertSpec) {
+			return DefaultStatementMapper.this.getMappedObject(upsertSpec, this.entity);
+		}
+
 		@Override
 		public RenderContext getRenderContext() {
 			return DefaultStatementMapper.this.getRenderContext();
@@ -15,15 +15,15 @@
  */
 package org.springframework.data.r2dbc.core;
 
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.r2dbc.core.PreparedOperation;
 import org.springframework.r2dbc.core.binding.BindMarkersFactory;
+import org.springframework.util.ConcurrentLruCache;
 
 /**
  * SQL translation support allowing the use of named parameters rather than native placeholders.
@@ -54,13 +54,7 @@ class NamedParameterExpander {
 	/**
 	 * Cache of original SQL String to ParsedSql representation.
 	 */
-	@SuppressWarnings("serial") private final Map<String, ParsedSql> parsedSqlCache = new LinkedHashMap<>(
-			DEFAULT_CACHE_LIMIT, 0.75f, true) {
-		@Override
-		protected boolean removeEldestEntry(Map.Entry<String, ParsedSql> eldest) {
-			return size() > getCacheLimit();
-		}
-	};
+	private volatile ParsedSqlCache parsedSqlCache = new ParsedSqlCache(DEFAULT_CACHE_LIMIT);
 
 	/**
 	 * Create a new enabled instance of {@link NamedParameterExpander}.
@@ -68,10 +62,12 @@ class NamedParameterExpander {
 	public NamedParameterExpander() {}
 
 	/**
-	 * Specify the maximum number of entries for the SQL cache. Default is 256.
+	 * Specify the maximum number of entries for the SQL cache. Default is 256. Changing the limit discards the cached
+	 * entries and resets the cache statistics.
 	 */
 	public void setCacheLimit(int cacheLimit) {
 		this.cacheLimit = cacheLimit;
+		this.parsedSqlCache = new ParsedSqlCache(cacheLimit);
 	}
 
 	/**
@@ -81,30 +77,39 @@ class NamedParameterExpander {
 		return this.cacheLimit;
 	}
 
+	/**
+	 * Return the number of lookups served from the SQL cache since the cache limit was last set.
+	 */
+	public long getCacheHitCount() {
+		return this.parsedSqlCache.getHitCount();
+	}
+
+	/**
+	 * Return the number of lookups that required parsing the SQL statement since the cache limit was last set.
+	 */
+	public long getCacheMissCount() {
+		return this.parsedSqlCache.getMissCount();
+	}
+
+	/**
+	 * Return the number of parsed SQL statements evicted from the SQL cache since the cache limit was last set. The
+	 * count is approximate under concurrent access as the same statement may be parsed by multiple threads.
+	 */
+	public long getCacheEvictionCount() {
+		return this.parsedSqlCache.getEvictionCount();
+	}
+
 	/**
 	 * Obtain a parsed representation of the given SQL statement.
 	 * <p>
-	 * The default implementation uses an LRU cache with an upper limit of 256 entries.
+	 * The default implementation uses a concurrent LRU cache with an upper limit of 256 entries.
 	 *
 	 * @param sql the original SQL statement
 	 * @return a representation of the parsed SQL statement
 	 */
 	private ParsedSql getParsedSql(String sql) {
 
-		if (getCacheLimit() <= 0) {
-			return NamedParameterUtils.parseSqlStatement(sql);
-		}
-
-		synchronized (this.parsedSqlCache) {
-
-			ParsedSql parsedSql = this.parsedSqlCache.get(sql);
-			if (parsedSql == null) {
-
-				parsedSql = NamedParameterUtils.parseSqlStatement(sql);
-				this.parsedSqlCache.put(sql, parsedSql);
-			}
-			return parsedSql;
-		}
+		return this.parsedSqlCache.get(sql);
 	}
 
 	/**
@@ -149,4 +154,40 @@ class NamedParameterExpander {
 	public List<String> getParameterNames(String sql) {
 		return getParsedSql(sql).getParameterNames();
 	}
+
+	/**
+	 * {@link ConcurrentLruCache} of {@link ParsedSql} recording cache statistics. A cache limit of zero or less disables
+	 * caching, in which case every lookup is a miss.
+	 */
+	private static class ParsedSqlCache {
+
+		private final ConcurrentLruCache<String, ParsedSql> cache;
+		private final LongAdder lookups = new LongAdder();
+		private final LongAdder misses = new LongAdder();
+
+		ParsedSqlCache(int cacheLimit) {
+			this.cache = new ConcurrentLruCache<>(Math.max(cacheLimit, 0), sql -> {
+				misses.increment();
+				return NamedParameterUtils.parseSqlStatement(sql);
+			});
+		}
+
+		ParsedSql get(String sql) {
+
+			lookups.increment();
+			return cache.get(sql);
+		}
+
+		long getHitCount() {
+			return Math.max(0, lookups.sum() - misses.sum());
+		}
+
+		long getMissCount() {
+			return misses.sum();
+		}
+
+		long getEvictionCount() {
+			return cache.capacity() == 0 ? 0 : Math.max(0, misses.sum() - cache.size());
+		}
+	}
 }
@@ -23,6 +23,7 @@ import reactor.core.publisher.Mono;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import org.reactivestreams.Publisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.TransientDataAccessResourceException;
 import org.springframework.data.r2dbc.convert.R2dbcConverter;
@@ -266,6 +267,18 @@ public interface R2dbcEntityOperations extends FluentR2dbcOperations {
 	 */
 	<T> Mono<T> insert(T entity) throws DataAccessException;
 
+	/**
+	 * Insert the given entities and emit the entities if the insert was applied. Entities are collected into chunks
+	 * and entities of a chunk that render to the same {@code INSERT} statement are inserted with a single batched
+	 * statement. Generated identifiers are assigned to the emitted entities.
+	 *
+	 * @param entities the entities to insert, must not be {@literal null}.
+	 * @return the inserted entities in the order of {@code entities}.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @since 4.1
+	 */
+	<T> Flux<T> insertAll(Publisher<T> entities) throws DataAccessException;
+
 	/**
 	 * Update the given entity and emit the entity if the update was applied.
 	 *
@@ -278,6 +291,46 @@ public interface R2dbcEntityOperations extends FluentR2dbcOperations {
 	 */
 	<T> Mono<T> update(T entity) throws DataAccessException;
 
+	/**
+	 * Update the given entities and emit the entities if the update was applied. Entities are collected into chunks
+	 * and entities of a chunk that render to the same {@code UPDATE} statement are updated with a single batched
+	 * statement.
+	 *
+	 * @param entities the entities to update, must not be {@literal null}.
+	 * @return the updated entities in the order of {@code entities}.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @throws org.springframework.dao.OptimisticLockingFailureException in case of version mismatch in case a
+	 *           {@link org.springframework.data.annotation.Version} is defined.
+	 * @since 4.1
+	 */
+	<T> Flux<T> updateAll(Publisher<T> entities) throws DataAccessException;
+
+	/**
+	 * Insert the given entity or update the row with the same id if it exists, using a single statement such as
+	 * {@code MERGE} or {@code INSERT … ON CONFLICT … DO UPDATE}, depending on the dialect. The id of the entity must be
+	 * set.
+	 *
+	 * @param entity the entity to upsert, must not be {@literal null}.
+	 * @return the upserted entity.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @throws IllegalStateException if the entity is versioned.
+	 * @since 4.1
+	 */
+	<T> Mono<T> upsert(T entity) throws DataAccessException;
+
+	/**
+	 * Insert the given entities or update the rows with the same id if they exist, see {@link #upsert(Object)}. Entities
+	 * are collected into chunks and entities of a chunk that render to the same statement are upserted with a single
+	 * batched statement. The ids of the entities must be set.
+	 *
+	 * @param entities the entities to upsert, must not be {@literal null}.
+	 * @return the upserted entities in the order of {@code entities}.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @throws IllegalStateException if an entity is versioned.
+	 * @since 4.1
+	 */
+	<T> Flux<T> upsertAll(Publisher<T> entities) throws DataAccessException;
+
 	/**
 	 * Delete the given entity and emit the entity if the delete was applied.
 	 *
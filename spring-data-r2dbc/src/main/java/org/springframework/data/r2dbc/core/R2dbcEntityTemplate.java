@@ -16,12 +16,14 @@
 package org.springframework.data.r2dbc.core;
 
 import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Result;
 import io.r2dbc.spi.Row;
 import io.r2dbc.spi.RowMetadata;
 import io.r2dbc.spi.Statement;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -43,6 +45,9 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.mapping.IdentifierAccessor;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
@@ -73,12 +78,14 @@ import org.springframework.data.relational.core.sql.Functions;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.core.sql.Table;
 import org.springframework.data.relational.domain.RowDocument;
+import org.springframework.data.support.ReactivePageableExecutionUtils;
 import org.springframework.data.util.Predicates;
 import org.springframework.data.util.ProxyUtils;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.r2dbc.core.Parameter;
 import org.springframework.r2dbc.core.PreparedOperation;
 import org.springframework.r2dbc.core.RowsFetchSpec;
+import org.springframework.r2dbc.core.binding.BindTarget;
 import org.springframework.util.Assert;
 
 /**
@@ -101,6 +108,16 @@ import org.springframework.util.Assert;
  */
 public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAware, ApplicationContextAware {
 
+	private static final int DEFAULT_BATCH_SIZE = 1000;
+
+	/**
+	 * Alias of the column holding the total number of rows matching a query selected along with a page of these rows.
+	 */
+	private static final String WINDOW_COUNT_COLUMN = "window_count";
+
+	private static final Expression WINDOW_COUNT_EXPRESSION = Expressions
+			.just("COUNT(*) OVER() AS " + WINDOW_COUNT_COLUMN);
+
 	private final DatabaseClient databaseClient;
 
 	private final ReactiveDataAccessStrategy dataAccessStrategy;
@@ -115,6 +132,8 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 	private Function<Statement, Statement> statementFilterFunction = Function.identity();
 
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
 	/**
 	 * Create a new {@link R2dbcEntityTemplate} given {@link ConnectionFactory}.
 	 *
@@ -190,6 +209,21 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		this.statementFilterFunction = statementFilterFunction;
 	}
 
+	/**
+	 * Set the maximum number of entities that {@link #insertAll(Publisher)}, {@link #updateAll(Publisher)} and
+	 * {@link #upsertAll(Publisher)} collect from the incoming {@link Publisher} before running them as a batch. Defaults
+	 * to {@code 1000}.
+	 *
+	 * @param batchSize must be greater than zero.
+	 * @since 4.1
+	 */
+	public void setBatchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero");
+
+		this.batchSize = batchSize;
+	}
+
 	@Override
 	public DatabaseClient getDatabaseClient() {
 		return this.databaseClient;
@@ -358,11 +392,75 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 	private <T> RowsFetchSpec<T> doSelect(Query query, Class<?> entityType, SqlIdentifier tableName, Class<T> returnType,
 			Function<? super Statement, ? extends Statement> filterFunction) {
 
+		PreparedOperation<?> operation = getSelectOperation(query, entityType, tableName, returnType,
+				Collections.emptyList());
+
+		return getRowsFetchSpec(databaseClient.sql(operation).filter(statementFilterFunction.andThen(filterFunction)),
+				entityType, returnType);
+	}
+
+	/**
+	 * Select the page of {@code returnType} objects matching {@link Query} as requested by {@link Pageable}. The total
+	 * number of matching rows is selected as additional column {@code COUNT(*) OVER()} if the dialect
+	 * {@link org.springframework.data.relational.core.dialect.Dialect#supportsWindowFunctions() supports window
+	 * functions}, saving a separate count query. The count query is still issued if the requested page is empty or the
+	 * dialect does not support window functions.
+	 */
+	<T> Mono<Page<T>> doSelectPage(Query query, Class<?> entityClass, SqlIdentifier tableName, Class<T> returnType,
+			Pageable pageable, @Nullable Integer fetchSize) {
+
+		Query pageQuery = query.with(pageable);
+		Mono<Long> count = Mono.defer(() -> doCount(query, entityClass, tableName));
+
+		if (pageable.isUnpaged() || !dataAccessStrategy.getDialect().supportsWindowFunctions()) {
+
+			Flux<T> content = doSelect(pageQuery, entityClass, tableName, returnType, RowsFetchSpec::all, fetchSize);
+			return content.collectList().flatMap(it -> ReactivePageableExecutionUtils.getPage(it, pageable, count));
+		}
+
+		PreparedOperation<?> operation = getSelectOperation(pageQuery, entityClass, tableName, returnType,
+				List.of(WINDOW_COUNT_EXPRESSION));
+		BiFunction<Row, RowMetadata, T> rowMapper = getRowMapper(entityClass, returnType);
+		Function<? super Statement, ? extends Statement> filterFunction = fetchSize != null
+				? statement -> statement.fetchSize(fetchSize)
+				: Function.identity();
+
+		return databaseClient.sql(operation) //
+				.filter(statementFilterFunction.andThen(filterFunction)) //
+				.map((row, metadata) -> new WindowCountRow<>(rowMapper.apply(row, metadata), getWindowCount(row))) //
+				.all() //
+				.collectList() //
+				.flatMap(rows -> {
+
+					if (rows.isEmpty()) {
+						return ReactivePageableExecutionUtils.getPage(Collections.<T> emptyList(), pageable, count);
+					}
+
+					long total = rows.get(0).total();
+
+					return Flux.fromIterable(rows) //
+							.mapNotNull(WindowCountRow::value) //
+							.concatMap(it -> maybeCallAfterConvert(it, tableName)) //
+							.collectList() //
+							.<Page<T>> map(content -> new PageImpl<>(content, pageable, total));
+				});
+	}
+
+	private static long getWindowCount(Row row) {
+
+		Number count = row.get(WINDOW_COUNT_COLUMN, Number.class);
+		return count != null ? count.longValue() : 0;
+	}
+
+	private PreparedOperation<?> getSelectOperation(Query query, Class<?> entityType, SqlIdentifier tableName,
+			Class<?> returnType, List<Expression> additionalExpressions) {
+
 		StatementMapper statementMapper = dataAccessStrategy.getStatementMapper().forType(entityType);
 
 		StatementMapper.SelectSpec selectSpec = statementMapper //
 				.createSelect(tableName) //
-				.doWithTable((table, spec) -> spec.withProjection(getSelectProjection(table, query, entityType, returnType)));
+				.doWithTable((table, spec) -> spec.withProjection(getSelectProjection(table, query, entityType, returnType))) //
+				.withProjection(additionalExpressions);
 
 		if (query.getLimit() > 0) {
 			selectSpec = selectSpec.limit(query.getLimit());
@@ -381,10 +479,7 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 			selectSpec = criteria.map(selectSpec::withCriteria).orElse(selectSpec);
 		}
 
-		PreparedOperation<?> operation = statementMapper.getMappedObject(selectSpec);
-
-		return getRowsFetchSpec(databaseClient.sql(operation).filter(statementFilterFunction.andThen(filterFunction)),
-				entityType, returnType);
+		return statementMapper.getMappedObject(selectSpec);
 	}
 
 	@Override
@@ -500,6 +595,22 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 	}
 
 	<T> Mono<T> doInsert(T entity, SqlIdentifier tableName) {
+		return prepareInsert(entity, tableName).flatMap(insert -> doInsert(insert.entity(), tableName, insert.outboundRow()));
+	}
+
+	@Override
+	public <T> Flux<T> insertAll(Publisher<T> entities) throws DataAccessException {
+
+		Assert.notNull(entities, "Entities must not be null");
+
+		return Flux.from(entities).buffer(batchSize).concatMap(chunk -> Flux.fromIterable(chunk) //
+				.concatMap(entity -> prepareInsert(entity, getRequiredEntity(entity).getQualifiedTableName())) //
+				.collectList() //
+				.flatMapMany(inserts -> Flux.fromIterable(groupConsecutive(inserts, PreparedWrite::insertKey))) //
+				.concatMap(this::doInsertBatch));
+	}
+
+	private <T> Mono<PreparedWrite<T>> prepareInsert(T entity, SqlIdentifier tableName) {
 
 		RelationalPersistentEntity<T> persistentEntity = getRequiredEntity(entity);
 
@@ -512,10 +623,54 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 			potentiallyRemoveId(persistentEntity, outboundRow);
 
 			return maybeCallBeforeSave(initializedEntity, outboundRow, tableName) //
-					.flatMap(entityToSave -> doInsert(entityToSave, tableName, outboundRow));
+					.map(entityToSave -> new PreparedWrite<>(entityToSave, tableName, outboundRow, null, null));
 		});
 	}
 
+	/**
+	 * Insert entities sharing the same table and columns with a single {@link Statement} that gets a binding for each
+	 * entity through {@link Statement#add()}. Generated ids are assigned to the entities in the order of the returned
+	 * rows.
+	 */
+	private <T> Flux<T> doInsertBatch(List<PreparedWrite<T>> inserts) {
+
+		PreparedWrite<T> first = inserts.get(0);
+
+		if (inserts.size() == 1) {
+			return doInsert(first.entity(), first.tableName(), first.outboundRow()).flux();
+		}
+
+		StatementMapper mapper = dataAccessStrategy.getStatementMapper();
+		List<PreparedOperation<?>> operations = inserts.stream()
+				.map(insert -> mapper.getMappedObject(createInsertSpec(mapper, insert.tableName(), insert.outboundRow())))
+				.collect(Collectors.toList());
+		List<SqlIdentifier> identifierColumns = dataAccessStrategy.getIdentifierColumns(first.entity().getClass());
+		List<T> entities = inserts.stream().map(PreparedWrite::entity).collect(Collectors.toCollection(ArrayList::new));
+		String sql = operations.get(0).toQuery();
+
+		return this.databaseClient.inConnectionMany(connection -> {
+
+			Statement statement = statementFilterFunction.apply(bind(connection.createStatement(sql), operations));
+			statement = identifierColumns.isEmpty() ? statement.returnGeneratedValues()
+					: statement.returnGeneratedValues(dataAccessStrategy.renderForGeneratedValues(identifierColumns.get(0)));
+
+			int[] index = new int[1];
+
+			return Flux.from(statement.execute()).concatMap(result -> result.map((row, metadata) -> {
+
+				int current = index[0]++;
+
+				Assert.state(current < entities.size(), "Batch insert returned more generated keys than inserted rows");
+
+				T saved = this.dataAccessStrategy.getConverter().populateIdIfNecessary(entities.get(current)).apply(row,
+						metadata);
+				entities.set(current, saved);
+				return saved;
+			}));
+		}).then(Mono.just(entities)).flatMapMany(saved -> Flux.range(0, saved.size()).concatMap(
+				i -> maybeCallAfterSave(saved.get(i), inserts.get(i).outboundRow(), inserts.get(i).tableName())));
+	}
+
 	private void potentiallyRemoveId(RelationalPersistentEntity<?> persistentEntity, OutboundRow outboundRow) {
 
 		RelationalPersistentProperty idProperty = persistentEntity.getIdProperty();
@@ -547,16 +702,7 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 	private <T> Mono<T> doInsert(T entity, SqlIdentifier tableName, OutboundRow outboundRow) {
 
 		StatementMapper mapper = dataAccessStrategy.getStatementMapper();
-		StatementMapper.InsertSpec insert = mapper.createInsert(tableName);
-
-		for (SqlIdentifier column : outboundRow.keySet()) {
-			Parameter settableValue = outboundRow.get(column);
-			if (settableValue.hasValue()) {
-				insert = insert.withColumn(column, settableValue);
-			}
-		}
-
-		PreparedOperation<?> operation = mapper.getMappedObject(insert);
+		PreparedOperation<?> operation = mapper.getMappedObject(createInsertSpec(mapper, tableName, outboundRow));
 
 		List<SqlIdentifier> identifierColumns = dataAccessStrategy.getIdentifierColumns(entity.getClass());
 
@@ -575,6 +721,21 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 				.last(entity).flatMap(saved -> maybeCallAfterSave(saved, outboundRow, tableName));
 	}
 
+	private static StatementMapper.InsertSpec createInsertSpec(StatementMapper mapper, SqlIdentifier tableName,
+			OutboundRow outboundRow) {
+
+		StatementMapper.InsertSpec insert = mapper.createInsert(tableName);
+
+		for (SqlIdentifier column : outboundRow.keySet()) {
+			Parameter settableValue = outboundRow.get(column);
+			if (settableValue.hasValue()) {
+				insert = insert.withColumn(column, settableValue);
+			}
+		}
+
+		return insert;
+	}
+
 	@SuppressWarnings("unchecked")
 	private <T> T setVersionIfNecessary(RelationalPersistentEntity<T> persistentEntity, T entity) {
 
@@ -604,6 +765,26 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 		RelationalPersistentEntity<T> persistentEntity = getRequiredEntity(entity);
 
+		return prepareUpdate(entity, tableName).flatMap(update -> doUpdate(update.entity(), update.version(), tableName,
+				persistentEntity, update.getRequiredCriteria(), update.outboundRow()));
+	}
+
+	@Override
+	public <T> Flux<T> updateAll(Publisher<T> entities) throws DataAccessException {
+
+		Assert.notNull(entities, "Entities must not be null");
+
+		return Flux.from(entities).buffer(batchSize).concatMap(chunk -> Flux.fromIterable(chunk) //
+				.concatMap(entity -> prepareUpdate(entity, getRequiredEntity(entity).getQualifiedTableName())) //
+				.collectList() //
+				.flatMapMany(updates -> Flux.fromIterable(groupConsecutive(updates, PreparedWrite::updateKey))) //
+				.concatMap(this::doUpdateBatch));
+	}
+
+	private <T> Mono<PreparedWrite<T>> prepareUpdate(T entity, SqlIdentifier tableName) {
+
+		RelationalPersistentEntity<T> persistentEntity = getRequiredEntity(entity);
+
 		return maybeCallBeforeConvert(entity, tableName).flatMap(onBeforeConvert -> {
 
 			T entityToUse;
@@ -660,21 +841,67 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 							criteria = criteria.and(matchingVersionCriteria);
 						}
 
-						return doUpdate(onBeforeSave, version, tableName, persistentEntity, criteria, outboundRow);
+						return Mono.just(new PreparedWrite<>(onBeforeSave, tableName, outboundRow, criteria, version));
 					});
 		});
 	}
 
+	/**
+	 * Update entities sharing the same table, columns and criteria with a single {@link Statement} that gets a binding
+	 * for each entity through {@link Statement#add()}. Versioned entities require a row count for each binding to verify
+	 * the version check and get updated one by one unless the {@link R2dbcDialect#supportsBatchUpdateCounts() dialect}
+	 * declares that the driver reports them.
+	 */
+	private <T> Flux<T> doUpdateBatch(List<PreparedWrite<T>> updates) {
+
+		PreparedWrite<T> first = updates.get(0);
+		RelationalPersistentEntity<T> persistentEntity = getRequiredEntity(first.entity());
+
+		if (updates.size() == 1 || (persistentEntity.hasVersionProperty() && !supportsBatchUpdateCounts())) {
+			return Flux.fromIterable(updates).concatMap(update -> doUpdate(update.entity(), update.version(),
+					update.tableName(), persistentEntity, update.getRequiredCriteria(), update.outboundRow()));
+		}
+
+		StatementMapper mapper = dataAccessStrategy.getStatementMapper();
+		List<PreparedOperation<?>> operations = updates.stream().map(update -> mapper
+				.getMappedObject(createUpdateSpec(mapper, update.tableName(), update.getRequiredCriteria(), update.outboundRow())))
+				.collect(Collectors.toList());
+		String sql = operations.get(0).toQuery();
+
+		return this.databaseClient.inConnectionMany(connection -> {
+
+			Statement statement = statementFilterFunction.apply(bind(connection.createStatement(sql), operations));
+			return Flux.from(statement.execute()).concatMap(Result::getRowsUpdated);
+		}).collectList().flatMapMany(rowsUpdated -> {
+
+			if (persistentEntity.hasVersionProperty()) {
+
+				// bindings without a reported row count cannot be verified
+				for (int i = 0; i < Math.min(updates.size(), rowsUpdated.size()); i++) {
+					if (rowsUpdated.get(i) == 0) {
+
+						PreparedWrite<T> update = updates.get(i);
+						return Flux.error(OptimisticLockingUtils.updateFailed(update.entity(), update.version(), persistentEntity));
+					}
+				}
+			}
+
+			return Flux.fromIterable(updates)
+					.concatMap(update -> maybeCallAfterSave(update.entity(), update.outboundRow(), update.tableName()));
+		});
+	}
+
+	private boolean supportsBatchUpdateCounts() {
+		return dataAccessStrategy.getDialect() instanceof R2dbcDialect dialect && dialect.supportsBatchUpdateCounts();
+	}
+
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	private <T> Mono<T> doUpdate(T entity, @Nullable Object version, SqlIdentifier tableName,
 			RelationalPersistentEntity<T> persistentEntity,
 			Criteria criteria, OutboundRow outboundRow) {
 
-		Update update = Update.from((Map) outboundRow);
 		StatementMapper mapper = dataAccessStrategy.getStatementMapper();
-		StatementMapper.UpdateSpec updateSpec = mapper.createUpdate(tableName, update).withCriteria(criteria);
-
-		PreparedOperation<?> operation = mapper.getMappedObject(updateSpec);
+		PreparedOperation<?> operation = mapper.getMappedObject(createUpdateSpec(mapper, tableName, criteria, outboundRow));
 
 		return this.databaseClient.sql(operation) //
 				.filter(statementFilterFunction) //
@@ -692,6 +919,114 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 				}).then(maybeCallAfterSave(entity, outboundRow, tableName));
 	}
 
+	@Override
+	public <T> Mono<T> upsert(T entity) throws DataAccessException {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		SqlIdentifier tableName = getRequiredUpsertEntity(entity).getQualifiedTableName();
+
+		return prepareUpsert(entity, tableName).flatMap(this::doUpsert);
+	}
+
+	@Override
+	public <T> Flux<T> upsertAll(Publisher<T> entities) throws DataAccessException {
+
+		Assert.notNull(entities, "Entities must not be null");
+
+		return Flux.from(entities).buffer(batchSize).concatMap(chunk -> Flux.fromIterable(chunk) //
+				.concatMap(entity -> prepareUpsert(entity, getRequiredUpsertEntity(entity).getQualifiedTableName())) //
+				.collectList() //
+				.flatMapMany(upserts -> Flux.fromIterable(groupConsecutive(upserts, PreparedWrite::upsertKey))) //
+				.concatMap(this::doUpsertBatch));
+	}
+
+	private <T> RelationalPersistentEntity<T> getRequiredUpsertEntity(T entity) {
+
+		RelationalPersistentEntity<T> persistentEntity = getRequiredEntity(entity);
+
+		Assert.state(!persistentEntity.hasVersionProperty(),
+				() -> "Versioned entity %s cannot be upserted".formatted(persistentEntity.getName()));
+
+		return persistentEntity;
+	}
+
+	private <T> Mono<PreparedWrite<T>> prepareUpsert(T entity, SqlIdentifier tableName) {
+
+		RelationalPersistentEntity<T> persistentEntity = getRequiredEntity(entity);
+
+		return maybeCallBeforeConvert(entity, tableName).flatMap(onBeforeConvert -> {
+
+			OutboundRow outboundRow = dataAccessStrategy.getOutboundRow(onBeforeConvert);
+
+			return maybeCallBeforeSave(onBeforeConvert, outboundRow, tableName) //
+					.map(onBeforeSave -> {
+
+						List<SqlIdentifier> identifierColumns = dataAccessStrategy.getIdentifierColumns(persistentEntity.getType());
+						Assert.state(!identifierColumns.isEmpty(), onBeforeSave + " has no Identifier. Upsert is not possible.");
+
+						for (SqlIdentifier identifierColumn : identifierColumns) {
+							Assert.state(!shouldSkipIdValue(outboundRow.get(identifierColumn)),
+									() -> onBeforeSave + " must have its id set to be upserted");
+						}
+
+						return new PreparedWrite<>(onBeforeSave, tableName, outboundRow, null, null);
+					});
+		});
+	}
+
+	private <T> Mono<T> doUpsert(PreparedWrite<T> upsert) {
+
+		PreparedOperation<?> operation = createUpsertOperation(dataAccessStrategy.getStatementMapper(), upsert);
+
+		return this.databaseClient.sql(operation) //
+				.filter(statementFilterFunction) //
+				.fetch() //
+				.rowsUpdated() //
+				.then(maybeCallAfterSave(upsert.entity(), upsert.outboundRow(), upsert.tableName()));
+	}
+
+	/**
+	 * Upsert entities sharing the same table and columns with a single {@link Statement} that gets a binding for each
+	 * entity through {@link Statement#add()}.
+	 */
+	private <T> Flux<T> doUpsertBatch(List<PreparedWrite<T>> upserts) {
+
+		if (upserts.size() == 1) {
+			return doUpsert(upserts.get(0)).flux();
+		}
+
+		StatementMapper mapper = dataAccessStrategy.getStatementMapper();
+		List<PreparedOperation<?>> operations = upserts.stream().map(upsert -> createUpsertOperation(mapper, upsert))
+				.collect(Collectors.toList());
+		String sql = operations.get(0).toQuery();
+
+		return this.databaseClient.inConnectionMany(connection -> {
+
+			Statement statement = statementFilterFunction.apply(bind(connection.createStatement(sql), operations));
+			return Flux.from(statement.execute()).concatMap(Result::getRowsUpdated);
+		}).thenMany(Flux.fromIterable(upserts)
+				.concatMap(upsert -> maybeCallAfterSave(upsert.entity(), upsert.outboundRow(), upsert.tableName())));
+	}
+
+	private PreparedOperation<?> createUpsertOperation(StatementMapper mapper, PreparedWrite<?> upsert) {
+
+		List<SqlIdentifier> identifierColumns = dataAccessStrategy.getIdentifierColumns(upsert.entity().getClass());
+		StatementMapper.UpsertSpec spec = mapper.createUpsert(upsert.tableName()).withKey(identifierColumns);
+
+		for (SqlIdentifier column : upsert.outboundRow().keySet()) {
+			spec = spec.withColumn(column, upsert.outboundRow().get(column));
+		}
+
+		return mapper.getMappedObject(spec);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static StatementMapper.UpdateSpec createUpdateSpec(StatementMapper mapper, SqlIdentifier tableName,
+			Criteria criteria, OutboundRow outboundRow) {
+		return mapper.createUpdate(tableName, Update.from((Map) outboundRow)).withCriteria(criteria);
+	}
+
 	@SuppressWarnings("unchecked")
 	private <T> T incrementVersion(RelationalPersistentEntity<T> persistentEntity, T entity) {
 
@@ -870,11 +1205,22 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		return properties.stream().map(table::column).collect(Collectors.toList());
 	}
 
-	@SuppressWarnings("unchecked")
 	public <T> RowsFetchSpec<T> getRowsFetchSpec(DatabaseClient.GenericExecuteSpec executeSpec, Class<?> entityType,
 			Class<T> resultType) {
 
-		boolean simpleType = getConverter().isSimpleType(resultType);
+		BiFunction<Row, RowMetadata, T> rowMapper = getRowMapper(entityType, resultType);
+
+		// avoid top-level null values if the read type is a simple one (e.g. SELECT MAX(age) via Integer.class)
+		if (getConverter().isSimpleType(resultType)) {
+			return new UnwrapOptionalFetchSpecAdapter<>(
+					executeSpec.map((row, metadata) -> Optional.ofNullable(rowMapper.apply(row, metadata))));
+		}
+
+		return executeSpec.map(rowMapper);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> BiFunction<Row, RowMetadata, T> getRowMapper(Class<?> entityType, Class<T> resultType) {
 
 		BiFunction<Row, RowMetadata, T> rowMapper;
 
@@ -884,7 +1230,7 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 
 			ConversionService conversionService = relationalConverter.getConversionService();
 			rowMapper = (row, rowMetadata) -> (T) conversionService.convert(row, resultType);
-		} else if (simpleType) {
+		} else if (getConverter().isSimpleType(resultType)) {
 			rowMapper = dataAccessStrategy.getRowMapper(resultType);
 		} else {
 
@@ -899,13 +1245,15 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 			};
 		}
 
-		// avoid top-level null values if the read type is a simple one (e.g. SELECT MAX(age) via Integer.class)
-		if (simpleType) {
-			return new UnwrapOptionalFetchSpecAdapter<>(
-					executeSpec.map((row, metadata) -> Optional.ofNullable(rowMapper.apply(row, metadata))));
-		}
+		return rowMapper;
+	}
 
-		return executeSpec.map(rowMapper);
+	/**
+	 * Value read from a row selected along with the total number of matching rows.
+	 *
+	 * @param <T>
+	 */
+	private record WindowCountRow<T>(@Nullable T value, long total) {
 	}
 
 	/**
@@ -931,6 +1279,141 @@ public class R2dbcEntityTemplate implements R2dbcEntityOperations, BeanFactoryAw
 		}
 	}
 
+	/**
+	 * Split {@code writes} into runs of consecutive elements with an equal key, retaining their order.
+	 */
+	private static <T> List<List<PreparedWrite<T>>> groupConsecutive(List<PreparedWrite<T>> writes,
+			Function<PreparedWrite<T>, Object> keyFunction) {
+
+		List<List<PreparedWrite<T>>> groups = new ArrayList<>();
+		@Nullable Object currentKey = null;
+
+		for (PreparedWrite<T> write : writes) {
+
+			Object key = keyFunction.apply(write);
+
+			if (groups.isEmpty() || !key.equals(currentKey)) {
+				groups.add(new ArrayList<>());
+				currentKey = key;
+			}
+
+			groups.get(groups.size() - 1).add(write);
+		}
+
+		return groups;
+	}
+
+	/**
+	 * Bind each of the {@code operations} to {@code statement}, separating the bindings of subsequent operations with
+	 * {@link Statement#add()}.
+	 */
+	private static Statement bind(Statement statement, List<PreparedOperation<?>> operations) {
+
+		BindTarget bindTarget = new StatementBindTarget(statement);
+
+		for (int i = 0; i < operations.size(); i++) {
+
+			if (i > 0) {
+				statement.add();
+			}
+
+			operations.get(i).bindTo(bindTarget);
+		}
+
+		return statement;
+	}
+
+	/**
+	 * An entity prepared for writing along with its {@link OutboundRow}, after running the before-convert and
+	 * before-save callbacks.
+	 *
+	 * @param entity the entity to write.
+	 * @param tableName the table to write to.
+	 * @param outboundRow the values to write.
+	 * @param criteria the criteria identifying the row to update, {@literal null} for inserts.
+	 * @param version the previous version for versioned updates.
+	 */
+	private record PreparedWrite<T>(T entity, SqlIdentifier tableName, OutboundRow outboundRow,
+			@Nullable Criteria criteria, @Nullable Object version) {
+
+		Criteria getRequiredCriteria() {
+
+			Assert.state(criteria != null, "Criteria must not be null");
+			return criteria;
+		}
+
+		/**
+		 * @return key of inserts that render to the same SQL.
+		 */
+		Object insertKey() {
+
+			List<SqlIdentifier> columns = outboundRow.entrySet().stream().filter(it -> it.getValue().hasValue())
+					.map(Map.Entry::getKey).collect(Collectors.toList());
+
+			return List.of(entity.getClass(), tableName, columns);
+		}
+
+		/**
+		 * @return key of updates that render to the same SQL.
+		 */
+		Object updateKey() {
+			return List.of(entity.getClass(), tableName, List.copyOf(outboundRow.keySet()), version == null);
+		}
+
+		/**
+		 * @return key of upserts that render to the same SQL.
+		 */
+		Object upsertKey() {
+			return List.of(entity.getClass(), tableName, List.copyOf(outboundRow.keySet()));
+		}
+	}
+
+	/**
+	 * {@link BindTarget} binding to a {@link Statement}, unwrapping {@link Parameter} values.
+	 */
+	private record StatementBindTarget(Statement statement) implements BindTarget {
+
+		@Override
+		public void bind(String identifier, Object value) {
+
+			if (value instanceof Parameter parameter) {
+				if (parameter.hasValue()) {
+					statement.bind(identifier, parameter.getValue());
+				} else {
+					statement.bindNull(identifier, parameter.getType());
+				}
+				return;
+			}
+
+			statement.bind(identifier, value);
+		}
+
+		@Override
+		public void bind(int index, Object value) {
+
+			if (value instanceof Parameter parameter) {
+				if (parameter.hasValue()) {
+					statement.bind(index, parameter.getValue());
+				} else {
+					statement.bindNull(index, parameter.getType());
+				}
+				return;
+			}
+
+			statement.bind(index, value);
+		}
+
+		@Override
+		public void bindNull(String identifier, Class<?> type) {
+			statement.bindNull(identifier, type);
+		}
+
+		@Override
+		public void bindNull(int index, Class<?> type) {
+			statement.bindNull(index, type);
+		}
+	}
+
 	/**
 	 * {@link RowsFetchSpec} adapter applying {@link #maybeCallAfterConvert(Object, SqlIdentifier)} to each emitted
 	 * object.
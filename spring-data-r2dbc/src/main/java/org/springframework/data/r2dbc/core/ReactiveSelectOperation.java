@@ -18,6 +18,10 @@ package org.springframework.data.r2dbc.core;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 
@@ -184,6 +188,31 @@ public interface ReactiveSelectOperation {
 		 * @see Flux
 		 */
 		Flux<T> all();
+
+		/**
+		 * Get a {@link Window} of matching elements starting at the given {@link ScrollPosition}. The
+		 * {@link Query#getLimit() limit} of the query determines the size of the window.
+		 * {@link org.springframework.data.domain.KeysetScrollPosition Keyset positions} seek to the position using criteria
+		 * on the sort columns instead of skipping over preceding rows. The result type must expose the sort properties to
+		 * determine the scroll positions.
+		 *
+		 * @param scrollPosition the position to start the window at. Must not be {@literal null}.
+		 * @return a {@link Mono} emitting the {@link Window}; never {@literal null}.
+		 * @since 4.1
+		 */
+		Mono<Window<T>> scroll(ScrollPosition scrollPosition);
+
+		/**
+		 * Get a {@link Page} of matching elements as requested by {@link Pageable}. The total number of matching elements
+		 * is selected along with the content of the page using {@code COUNT(*) OVER()} if the dialect
+		 * {@link org.springframework.data.relational.core.dialect.Dialect#supportsWindowFunctions() supports window
+		 * functions}. Otherwise, and if the requested page is empty, the total is obtained through a separate count query.
+		 *
+		 * @param pageable the page to select. Must not be {@literal null}.
+		 * @return a {@link Mono} emitting the {@link Page}; never {@literal null}.
+		 * @since 4.1
+		 */
+		Mono<Page<T>> page(Pageable pageable);
 	}
 
 	/**
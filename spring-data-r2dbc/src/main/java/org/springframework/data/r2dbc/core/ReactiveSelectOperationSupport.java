@@ -19,6 +19,15 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.OffsetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.query.KeysetScrollDelegate;
 import org.springframework.data.relational.core.query.Query;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.r2dbc.core.RowsFetchSpec;
@@ -112,6 +121,59 @@ record ReactiveSelectOperationSupport(R2dbcEntityTemplate template) implements R
 
 		@Override
 		public Flux<T> all() {
+			return doSelectAll(query);
+		}
+
+		@Override
+		public Mono<Window<T>> scroll(ScrollPosition scrollPosition) {
+
+			Assert.notNull(scrollPosition, "ScrollPosition must not be null");
+
+			int limit = query.getLimit();
+			boolean limited = limit > 0 && limit != Integer.MAX_VALUE;
+
+			if (scrollPosition instanceof OffsetScrollPosition offset) {
+
+				Query queryToUse = offset.isInitial() ? query : query.offset(offset.getOffset() + 1);
+				if (limited) {
+					queryToUse = queryToUse.limit(limit + 1);
+				}
+
+				return doSelectAll(queryToUse).collectList().map(content -> {
+
+					boolean hasNext = limited && content.size() > limit;
+					return Window.from(hasNext ? content.subList(0, limit) : content, offset.positionFunction(), hasNext);
+				});
+			}
+
+			if (scrollPosition instanceof KeysetScrollPosition keyset) {
+
+				RelationalPersistentEntity<?> entity = template.getConverter().getMappingContext()
+						.getRequiredPersistentEntity(domainType);
+				KeysetScrollDelegate delegate = KeysetScrollDelegate.of(keyset.getDirection());
+				Sort sort = delegate.getSortOrders(query.getSort(), entity);
+
+				Query queryToUse = delegate.createQuery(query, keyset, entity);
+				if (limited) {
+					queryToUse = queryToUse.limit(limit + 1);
+				}
+
+				return doSelectAll(queryToUse).collectList()
+						.map(content -> delegate.createWindow(content, limit, sort, entity));
+			}
+
+			return Mono.error(new UnsupportedOperationException("ScrollPosition " + scrollPosition + " not supported"));
+		}
+
+		@Override
+		public Mono<Page<T>> page(Pageable pageable) {
+
+			Assert.notNull(pageable, "Pageable must not be null");
+
+			return template.doSelectPage(query, domainType, getTableName(), returnType, pageable, fetchSize);
+		}
+
+		private Flux<T> doSelectAll(Query query) {
 			return template.doSelect(query, domainType, getTableName(), returnType, RowsFetchSpec::all, fetchSize);
 		}
 
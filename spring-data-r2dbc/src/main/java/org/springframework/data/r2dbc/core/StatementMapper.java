@@ -115,6 +115,17 @@ public interface StatementMapper {
 	 */
 	PreparedOperation<?> getMappedObject(DeleteSpec deleteSpec);
 
+	/**
+	 * Map an upsert specification to a {@link PreparedOperation}.
+	 *
+	 * @param upsertSpec the upsert operation definition, must not be {@literal null}.
+	 * @return the {@link PreparedOperation} for {@link UpsertSpec}.
+	 * @since 4.1
+	 */
+	default PreparedOperation<?> getMappedObject(UpsertSpec upsertSpec) {
+		throw new UnsupportedOperationException("Upsert is not supported by " + getClass().getName());
+	}
+
 	/**
 	 * Extension to {@link StatementMapper} that is associated with a type.
 	 *
@@ -164,6 +175,17 @@ public interface StatementMapper {
 		return InsertSpec.create(table);
 	}
 
+	/**
+	 * Create an {@code UPSERT} specification for {@code table}.
+	 *
+	 * @param table
+	 * @return the {@link UpsertSpec}.
+	 * @since 4.1
+	 */
+	default UpsertSpec createUpsert(SqlIdentifier table) {
+		return UpsertSpec.create(table);
+	}
+
 	/**
 	 * Create an {@code UPDATE} specification for {@code table}.
 	 *
@@ -531,6 +553,73 @@ public interface StatementMapper {
 		}
 	}
 
+	/**
+	 * {@code UPSERT} specification, inserting a row or updating the row with the same key. The statement gets rendered
+	 * according to {@link org.springframework.data.relational.core.dialect.Dialect#getUpsertRenderContext()}.
+	 *
+	 * @since 4.1
+	 */
+	class UpsertSpec {
+
+		private final SqlIdentifier table;
+		private final Map<SqlIdentifier, Parameter> assignments;
+		private final List<SqlIdentifier> key;
+
+		protected UpsertSpec(SqlIdentifier table, Map<SqlIdentifier, Parameter> assignments, List<SqlIdentifier> key) {
+			this.table = table;
+			this.assignments = assignments;
+			this.key = key;
+		}
+
+		/**
+		 * Create an {@code UPSERT} specification for {@code table}.
+		 *
+		 * @param table
+		 * @return the {@link UpsertSpec}.
+		 */
+		public static UpsertSpec create(SqlIdentifier table) {
+			return new UpsertSpec(table, Collections.emptyMap(), Collections.emptyList());
+		}
+
+		/**
+		 * Associate a column with a {@link Parameter} and create a new {@link UpsertSpec}.
+		 *
+		 * @param column
+		 * @param value
+		 * @return the {@link UpsertSpec}.
+		 */
+		public UpsertSpec withColumn(SqlIdentifier column, Parameter value) {
+
+			Map<SqlIdentifier, Parameter> values = new LinkedHashMap<>(this.assignments);
+			values.put(column, value);
+
+			return new UpsertSpec(this.table, values, this.key);
+		}
+
+		/**
+		 * Use the given columns to identify an existing row and create a new {@link UpsertSpec}. Key columns must be
+		 * associated with a value through {@link #withColumn(SqlIdentifier, Parameter)}.
+		 *
+		 * @param key the key columns.
+		 * @return the {@link UpsertSpec}.
+		 */
+		public UpsertSpec withKey(List<SqlIdentifier> key) {
+			return new UpsertSpec(this.table, this.assignments, List.copyOf(key));
+		}
+
+		public SqlIdentifier getTable() {
+			return this.table;
+		}
+
+		public Map<SqlIdentifier, Parameter> getAssignments() {
+			return Collections.unmodifiableMap(this.assignments);
+		}
+
+		public List<SqlIdentifier> getKey() {
+			return this.key;
+		}
+	}
+
 	/**
 	 * {@code UPDATE} specification.
 	 */
@@ -0,0 +1,301 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.r2dbc.core.StatementMapper.DeleteSpec;
+import org.springframework.data.r2dbc.core.StatementMapper.InsertSpec;
+import org.springframework.data.r2dbc.core.StatementMapper.SelectSpec;
+import org.springframework.data.r2dbc.core.StatementMapper.UpdateSpec;
+import org.springframework.data.r2dbc.core.StatementMapper.UpsertSpec;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.CriteriaDefinition;
+import org.springframework.data.relational.core.query.CriteriaDefinition.Comparator;
+import org.springframework.data.relational.core.query.ValueFunction;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.r2dbc.core.Parameter;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * Cache of rendered SQL keyed by the shape of a statement specification. The shape captures everything that
+ * contributes to the SQL text, such as table, columns, the structure of the criteria, sort, limit, offset and lock
+ * mode, while values are left out as they are bound to the statement through bind markers.
+ * <p>
+ * Values that affect the SQL text, for example the number of elements of an {@code IN} collection, are part of the
+ * shape. Specifications containing values for which the effect on the SQL text cannot be determined upfront, such as
+ * {@link ValueFunction}s in assignments or embedded objects, have no shape and are rendered for each execution.
+ * <p>
+ * The cache retains up to {@link #CACHE_LIMIT} entries and evicts the least recently used shapes beyond that.
+ *
+ * @since 4.1
+ */
+class StatementShapeCache {
+
+	/**
+	 * Maximum number of cached statements.
+	 */
+	static final int CACHE_LIMIT = 512;
+
+	private final ConcurrentLruCache<CacheKey, String> cache = new ConcurrentLruCache<>(CACHE_LIMIT, CacheKey::render);
+
+	/**
+	 * Return the rendered SQL for {@code shape}, rendering and caching it if necessary.
+	 *
+	 * @param shape the statement shape, can be {@literal null} if the statement cannot be cached.
+	 * @param renderer renders the SQL of the statement.
+	 * @return the rendered SQL.
+	 */
+	String getSql(@Nullable StatementShape shape, Supplier<String> renderer) {
+
+		if (shape == null) {
+			return renderer.get();
+		}
+
+		return cache.get(new CacheKey(shape, renderer));
+	}
+
+	int size() {
+		return cache.size();
+	}
+
+	static @Nullable StatementShape getShape(SelectSpec spec, @Nullable RelationalPersistentEntity<?> entity) {
+
+		List<Object> criteria = getCriteriaShape(spec.getCriteria());
+
+		if (criteria == null) {
+			return null;
+		}
+
+		return new StatementShape(SelectSpec.class, entity, Arrays.asList(spec.getTable(), spec.getSelectList(),
+				spec.isDistinct(), criteria, spec.getSort(), spec.getLimit(), spec.getOffset(), spec.getLock()));
+	}
+
+	static @Nullable StatementShape getShape(InsertSpec spec, @Nullable RelationalPersistentEntity<?> entity) {
+
+		List<Object> assignments = getAssignmentsShape(spec.getAssignments(), entity);
+
+		if (assignments == null) {
+			return null;
+		}
+
+		return new StatementShape(InsertSpec.class, entity, Arrays.asList(spec.getTable(), assignments));
+	}
+
+	static @Nullable StatementShape getShape(UpsertSpec spec, @Nullable RelationalPersistentEntity<?> entity) {
+
+		List<Object> assignments = getAssignmentsShape(spec.getAssignments(), entity);
+
+		if (assignments == null) {
+			return null;
+		}
+
+		return new StatementShape(UpsertSpec.class, entity, Arrays.asList(spec.getTable(), assignments, spec.getKey()));
+	}
+
+	static @Nullable StatementShape getShape(UpdateSpec spec, @Nullable RelationalPersistentEntity<?> entity) {
+
+		if (spec.getUpdate() == null) {
+			return null;
+		}
+
+		List<Object> assignments = getAssignmentsShape(spec.getUpdate().getAssignments(), entity);
+		List<Object> criteria = getCriteriaShape(spec.getCriteria());
+
+		if (assignments == null || criteria == null) {
+			return null;
+		}
+
+		return new StatementShape(UpdateSpec.class, entity, Arrays.asList(spec.getTable(), assignments, criteria));
+	}
+
+	static @Nullable StatementShape getShape(DeleteSpec spec, @Nullable RelationalPersistentEntity<?> entity) {
+
+		List<Object> criteria = getCriteriaShape(spec.getCriteria());
+
+		if (criteria == null) {
+			return null;
+		}
+
+		return new StatementShape(DeleteSpec.class, entity, Arrays.asList(spec.getTable(), criteria));
+	}
+
+	private static @Nullable List<Object> getAssignmentsShape(Map<SqlIdentifier, ?> assignments,
+			@Nullable RelationalPersistentEntity<?> entity) {
+
+		List<Object> shape = new ArrayList<>(assignments.size() * 2);
+
+		for (Map.Entry<SqlIdentifier, ?> entry : assignments.entrySet()) {
+
+			Object value = entry.getValue();
+
+			// null values render as NULL literal, parameters are bound even if empty
+			if (value == null) {
+				shape.add(entry.getKey());
+				shape.add(Marker.NULL);
+				continue;
+			}
+
+			if (value instanceof ValueFunction<?> || (!(value instanceof Parameter) && isEmbedded(entry.getKey(), entity))) {
+				return null;
+			}
+
+			shape.add(entry.getKey());
+			shape.add(Marker.BOUND);
+		}
+
+		return shape;
+	}
+
+	private static boolean isEmbedded(SqlIdentifier column, @Nullable RelationalPersistentEntity<?> entity) {
+
+		if (entity == null) {
+			return false;
+		}
+
+		String name = column.getReference();
+
+		if (name.contains(".")) {
+			return true;
+		}
+
+		RelationalPersistentProperty property = entity.getPersistentProperty(name);
+		return property != null && property.isEmbedded();
+	}
+
+	private static @Nullable List<Object> getCriteriaShape(@Nullable CriteriaDefinition criteria) {
+
+		if (criteria == null || criteria.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<Object> shape = new ArrayList<>();
+		return appendCriteriaShape(criteria, shape) ? shape : null;
+	}
+
+	private static boolean appendCriteriaShape(CriteriaDefinition criteria, List<Object> shape) {
+
+		for (CriteriaDefinition current = criteria; current != null; current = current.getPrevious()) {
+
+			shape.add(current.getCombinator());
+
+			if (current.isEmpty()) {
+				shape.add(Marker.EMPTY);
+				continue;
+			}
+
+			if (current.isGroup()) {
+
+				shape.add(Marker.GROUP_START);
+
+				for (CriteriaDefinition nested : current.getGroup()) {
+					if (!appendCriteriaShape(nested, shape)) {
+						return false;
+					}
+				}
+
+				shape.add(Marker.GROUP_END);
+				continue;
+			}
+
+			Object valueShape = getValueShape(current.getComparator(), current.getValue());
+
+			if (valueShape == null) {
+				return false;
+			}
+
+			shape.add(current.getColumn());
+			shape.add(current.getComparator());
+			shape.add(current.isIgnoreCase());
+			shape.add(valueShape);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Values are rendered as a single bind marker, or a fixed number of bind markers for {@code BETWEEN}. Only
+	 * {@code IN} renders a bind marker for each element of a collection.
+	 */
+	private static @Nullable Object getValueShape(@Nullable Comparator comparator, @Nullable Object value) {
+
+		if (comparator == Comparator.IN || comparator == Comparator.NOT_IN) {
+
+			Object actualValue = value instanceof Parameter parameter ? parameter.getValue() : value;
+			return actualValue instanceof Collection<?> collection ? collection.size() : null;
+		}
+
+		return Marker.BOUND;
+	}
+
+	private enum Marker {
+		BOUND, NULL, EMPTY, GROUP_START, GROUP_END
+	}
+
+	/**
+	 * Cache key carrying the renderer of the statement looked up. Keys are equal if their shapes are equal. The renderer
+	 * is released after rendering so that cached keys do not retain the statement and its values.
+	 */
+	private static final class CacheKey {
+
+		private final StatementShape shape;
+		private volatile @Nullable Supplier<String> renderer;
+
+		CacheKey(StatementShape shape, Supplier<String> renderer) {
+			this.shape = shape;
+			this.renderer = renderer;
+		}
+
+		String render() {
+
+			Supplier<String> renderer = this.renderer;
+
+			Assert.state(renderer != null, "Statement already rendered");
+
+			this.renderer = null;
+			return renderer.get();
+		}
+
+		@Override
+		public boolean equals(@Nullable Object o) {
+			return this == o || (o instanceof CacheKey that && shape.equals(that.shape));
+		}
+
+		@Override
+		public int hashCode() {
+			return shape.hashCode();
+		}
+	}
+
+	/**
+	 * Shape of a statement specification.
+	 *
+	 * @param specType the type of the specification.
+	 * @param entity the entity the specification is mapped for, can be {@literal null}.
+	 * @param parts the parts contributing to the SQL text.
+	 */
+	record StatementShape(Class<?> specType, @Nullable RelationalPersistentEntity<?> entity, List<Object> parts) {
+	}
+}
@@ -55,4 +55,9 @@ public class H2Dialect extends org.springframework.data.relational.core.dialect.
 	public ArrayColumns getArraySupport() {
 		return this.arrayColumns.get();
 	}
+
+	@Override
+	public boolean supportsBatchUpdateCounts() {
+		return true;
+	}
 }
@@ -95,6 +95,11 @@ public class PostgresDialect extends org.springframework.data.relational.core.di
 		return this.arrayColumns.get();
 	}
 
+	@Override
+	public boolean supportsBatchUpdateCounts() {
+		return true;
+	}
+
 	@Override
 	public Collection<Object> getConverters() {
 
@@ -73,4 +73,17 @@ public interface R2dbcDialect extends Dialect {
 	default String renderForGeneratedValues(SqlIdentifier identifier) {
 		return identifier.toSql(getIdentifierProcessing());
 	}
+
+	/**
+	 * Return whether the driver emits a {@link io.r2dbc.spi.Result} with the number of updated rows for each binding of
+	 * a {@link io.r2dbc.spi.Statement} executed with multiple bindings through {@link io.r2dbc.spi.Statement#add()}.
+	 * Updates of versioned entities get batched only if the driver reports these row counts, as the version check
+	 * cannot be verified otherwise. Defaults to {@literal false}, updating versioned entities one by one.
+	 *
+	 * @return {@literal true} if the driver reports the row count of each binding of a batch.
+	 * @since 4.1
+	 */
+	default boolean supportsBatchUpdateCounts() {
+		return false;
+	}
 }
@@ -17,7 +17,10 @@ package org.springframework.data.r2dbc.repository.query;
 
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 import org.reactivestreams.Publisher;
+import org.springframework.data.domain.Window;
 import org.springframework.data.mapping.model.EntityInstantiators;
 import org.springframework.data.r2dbc.convert.R2dbcConverter;
 import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
@@ -89,14 +92,28 @@ public abstract class AbstractR2dbcQuery implements RepositoryQuery {
 			fetchSpec = entityOperations.getDatabaseClient().sql(operation).fetch();
 		} else if (isExistsQuery()) {
 			fetchSpec = entityOperations.getDatabaseClient().sql(operation).map(row -> true);
+		} else if (method.isScrollQuery()) {
+			fetchSpec = entityOperations.query(operation, processor.getReturnedType().getDomainType());
 		} else {
 			fetchSpec = entityOperations.query(operation, processor.getReturnedType()
 							.getDomainType(),
 					resolveResultType(processor));
 		}
 
+		ResultProcessingConverter resultConverter = new ResultProcessingConverter(processor,
+				converter.getMappingContext(), instantiators);
+
+		if (method.isScrollQuery()) {
+
+			// scroll positions are determined from the entities, results get converted afterwards
+			R2dbcQueryExecution execution = it -> it.all().collectList()
+					.map(content -> createWindow(content, parameterAccessor).map(resultConverter::convert));
+
+			return execution.execute((RowsFetchSpec) fetchSpec);
+		}
+
 		R2dbcQueryExecution execution = new ResultProcessingExecution(getExecutionToWrap(processor.getReturnedType()),
-				new ResultProcessingConverter(processor, converter.getMappingContext(), instantiators));
+				resultConverter);
 
 		return execution.execute((RowsFetchSpec) fetchSpec);
 	}
@@ -179,6 +196,18 @@ public abstract class AbstractR2dbcQuery implements RepositoryQuery {
 	 */
 	protected abstract boolean isExistsQuery();
 
+	/**
+	 * Creates the {@link Window} for the results of a scroll query. Queries supporting
+	 * {@link org.springframework.data.domain.ScrollPosition scrolling} fetch one row more than requested to determine
+	 * whether more rows are available.
+	 *
+	 * @param result the entities returned by the query.
+	 * @param accessor must not be {@literal null}.
+	 * @return the {@link Window}.
+	 * @since 4.1
+	 */
+	protected abstract <T> Window<T> createWindow(List<T> result, RelationalParameterAccessor accessor);
+
 	/**
 	 * Creates a {@link BindableQuery} instance using the given {@link ParameterAccessor}
 	 *
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.repository.query;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.OffsetScrollPosition;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.r2dbc.core.PreparedOperation;
+import org.springframework.r2dbc.core.binding.BindTarget;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * Cache of the SQL rendered for a derived query method, keyed by the shape of the method arguments. The shape captures
+ * everything about the arguments that contributes to the SQL text: which arguments are {@literal null}, the number of
+ * elements of collections, the type of other values, sort, paging, limit and the kind of scroll position. Values are
+ * left out as they are bound to the statement through bind markers.
+ * <p>
+ * Query methods that compare embedded objects render a condition for each of their properties depending on their
+ * values and are not cached. Neither are queries with an offset, such as pages after the first one, as each offset
+ * renders a different SQL text. The cache retains the SQL of the {@link #CACHE_SIZE} most recently used shapes.
+ *
+ * @since 4.1
+ */
+class DerivedQuerySqlCache {
+
+	/**
+	 * Maximum number of cached statements.
+	 */
+	static final int CACHE_SIZE = 256;
+
+	private final ConcurrentLruCache<List<Object>, AtomicReference<String>> cache = new ConcurrentLruCache<>(CACHE_SIZE,
+			it -> new AtomicReference<>());
+
+	/**
+	 * Return a {@link PreparedOperation} that renders its SQL only if no SQL is cached for {@code shape}.
+	 *
+	 * @param shape the shape of the arguments as obtained from {@link #getShape(RelationalParameterAccessor, SqlIdentifier)},
+	 *          can be {@literal null} if the query cannot be cached.
+	 * @param operation the operation created for the arguments.
+	 * @return the operation using cached SQL.
+	 */
+	<T> PreparedOperation<T> get(@Nullable List<Object> shape, PreparedOperation<T> operation) {
+		return shape == null ? operation : new CachedSqlPreparedOperation<>(operation, cache.get(shape));
+	}
+
+	int size() {
+		return cache.size();
+	}
+
+	/**
+	 * Determine whether queries derived from {@code tree} can be cached.
+	 *
+	 * @param tree the part tree of the query method.
+	 * @param entity the queried entity.
+	 * @return {@literal true} if the query does not compare nested or embedded properties.
+	 */
+	static boolean isCacheable(PartTree tree, RelationalPersistentEntity<?> entity) {
+
+		for (Part part : tree.getParts()) {
+
+			PropertyPath path = part.getProperty();
+
+			if (path.hasNext()) {
+				return false;
+			}
+
+			RelationalPersistentProperty property = entity.getPersistentProperty(path.getSegment());
+
+			if (property != null && property.isEmbedded()) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Determine the shape of the arguments of a query method invocation.
+	 *
+	 * @param accessor the accessor of the arguments.
+	 * @param tableName the name of the queried table.
+	 * @return the shape of the arguments or {@literal null} if the query has an offset.
+	 */
+	static @Nullable List<Object> getShape(RelationalParameterAccessor accessor, SqlIdentifier tableName) {
+
+		Object[] values = accessor.getValues();
+		List<Object> shape = new ArrayList<>(values.length + 1);
+
+		shape.add(tableName);
+
+		for (Object value : values) {
+
+			if (hasOffset(value)) {
+				return null;
+			}
+
+			shape.add(getValueShape(value));
+		}
+
+		return shape;
+	}
+
+	private static boolean hasOffset(@Nullable Object value) {
+
+		if (value instanceof Pageable pageable) {
+			return pageable.isPaged() && pageable.getOffset() > 0;
+		}
+
+		return value instanceof OffsetScrollPosition position && !position.isInitial() && position.getOffset() > 0;
+	}
+
+	/**
+	 * Keyset positions contribute their direction as their keys are bound as values.
+	 */
+	private static Object getValueShape(@Nullable Object value) {
+
+		if (value == null) {
+			return Marker.NULL;
+		}
+
+		if (value instanceof KeysetScrollPosition keyset) {
+			return List.of(KeysetScrollPosition.class, keyset.getDirection(), keyset.isInitial());
+		}
+
+		if (value instanceof Collection<?> collection) {
+			return List.of(Collection.class, collection.size());
+		}
+
+		if (value.getClass().isArray()) {
+			return List.of(value.getClass(), Array.getLength(value));
+		}
+
+		if (value instanceof Sort || value instanceof Pageable || value instanceof Limit || value instanceof ScrollPosition
+				|| value instanceof Class<?>) {
+			return value;
+		}
+
+		return value.getClass();
+	}
+
+	private enum Marker {
+		NULL
+	}
+
+	/**
+	 * {@link PreparedOperation} obtaining its SQL from the cache, rendering it through the delegate only if not yet
+	 * cached.
+	 *
+	 * @param <T>
+	 */
+	static class CachedSqlPreparedOperation<T> implements PreparedOperation<T> {
+
+		private final PreparedOperation<T> delegate;
+		private final AtomicReference<String> sql;
+
+		CachedSqlPreparedOperation(PreparedOperation<T> delegate, AtomicReference<String> sql) {
+			this.delegate = delegate;
+			this.sql = sql;
+		}
+
+		@Override
+		public T getSource() {
+			return delegate.getSource();
+		}
+
+		@Override
+		public void bindTo(BindTarget target) {
+			delegate.bindTo(target);
+		}
+
+		@Override
+		public String toQuery() {
+
+			String query = sql.get();
+
+			if (query == null) {
+
+				query = delegate.toQuery();
+				sql.compareAndSet(null, query);
+			}
+
+			return query;
+		}
+	}
+}
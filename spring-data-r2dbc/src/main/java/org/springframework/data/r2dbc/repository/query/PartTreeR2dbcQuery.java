@@ -21,16 +21,24 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.OffsetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.r2dbc.convert.R2dbcConverter;
 import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
 import org.springframework.data.r2dbc.core.ReactiveDataAccessStrategy;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.query.KeysetScrollDelegate;
 import org.springframework.data.relational.repository.query.RelationalEntityMetadata;
 import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
 import org.springframework.data.relational.repository.query.RelationalParameters;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.util.Lazy;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.r2dbc.core.PreparedOperation;
 
@@ -48,6 +56,8 @@ public class PartTreeR2dbcQuery extends AbstractR2dbcQuery {
 	private final ReactiveDataAccessStrategy dataAccessStrategy;
 	private final RelationalParameters parameters;
 	private final PartTree tree;
+	private final DerivedQuerySqlCache sqlCache = new DerivedQuerySqlCache();
+	private final Lazy<Boolean> cacheable;
 
 	/**
 	 * Creates new instance of this class with the given {@link R2dbcQueryMethod}, {@link DatabaseClient},
@@ -74,6 +84,9 @@ public class PartTreeR2dbcQuery extends AbstractR2dbcQuery {
 			throw new IllegalArgumentException(
 					String.format("Failed to create query for method %s; %s", method, e.getMessage()), e);
 		}
+
+		this.cacheable = Lazy
+				.of(() -> DerivedQuerySqlCache.isCacheable(tree, method.getEntityInformation().getTableEntity()));
 	}
 
 	@Override
@@ -99,17 +112,44 @@ public class PartTreeR2dbcQuery extends AbstractR2dbcQuery {
 			ReturnedType returnedType = processor.withDynamicProjection(accessor).getReturnedType();
 			List<String> projectedProperties = Collections.emptyList();
 
-			if (returnedType.needsCustomConstruction()) {
+			if (returnedType.needsCustomConstruction() && !(accessor.getScrollPosition() instanceof KeysetScrollPosition)) {
 				projectedProperties = new ArrayList<>(returnedType.getInputProperties());
 			}
 
 			RelationalEntityMetadata<?> entityMetadata = getQueryMethod().getEntityInformation();
 			R2dbcQueryCreator queryCreator = new R2dbcQueryCreator(tree, dataAccessStrategy, entityMetadata, accessor,
 					projectedProperties, this.getQueryMethod().getLock());
-			return queryCreator.createQuery(getDynamicSort(accessor));
+			PreparedOperation<?> operation = queryCreator.createQuery(getDynamicSort(accessor));
+
+			@Nullable
+			List<Object> shape = cacheable.get() ? DerivedQuerySqlCache.getShape(accessor, entityMetadata.getTableName())
+					: null;
+
+			return sqlCache.get(shape, operation);
 		});
 	}
 
+	@Override
+	protected <T> Window<T> createWindow(List<T> result, RelationalParameterAccessor accessor) {
+
+		ScrollPosition scrollPosition = accessor.getScrollPosition();
+		int limit = R2dbcQueryCreator.getScrollLimit(tree, accessor);
+
+		if (scrollPosition instanceof KeysetScrollPosition keyset) {
+
+			RelationalPersistentEntity<?> entity = getQueryMethod().getEntityInformation().getTableEntity();
+			KeysetScrollDelegate delegate = KeysetScrollDelegate.of(keyset.getDirection());
+			Sort sort = delegate.getSortOrders(tree.getSort().and(getDynamicSort(accessor)), entity);
+
+			return delegate.createWindow(result, limit, sort, entity);
+		}
+
+		OffsetScrollPosition offset = scrollPosition instanceof OffsetScrollPosition osp ? osp : ScrollPosition.offset();
+		boolean hasNext = limit > 0 && result.size() > limit;
+
+		return Window.from(hasNext ? result.subList(0, limit) : result, offset.positionFunction(), hasNext);
+	}
+
 	private Sort getDynamicSort(RelationalParameterAccessor accessor) {
 		return parameters.potentiallySortsDynamically() ? accessor.getSort() : Sort.unsorted();
 	}
@@ -22,13 +22,18 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.OffsetScrollPosition;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.r2dbc.core.ReactiveDataAccessStrategy;
 import org.springframework.data.r2dbc.core.StatementMapper;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.KeysetScrollDelegate;
 import org.springframework.data.relational.core.sql.Column;
 import org.springframework.data.relational.core.sql.Expression;
 import org.springframework.data.relational.core.sql.Expressions;
@@ -39,6 +44,7 @@ import org.springframework.data.relational.repository.Lock;
 import org.springframework.data.relational.repository.query.RelationalEntityMetadata;
 import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
 import org.springframework.data.relational.repository.query.RelationalQueryCreator;
+import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.parser.AbstractQueryCreator;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.r2dbc.core.PreparedOperation;
@@ -138,12 +144,33 @@ class R2dbcQueryCreator extends RelationalQueryCreator<PreparedOperation<?>> {
 			selectSpec = selectSpec.limit(pageable.getPageSize()).offset(pageable.getOffset());
 		}
 
-		if (criteria != null) {
-			selectSpec = selectSpec.withCriteria(criteria);
+		Criteria criteriaToUse = criteria;
+		Sort sortToUse = sort;
+		ScrollPosition scrollPosition = accessor.getScrollPosition();
+
+		if (scrollPosition != null && !tree.isExistsProjection() && !tree.isCountProjection()) {
+
+			int limit = getScrollLimit(tree, accessor);
+			if (limit > 0) {
+				selectSpec = selectSpec.limit(limit + 1);
+			}
+
+			if (scrollPosition instanceof KeysetScrollPosition keyset) {
+
+				KeysetScrollDelegate delegate = KeysetScrollDelegate.of(keyset.getDirection());
+				sortToUse = delegate.getSortOrders(sort, entityMetadata.getTableEntity());
+				criteriaToUse = delegate.createCriteria(criteria, keyset, sortToUse);
+			} else if (scrollPosition instanceof OffsetScrollPosition offset && !offset.isInitial()) {
+				selectSpec = selectSpec.offset(offset.getOffset() + 1);
+			}
+		}
+
+		if (criteriaToUse != null) {
+			selectSpec = selectSpec.withCriteria(criteriaToUse);
 		}
 
-		if (sort.isSorted()) {
-			selectSpec = selectSpec.withSort(sort);
+		if (sortToUse.isSorted()) {
+			selectSpec = selectSpec.withSort(sortToUse);
 		}
 
 		if (tree.isDistinct()) {
@@ -157,6 +184,19 @@ class R2dbcQueryCreator extends RelationalQueryCreator<PreparedOperation<?>> {
 		return statementMapper.getMappedObject(selectSpec);
 	}
 
+	/**
+	 * Determine the number of rows of a {@link org.springframework.data.domain.Window} obtained from a scroll query.
+	 *
+	 * @param tree must not be {@literal null}.
+	 * @param accessor must not be {@literal null}.
+	 * @return the maximum number of rows of the window or {@literal -1} if not limited.
+	 */
+	static int getScrollLimit(PartTree tree, ParameterAccessor accessor) {
+
+		Limit limit = tree.isLimiting() ? tree.getResultLimit() : accessor.getLimit();
+		return limit.isLimited() ? limit.max() : -1;
+	}
+
 	private Expression[] getSelectProjection() {
 
 		List<Expression> expressions;
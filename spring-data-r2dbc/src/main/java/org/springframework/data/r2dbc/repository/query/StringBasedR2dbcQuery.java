@@ -22,6 +22,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.data.domain.Window;
 import org.springframework.data.expression.ReactiveValueEvaluationContextProvider;
 import org.springframework.data.expression.ValueEvaluationContext;
 import org.springframework.data.expression.ValueEvaluationContextProvider;
@@ -114,6 +115,11 @@ public class StringBasedR2dbcQuery extends AbstractR2dbcQuery {
 					"Page queries are not supported using string-based queries; Offending method: " + method);
 		}
 
+		if (method.isScrollQuery()) {
+			throw new UnsupportedOperationException(
+					"Scroll queries are not supported using string-based queries; Offending method: " + method);
+		}
+
 		if (method.getParameters().hasLimitParameter()) {
 			throw new UnsupportedOperationException(
 					"Queries with Limit are not supported using string-based queries; Offending method: " + method);
@@ -149,6 +155,12 @@ public class StringBasedR2dbcQuery extends AbstractR2dbcQuery {
 		return false;
 	}
 
+	@Override
+	protected <T> Window<T> createWindow(List<T> result, RelationalParameterAccessor accessor) {
+		throw new IllegalStateException(
+				"String-based queries do not support scrolling; Offending method: " + getQueryMethod());
+	}
+
 	@Override
 	protected Mono<PreparedOperation<?>> createQuery(RelationalParameterAccessor accessor) {
 		return getExpressionEvaluator(accessor).map(evaluator -> new ExpandedQuery(accessor, evaluator));
@@ -61,6 +61,8 @@ public class R2dbcRepositoryFactory extends ReactiveRepositoryFactorySupport {
 	private final R2dbcConverter converter;
 	private final R2dbcEntityOperations operations;
 
+	private int saveConcurrency = 1;
+
 	/**
 	 * Creates a new {@link R2dbcRepositoryFactory} given {@link DatabaseClient} and {@link MappingContext}.
 	 *
@@ -96,6 +98,20 @@ public class R2dbcRepositoryFactory extends ReactiveRepositoryFactorySupport {
 		this.operations = operations;
 	}
 
+	/**
+	 * Set the number of concurrent saves of {@code saveAll} for repositories based on {@link SimpleR2dbcRepository}.
+	 *
+	 * @param saveConcurrency must be greater than zero.
+	 * @since 4.1
+	 * @see SimpleR2dbcRepository#setSaveConcurrency(int)
+	 */
+	public void setSaveConcurrency(int saveConcurrency) {
+
+		Assert.isTrue(saveConcurrency > 0, "Save concurrency must be greater than zero");
+
+		this.saveConcurrency = saveConcurrency;
+	}
+
 	@Override
 	protected Class<?> getRepositoryBaseClass(RepositoryMetadata metadata) {
 		return SimpleR2dbcRepository.class;
@@ -106,7 +122,13 @@ public class R2dbcRepositoryFactory extends ReactiveRepositoryFactorySupport {
 
 		RelationalEntityInformation<?, ?> entityInformation = getEntityInformation(information);
 
-		return getTargetRepositoryViaReflection(information, entityInformation, operations, this.converter);
+		Object repository = getTargetRepositoryViaReflection(information, entityInformation, operations, this.converter);
+
+		if (repository instanceof SimpleR2dbcRepository<?, ?> simpleRepository) {
+			simpleRepository.setSaveConcurrency(saveConcurrency);
+		}
+
+		return repository;
 	}
 
 	@Override
@@ -49,6 +49,7 @@ public class R2dbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 	private @Nullable ApplicationContext applicationContext;
 
 	private boolean mappingContextConfigured = false;
+	private int saveConcurrency = 1;
 
 	/**
 	 * Creates a new {@link R2dbcRepositoryFactoryBean} for the given repository interface.
@@ -80,6 +81,20 @@ public class R2dbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 		this.operations = operations;
 	}
 
+	/**
+	 * Configures the number of concurrent saves of {@code saveAll}.
+	 *
+	 * @param saveConcurrency must be greater than zero.
+	 * @since 4.1
+	 * @see SimpleR2dbcRepository#setSaveConcurrency(int)
+	 */
+	public void setSaveConcurrency(int saveConcurrency) {
+
+		Assert.isTrue(saveConcurrency > 0, "Save concurrency must be greater than zero");
+
+		this.saveConcurrency = saveConcurrency;
+	}
+
 	@Override
 	protected void setMappingContext(MappingContext<?, ?> mappingContext) {
 
@@ -90,14 +105,23 @@ public class R2dbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID exten
 	@Override
 	protected final RepositoryFactorySupport createRepositoryFactory() {
 
+		RepositoryFactorySupport factory;
+
 		if (this.operations != null) {
-			return getFactoryInstance(this.operations);
+			factory = getFactoryInstance(this.operations);
+		} else {
+
+			Assert.state(this.client != null, "DatabaseClient must not be null");
+			Assert.state(this.dataAccessStrategy != null, "DataAccessStrategy must not be null");
+
+			factory = getFactoryInstance(this.client, this.dataAccessStrategy);
 		}
 
-		Assert.state(this.client != null, "DatabaseClient must not be null");
-		Assert.state(this.dataAccessStrategy != null, "DataAccessStrategy must not be null");
+		if (factory instanceof R2dbcRepositoryFactory r2dbcRepositoryFactory) {
+			r2dbcRepositoryFactory.setSaveConcurrency(this.saveConcurrency);
+		}
 
-		return getFactoryInstance(this.client, this.dataAccessStrategy);
+		return factory;
 	}
 
 	/**
@@ -25,6 +25,7 @@ import java.util.function.UnaryOperator;
 
 import org.reactivestreams.Publisher;
 import org.springframework.data.domain.Example;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.OffsetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -48,7 +49,6 @@ import org.springframework.data.relational.repository.query.RelationalEntityInfo
 import org.springframework.data.relational.repository.query.RelationalExampleMapper;
 import org.springframework.data.repository.query.FluentQuery;
 import org.springframework.data.repository.reactive.ReactiveSortingRepository;
-import org.springframework.data.support.ReactivePageableExecutionUtils;
 import org.springframework.data.util.Lazy;
 import org.springframework.data.util.Streamable;
 import org.springframework.r2dbc.core.DatabaseClient;
@@ -73,6 +73,8 @@ public class SimpleR2dbcRepository<T, ID> implements R2dbcRepository<T, ID> {
 	private final RelationalExampleMapper exampleMapper;
 	private final MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> mappingContext;
 
+	private int saveConcurrency = 1;
+
 	/**
 	 * Create a new {@link SimpleR2dbcRepository}.
 	 *
@@ -114,6 +116,24 @@ public class SimpleR2dbcRepository<T, ID> implements R2dbcRepository<T, ID> {
 		this.exampleMapper = new RelationalExampleMapper(mappingContext);
 	}
 
+	/**
+	 * Set the number of saves that {@link #saveAll(Publisher)} and {@link #saveAll(Iterable)} run concurrently. Saves
+	 * are subscribed eagerly up to {@code saveConcurrency} while the saved entities are emitted in the order of the
+	 * objects to save. Concurrent saves only help if they run on separate connections, which requires a pooled
+	 * {@link io.r2dbc.spi.ConnectionFactory} and no surrounding transaction. Within a transaction all saves share a single
+	 * connection and only benefit if the R2DBC driver pipelines statements; otherwise they are executed one after the
+	 * other anyway. Defaults to {@code 1}, saving one object after the other.
+	 *
+	 * @param saveConcurrency must be greater than zero.
+	 * @since 4.1
+	 */
+	public void setSaveConcurrency(int saveConcurrency) {
+
+		Assert.isTrue(saveConcurrency > 0, "Save concurrency must be greater than zero");
+
+		this.saveConcurrency = saveConcurrency;
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods from ReactiveCrudRepository
 	// -------------------------------------------------------------------------
@@ -137,7 +157,7 @@ public class SimpleR2dbcRepository<T, ID> implements R2dbcRepository<T, ID> {
 
 		Assert.notNull(objectsToSave, "Objects to save must not be null");
 
-		return Flux.fromIterable(objectsToSave).concatMap(this::save);
+		return doSaveAll(Flux.fromIterable(objectsToSave));
 	}
 
 	@Override
@@ -146,7 +166,16 @@ public class SimpleR2dbcRepository<T, ID> implements R2dbcRepository<T, ID> {
 
 		Assert.notNull(objectsToSave, "Object publisher must not be null");
 
-		return Flux.from(objectsToSave).concatMap(this::save);
+		return doSaveAll(Flux.from(objectsToSave));
+	}
+
+	private <S extends T> Flux<S> doSaveAll(Flux<S> objectsToSave) {
+
+		if (saveConcurrency == 1) {
+			return objectsToSave.concatMap(this::save);
+		}
+
+		return objectsToSave.flatMapSequential(this::save, saveConcurrency);
 	}
 
 	@Override
@@ -193,11 +222,7 @@ public class SimpleR2dbcRepository<T, ID> implements R2dbcRepository<T, ID> {
 
 		Assert.notNull(idPublisher, "The Id Publisher must not be null");
 
-		return Flux.from(idPublisher).buffer().filter(ids -> !ids.isEmpty()).concatMap(ids -> {
-
-			if (ids.isEmpty()) {
-				return Flux.empty();
-			}
+		return Flux.from(idPublisher).buffer(getIdChunkSize()).concatMap(ids -> {
 
 			String idProperty = getIdProperty().getName();
 
@@ -225,11 +250,7 @@ public class SimpleR2dbcRepository<T, ID> implements R2dbcRepository<T, ID> {
 
 		Assert.notNull(idPublisher, "The Id Publisher must not be null");
 
-		return Flux.from(idPublisher).buffer().filter(ids -> !ids.isEmpty()).concatMap(ids -> {
-
-			if (ids.isEmpty()) {
-				return Flux.empty();
-			}
+		return Flux.from(idPublisher).buffer(getIdChunkSize()).concatMap(ids -> {
 
 			String idProperty = getIdProperty().getName();
 
@@ -359,6 +380,14 @@ public class SimpleR2dbcRepository<T, ID> implements R2dbcRepository<T, ID> {
 		return queryFunction.apply(new ReactiveFluentQueryByExample<>(example, example.getProbeType()));
 	}
 
+	/**
+	 * Return the number of ids to query with a single {@code IN} condition. Id publishers are consumed in chunks of this
+	 * size to limit memory consumption and the number of bind parameters of a single statement.
+	 */
+	private int getIdChunkSize() {
+		return this.entityOperations.getDataAccessStrategy().getDialect().getInConditionMaximumSize();
+	}
+
 	private RelationalPersistentProperty getIdProperty() {
 		return this.idProperty.get();
 	}
@@ -459,6 +488,12 @@ public class SimpleR2dbcRepository<T, ID> implements R2dbcRepository<T, ID> {
 						});
 			}
 
+			if (scrollPosition instanceof KeysetScrollPosition) {
+
+				int limit = getLimit();
+				return createQuery(q -> limit > 0 ? q.limit(limit) : q).scroll(scrollPosition);
+			}
+
 			return super.scroll(scrollPosition);
 		}
 
@@ -467,9 +502,7 @@ public class SimpleR2dbcRepository<T, ID> implements R2dbcRepository<T, ID> {
 
 			Assert.notNull(pageable, "Pageable must not be null");
 
-			Mono<List<T>> items = createQuery(q -> q.with(pageable)).all().collectList();
-
-			return items.flatMap(content -> ReactivePageableExecutionUtils.getPage(content, pageable, this.count()));
+			return createQuery().page(pageable);
 		}
 
 		@Override
@@ -19,6 +19,8 @@ import kotlinx.coroutines.flow.Flow
 import kotlinx.coroutines.reactive.asFlow
 import kotlinx.coroutines.reactive.awaitSingle
 import kotlinx.coroutines.reactor.awaitSingleOrNull
+import org.springframework.data.domain.ScrollPosition
+import org.springframework.data.domain.Window
 
 /**
  * Extensions for [ReactiveSelectOperation].
@@ -77,6 +79,14 @@ suspend fun <T : Any> ReactiveSelectOperation.TerminatingSelect<T>.awaitCount():
 suspend fun <T : Any> ReactiveSelectOperation.TerminatingSelect<T>.awaitExists(): Boolean =
 		exists().awaitSingle()
 
+/**
+ * Coroutines variant of [ReactiveSelectOperation.TerminatingSelect.scroll].
+ *
+ * @since 4.1
+ */
+suspend fun <T : Any> ReactiveSelectOperation.TerminatingSelect<T>.awaitScroll(scrollPosition: ScrollPosition): Window<T> =
+		scroll(scrollPosition).awaitSingle()
+
 /**
  * Coroutines [Flow] variant of [ReactiveSelectOperation.TerminatingSelect.all].
  */
@@ -22,6 +22,7 @@ import static org.mockito.Mockito.*;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 
 import org.junit.jupiter.api.Test;
@@ -103,6 +104,57 @@ class IdGeneratingEntityCallbackTest {
 		assertThat(entity.id).isEqualTo(generatedId);
 	}
 
+	@Test
+	void allocatesPooledValuesFromSingleSequenceCall() {
+
+		AtomicInteger sequenceCalls = new AtomicInteger();
+		when(databaseClient.sql(Mockito.anyString()).map(Mockito.any(BiFunction.class)).one())
+				.thenReturn(Mono.fromSupplier(() -> {
+					sequenceCalls.incrementAndGet();
+					return 10L;
+				}));
+
+		IdGeneratingEntityCallback callback = new IdGeneratingEntityCallback(r2dbcMappingContext,
+				PostgresDialect.INSTANCE, databaseClient);
+
+		for (long expectedId = 10; expectedId < 13; expectedId++) {
+
+			OutboundRow row = new OutboundRow("name", Parameter.from("my_name"));
+			WithPooledSequence entity = new WithPooledSequence();
+
+			callback.onBeforeSave(entity, row, SqlIdentifier.unquoted("simple_entity")).as(StepVerifier::create)
+					.expectNext(entity).verifyComplete();
+
+			assertThat(entity.id).isEqualTo(expectedId);
+			assertThat(row).containsEntry(SqlIdentifier.unquoted("id"), Parameter.from(expectedId));
+		}
+
+		assertThat(sequenceCalls).hasValue(1);
+	}
+
+	@Test
+	void allocatesPooledValuesOnSubscription() {
+
+		when(databaseClient.sql(Mockito.anyString()).map(Mockito.any(BiFunction.class)).one())
+				.thenReturn(Mono.just(10L));
+
+		IdGeneratingEntityCallback callback = new IdGeneratingEntityCallback(r2dbcMappingContext,
+				PostgresDialect.INSTANCE, databaseClient);
+
+		callback.onBeforeSave(new WithPooledSequence(), new OutboundRow(), SqlIdentifier.unquoted("simple_entity"))
+				.as(StepVerifier::create).expectNextCount(1).verifyComplete();
+
+		WithPooledSequence unsubscribed = new WithPooledSequence();
+		callback.onBeforeSave(unsubscribed, new OutboundRow(), SqlIdentifier.unquoted("simple_entity"));
+
+		WithPooledSequence entity = new WithPooledSequence();
+		callback.onBeforeSave(entity, new OutboundRow(), SqlIdentifier.unquoted("simple_entity"))
+				.as(StepVerifier::create).expectNext(entity).verifyComplete();
+
+		assertThat(unsubscribed.id).isNull();
+		assertThat(entity.id).isEqualTo(11L);
+	}
+
 	static class SimpleEntity {
 
 		@Id
@@ -119,4 +171,13 @@ class IdGeneratingEntityCallbackTest {
 
 		private String name;
 	}
+
+	static class WithPooledSequence {
+
+		@Id
+		@Sequence(sequence = "seq_name", allocationSize = 3)
+		private Long id;
+
+		private String name;
+	}
 }
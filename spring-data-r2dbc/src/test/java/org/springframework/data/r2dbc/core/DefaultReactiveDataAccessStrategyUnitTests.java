@@ -6,13 +6,16 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Stream;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.r2dbc.core.DefaultReactiveDataAccessStrategy.NamedParameterCacheStatistics;
 import org.springframework.data.r2dbc.dialect.H2Dialect;
 import org.springframework.data.relational.core.mapping.Embedded;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.r2dbc.core.Parameter;
 
 /**
  * Unit tests for {@link DefaultReactiveDataAccessStrategy}.
@@ -33,6 +36,21 @@ class DefaultReactiveDataAccessStrategyUnitTests {
 				.containsExactlyInAnyOrder(sqlIdentifiers.toArray(new SqlIdentifier[0]));
 	}
 
+	@Test
+	void reportsNamedParameterCacheStatistics() {
+
+		dataAccessStrategy.processNamedParameters("SELECT * FROM person WHERE name = :name",
+				(index, name) -> Parameter.from("Walter"));
+		dataAccessStrategy.processNamedParameters("SELECT * FROM person WHERE name = :name",
+				(index, name) -> Parameter.from("Jesse"));
+
+		NamedParameterCacheStatistics statistics = dataAccessStrategy.getNamedParameterCacheStatistics();
+
+		assertThat(statistics.missCount()).isEqualTo(1);
+		assertThat(statistics.hitCount()).isEqualTo(3);
+		assertThat(statistics.evictionCount()).isZero();
+	}
+
 	static Stream<Fixture> fixtures() {
 		return Stream.of(new Fixture(SimpleEntity.class, "ID", "NAME"),
 				new Fixture(WithEmbedded.class, "ID", "L1_NAME", "L1_L2_NAME", "L1_L2_NUMBER"),
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link NamedParameterExpander}.
+ */
+@SuppressWarnings("deprecation")
+class NamedParameterExpanderTests {
+
+	@Test
+	void cachesParsedSql() {
+
+		NamedParameterExpander expander = new NamedParameterExpander();
+
+		List<String> parameterNames = expander.getParameterNames("select :a, :b");
+
+		assertThat(parameterNames).containsExactly("a", "b");
+		assertThat(expander.getParameterNames("select :a, :b")).isSameAs(parameterNames);
+		assertThat(expander.getParameterNames("select :c")).containsExactly("c");
+	}
+
+	@Test
+	void evictsEntriesBeyondCacheLimit() {
+
+		NamedParameterExpander expander = new NamedParameterExpander();
+		expander.setCacheLimit(1);
+
+		List<String> parameterNames = expander.getParameterNames("select :a");
+		expander.getParameterNames("select :b");
+
+		assertThat(expander.getParameterNames("select :a")).isNotSameAs(parameterNames).containsExactly("a");
+	}
+
+	@Test
+	void recordsCacheStatistics() {
+
+		NamedParameterExpander expander = new NamedParameterExpander();
+		expander.setCacheLimit(1);
+
+		expander.getParameterNames("select :a");
+		expander.getParameterNames("select :a");
+		expander.getParameterNames("select :b");
+
+		assertThat(expander.getCacheHitCount()).isEqualTo(1);
+		assertThat(expander.getCacheMissCount()).isEqualTo(2);
+		assertThat(expander.getCacheEvictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	void bypassesCacheIfDisabled() {
+
+		NamedParameterExpander expander = new NamedParameterExpander();
+		expander.setCacheLimit(0);
+
+		List<String> parameterNames = expander.getParameterNames("select :a");
+
+		assertThat(parameterNames).containsExactly("a");
+		assertThat(expander.getParameterNames("select :a")).isNotSameAs(parameterNames);
+	}
+}
@@ -26,6 +26,7 @@ import io.r2dbc.spi.test.MockColumnMetadata;
 import io.r2dbc.spi.test.MockResult;
 import io.r2dbc.spi.test.MockRow;
 import io.r2dbc.spi.test.MockRowMetadata;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -521,6 +522,178 @@ public class R2dbcEntityTemplateUnitTests {
 				Parameter.from(1L));
 	}
 
+	@Test
+	void shouldUpsert() {
+
+		MockRowMetadata metadata = MockRowMetadata.builder().build();
+		MockResult result = MockResult.builder().rowMetadata(metadata).rowsUpdated(1).build();
+
+		recorder.addStubbing(s -> s.startsWith("INSERT"), result);
+
+		Person person = new Person("id", "Walter", "White");
+		entityTemplate.upsert(person).as(StepVerifier::create) //
+				.expectNext(person) //
+				.verifyComplete();
+
+		StatementRecorder.RecordedStatement statement = recorder.getCreatedStatement(s -> s.startsWith("INSERT"));
+
+		assertThat(statement.getSql()).startsWith("INSERT INTO \"person\"").contains(
+				"ON CONFLICT (\"id\") DO UPDATE SET", "\"THE_NAME\" = EXCLUDED.\"THE_NAME\"",
+				"\"description\" = EXCLUDED.\"description\"");
+		assertThat(statement.getBindings()).hasSize(3).containsValue(Parameter.from("id"));
+	}
+
+	@Test
+	void upsertRejectsVersionedEntity() {
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> entityTemplate.upsert(new VersionedPerson("id", 1, "bar")));
+	}
+
+	@Test
+	void upsertAllUsesSingleStatement() {
+
+		MockRowMetadata metadata = MockRowMetadata.builder().build();
+		MockResult result = MockResult.builder().rowMetadata(metadata).rowsUpdated(2).build();
+
+		recorder.addStubbing(s -> s.startsWith("INSERT"), result);
+
+		entityTemplate.upsertAll(Flux.just(new Person("one", "Walter", "White"), new Person("two", "Jesse", "Pinkman")))
+				.map(Person::id) //
+				.as(StepVerifier::create) //
+				.expectNext("one", "two") //
+				.verifyComplete();
+
+		assertThat(recorder.getCreatedStatements()).filteredOn(it -> it.getSql().startsWith("INSERT")).hasSize(1)
+				.extracting(StatementRecorder.RecordedStatement::getSql).singleElement().asString()
+				.startsWith("INSERT INTO \"person\"").contains("ON CONFLICT (\"id\") DO UPDATE SET");
+	}
+
+	@Test
+	void upsertAllRejectsVersionedEntity() {
+
+		entityTemplate.upsertAll(Flux.just(new VersionedPerson("id", 1, "bar"))).as(StepVerifier::create) //
+				.verifyError(IllegalStateException.class);
+
+		assertThat(recorder.getCreatedStatements()).isEmpty();
+	}
+
+	@Test
+	void insertAllUsesSingleStatement() {
+
+		MockRowMetadata metadata = MockRowMetadata.builder().build();
+		MockResult result = MockResult.builder().rowMetadata(metadata).rowsUpdated(2).build();
+
+		recorder.addStubbing(s -> s.startsWith("INSERT"), result);
+
+		entityTemplate.insertAll(Flux.just(new Person("one", "Walter", "White"), new Person("two", "Jesse", "Pinkman")))
+				.as(StepVerifier::create) //
+				.expectNextCount(2) //
+				.verifyComplete();
+
+		assertThat(recorder.getCreatedStatements()).filteredOn(it -> it.getSql().startsWith("INSERT")).hasSize(1)
+				.extracting(StatementRecorder.RecordedStatement::getSql).containsExactly(
+						"INSERT INTO \"person\" (\"id\", \"THE_NAME\", \"description\") VALUES ($1, $2, $3)");
+	}
+
+	@Test
+	void insertAllAssignsGeneratedIds() {
+
+		MockRowMetadata metadata = MockRowMetadata.builder()
+				.columnMetadata(MockColumnMetadata.builder().name("id").type(R2dbcType.INTEGER).build()).build();
+		MockResult result = MockResult.builder() //
+				.row(MockRow.builder().identified("id", Object.class, 23).metadata(metadata).build()) //
+				.row(MockRow.builder().identified("id", Object.class, 42).metadata(metadata).build()) //
+				.build();
+
+		recorder.addStubbing(s -> s.startsWith("INSERT"), result);
+
+		entityTemplate.insertAll(Flux.just(new PersonWithPrimitiveId(0, "Walter"), new PersonWithPrimitiveId(0, "Jesse")))
+				.map(PersonWithPrimitiveId::id) //
+				.as(StepVerifier::create) //
+				.expectNext(23, 42) //
+				.verifyComplete();
+
+		assertThat(recorder.getCreatedStatements()).filteredOn(it -> it.getSql().startsWith("INSERT")).hasSize(1);
+	}
+
+	@Test
+	void insertAllSplitsStatementsByColumns() {
+
+		MockRowMetadata metadata = MockRowMetadata.builder().build();
+		MockResult result = MockResult.builder().rowMetadata(metadata).rowsUpdated(1).build();
+
+		recorder.addStubbing(s -> s.startsWith("INSERT"), result);
+
+		entityTemplate.insertAll(Flux.just(new Person("one", "Walter", "White"), new Person("two", "Jesse", null)))
+				.as(StepVerifier::create) //
+				.expectNextCount(2) //
+				.verifyComplete();
+
+		assertThat(recorder.getCreatedStatements()).filteredOn(it -> it.getSql().startsWith("INSERT")).hasSize(2);
+	}
+
+	@Test
+	void updateAllUsesSingleStatement() {
+
+		MockRowMetadata metadata = MockRowMetadata.builder().build();
+		MockResult result = MockResult.builder().rowMetadata(metadata).rowsUpdated(1).build();
+
+		recorder.addStubbing(s -> s.startsWith("UPDATE"), result);
+
+		entityTemplate.updateAll(Flux.just(new Person("one", "Walter", "White"), new Person("two", "Jesse", "Pinkman")))
+				.as(StepVerifier::create) //
+				.expectNextCount(2) //
+				.verifyComplete();
+
+		assertThat(recorder.getCreatedStatements()).filteredOn(it -> it.getSql().startsWith("UPDATE")).hasSize(1)
+				.extracting(StatementRecorder.RecordedStatement::getSql).containsExactly(
+						"UPDATE \"person\" SET \"THE_NAME\" = $1, \"description\" = $2 WHERE \"person\".\"id\" = $3");
+	}
+
+	@Test
+	void updateAllBatchesVersionedEntitiesIfDialectReportsRowCounts() {
+
+		MockRowMetadata metadata = MockRowMetadata.builder().build();
+		MockResult result = MockResult.builder().rowMetadata(metadata).rowsUpdated(1).build();
+
+		recorder.addStubbing(s -> s.startsWith("UPDATE"), result);
+
+		entityTemplate.updateAll(Flux.just(new VersionedPerson("one", 1, "Walter"), new VersionedPerson("two", 1, "Jesse")))
+				.as(StepVerifier::create) //
+				.expectNextCount(2) //
+				.verifyComplete();
+
+		assertThat(recorder.getCreatedStatements()).filteredOn(it -> it.getSql().startsWith("UPDATE")).hasSize(1);
+	}
+
+	@Test
+	void updateAllUpdatesVersionedEntitiesOneByOneIfDialectDoesNotReportRowCounts() {
+
+		PostgresDialect dialect = new PostgresDialect() {
+
+			@Override
+			public boolean supportsBatchUpdateCounts() {
+				return false;
+			}
+		};
+		R2dbcCustomConversions conversions = R2dbcCustomConversions.of(dialect);
+		R2dbcEntityTemplate entityTemplate = new R2dbcEntityTemplate(client, dialect,
+				new MappingR2dbcConverter(new R2dbcMappingContext(), conversions));
+
+		MockRowMetadata metadata = MockRowMetadata.builder().build();
+		MockResult result = MockResult.builder().rowMetadata(metadata).rowsUpdated(1).build();
+
+		recorder.addStubbing(s -> s.startsWith("UPDATE"), result);
+
+		entityTemplate.updateAll(Flux.just(new VersionedPerson("one", 1, "Walter"), new VersionedPerson("two", 1, "Jesse")))
+				.as(StepVerifier::create) //
+				.expectNextCount(2) //
+				.verifyComplete();
+
+		assertThat(recorder.getCreatedStatements()).filteredOn(it -> it.getSql().startsWith("UPDATE")).hasSize(2);
+	}
+
 	@Test // GH-215
 	void updateShouldInvokeCallback() {
 
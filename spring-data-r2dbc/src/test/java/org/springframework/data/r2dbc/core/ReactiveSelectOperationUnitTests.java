@@ -26,9 +26,15 @@ import io.r2dbc.spi.test.MockRow;
 import io.r2dbc.spi.test.MockRowMetadata;
 import reactor.test.StepVerifier;
 
+import java.util.Map;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.dialect.MySqlDialect;
 import org.springframework.data.r2dbc.dialect.PostgresDialect;
 import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
 import org.springframework.data.r2dbc.testing.StatementRecorder;
@@ -129,6 +135,40 @@ public class ReactiveSelectOperationUnitTests {
 				.isEqualTo("SELECT person.id, person.a_different_name FROM person WHERE person.THE_NAME = $1");
 	}
 
+	@Test
+	void shouldScrollUsingKeyset() {
+
+		MockRowMetadata metadata = MockRowMetadata.builder()
+				.columnMetadata(MockColumnMetadata.builder().name("id").type(R2dbcType.VARCHAR).build())
+				.columnMetadata(MockColumnMetadata.builder().name("THE_NAME").type(R2dbcType.VARCHAR).build()).build();
+		MockResult result = MockResult.builder()
+				.row(MockRow.builder().identified("id", Object.class, "2").identified("THE_NAME", Object.class, "Walter")
+						.metadata(metadata).build())
+				.row(MockRow.builder().identified("id", Object.class, "3").identified("THE_NAME", Object.class, "Walter")
+						.metadata(metadata).build())
+				.build();
+
+		recorder.addStubbing(s -> s.startsWith("SELECT"), result);
+
+		entityTemplate.select(Person.class) //
+				.matching(query(where("name").is("Walter")).sort(Sort.by("name")).limit(1)) //
+				.scroll(ScrollPosition.forward(Map.of("name", "Walter", "id", "1"))) //
+				.as(StepVerifier::create) //
+				.assertNext(window -> {
+
+					assertThat(window.hasNext()).isTrue();
+					assertThat(window.getContent()).extracting(it -> it.id).containsExactly("2");
+					assertThat(window.positionAt(0)).isEqualTo(ScrollPosition.forward(Map.of("name", "Walter", "id", "2")));
+				}) //
+				.verifyComplete();
+
+		StatementRecorder.RecordedStatement statement = recorder.getCreatedStatement(s -> s.startsWith("SELECT"));
+
+		assertThat(statement.getSql()).startsWith("SELECT person.* FROM person WHERE ")
+				.contains("person.THE_NAME > $", "person.id > $")
+				.endsWith("ORDER BY person.THE_NAME ASC, person.id ASC LIMIT 2");
+	}
+
 	@Test // GH-220
 	void shouldSelectFromTable() {
 
@@ -240,6 +280,77 @@ public class ReactiveSelectOperationUnitTests {
 		assertThat(statement.getSql()).isEqualTo("SELECT COUNT(*) FROM person WHERE person.THE_NAME = $1");
 	}
 
+	@Test
+	void shouldSelectPageWithWindowCount() {
+
+		MockRowMetadata metadata = MockRowMetadata.builder()
+				.columnMetadata(MockColumnMetadata.builder().name("id").type(R2dbcType.INTEGER).build())
+				.columnMetadata(MockColumnMetadata.builder().name("window_count").type(R2dbcType.BIGINT).build()).build();
+		MockResult result = MockResult.builder()
+				.row(MockRow.builder().identified("id", Object.class, "Walter").identified("window_count", Object.class, 5L)
+						.identified("window_count", Number.class, 5L).metadata(metadata).build())
+				.build();
+
+		recorder.addStubbing(s -> s.startsWith("SELECT"), result);
+
+		entityTemplate.select(Person.class) //
+				.matching(query(where("name").is("Walter"))) //
+				.page(PageRequest.of(1, 1)) //
+				.as(StepVerifier::create) //
+				.assertNext(actual -> {
+
+					assertThat(actual.getContent()).hasSize(1);
+					assertThat(actual.getTotalElements()).isEqualTo(5L);
+				}).verifyComplete();
+
+		assertThat(recorder.getCreatedStatements()).extracting(StatementRecorder.RecordedStatement::getSql)
+				.containsExactly(
+						"SELECT person.*, COUNT(*) OVER() AS window_count FROM person WHERE person.THE_NAME = $1 LIMIT 1 OFFSET 1");
+	}
+
+	@Test
+	void shouldCountEmptyPage() {
+
+		MockRowMetadata metadata = MockRowMetadata.builder()
+				.columnMetadata(MockColumnMetadata.builder().name("count").type(R2dbcType.BIGINT).build()).build();
+		recorder.addStubbing(s -> s.startsWith("SELECT person.*"), MockResult.builder().build());
+		recorder.addStubbing(s -> s.startsWith("SELECT COUNT(*) FROM"), MockResult.builder()
+				.row(MockRow.builder().identified(0, Long.class, 1L).metadata(metadata).build()).build());
+
+		entityTemplate.select(Person.class) //
+				.page(PageRequest.of(1, 1)) //
+				.as(StepVerifier::create) //
+				.assertNext(actual -> {
+
+					assertThat(actual.getContent()).isEmpty();
+					assertThat(actual.getTotalElements()).isEqualTo(1L);
+				}).verifyComplete();
+	}
+
+	@Test
+	void shouldCountPageWithoutWindowFunctions() {
+
+		entityTemplate = new R2dbcEntityTemplate(client, new DefaultReactiveDataAccessStrategy(MySqlDialect.INSTANCE));
+		((R2dbcMappingContext) entityTemplate.getDataAccessStrategy().getConverter().getMappingContext())
+				.setForceQuote(false);
+
+		MockRowMetadata metadata = MockRowMetadata.builder()
+				.columnMetadata(MockColumnMetadata.builder().name("id").type(R2dbcType.INTEGER).build()).build();
+		recorder.addStubbing(s -> s.startsWith("SELECT person.*"), MockResult.builder()
+				.row(MockRow.builder().identified("id", Object.class, "Walter").metadata(metadata).build()).build());
+		recorder.addStubbing(s -> s.startsWith("SELECT COUNT(*) FROM"), MockResult.builder()
+				.row(MockRow.builder().identified(0, Long.class, 5L).metadata(metadata).build()).build());
+
+		entityTemplate.select(Person.class) //
+				.page(PageRequest.of(1, 1)) //
+				.as(StepVerifier::create) //
+				.assertNext(actual -> assertThat(actual.getTotalElements()).isEqualTo(5L)) //
+				.verifyComplete();
+
+		assertThat(recorder.getCreatedStatements()).extracting(StatementRecorder.RecordedStatement::getSql)
+				.containsExactly("SELECT person.* FROM person LIMIT 1 OFFSET 1", "SELECT COUNT(*) FROM person");
+	}
+
 	@Test // GH-1652
 	void shouldConsiderFetchSize() {
 
@@ -18,6 +18,8 @@ package org.springframework.data.r2dbc.core;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import org.springframework.data.domain.PageRequest;
@@ -104,4 +106,71 @@ class StatementMapperUnitTests {
 
 		assertThat(preparedOperation.toQuery()).isEqualTo("SELECT table.* FROM table FOR UPDATE OF table");
 	}
+
+	@Test
+	void shouldReuseSqlOfSameShapeAndBindValues() {
+
+		PreparedOperation<?> first = mapper.getMappedObject(mapper.createUpdate("foo", Update.update("column", "value"))
+				.withCriteria(Criteria.where("foo").is("bar")));
+		PreparedOperation<?> second = mapper.getMappedObject(mapper
+				.createUpdate("foo", Update.update("column", "other")).withCriteria(Criteria.where("foo").is("baz")));
+
+		assertThat(first.toQuery()).isEqualTo("UPDATE foo SET column = $1 WHERE foo.foo = $2");
+		assertThat(second.toQuery()).isEqualTo(first.toQuery());
+
+		second.bindTo(bindTarget);
+		verify(bindTarget).bind(0, "other");
+		verify(bindTarget).bind(1, "baz");
+	}
+
+	@Test
+	void shouldConsiderInCollectionSizeForSql() {
+
+		StatementMapper.SelectSpec selectSpec = StatementMapper.SelectSpec.create("table").withProjection("*");
+
+		PreparedOperation<?> two = mapper
+				.getMappedObject(selectSpec.withCriteria(Criteria.where("id").in(List.of(1, 2))));
+		PreparedOperation<?> three = mapper
+				.getMappedObject(selectSpec.withCriteria(Criteria.where("id").in(List.of(1, 2, 3))));
+
+		assertThat(two.toQuery()).isEqualTo("SELECT table.* FROM table WHERE table.id IN ($1, $2)");
+		assertThat(three.toQuery()).isEqualTo("SELECT table.* FROM table WHERE table.id IN ($1, $2, $3)");
+	}
+
+	@Test
+	void shouldConsiderNullAssignmentsForSql() {
+
+		PreparedOperation<?> literal = mapper.getMappedObject(mapper.createUpdate("foo", Update.update("column", null)));
+		PreparedOperation<?> bound = mapper.getMappedObject(mapper.createUpdate("foo", Update.update("column", "value")));
+
+		assertThat(literal.toQuery()).isEqualTo("UPDATE foo SET column = NULL");
+		assertThat(bound.toQuery()).isEqualTo("UPDATE foo SET column = $1");
+	}
+
+	@Test
+	void shouldConsiderLimitAndOffsetForSql() {
+
+		StatementMapper.SelectSpec selectSpec = StatementMapper.SelectSpec.create("table").withProjection("*");
+
+		assertThat(mapper.getMappedObject(selectSpec.withPage(PageRequest.of(0, 2))).toQuery())
+				.isEqualTo("SELECT table.* FROM table LIMIT 2");
+		assertThat(mapper.getMappedObject(selectSpec.withPage(PageRequest.of(1, 2))).toQuery())
+				.isEqualTo("SELECT table.* FROM table LIMIT 2 OFFSET 2");
+	}
+
+	@Test
+	void shouldCacheRecentShapesBeyondCacheLimit() {
+
+		StatementShapeCache cache = new StatementShapeCache();
+
+		for (int i = 0; i <= StatementShapeCache.CACHE_LIMIT; i++) {
+			cache.getSql(new StatementShapeCache.StatementShape(Object.class, null, List.of(i)), () -> "rendered");
+		}
+
+		StatementShapeCache.StatementShape latest = new StatementShapeCache.StatementShape(Object.class, null,
+				List.of(StatementShapeCache.CACHE_LIMIT));
+
+		assertThat(cache.size()).isEqualTo(StatementShapeCache.CACHE_LIMIT);
+		assertThat(cache.getSql(latest, () -> "rendered again")).isEqualTo("rendered");
+	}
 }
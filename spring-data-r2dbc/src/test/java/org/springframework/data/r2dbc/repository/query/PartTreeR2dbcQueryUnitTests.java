@@ -27,6 +27,8 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
 
 import org.assertj.core.api.AbstractAssert;
 import org.assertj.core.api.Assertions;
@@ -39,8 +41,12 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Window;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.r2dbc.convert.R2dbcConverter;
 import org.springframework.data.r2dbc.core.DefaultReactiveDataAccessStrategy;
@@ -652,6 +658,38 @@ class PartTreeR2dbcQueryUnitTests {
 				.where(TABLE + ".first_name = $1 LIMIT 1");
 	}
 
+	@Test
+	void createsKeysetQueryForScrollPosition() throws Exception {
+
+		R2dbcQueryMethod queryMethod = getQueryMethod("findTop3ByAgeOrderByLastNameAscFirstNameDesc", Integer.class,
+				ScrollPosition.class);
+		PartTreeR2dbcQuery r2dbcQuery = new PartTreeR2dbcQuery(queryMethod, operations, r2dbcConverter, dataAccessStrategy);
+		RelationalParametersParameterAccessor accessor = getAccessor(queryMethod,
+				new Object[] { 42, ScrollPosition.forward(Map.of("lastName", "Doe", "firstName", "John", "id", 7L)) });
+		PreparedOperation<?> preparedOperation = createQuery(r2dbcQuery, accessor);
+
+		Assertions.assertThat(preparedOperation.get()) //
+				.contains(TABLE + ".age = $1", TABLE + ".last_name > $", TABLE + ".first_name < $", TABLE + ".id > $") //
+				.endsWith("ORDER BY " + TABLE + ".last_name ASC, " + TABLE + ".first_name DESC, " + TABLE + ".id ASC LIMIT 4");
+	}
+
+	@Test
+	void createsOffsetQueryForScrollPosition() throws Exception {
+
+		R2dbcQueryMethod queryMethod = getQueryMethod("findTop3ByAgeOrderByLastNameAscFirstNameDesc", Integer.class,
+				ScrollPosition.class);
+		PartTreeR2dbcQuery r2dbcQuery = new PartTreeR2dbcQuery(queryMethod, operations, r2dbcConverter, dataAccessStrategy);
+		RelationalParametersParameterAccessor accessor = getAccessor(queryMethod,
+				new Object[] { 42, ScrollPosition.offset(5) });
+		PreparedOperation<?> preparedOperation = createQuery(r2dbcQuery, accessor);
+
+		PreparedOperationAssert.assertThat(preparedOperation) //
+				.selects(ALL_FIELDS_ARRAY_PREFIXED) //
+				.from(TABLE) //
+				.where(TABLE + ".age = $1") //
+				.orderBy(TABLE + ".last_name ASC, " + TABLE + ".first_name DESC LIMIT 4 OFFSET 6");
+	}
+
 	@Test // GH-341
 	void createsQueryToDeleteByFirstName() throws Exception {
 
@@ -830,6 +868,68 @@ class PartTreeR2dbcQueryUnitTests {
 				.where("with_embeddable.home_country_name = $1");
 	}
 
+	@Test
+	void reusesSqlForQueriesOfSameShape() throws Exception {
+
+		R2dbcQueryMethod queryMethod = getQueryMethod("findAllByFirstName", String.class);
+		PartTreeR2dbcQuery r2dbcQuery = new PartTreeR2dbcQuery(queryMethod, operations, r2dbcConverter, dataAccessStrategy);
+
+		PreparedOperation<?> first = createQuery(queryMethod, r2dbcQuery, "John");
+		PreparedOperation<?> second = createQuery(queryMethod, r2dbcQuery, "Jane");
+		BindTarget bindTarget = mock(BindTarget.class);
+		second.bindTo(bindTarget);
+
+		Assertions.assertThat(second.get()).isSameAs(first.get());
+		verify(bindTarget).bind(0, "Jane");
+	}
+
+	@Test
+	void rendersSqlForEachSizeOfInCollection() throws Exception {
+
+		R2dbcQueryMethod queryMethod = getQueryMethod("findAllByAgeIn", Collection.class);
+		PartTreeR2dbcQuery r2dbcQuery = new PartTreeR2dbcQuery(queryMethod, operations, r2dbcConverter, dataAccessStrategy);
+
+		PreparedOperation<?> single = createQuery(queryMethod, r2dbcQuery, List.of(1));
+		PreparedOperation<?> triple = createQuery(queryMethod, r2dbcQuery, List.of(1, 2, 3));
+		PreparedOperation<?> cached = createQuery(queryMethod, r2dbcQuery, List.of(4, 5, 6));
+		BindTarget bindTarget = mock(BindTarget.class);
+		cached.bindTo(bindTarget);
+
+		PreparedOperationAssert.assertThat(single).where(TABLE + ".age IN ($1)");
+		PreparedOperationAssert.assertThat(triple).where(TABLE + ".age IN ($1, $2, $3)");
+		Assertions.assertThat(cached.get()).isSameAs(triple.get());
+		verify(bindTarget).bind(0, 4);
+		verify(bindTarget).bind(1, 5);
+		verify(bindTarget).bind(2, 6);
+	}
+
+	@Test
+	void reusesSqlOfFirstPageOnly() throws Exception {
+
+		R2dbcQueryMethod queryMethod = getQueryMethod("findAllByFirstName", String.class, Pageable.class);
+		PartTreeR2dbcQuery r2dbcQuery = new PartTreeR2dbcQuery(queryMethod, operations, r2dbcConverter, dataAccessStrategy);
+
+		PreparedOperation<?> first = createQuery(queryMethod, r2dbcQuery, "John", PageRequest.of(0, 10));
+		PreparedOperation<?> firstAgain = createQuery(queryMethod, r2dbcQuery, "Jane", PageRequest.of(0, 10));
+		PreparedOperation<?> second = createQuery(queryMethod, r2dbcQuery, "John", PageRequest.of(1, 10));
+		PreparedOperation<?> secondAgain = createQuery(queryMethod, r2dbcQuery, "Jane", PageRequest.of(1, 10));
+
+		Assertions.assertThat(firstAgain.get()).isSameAs(first.get());
+		Assertions.assertThat(secondAgain.get()).isEqualTo(second.get()).isNotSameAs(second.get()).contains("OFFSET 10");
+	}
+
+	@Test
+	void rendersSqlForNullArguments() throws Exception {
+
+		R2dbcQueryMethod queryMethod = getQueryMethod("findAllByFirstName", String.class);
+		PartTreeR2dbcQuery r2dbcQuery = new PartTreeR2dbcQuery(queryMethod, operations, r2dbcConverter, dataAccessStrategy);
+
+		createQuery(queryMethod, r2dbcQuery, "John").get();
+		PreparedOperation<?> query = createQuery(queryMethod, r2dbcQuery, new Object[] { null });
+
+		PreparedOperationAssert.assertThat(query).where(TABLE + ".first_name IS NULL");
+	}
+
 	private PreparedOperation<?> createQuery(R2dbcQueryMethod queryMethod, PartTreeR2dbcQuery r2dbcQuery,
 			Object... parameters) {
 		return createQuery(r2dbcQuery, getAccessor(queryMethod, parameters));
@@ -955,12 +1055,16 @@ class PartTreeR2dbcQueryUnitTests {
 
 		Flux<User> findAllByFirstName(String firstName);
 
+		Flux<User> findAllByFirstName(String firstName, Pageable pageable);
+
 		Flux<User> findAllByLastNameAndFirstName(String lastName, String firstName);
 
 		Flux<User> findAllByLastNameOrFirstName(String lastName, String firstName);
 
 		Mono<Boolean> existsByFirstName(String firstName);
 
+		Mono<Window<User>> findTop3ByAgeOrderByLastNameAscFirstNameDesc(Integer age, ScrollPosition position);
+
 		Flux<User> findAllByDateOfBirthBetween(Date from, Date to);
 
 		Flux<User> findAllByAgeLessThan(Integer age);
@@ -21,6 +21,7 @@ import static org.mockito.Mockito.*;
 import io.r2dbc.spi.test.MockResult;
 import io.r2dbc.spi.test.MockRow;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.lang.reflect.Method;
@@ -36,7 +37,9 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.expression.ValueExpressionParser;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
@@ -323,6 +326,12 @@ public class StringBasedR2dbcQueryUnitTests {
 				.isThrownBy(() -> getQueryMethod("unsupportedLimitQuery", String.class, Limit.class));
 	}
 
+	@Test
+	void rejectsStringBasedScrollQuery() {
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> getQueryMethod("unsupportedScrollQuery", ScrollPosition.class));
+	}
+
 	private StringBasedR2dbcQuery getQueryMethod(String name, Class<?>... args) {
 
 		Method method = ReflectionUtils.findMethod(SampleRepository.class, name, args);
@@ -385,6 +394,9 @@ public class StringBasedR2dbcQueryUnitTests {
 
 		@Query("SELECT * FROM person WHERE lastname = $1")
 		Person unsupportedLimitQuery(@Param("lastname") String lastname, Limit limit);
+
+		@Query("SELECT * FROM person")
+		Mono<Window<Person>> unsupportedScrollQuery(ScrollPosition position);
 	}
 
 	static class PersonDto {
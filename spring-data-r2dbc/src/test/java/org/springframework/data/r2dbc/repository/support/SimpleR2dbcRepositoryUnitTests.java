@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.r2dbc.repository.support;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.r2dbc.convert.MappingR2dbcConverter;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
+import org.springframework.data.r2dbc.core.ReactiveDataAccessStrategy;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.repository.support.MappingRelationalEntityInformation;
+
+/**
+ * Unit tests for {@link SimpleR2dbcRepository}.
+ */
+@ExtendWith(MockitoExtension.class)
+class SimpleR2dbcRepositoryUnitTests {
+
+	R2dbcConverter converter = new MappingR2dbcConverter(new R2dbcMappingContext());
+
+	@Mock R2dbcEntityOperations entityOperations;
+
+	SimpleR2dbcRepository<Person, Long> repository;
+
+	Person walter = new Person(null, "Walter");
+	Person jesse = new Person(null, "Jesse");
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void before() {
+
+		RelationalPersistentEntity<Person> entity = (RelationalPersistentEntity<Person>) converter.getMappingContext()
+				.getRequiredPersistentEntity(Person.class);
+
+		repository = new SimpleR2dbcRepository<>(new MappingRelationalEntityInformation<>(entity), entityOperations,
+				converter);
+	}
+
+	@Test
+	void saveAllSavesOneAfterTheOtherByDefault() {
+
+		Sinks.One<Person> first = Sinks.one();
+
+		when(entityOperations.insert(walter)).thenReturn(first.asMono());
+		when(entityOperations.insert(jesse)).thenReturn(Mono.just(jesse));
+
+		repository.saveAll(Flux.just(walter, jesse)).as(StepVerifier::create) //
+				.then(() -> {
+
+					verify(entityOperations, never()).insert(jesse);
+					first.tryEmitValue(walter);
+				}) //
+				.expectNext(walter, jesse) //
+				.verifyComplete();
+	}
+
+	@Test
+	void saveAllSavesConcurrentlyRetainingOrder() {
+
+		Sinks.One<Person> first = Sinks.one();
+
+		when(entityOperations.insert(walter)).thenReturn(first.asMono());
+		when(entityOperations.insert(jesse)).thenReturn(Mono.just(jesse));
+
+		repository.setSaveConcurrency(2);
+
+		repository.saveAll(Flux.just(walter, jesse)).as(StepVerifier::create) //
+				.then(() -> {
+
+					verify(entityOperations).insert(jesse);
+					first.tryEmitValue(walter);
+				}) //
+				.expectNext(walter, jesse) //
+				.verifyComplete();
+	}
+
+	@Test
+	void findAllByIdQueriesIdsInChunks() {
+
+		mockInConditionMaximumSize(2);
+		when(entityOperations.select(any(Query.class), eq(Person.class))).thenReturn(Flux.empty());
+
+		repository.findAllById(Flux.just(1L, 2L, 3L, 4L, 5L)).as(StepVerifier::create).verifyComplete();
+
+		verify(entityOperations, times(3)).select(any(Query.class), eq(Person.class));
+	}
+
+	@Test
+	void deleteByIdDeletesIdsInChunks() {
+
+		mockInConditionMaximumSize(2);
+		when(entityOperations.delete(any(Query.class), eq(Person.class))).thenReturn(Mono.just(2L));
+
+		repository.deleteById(Flux.just(1L, 2L, 3L, 4L)).as(StepVerifier::create).verifyComplete();
+
+		verify(entityOperations, times(2)).delete(any(Query.class), eq(Person.class));
+	}
+
+	private void mockInConditionMaximumSize(int size) {
+
+		ReactiveDataAccessStrategy dataAccessStrategy = mock(ReactiveDataAccessStrategy.class);
+		Dialect dialect = mock(Dialect.class);
+
+		when(entityOperations.getDataAccessStrategy()).thenReturn(dataAccessStrategy);
+		when(dataAccessStrategy.getDialect()).thenReturn(dialect);
+		when(dialect.getInConditionMaximumSize()).thenReturn(size);
+	}
+
+	record Person(@Id Long id, String name) {
+	}
+}
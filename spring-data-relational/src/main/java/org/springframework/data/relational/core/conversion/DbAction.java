@@ -154,6 +154,40 @@ public interface DbAction<T> {
 		}
 	}
 
+	/**
+	 * Represents an upsert statement for the aggregate root, i.e. an insert that turns into an update if a row with the
+	 * same id already exists.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 4.1
+	 */
+	class UpsertRoot<T> implements WithRoot<T> {
+
+		private T entity;
+
+		public UpsertRoot(T entity) {
+			this.entity = entity;
+		}
+
+		public T entity() {
+			return this.entity;
+		}
+
+		@Override
+		public void setEntity(T entity) {
+			this.entity = entity;
+		}
+
+		@Override
+		public IdValueSource idValueSource() {
+			return IdValueSource.PROVIDED;
+		}
+
+		public String toString() {
+			return "DbAction.UpsertRoot(entity=" + this.entity() + ")";
+		}
+	}
+
 	/**
 	 * Represents a delete statement for all entities that are reachable via a given path from the aggregate root.
 	 *
@@ -168,6 +202,31 @@ public interface DbAction<T> {
 			}
 		}
 
+	/**
+	 * Represents the synchronization of the entities reachable via a given path from the aggregate root with the rows
+	 * stored in the database. Instead of deleting all rows and inserting them again, the rows currently present get
+	 * compared to the {@link #elements() elements} by id, so that only added, changed or removed entities get written.
+	 *
+	 * @param rootId the id of the aggregate root.
+	 * @param propertyPath the path from the aggregate root to the referenced entities.
+	 * @param elements {@link Insert} actions describing the current state of the referenced entities.
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 4.1
+	 * @see org.springframework.data.relational.core.mapping.CollectionUpdateStrategy#SYNCHRONIZE
+	 */
+	record SynchronizeReferenced<T>(Object rootId, PersistentPropertyPath<RelationalPersistentProperty> propertyPath,
+			List<Insert<T>> elements) implements WithPropertyPath<T> {
+
+		public SynchronizeReferenced {
+			elements = List.copyOf(elements);
+		}
+
+		public String toString() {
+			return "DbAction.SynchronizeReferenced(rootId=" + this.rootId() + ", propertyPath=" + this.propertyPath()
+					+ ", elements=" + this.elements() + ")";
+		}
+	}
+
 	/**
 	 * Represents a delete statement for a aggregate root when only the ID is known.
 	 * <p>
@@ -343,6 +402,36 @@ public interface DbAction<T> {
 		}
 	}
 
+	/**
+	 * Represents a batch update statement for multiple entities that are aggregate roots. The batch value tells whether
+	 * the updates are subject to optimistic locking, i.e. whether all {@link UpdateRoot actions} have a
+	 * {@link UpdateRoot#getPreviousVersion() previous version}.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 4.1
+	 */
+	final class BatchUpdateRoot<T> extends BatchWithValue<T, UpdateRoot<T>, Boolean> {
+		public BatchUpdateRoot(List<UpdateRoot<T>> actions) {
+			super(actions, BatchUpdateRoot::isVersioned);
+		}
+
+		static boolean isVersioned(UpdateRoot<?> action) {
+			return action.getPreviousVersion() != null;
+		}
+	}
+
+	/**
+	 * Represents a batch upsert statement for multiple entities that are aggregate roots.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 4.1
+	 */
+	final class BatchUpsertRoot<T> extends BatchWithValue<T, UpsertRoot<T>, Class<T>> {
+		public BatchUpsertRoot(List<UpsertRoot<T>> actions) {
+			super(actions, UpsertRoot::getEntityType);
+		}
+	}
+
 	/**
 	 * Represents a batch delete statement for multiple entities that are reachable via a given path from the aggregate
 	 * root.
@@ -39,8 +39,18 @@ public class SaveBatchingAggregateChange<T> implements BatchingAggregateChange<T
 	 * into a single batch.
 	 */
 	private final List<DbAction.InsertRoot<T>> insertRootBatchCandidates = new ArrayList<>();
+	/**
+	 * Holds a list of UpdateRoot actions that are compatible with each other, in the sense, that they might be combined
+	 * into a single batch.
+	 */
+	private final List<DbAction.UpdateRoot<T>> updateRootBatchCandidates = new ArrayList<>();
+	/**
+	 * Holds a list of UpsertRoot actions that might be combined into a single batch.
+	 */
+	private final List<DbAction.UpsertRoot<T>> upsertRootBatchCandidates = new ArrayList<>();
 	private final BatchedActions insertActions = BatchedActions.batchedInserts();
 	private final BatchedActions deleteActions = BatchedActions.batchedDeletes();
+	private final List<DbAction.SynchronizeReferenced<?>> synchronizeActions = new ArrayList<>();
 
 	SaveBatchingAggregateChange(Class<T> entityType) {
 		this.entityType = entityType;
@@ -67,7 +77,18 @@ public class SaveBatchingAggregateChange<T> implements BatchingAggregateChange<T
 		} else {
 			insertRootBatchCandidates.forEach(consumer);
 		}
+		if (updateRootBatchCandidates.size() > 1) {
+			consumer.accept(new DbAction.BatchUpdateRoot<>(updateRootBatchCandidates));
+		} else {
+			updateRootBatchCandidates.forEach(consumer);
+		}
+		if (upsertRootBatchCandidates.size() > 1) {
+			consumer.accept(new DbAction.BatchUpsertRoot<>(upsertRootBatchCandidates));
+		} else {
+			upsertRootBatchCandidates.forEach(consumer);
+		}
 		deleteActions.forEach(consumer);
+		synchronizeActions.forEach(consumer);
 		insertActions.forEach(consumer);
 	}
 
@@ -76,12 +97,26 @@ public class SaveBatchingAggregateChange<T> implements BatchingAggregateChange<T
 
 		aggregateChange.forEachAction(action -> {
 
-			if (action instanceof DbAction.UpdateRoot<?> rootAction) {
+			if (action instanceof DbAction.UpsertRoot<?> rootAction) {
+
+				combineBatchCandidatesIntoSingleBatchRootAction();
+				combineUpdateCandidatesIntoSingleBatchRootAction();
+				// noinspection unchecked
+				upsertRootBatchCandidates.add((DbAction.UpsertRoot<T>) rootAction);
+			} else if (action instanceof DbAction.UpdateRoot<?> rootAction) {
 
 				combineBatchCandidatesIntoSingleBatchRootAction();
-				rootActions.add(rootAction);
+				combineUpsertCandidatesIntoSingleBatchRootAction();
+				if (!updateRootBatchCandidates.isEmpty() && DbAction.BatchUpdateRoot
+						.isVersioned(updateRootBatchCandidates.get(0)) != DbAction.BatchUpdateRoot.isVersioned(rootAction)) {
+					combineUpdateCandidatesIntoSingleBatchRootAction();
+				}
+				// noinspection unchecked
+				updateRootBatchCandidates.add((DbAction.UpdateRoot<T>) rootAction);
 			} else if (action instanceof DbAction.InsertRoot<?> rootAction) {
 
+				combineUpdateCandidatesIntoSingleBatchRootAction();
+				combineUpsertCandidatesIntoSingleBatchRootAction();
 				if (!insertRootBatchCandidates.isEmpty()
 						&& !insertRootBatchCandidates.get(0).idValueSource().equals(rootAction.idValueSource())) {
 					combineBatchCandidatesIntoSingleBatchRootAction();
@@ -92,6 +127,8 @@ public class SaveBatchingAggregateChange<T> implements BatchingAggregateChange<T
 				insertActions.add(insertAction);
 			} else if (action instanceof DbAction.Delete<?> deleteAction) {
 				deleteActions.add(deleteAction);
+			} else if (action instanceof DbAction.SynchronizeReferenced<?> synchronizeAction) {
+				synchronizeActions.add(synchronizeAction);
 			}
 		});
 	}
@@ -110,4 +147,31 @@ public class SaveBatchingAggregateChange<T> implements BatchingAggregateChange<T
 		insertRootBatchCandidates.clear();
 	}
 
+	/**
+	 * All actions gathered in {@link #updateRootBatchCandidates} are combined into a single root action and the list of
+	 * batch candidates is emptied.
+	 */
+	private void combineUpdateCandidatesIntoSingleBatchRootAction() {
+
+		if (updateRootBatchCandidates.size() > 1) {
+			rootActions.add(new DbAction.BatchUpdateRoot<>(List.copyOf(updateRootBatchCandidates)));
+		} else {
+			rootActions.addAll(updateRootBatchCandidates);
+		}
+		updateRootBatchCandidates.clear();
+	}
+
+	/**
+	 * All actions gathered in {@link #upsertRootBatchCandidates} are combined into a single root action and the list of
+	 * batch candidates is emptied.
+	 */
+	private void combineUpsertCandidatesIntoSingleBatchRootAction() {
+
+		if (upsertRootBatchCandidates.size() > 1) {
+			rootActions.add(new DbAction.BatchUpsertRoot<>(List.copyOf(upsertRootBatchCandidates)));
+		} else {
+			rootActions.addAll(upsertRootBatchCandidates);
+		}
+		upsertRootBatchCandidates.clear();
+	}
 }
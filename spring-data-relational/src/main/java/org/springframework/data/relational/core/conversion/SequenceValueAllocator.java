@@ -0,0 +1,147 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.conversion;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.util.Assert;
+
+/**
+ * Thread-safe allocator handing out identifiers from blocks of sequence values using a pooled optimizer. Each value
+ * {@code v} obtained from a sequence incremented by {@code allocationSize} reserves the identifiers {@code v} to
+ * {@code v + allocationSize - 1}. The first identifier of a block is returned to the caller that fetched the block,
+ * the remaining identifiers are handed out by subsequent calls without querying the database.
+ * <p>
+ * Pools are kept per sequence. Blocks fetched concurrently are queued and handed out in the order they were
+ * registered. Identifiers that are not handed out are lost once the allocator is discarded.
+ *
+ * @since 4.1
+ * @see org.springframework.data.relational.core.mapping.Sequence#allocationSize()
+ */
+public class SequenceValueAllocator {
+
+	private final Map<SqlIdentifier, Pool> pools = new ConcurrentHashMap<>();
+
+	/**
+	 * Obtain the next identifier from the pool of {@code sequence} without querying the database.
+	 *
+	 * @param sequence the sequence. Must not be {@literal null}.
+	 * @return the next identifier or {@literal null} if the pool is exhausted.
+	 */
+	public @Nullable Long poll(SqlIdentifier sequence) {
+
+		Assert.notNull(sequence, "Sequence must not be null");
+
+		Pool pool = pools.get(sequence);
+		return pool != null ? pool.poll() : null;
+	}
+
+	/**
+	 * Register the block of identifiers starting at {@code sequenceValue} and return its first identifier. If the pool
+	 * of {@code sequence} still contains identifiers, because it got refilled concurrently, the remainder of the new
+	 * block is queued behind them.
+	 *
+	 * @param sequence the sequence. Must not be {@literal null}.
+	 * @param sequenceValue the value obtained from the sequence. Must be a {@link Number}.
+	 * @param allocationSize the number of identifiers reserved by {@code sequenceValue}.
+	 * @return the first identifier of the block.
+	 */
+	public long allocate(SqlIdentifier sequence, @Nullable Object sequenceValue, int allocationSize) {
+
+		Assert.notNull(sequence, "Sequence must not be null");
+		Assert.isTrue(allocationSize > 0, "Allocation size must be greater than zero");
+
+		return getPool(sequence).allocate(toLong(sequence, sequenceValue), allocationSize);
+	}
+
+	/**
+	 * Obtain the next identifier for {@code sequence}, fetching a new block through {@code sequenceQuery} if the pool is
+	 * exhausted. The sequence is queried without holding a lock, so callers finding the pool exhausted concurrently fetch
+	 * a block each. Blocks get registered atomically, and identifiers not handed out to the caller that fetched a block
+	 * are queued for subsequent calls.
+	 *
+	 * @param sequence the sequence. Must not be {@literal null}.
+	 * @param allocationSize the number of identifiers reserved by each sequence value.
+	 * @param sequenceQuery queries the next value of the sequence. Must not be {@literal null}.
+	 * @return the next identifier.
+	 */
+	public long next(SqlIdentifier sequence, int allocationSize, Supplier<?> sequenceQuery) {
+
+		Assert.notNull(sequence, "Sequence must not be null");
+		Assert.isTrue(allocationSize > 0, "Allocation size must be greater than zero");
+		Assert.notNull(sequenceQuery, "Sequence query must not be null");
+
+		Pool pool = getPool(sequence);
+
+		Long next = pool.poll();
+		if (next != null) {
+			return next;
+		}
+
+		return pool.allocate(toLong(sequence, sequenceQuery.get()), allocationSize);
+	}
+
+	private Pool getPool(SqlIdentifier sequence) {
+		return pools.computeIfAbsent(sequence, it -> new Pool());
+	}
+
+	private static long toLong(SqlIdentifier sequence, @Nullable Object sequenceValue) {
+
+		if (sequenceValue instanceof Number number) {
+			return number.longValue();
+		}
+
+		throw new IllegalStateException("Sequence %s returned %s; Pooled allocation requires numeric sequence values"
+				.formatted(sequence, sequenceValue));
+	}
+
+	/**
+	 * Identifiers remaining from the allocated blocks of a sequence. Each block is held as {@code [next, limit]}.
+	 */
+	private static class Pool {
+
+		private final Deque<long[]> blocks = new ArrayDeque<>();
+
+		synchronized @Nullable Long poll() {
+
+			for (long[] block = blocks.peekFirst(); block != null; block = blocks.peekFirst()) {
+
+				if (block[0] < block[1]) {
+					return block[0]++;
+				}
+
+				blocks.removeFirst();
+			}
+
+			return null;
+		}
+
+		synchronized long allocate(long sequenceValue, int allocationSize) {
+
+			if (allocationSize > 1) {
+				blocks.addLast(new long[] { sequenceValue + 1, sequenceValue + allocationSize });
+			}
+
+			return sequenceValue;
+		}
+	}
+}
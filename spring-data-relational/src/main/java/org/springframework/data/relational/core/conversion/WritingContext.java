@@ -25,6 +25,7 @@ import java.util.Map;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.mapping.CollectionUpdateStrategy;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
@@ -87,7 +88,18 @@ class WritingContext<T> {
 
 		setRootAction(new DbAction.UpdateRoot<>(root, previousVersion));
 		deleteReferenced().forEach(aggregateChange::addAction);
-		insertReferenced().forEach(aggregateChange::addAction);
+		updateReferenced().forEach(aggregateChange::addAction);
+	}
+
+	/**
+	 * Writes the root with an upsert, which inserts or updates the row depending on its existence. Referenced entities
+	 * get deleted and inserted again as for {@link #update()}.
+	 */
+	void upsert() {
+
+		setRootAction(new DbAction.UpsertRoot<>(root));
+		deleteReferenced().forEach(aggregateChange::addAction);
+		updateReferenced().forEach(aggregateChange::addAction);
 	}
 
 	void save() {
@@ -100,7 +112,7 @@ class WritingContext<T> {
 
 			setRootAction(new DbAction.UpdateRoot<>(root, previousVersion));
 			deleteReferenced().forEach(aggregateChange::addAction);
-			insertReferenced().forEach(aggregateChange::addAction);
+			updateReferenced().forEach(aggregateChange::addAction);
 		}
 	}
 
@@ -119,6 +131,22 @@ class WritingContext<T> {
 		return actions;
 	}
 
+	private List<DbAction<?>> updateReferenced() {
+
+		List<DbAction<?>> actions = new ArrayList<>();
+
+		paths.forEach(path -> {
+
+			if (isSynchronized(path)) {
+				actions.add(synchronizeAll(path));
+			} else {
+				actions.addAll(insertAll(path));
+			}
+		});
+
+		return actions;
+	}
+
 	@SuppressWarnings("unchecked")
 	private List<? extends DbAction<?>> insertAll(PersistentPropertyPath<RelationalPersistentProperty> path) {
 
@@ -158,23 +186,54 @@ class WritingContext<T> {
 	private List<DbAction<?>> deleteReferenced() {
 
 		List<DbAction<?>> deletes = new ArrayList<>();
-		paths.forEach(path -> deletes.add(0, deleteReferenced(path)));
+		paths.stream() //
+				.filter(path -> !isSynchronized(path)) //
+				.forEach(path -> deletes.add(0, deleteReferenced(path)));
 
 		return deletes;
 	}
 
 	/// Operations on a single path
 
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private DbAction.SynchronizeReferenced<?> synchronizeAll(PersistentPropertyPath<RelationalPersistentProperty> path) {
+		return new DbAction.SynchronizeReferenced<>(getRootId(), path, (List) insertAll(path));
+	}
+
 	private DbAction.Delete<?> deleteReferenced(PersistentPropertyPath<RelationalPersistentProperty> path) {
+		return new DbAction.Delete<>(getRootId(), path);
+	}
+
+	//// methods not directly related to the creation of DbActions
+
+	private Object getRootId() {
 
 		Object id = context.getRequiredPersistentEntity(entityType).getIdentifierAccessor(root).getIdentifier();
 
 		Assert.state(id != null, "Id must not be null");
 
-		return new DbAction.Delete<>(id, path);
+		return id;
 	}
 
-	//// methods not directly related to the creation of DbActions
+	/**
+	 * Determines whether the entities referenced via the given path get synchronized instead of deleted and reinserted.
+	 * This requires the {@link CollectionUpdateStrategy#SYNCHRONIZE} strategy on a non-qualified collection directly
+	 * referenced by the aggregate root, containing entities with an id and no further references.
+	 */
+	private boolean isSynchronized(PersistentPropertyPath<RelationalPersistentProperty> path) {
+
+		RelationalPersistentProperty property = path.getLeafProperty();
+
+		if (property.getCollectionUpdateStrategy() != CollectionUpdateStrategy.SYNCHRONIZE //
+				|| !property.isCollectionLike() //
+				|| property.isQualified() //
+				|| !isDirectlyReferencedByRootIgnoringEmbeddables(path) //
+				|| !context.getRequiredPersistentEntity(property).hasIdProperty()) {
+			return false;
+		}
+
+		return paths.stream().noneMatch(other -> !other.equals(path) && path.isBasePathOf(other));
+	}
 
 	private void setRootAction(DbAction.WithRoot<T> dbAction) {
 		aggregateChange.setRootAction(dbAction);
@@ -113,4 +113,9 @@ public class Db2Dialect extends AbstractDialect {
 	public Collection<Object> getConverters() {
 		return Collections.singletonList(TimestampAtUtcToOffsetDateTimeConverter.INSTANCE);
 	}
+
+	@Override
+	public boolean supportsWindowFunctions() {
+		return true;
+	}
 }
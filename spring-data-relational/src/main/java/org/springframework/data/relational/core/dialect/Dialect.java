@@ -147,4 +147,61 @@ public interface Dialect {
 	default boolean supportsSingleQueryLoading() {
 		return true;
 	}
+
+	/**
+	 * Return the maximum number of values to be used in a single {@code IN} condition. Statements requiring more values
+	 * get split into multiple statements.
+	 *
+	 * @return the maximum number of values of an {@code IN} condition.
+	 * @since 4.1
+	 */
+	default int getInConditionMaximumSize() {
+		return 1000;
+	}
+
+	/**
+	 * Return whether the database supports {@code INSERT} statements with multiple rows in the {@code VALUES} clause, such
+	 * as {@code INSERT INTO … VALUES (…), (…)}.
+	 *
+	 * @return {@literal true} if multi-row inserts are supported.
+	 * @since 4.1
+	 * @see IdGeneration#supportedForMultiRowInserts()
+	 */
+	default boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	/**
+	 * Return whether the database supports window functions such as {@code COUNT(*) OVER()}, which allow to select the
+	 * total number of rows matching a query along with a page of these rows. Dialects opt in to window functions as not
+	 * all supported database versions provide them.
+	 *
+	 * @return {@literal true} if window functions are supported. {@literal false} by default.
+	 * @since 4.1
+	 */
+	default boolean supportsWindowFunctions() {
+		return false;
+	}
+
+	/**
+	 * Return the maximum number of bind parameters to be used in a single statement. Statements that would require more
+	 * bind parameters, such as multi-row inserts, get split into multiple statements.
+	 *
+	 * @return the maximum number of bind parameters of a statement.
+	 * @since 4.1
+	 */
+	default int getBindParameterMaximumCount() {
+		return 2000;
+	}
+
+	/**
+	 * Return the {@link UpsertRenderContext} defining how to render an
+	 * {@link org.springframework.data.relational.core.sql.Upsert}. Defaults to a standard SQL {@code MERGE} statement.
+	 *
+	 * @return the {@link UpsertRenderContext} for this dialect.
+	 * @since 4.1
+	 */
+	default UpsertRenderContext getUpsertRenderContext() {
+		return UpsertRenderContexts.MERGE;
+	}
 }
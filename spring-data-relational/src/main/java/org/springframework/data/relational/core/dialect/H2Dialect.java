@@ -18,6 +18,7 @@ package org.springframework.data.relational.core.dialect;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.IdentifierProcessing.LetterCasing;
 import org.springframework.data.relational.core.sql.IdentifierProcessing.Quoting;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
@@ -44,7 +45,18 @@ public class H2Dialect extends AbstractDialect {
 
 	private static final IdentifierProcessing IDENTIFIER_PROCESSING = IdentifierProcessing.create(Quoting.ANSI,
 			LetterCasing.UPPER_CASE);
-	private static final IdGeneration ID_GENERATION = IdGeneration.create(IDENTIFIER_PROCESSING);
+	private static final IdGeneration ID_GENERATION = new IdGeneration() {
+
+		@Override
+		public boolean supportedForMultiRowInserts() {
+			return true;
+		}
+
+		@Override
+		public String createSequenceQuery(SqlIdentifier sequenceName) {
+			return IdGeneration.createSequenceQuery(sequenceName.toSql(IDENTIFIER_PROCESSING));
+		}
+	};
 
 	private static final LimitClause LIMIT_CLAUSE = new LimitClause() {
 
@@ -118,4 +130,9 @@ public class H2Dialect extends AbstractDialect {
 	public IdGeneration getIdGeneration() {
 		return ID_GENERATION;
 	}
+
+	@Override
+	public boolean supportsWindowFunctions() {
+		return true;
+	}
 }
@@ -85,6 +85,21 @@ public interface IdGeneration {
 		return true;
 	}
 
+	/**
+	 * Does the driver return the generated ids of all rows of a multi-row {@code INSERT … VALUES (…), (…)} statement in
+	 * the order of the rows.
+	 * <p>
+	 * This should be {@literal false} unless the driver is known to report generated keys for each row, for example by
+	 * appending a {@code RETURNING} clause.
+	 *
+	 * @return {@literal true} if the JDBC driver supports generated keys for multi-row inserts.
+	 * @see PreparedStatement#getGeneratedKeys()
+	 * @since 4.1
+	 */
+	default boolean supportedForMultiRowInserts() {
+		return false;
+	}
+
 	/**
 	 * @return {@literal true} in case the sequences are supported by the underlying database, {@literal false} otherwise
 	 * @since 3.5
@@ -152,11 +152,26 @@ public class MySqlDialect extends AbstractDialect {
 		return OrderByNullPrecedence.NONE;
 	}
 
+	@Override
+	public int getBindParameterMaximumCount() {
+		return Short.MAX_VALUE;
+	}
+
+	@Override
+	public UpsertRenderContext getUpsertRenderContext() {
+		return UpsertRenderContexts.ON_DUPLICATE_KEY;
+	}
+
 	@Override
 	public IdGeneration getIdGeneration() {
 
 		return new IdGeneration() {
 
+			@Override
+			public boolean supportedForMultiRowInserts() {
+				return true;
+			}
+
 			@Override
 			public boolean sequencesSupported() {
 				return false;
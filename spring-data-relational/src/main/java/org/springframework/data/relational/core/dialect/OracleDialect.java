@@ -66,12 +66,27 @@ public class OracleDialect extends AnsiDialect {
 		return ID_GENERATION;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return false;
+	}
+
+	@Override
+	public UpsertRenderContext getUpsertRenderContext() {
+		return UpsertRenderContexts.MERGE_FROM_DUAL;
+	}
+
 	@Override
 	public Collection<Object> getConverters() {
 		return asList(TimestampAtUtcToOffsetDateTimeConverter.INSTANCE, NumberToBooleanConverter.INSTANCE,
 				BooleanToIntegerConverter.INSTANCE);
 	}
 
+	@Override
+	public boolean supportsWindowFunctions() {
+		return true;
+	}
+
 	@WritingConverter
 	enum BooleanToIntegerConverter implements Converter<Boolean, Integer> {
 		INSTANCE;
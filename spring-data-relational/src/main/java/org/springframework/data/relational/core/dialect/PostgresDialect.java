@@ -63,6 +63,11 @@ public class PostgresDialect extends AbstractDialect {
 
 	private IdGeneration idGeneration = new IdGeneration() {
 
+		@Override
+		public boolean supportedForMultiRowInserts() {
+			return true;
+		}
+
 		@Override
 		public String createSequenceQuery(SqlIdentifier sequenceName) {
 			return "SELECT nextval('%s')".formatted(sequenceName.toSql(getIdentifierProcessing()));
@@ -166,8 +171,23 @@ public class PostgresDialect extends AbstractDialect {
 		return Functions.least(Functions.count(SQL.literalOf(1)), SQL.literalOf(1));
 	}
 
+	@Override
+	public int getBindParameterMaximumCount() {
+		return Short.MAX_VALUE;
+	}
+
+	@Override
+	public UpsertRenderContext getUpsertRenderContext() {
+		return UpsertRenderContexts.ON_CONFLICT;
+	}
+
 	@Override
 	public IdGeneration getIdGeneration() {
 		return idGeneration;
 	}
+
+	@Override
+	public boolean supportsWindowFunctions() {
+		return true;
+	}
 }
@@ -116,5 +116,10 @@ public class RenderContextFactory {
 		public InsertRenderContext getInsertRenderContext() {
 			return insertRenderContext;
 		}
+
+		@Override
+		public UpsertRenderContext getUpsertRenderContext() {
+			return renderingDialect.getUpsertRenderContext();
+		}
 	}
 }
@@ -137,8 +137,18 @@ public class SqlServerDialect extends AbstractDialect {
 		return InsertRenderContexts.MS_SQL_SERVER;
 	}
 
+	@Override
+	public UpsertRenderContext getUpsertRenderContext() {
+		return UpsertRenderContexts.MERGE_TERMINATED;
+	}
+
 	@Override
 	public OrderByNullPrecedence orderByNullHandling() {
 		return OrderByNullPrecedence.NONE;
 	}
+
+	@Override
+	public boolean supportsWindowFunctions() {
+		return true;
+	}
 }
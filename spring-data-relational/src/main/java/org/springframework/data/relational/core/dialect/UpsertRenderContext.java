@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+import java.util.List;
+
+import org.springframework.data.relational.core.sql.Upsert;
+import org.springframework.data.relational.core.sql.render.RenderContext;
+
+/**
+ * This interface encapsulates how a {@link Upsert} statement gets rendered, as there is no syntax for upserts that is
+ * supported by all databases.
+ *
+ * @since 4.1
+ * @see RenderContext
+ * @see UpsertRenderContexts
+ */
+public interface UpsertRenderContext {
+
+	/**
+	 * Render an upsert statement from its already rendered parts.
+	 *
+	 * @param table the rendered table.
+	 * @param columns the rendered names of the columns to write.
+	 * @param values the rendered values, in the order of {@code columns}.
+	 * @param key the rendered names of the key columns identifying an existing row. Each is contained in
+	 *          {@code columns}.
+	 * @return the upsert statement.
+	 */
+	String render(CharSequence table, List<? extends CharSequence> columns, List<? extends CharSequence> values,
+			List<? extends CharSequence> key);
+}
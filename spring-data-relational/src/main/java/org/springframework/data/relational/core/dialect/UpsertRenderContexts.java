@@ -0,0 +1,169 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * Syntax variants to render an {@link org.springframework.data.relational.core.sql.Upsert} in different
+ * {@link Dialect}s. Key columns are never updated.
+ *
+ * @since 4.1
+ */
+public enum UpsertRenderContexts implements UpsertRenderContext {
+
+	/**
+	 * Standard SQL {@code MERGE INTO … USING (VALUES (…)) AS src (…) ON (…) WHEN MATCHED THEN UPDATE … WHEN NOT MATCHED
+	 * THEN INSERT …}.
+	 */
+	MERGE {
+
+		@Override
+		public String render(CharSequence table, List<? extends CharSequence> columns, List<? extends CharSequence> values,
+				List<? extends CharSequence> key) {
+			return merge(table, "(VALUES (" + join(values) + ")) AS " + SOURCE + " (" + join(columns) + ")", columns, key);
+		}
+	},
+
+	/**
+	 * {@code MERGE} selecting the values from {@code DUAL} as source, for Oracle.
+	 */
+	MERGE_FROM_DUAL {
+
+		@Override
+		public String render(CharSequence table, List<? extends CharSequence> columns, List<? extends CharSequence> values,
+				List<? extends CharSequence> key) {
+
+			List<String> selectList = new ArrayList<>(columns.size());
+			for (int i = 0; i < columns.size(); i++) {
+				selectList.add(values.get(i) + " AS " + columns.get(i));
+			}
+
+			return merge(table, "(SELECT " + join(selectList) + " FROM DUAL) " + SOURCE, columns, key);
+		}
+	},
+
+	/**
+	 * {@code MERGE} terminated by a semicolon as required by SQL Server.
+	 */
+	MERGE_TERMINATED {
+
+		@Override
+		public String render(CharSequence table, List<? extends CharSequence> columns, List<? extends CharSequence> values,
+				List<? extends CharSequence> key) {
+			return MERGE.render(table, columns, values, key) + ";";
+		}
+	},
+
+	/**
+	 * {@code INSERT … ON CONFLICT (…) DO UPDATE SET …} as supported by Postgres.
+	 */
+	ON_CONFLICT {
+
+		@Override
+		public String render(CharSequence table, List<? extends CharSequence> columns, List<? extends CharSequence> values,
+				List<? extends CharSequence> key) {
+
+			List<CharSequence> updated = nonKeyColumns(columns, key);
+			String insert = insert(table, columns, values) + " ON CONFLICT (" + join(key) + ")";
+
+			return updated.isEmpty() ? insert + " DO NOTHING"
+					: insert + " DO UPDATE SET " + assignments(updated, column -> "EXCLUDED." + column);
+		}
+	},
+
+	/**
+	 * {@code INSERT … ON DUPLICATE KEY UPDATE …} as supported by MySQL and MariaDB.
+	 */
+	ON_DUPLICATE_KEY {
+
+		@Override
+		public String render(CharSequence table, List<? extends CharSequence> columns, List<? extends CharSequence> values,
+				List<? extends CharSequence> key) {
+
+			List<CharSequence> updated = nonKeyColumns(columns, key);
+			String assignments = updated.isEmpty() ? key.get(0) + " = " + key.get(0)
+					: assignments(updated, column -> "VALUES(" + column + ")");
+
+			return insert(table, columns, values) + " ON DUPLICATE KEY UPDATE " + assignments;
+		}
+	};
+
+	/**
+	 * Alias of the source row of {@code MERGE} statements.
+	 */
+	private static final String SOURCE = "src";
+
+	private static String merge(CharSequence table, String source, List<? extends CharSequence> columns,
+			List<? extends CharSequence> key) {
+
+		List<String> conditions = new ArrayList<>(key.size());
+		for (CharSequence column : key) {
+			conditions.add(table + "." + column + " = " + SOURCE + "." + column);
+		}
+
+		StringBuilder builder = new StringBuilder("MERGE INTO ").append(table).append(" USING ").append(source)
+				.append(" ON (").append(StringUtils.collectionToDelimitedString(conditions, " AND ")).append(")");
+
+		List<CharSequence> updated = nonKeyColumns(columns, key);
+		if (!updated.isEmpty()) {
+			builder.append(" WHEN MATCHED THEN UPDATE SET ").append(assignments(updated, column -> SOURCE + "." + column));
+		}
+
+		List<String> sourceColumns = columns.stream().map(column -> SOURCE + "." + column).toList();
+
+		return builder.append(" WHEN NOT MATCHED THEN INSERT (").append(join(columns)).append(") VALUES (")
+				.append(join(sourceColumns)).append(")").toString();
+	}
+
+	private static String insert(CharSequence table, List<? extends CharSequence> columns,
+			List<? extends CharSequence> values) {
+		return "INSERT INTO " + table + " (" + join(columns) + ") VALUES (" + join(values) + ")";
+	}
+
+	private static String assignments(List<CharSequence> columns, Function<CharSequence, String> value) {
+
+		List<String> assignments = new ArrayList<>(columns.size());
+		for (CharSequence column : columns) {
+			assignments.add(column + " = " + value.apply(column));
+		}
+
+		return join(assignments);
+	}
+
+	private static List<CharSequence> nonKeyColumns(List<? extends CharSequence> columns,
+			List<? extends CharSequence> key) {
+
+		List<String> keyNames = key.stream().map(CharSequence::toString).toList();
+		List<CharSequence> result = new ArrayList<>(columns.size());
+
+		for (CharSequence column : columns) {
+			if (!keyNames.contains(column.toString())) {
+				result.add(column);
+			}
+		}
+
+		return result;
+	}
+
+	private static String join(List<? extends CharSequence> parts) {
+		return StringUtils.collectionToDelimitedString(parts, ", ");
+	}
+}
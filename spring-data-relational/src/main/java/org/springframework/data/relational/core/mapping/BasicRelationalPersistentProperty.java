@@ -22,6 +22,7 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.data.expression.ValueExpression;
 import org.springframework.data.expression.ValueExpressionParser;
 import org.springframework.data.mapping.Association;
+import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.model.AnnotationBasedPersistentProperty;
 import org.springframework.data.mapping.model.Property;
@@ -55,6 +56,7 @@ public class BasicRelationalPersistentProperty extends AnnotationBasedPersistent
 	private final boolean hasExplicitColumnName;
 	private final @Nullable ValueExpression columnNameExpression;
 	private final @Nullable SqlIdentifier sequence;
+	private final int sequenceAllocationSize;
 	private final Lazy<Optional<SqlIdentifier>> collectionIdColumnName;
 	private final @Nullable ValueExpression collectionIdColumnNameExpression;
 	private final Lazy<SqlIdentifier> collectionKeyColumnName;
@@ -134,6 +136,7 @@ public class BasicRelationalPersistentProperty extends AnnotationBasedPersistent
 		}
 
 		this.sequence = determineSequenceName();
+		this.sequenceAllocationSize = determineSequenceAllocationSize();
 
 		if (collectionIdColumnName == null) {
 			collectionIdColumnName = Lazy.of(Optional.empty());
@@ -288,6 +291,11 @@ public class BasicRelationalPersistentProperty extends AnnotationBasedPersistent
 		return this.sequence;
 	}
 
+	@Override
+	public int getSequenceAllocationSize() {
+		return this.sequenceAllocationSize;
+	}
+
 	private boolean isListLike() {
 		return isCollectionLike() && !Set.class.isAssignableFrom(this.getType());
 	}
@@ -312,4 +320,20 @@ public class BasicRelationalPersistentProperty extends AnnotationBasedPersistent
 		}
 	}
 
+	private int determineSequenceAllocationSize() {
+
+		Sequence annotation = findAnnotation(Sequence.class);
+
+		if (annotation == null) {
+			return 1;
+		}
+
+		if (annotation.allocationSize() < 1) {
+			throw new MappingException("Sequence allocation size of property %s must be greater than zero but was %d"
+					.formatted(getName(), annotation.allocationSize()));
+		}
+
+		return annotation.allocationSize();
+	}
+
 }
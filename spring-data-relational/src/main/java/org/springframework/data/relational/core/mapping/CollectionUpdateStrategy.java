@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.mapping;
+
+/**
+ * Strategy to apply when an aggregate root gets updated and the entities referenced through a {@link MappedCollection}
+ * need to be written to the database.
+ *
+ * @since 4.1
+ * @see MappedCollection#updateStrategy()
+ */
+public enum CollectionUpdateStrategy {
+
+	/**
+	 * Deletes all referenced rows and inserts the current state of the collection. This is the default and works for
+	 * all kinds of collections.
+	 */
+	DELETE_AND_INSERT,
+
+	/**
+	 * Compares the current state of the collection with the rows stored in the database using the identifier of the
+	 * referenced entities and only inserts added entities, updates changed entities and deletes removed entities.
+	 * <p>
+	 * Only applicable to non-qualified collections (i.e. {@link java.util.Set} or {@link java.util.Collection})
+	 * referenced directly from the aggregate root whose elements have an identifier and do not reference further
+	 * entities. Collections not meeting these requirements fall back to {@link #DELETE_AND_INSERT}.
+	 */
+	SYNCHRONIZE
+
+}
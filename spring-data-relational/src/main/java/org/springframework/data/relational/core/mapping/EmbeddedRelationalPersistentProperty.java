@@ -111,6 +111,11 @@ class EmbeddedRelationalPersistentProperty implements RelationalPersistentProper
 		return delegate.getSequence();
 	}
 
+	@Override
+	public int getSequenceAllocationSize() {
+		return delegate.getSequenceAllocationSize();
+	}
+
 	@Override
 	public String getName() {
 		return delegate.getName();
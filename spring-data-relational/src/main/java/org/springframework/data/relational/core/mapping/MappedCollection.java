@@ -59,4 +59,12 @@ public @interface MappedCollection {
 	 */
 	String keyColumn() default "";
 
+	/**
+	 * The strategy to use for writing the referenced entities when the owning aggregate gets updated. Defaults to
+	 * {@link CollectionUpdateStrategy#DELETE_AND_INSERT}.
+	 *
+	 * @since 4.1
+	 */
+	CollectionUpdateStrategy updateStrategy() default CollectionUpdateStrategy.DELETE_AND_INSERT;
+
 }
@@ -53,6 +53,7 @@ public class RelationalMappingContext
 	private final SqlIdentifierExpressionEvaluator sqlIdentifierExpressionEvaluator = new SqlIdentifierExpressionEvaluator(
 			EvaluationContextProvider.DEFAULT);
 	private boolean singleQueryLoadingEnabled = false;
+	private boolean batchedRelationLoadingEnabled = false;
 
 	/**
 	 * Creates a new {@link RelationalMappingContext}.
@@ -177,6 +178,27 @@ public class RelationalMappingContext
 		this.singleQueryLoadingEnabled = singleQueryLoadingEnabled;
 	}
 
+	/**
+	 * @return iff batched loading of relations is enabled.
+	 * @since 4.1
+	 * @see #setBatchedRelationLoadingEnabled(boolean)
+	 */
+	public boolean isBatchedRelationLoadingEnabled() {
+		return batchedRelationLoadingEnabled;
+	}
+
+	/**
+	 * Set the {@literal batchedRelationLoadingEnabled} flag. If it is set to true, Spring Data JDBC loads entities
+	 * referenced by the aggregates of a result with one query per relation, instead of one query per relation and
+	 * aggregate. This applies to aggregates that don't get loaded by Single Query Loading.
+	 *
+	 * @param batchedRelationLoadingEnabled
+	 * @since 4.1
+	 */
+	public void setBatchedRelationLoadingEnabled(boolean batchedRelationLoadingEnabled) {
+		this.batchedRelationLoadingEnabled = batchedRelationLoadingEnabled;
+	}
+
 	protected void applyDefaults(BasicRelationalPersistentProperty persistentProperty) {
 
 		persistentProperty.setForceQuote(isForceQuote());
@@ -110,4 +110,24 @@ public interface RelationalPersistentProperty extends PersistentProperty<Relatio
 		return getSequence() != null;
 	}
 
+	/**
+	 * @return the number of values to allocate with a single call to the {@link #getSequence() sequence}. {@code 1} if
+	 *         every value is obtained from the database.
+	 * @since 4.1
+	 * @see Sequence#allocationSize()
+	 */
+	default int getSequenceAllocationSize() {
+		return 1;
+	}
+
+	/**
+	 * @return the {@link CollectionUpdateStrategy} to apply when the owning aggregate gets updated.
+	 * @since 4.1
+	 */
+	default CollectionUpdateStrategy getCollectionUpdateStrategy() {
+
+		MappedCollection mappedCollection = findAnnotation(MappedCollection.class);
+		return mappedCollection == null ? CollectionUpdateStrategy.DELETE_AND_INSERT : mappedCollection.updateStrategy();
+	}
+
 }
@@ -43,4 +43,20 @@ public @interface Sequence {
 	 * </pre>
 	 */
 	String schema() default "";
+
+	/**
+	 * Number of values to allocate with a single sequence call. Values greater than {@code 1} enable a pooled
+	 * optimizer: each value {@code v} obtained from the sequence reserves the identifiers {@code v} to
+	 * {@code v + allocationSize - 1}, which are then handed out from memory without querying the database. The sequence
+	 * must therefore be defined with an increment matching {@code allocationSize}, for example
+	 * {@code CREATE SEQUENCE my_seq INCREMENT BY 50}.
+	 * <p>
+	 * Properties using the same sequence must declare the same allocation size. Identifiers not handed out before the
+	 * application shuts down are lost, leaving gaps in the sequence of identifiers.
+	 *
+	 * @return the number of values to allocate per sequence call. Defaults to {@code 1}, querying the sequence for each
+	 *         identifier.
+	 * @since 4.1
+	 */
+	int allocationSize() default 1;
 }
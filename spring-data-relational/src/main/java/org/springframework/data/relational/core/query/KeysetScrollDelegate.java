@@ -0,0 +1,267 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.ScrollPosition.Direction;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
+
+/**
+ * Delegate for keyset scrolling. Creates the {@link Criteria} to seek to the rows following a
+ * {@link KeysetScrollPosition} and the resulting {@link Window}. For a sort by {@code a, b} and keys {@code x, y}, the
+ * criteria are {@code (a > x) OR (a = x AND b > y)}, with the comparison operators following the sort direction, so
+ * that the database can use an index on the sort columns instead of skipping over previous rows.
+ * <p>
+ * The sort gets extended by the identifier, if it isn't already part of it, to render the order of rows unique.
+ * Scrolling backwards reverses the sort to query the rows preceding the position and restores the original order in
+ * the resulting {@link Window}.
+ *
+ * @since 4.1
+ */
+public class KeysetScrollDelegate {
+
+	private static final KeysetScrollDelegate FORWARD = new KeysetScrollDelegate();
+	private static final KeysetScrollDelegate REVERSE = new ReverseKeysetScrollDelegate();
+
+	KeysetScrollDelegate() {}
+
+	/**
+	 * Obtain a {@link KeysetScrollDelegate} for the given {@link Direction}.
+	 *
+	 * @param direction the scroll direction. Must not be {@literal null}.
+	 * @return the {@link KeysetScrollDelegate} for {@code direction}.
+	 */
+	public static KeysetScrollDelegate of(Direction direction) {
+		return direction == Direction.FORWARD ? FORWARD : REVERSE;
+	}
+
+	/**
+	 * Create a {@link Query} selecting the rows following {@code position}. Criteria, columns and limit are taken from
+	 * {@code query}, while the offset is dropped as it is superseded by the keyset.
+	 *
+	 * @param query the query to scroll. Must not be {@literal null}.
+	 * @param position the current scroll position. Must not be {@literal null}.
+	 * @param entity the entity to query. Must not be {@literal null}.
+	 * @return the keyset query.
+	 */
+	public Query createQuery(Query query, KeysetScrollPosition position, RelationalPersistentEntity<?> entity) {
+
+		Sort sort = getSortOrders(query.getSort(), entity);
+		Criteria criteria = createCriteria(query.getCriteria().orElse(null), position, sort);
+
+		Query keysetQuery = Query.query(criteria).columns(query.getColumns().toArray(new SqlIdentifier[0])).sort(sort);
+
+		return query.isLimited() ? keysetQuery.limit(query.getLimit()) : keysetQuery;
+	}
+
+	/**
+	 * Extend {@code sort} by the identifier of {@code entity}, unless it already sorts by the identifier.
+	 *
+	 * @param sort the requested sort. Must not be {@literal null}.
+	 * @param entity the entity to query. Must not be {@literal null}.
+	 * @return the sort to apply to the keyset query.
+	 */
+	public Sort getSortOrders(Sort sort, RelationalPersistentEntity<?> entity) {
+
+		Sort sortToUse = sort;
+		RelationalPersistentProperty idProperty = entity.getIdProperty();
+
+		if (idProperty != null && !idProperty.isEmbedded() && sort.getOrderFor(idProperty.getName()) == null) {
+			sortToUse = sort.and(Sort.by(idProperty.getName()));
+		}
+
+		if (sortToUse.isUnsorted()) {
+			throw new IllegalArgumentException(
+					"Keyset scrolling requires a sort or an identifier for %s".formatted(entity.getType().getName()));
+		}
+
+		return sortToUse;
+	}
+
+	/**
+	 * Combine {@code criteria} with the criteria selecting the rows following {@code position} in the order of
+	 * {@code sort}.
+	 *
+	 * @param criteria the criteria of the query to scroll, can be {@literal null}.
+	 * @param position the current scroll position. Must not be {@literal null}.
+	 * @param sort the sort as obtained from {@link #getSortOrders(Sort, RelationalPersistentEntity)}.
+	 * @return the combined criteria.
+	 */
+	public Criteria createCriteria(@Nullable CriteriaDefinition criteria, KeysetScrollPosition position, Sort sort) {
+
+		Criteria result = criteria == null || criteria.isEmpty() ? Criteria.empty() : Criteria.empty().and(criteria);
+
+		if (position.isInitial()) {
+			return result;
+		}
+
+		Map<String, ?> keys = position.getKeys();
+		List<Sort.Order> orders = sort.toList();
+		@Nullable Criteria alternatives = null;
+
+		for (int i = 0; i < orders.size(); i++) {
+
+			List<Criteria> conjunction = new ArrayList<>(i + 1);
+
+			for (int j = 0; j < i; j++) {
+
+				String property = orders.get(j).getProperty();
+				conjunction.add(Criteria.where(property).is(getRequiredKey(keys, property)));
+			}
+
+			Sort.Order order = orders.get(i);
+			Object key = getRequiredKey(keys, order.getProperty());
+			Criteria.CriteriaStep step = Criteria.where(order.getProperty());
+
+			conjunction.add(order.isAscending() ? step.greaterThan(key) : step.lessThan(key));
+
+			Criteria alternative = Criteria.empty().and(conjunction);
+			alternatives = alternatives == null ? alternative : alternatives.or(alternative);
+		}
+
+		return alternatives == null ? result : result.and(alternatives);
+	}
+
+	/**
+	 * Create the {@link Window} for the rows returned by a query obtained from
+	 * {@link #createQuery(Query, KeysetScrollPosition, RelationalPersistentEntity)} that fetched one row more than
+	 * {@code limit} to determine whether more rows are available.
+	 *
+	 * @param result the rows returned by the query. Must not be {@literal null}.
+	 * @param limit the requested number of rows, {@literal -1} or {@link Integer#MAX_VALUE} if not limited.
+	 * @param sort the sort as obtained from {@link #getSortOrders(Sort, RelationalPersistentEntity)}.
+	 * @param entity the entity of the rows. Must not be {@literal null}.
+	 * @return the resulting {@link Window}.
+	 */
+	public <T> Window<T> createWindow(List<T> result, int limit, Sort sort, RelationalPersistentEntity<?> entity) {
+
+		boolean limited = limit > 0 && limit != Integer.MAX_VALUE;
+		boolean hasMoreElements = limited && result.size() > limit;
+		List<T> window = getResultWindow(postProcessResults(result), limited ? limit : result.size());
+
+		IntFunction<ScrollPosition> positionFunction = index -> ScrollPosition.of(getKeys(window.get(index), sort, entity),
+				getDirection());
+
+		return Window.from(window, positionFunction, hasMoreElements);
+	}
+
+	/**
+	 * Extract the keys of {@code object} for the properties of {@code sort}. Objects that are not instances of
+	 * {@code entity}, such as DTO projections, are inspected through their bean properties or fields.
+	 *
+	 * @param object the object to inspect. Must not be {@literal null}.
+	 * @param sort the sort defining the keys. Must not be {@literal null}.
+	 * @param entity the entity queried for {@code object}. Must not be {@literal null}.
+	 * @return the keys in the order of {@code sort}.
+	 */
+	public static Map<String, Object> getKeys(Object object, Sort sort, RelationalPersistentEntity<?> entity) {
+
+		Map<String, Object> keys = new LinkedHashMap<>();
+
+		if (entity.getType().isInstance(object)) {
+
+			PersistentPropertyAccessor<Object> accessor = entity.getPropertyAccessor(object);
+
+			for (Sort.Order order : sort) {
+				keys.put(order.getProperty(), accessor.getProperty(entity.getRequiredPersistentProperty(order.getProperty())));
+			}
+
+			return keys;
+		}
+
+		DirectFieldAccessFallbackBeanWrapper wrapper = new DirectFieldAccessFallbackBeanWrapper(object);
+
+		for (Sort.Order order : sort) {
+			keys.put(order.getProperty(), wrapper.getPropertyValue(order.getProperty()));
+		}
+
+		return keys;
+	}
+
+	Direction getDirection() {
+		return Direction.FORWARD;
+	}
+
+	<T> List<T> postProcessResults(List<T> result) {
+		return result;
+	}
+
+	<T> List<T> getResultWindow(List<T> list, int limit) {
+		return list.size() > limit ? list.subList(0, limit) : list;
+	}
+
+	private static Object getRequiredKey(Map<String, ?> keys, String property) {
+
+		Object key = keys.get(property);
+
+		if (key == null) {
+			throw new IllegalStateException(
+					"KeysetScrollPosition does not contain a non-null key for sort property '%s'".formatted(property));
+		}
+
+		return key;
+	}
+
+	/**
+	 * {@link KeysetScrollDelegate} for {@link Direction#BACKWARD backward} scrolling.
+	 */
+	private static class ReverseKeysetScrollDelegate extends KeysetScrollDelegate {
+
+		@Override
+		public Sort getSortOrders(Sort sort, RelationalPersistentEntity<?> entity) {
+
+			List<Sort.Order> orders = new ArrayList<>();
+			for (Sort.Order order : super.getSortOrders(sort, entity)) {
+				orders.add(order.with(order.isAscending() ? Sort.Direction.DESC : Sort.Direction.ASC));
+			}
+
+			return Sort.by(orders);
+		}
+
+		@Override
+		Direction getDirection() {
+			return Direction.BACKWARD;
+		}
+
+		@Override
+		<T> List<T> postProcessResults(List<T> result) {
+
+			List<T> reversed = new ArrayList<>(result);
+			Collections.reverse(reversed);
+			return reversed;
+		}
+
+		@Override
+		<T> List<T> getResultWindow(List<T> list, int limit) {
+			return list.size() > limit ? list.subList(list.size() - limit, list.size()) : list;
+		}
+	}
+}
@@ -32,14 +32,18 @@ class DefaultInsert implements Insert {
 
 	private final Into into;
 	private final List<Column> columns;
-	private final Values values;
+	private final List<Values> rows;
 
-	DefaultInsert(@Nullable Table into, List<Column> columns, List<Expression> values) {
+	DefaultInsert(@Nullable Table into, List<Column> columns, List<List<Expression>> rows) {
 
 		// TODO: this is weird. can we really have an insert without table?
 		this.into = into == null ? new Into() : new Into(into);
 		this.columns = new ArrayList<>(columns);
-		this.values = new Values(new ArrayList<>(values));
+		this.rows = new ArrayList<>(rows.size());
+
+		for (List<Expression> values : rows) {
+			this.rows.add(new Values(new ArrayList<>(values)));
+		}
 	}
 
 	@Override
@@ -51,7 +55,7 @@ class DefaultInsert implements Insert {
 
 		into.visit(visitor);
 		columns.forEach(it -> it.visit(visitor));
-		values.visit(visitor);
+		rows.forEach(it -> it.visit(visitor));
 
 		visitor.leave(this);
 	}
@@ -67,7 +71,11 @@ class DefaultInsert implements Insert {
 			builder.append(" (").append(StringUtils.collectionToDelimitedString(this.columns, ", ")).append(")");
 		}
 
-		builder.append(" ").append(this.values);
+		builder.append(" ").append(this.rows.get(0));
+
+		for (int i = 1; i < this.rows.size(); i++) {
+			builder.append(", ").append(this.rows.get(i).toRowString());
+		}
 
 		return builder.toString();
 	}
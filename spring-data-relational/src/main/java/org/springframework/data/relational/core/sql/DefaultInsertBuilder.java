@@ -34,7 +34,8 @@ class DefaultInsertBuilder
 
 	private @Nullable Table into;
 	private final List<Column> columns = new ArrayList<>();
-	private final List<Expression> values = new ArrayList<>();
+	private final List<List<Expression>> rows = new ArrayList<>();
+	private List<Expression> values = new ArrayList<>();
 
 	@Override
 	public InsertIntoColumnsAndValuesWithBuild into(Table table) {
@@ -101,8 +102,23 @@ class DefaultInsertBuilder
 		return this;
 	}
 
+	@Override
+	public InsertValues row() {
+
+		Assert.state(!this.values.isEmpty(), "Current row must contain at least one value");
+
+		this.rows.add(this.values);
+		this.values = new ArrayList<>();
+
+		return this;
+	}
+
 	@Override
 	public Insert build() {
-		return new DefaultInsert(this.into, this.columns, this.values);
+
+		List<List<Expression>> rows = new ArrayList<>(this.rows);
+		rows.add(this.values);
+
+		return new DefaultInsert(this.into, this.columns, rows);
 	}
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Default {@link UpsertBuilder} implementation.
+ *
+ * @since 4.1
+ */
+class DefaultUpsertBuilder implements UpsertBuilder, UpsertBuilder.UpsertColumns, UpsertBuilder.UpsertValues,
+		UpsertBuilder.UpsertKeyColumns, UpsertBuilder.BuildUpsert {
+
+	private @Nullable Table into;
+	private final List<Column> columns = new ArrayList<>();
+	private final List<Expression> values = new ArrayList<>();
+	private final List<Column> key = new ArrayList<>();
+
+	@Override
+	public UpsertColumns into(Table table) {
+
+		Assert.notNull(table, "Upsert Into Table must not be null");
+
+		this.into = table;
+		return this;
+	}
+
+	@Override
+	public UpsertValues columns(Column... columns) {
+
+		Assert.notNull(columns, "Columns must not be null");
+
+		return columns(Arrays.asList(columns));
+	}
+
+	@Override
+	public UpsertValues columns(Collection<Column> columns) {
+
+		Assert.notNull(columns, "Columns must not be null");
+
+		this.columns.addAll(columns);
+		return this;
+	}
+
+	@Override
+	public UpsertKeyColumns values(Expression... values) {
+
+		Assert.notNull(values, "Values must not be null");
+
+		return values(Arrays.asList(values));
+	}
+
+	@Override
+	public UpsertKeyColumns values(Collection<? extends Expression> values) {
+
+		Assert.notNull(values, "Values must not be null");
+
+		this.values.addAll(values);
+		return this;
+	}
+
+	@Override
+	public BuildUpsert key(Column... columns) {
+
+		Assert.notNull(columns, "Key columns must not be null");
+
+		return key(Arrays.asList(columns));
+	}
+
+	@Override
+	public BuildUpsert key(Collection<Column> columns) {
+
+		Assert.notNull(columns, "Key columns must not be null");
+
+		this.key.addAll(columns);
+		return this;
+	}
+
+	@Override
+	public Upsert build() {
+
+		Assert.state(into != null, "Upsert requires a table");
+		Assert.state(!columns.isEmpty(), "Upsert requires at least one column");
+		Assert.state(columns.size() == values.size(), "Upsert requires a value for each column");
+		Assert.state(!key.isEmpty(), "Upsert requires at least one key column");
+
+		for (Column keyColumn : key) {
+			Assert.state(columns.contains(keyColumn),
+					() -> "Key column %s must be one of the upsert columns".formatted(keyColumn));
+		}
+
+		return new DefaultUpsert(into, columns, values, key);
+	}
+}
@@ -149,6 +149,15 @@ public interface InsertBuilder {
 		 */
 		@Override
 		InsertValuesWithBuild values(Collection<? extends Expression> values);
+
+		/**
+		 * Start a new row of the {@code VALUES} list. Values added afterwards form an additional row, rendering a multi-row
+		 * {@code INSERT … VALUES (…), (…)} statement. Each row must provide a value for each column.
+		 *
+		 * @return {@code this} builder.
+		 * @since 4.1
+		 */
+		InsertValues row();
 	}
 
 	/**
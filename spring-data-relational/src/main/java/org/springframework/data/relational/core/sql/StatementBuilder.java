@@ -22,6 +22,7 @@ import java.util.Collection;
 import org.springframework.data.relational.core.sql.DeleteBuilder.DeleteWhere;
 import org.springframework.data.relational.core.sql.InsertBuilder.InsertIntoColumnsAndValues;
 import org.springframework.data.relational.core.sql.SelectBuilder.SelectAndFrom;
+import org.springframework.data.relational.core.sql.UpsertBuilder.UpsertColumns;
 
 /**
  * Entrypoint to build SQL statements.
@@ -141,5 +142,28 @@ public abstract class StatementBuilder {
 		return Delete.builder();
 	}
 
+	/**
+	 * Creates a new {@link UpsertBuilder} and declares the {@link Table} to insert into or to update.
+	 *
+	 * @param table the table to write to.
+	 * @return the new {@link UpsertBuilder}.
+	 * @since 4.1
+	 * @see Table#create(String)
+	 */
+	public static UpsertColumns upsert(Table table) {
+		return upsert().into(table);
+	}
+
+	/**
+	 * Creates a new {@link UpsertBuilder}.
+	 *
+	 * @return the new {@link UpsertBuilder}.
+	 * @since 4.1
+	 * @see UpsertBuilder
+	 */
+	public static UpsertBuilder upsert() {
+		return Upsert.builder();
+	}
+
 	private StatementBuilder() {}
 }
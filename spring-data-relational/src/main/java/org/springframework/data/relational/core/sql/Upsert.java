@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+/**
+ * AST for an {@code UPSERT} statement, inserting a row or updating the row with matching {@link UpsertKey key} columns
+ * if it already exists. There is no standard syntax for such a statement, so rendering depends on the dialect, for
+ * example using {@code MERGE} or {@code INSERT … ON CONFLICT}. Visiting order:
+ * <ol>
+ * <li>Self</li>
+ * <li>{@link Into INTO table} clause</li>
+ * <li>{@link Column columns}</li>
+ * <li>{@link Values VALUEs}</li>
+ * <li>{@link UpsertKey key columns}</li>
+ * </ol>
+ *
+ * @since 4.1
+ * @see StatementBuilder
+ * @see UpsertBuilder
+ */
+public interface Upsert extends Segment, Visitable {
+
+	/**
+	 * Creates a new {@link UpsertBuilder}.
+	 *
+	 * @return a new {@link UpsertBuilder}.
+	 */
+	static UpsertBuilder builder() {
+		return new DefaultUpsertBuilder();
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import java.util.Collection;
+
+/**
+ * Entry point to construct an {@link Upsert} statement.
+ *
+ * @since 4.1
+ * @see StatementBuilder
+ */
+public interface UpsertBuilder {
+
+	/**
+	 * Declare a {@link Table} to insert into or to update.
+	 *
+	 * @param table the table to write to.
+	 * @return {@code this} builder.
+	 * @see Into
+	 * @see SQL#table(String)
+	 */
+	UpsertColumns into(Table table);
+
+	/**
+	 * Interface exposing the column declaration methods.
+	 */
+	interface UpsertColumns {
+
+		/**
+		 * Add one or more {@link Column columns} to the upsert.
+		 *
+		 * @param columns the columns to write.
+		 * @return {@code this} builder.
+		 * @see Column
+		 */
+		UpsertValues columns(Column... columns);
+
+		/**
+		 * Add a {@link Collection} of {@link Column columns} to the upsert.
+		 *
+		 * @param columns the columns to write.
+		 * @return {@code this} builder.
+		 * @see Column
+		 */
+		UpsertValues columns(Collection<Column> columns);
+	}
+
+	/**
+	 * Interface exposing the value declaration methods.
+	 */
+	interface UpsertValues {
+
+		/**
+		 * Add one or more {@link Expression values} in the order of the columns.
+		 *
+		 * @param values the values to write.
+		 * @return {@code this} builder.
+		 * @see Expression
+		 */
+		UpsertKeyColumns values(Expression... values);
+
+		/**
+		 * Add a {@link Collection} of {@link Expression values} in the order of the columns.
+		 *
+		 * @param values the values to write.
+		 * @return {@code this} builder.
+		 * @see Expression
+		 */
+		UpsertKeyColumns values(Collection<? extends Expression> values);
+	}
+
+	/**
+	 * Interface exposing the key declaration methods.
+	 */
+	interface UpsertKeyColumns {
+
+		/**
+		 * Declare the key {@link Column columns} identifying an existing row. Key columns must be part of the written
+		 * columns and are not updated.
+		 *
+		 * @param columns the key columns.
+		 * @return {@code this} builder.
+		 * @see UpsertKey
+		 */
+		BuildUpsert key(Column... columns);
+
+		/**
+		 * Declare a {@link Collection} of key {@link Column columns} identifying an existing row. Key columns must be part
+		 * of the written columns and are not updated.
+		 *
+		 * @param columns the key columns.
+		 * @return {@code this} builder.
+		 * @see UpsertKey
+		 */
+		BuildUpsert key(Collection<Column> columns);
+	}
+
+	/**
+	 * Interface exposing the {@link Upsert} build method.
+	 */
+	interface BuildUpsert {
+
+		/**
+		 * Build the {@link Upsert} statement.
+		 *
+		 * @return the build and immutable {@link Upsert} statement.
+		 */
+		Upsert build();
+	}
+}
@@ -43,6 +43,13 @@ public class Values extends AbstractSegment {
 
 	@Override
 	public String toString() {
-		return "VALUES(" + StringUtils.collectionToDelimitedString(tables, ", ") + ")";
+		return "VALUES" + toRowString();
+	}
+
+	/**
+	 * @return the values as row, without the {@code VALUES} keyword.
+	 */
+	String toRowString() {
+		return "(" + StringUtils.collectionToDelimitedString(tables, ", ") + ")";
 	}
 }
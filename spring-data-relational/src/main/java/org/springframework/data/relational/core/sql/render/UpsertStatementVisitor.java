@@ -0,0 +1,143 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql.render;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.Expression;
+import org.springframework.data.relational.core.sql.Into;
+import org.springframework.data.relational.core.sql.Upsert;
+import org.springframework.data.relational.core.sql.UpsertKey;
+import org.springframework.data.relational.core.sql.Values;
+import org.springframework.data.relational.core.sql.Visitable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link PartRenderer} for {@link Upsert} statements. Renders table, columns, values and key columns and leaves the
+ * syntax of the statement to the {@link RenderContext#getUpsertRenderContext() UpsertRenderContext}.
+ *
+ * @since 4.1
+ */
+class UpsertStatementVisitor extends DelegatingVisitor implements PartRenderer {
+
+	private final StringBuilder builder = new StringBuilder();
+	private final StringBuilder into = new StringBuilder();
+	private final List<CharSequence> columns = new ArrayList<>();
+	private final List<CharSequence> values = new ArrayList<>();
+	private final List<CharSequence> key = new ArrayList<>();
+
+	private final RenderContext renderContext;
+	private final IntoClauseVisitor intoClauseVisitor;
+	private final ColumnVisitor columnVisitor;
+	private final ColumnVisitor keyColumnVisitor;
+	private boolean inKey = false;
+
+	UpsertStatementVisitor(RenderContext renderContext) {
+
+		Assert.notNull(renderContext, "renderContext must not be null");
+
+		this.renderContext = renderContext;
+		this.intoClauseVisitor = new IntoClauseVisitor(renderContext, into::append);
+		this.columnVisitor = new ColumnVisitor(renderContext, false, it -> columns.add(it.toString()));
+		this.keyColumnVisitor = new ColumnVisitor(renderContext, false, it -> key.add(it.toString()));
+	}
+
+	@Override
+	public Delegation doEnter(Visitable segment) {
+
+		if (segment instanceof Into) {
+			return Delegation.delegateTo(this.intoClauseVisitor);
+		}
+
+		if (segment instanceof UpsertKey) {
+			inKey = true;
+			return Delegation.retain();
+		}
+
+		if (segment instanceof Column) {
+			return Delegation.delegateTo(inKey ? this.keyColumnVisitor : this.columnVisitor);
+		}
+
+		if (segment instanceof Values) {
+			return Delegation.delegateTo(new ValueListVisitor(renderContext, values));
+		}
+
+		return Delegation.retain();
+	}
+
+	@Override
+	public Delegation doLeave(Visitable segment) {
+
+		if (segment instanceof UpsertKey) {
+			inKey = false;
+		}
+
+		if (segment instanceof Upsert) {
+
+			builder.append(renderContext.getUpsertRenderContext().render(into, columns, values, key));
+			return Delegation.leave();
+		}
+
+		return Delegation.retain();
+	}
+
+	@Override
+	public CharSequence getRenderedPart() {
+		return builder;
+	}
+
+	/**
+	 * Renders each expression of {@link Values} individually, as some upsert variants require the values separately.
+	 */
+	static class ValueListVisitor extends TypedSubtreeVisitor<Values> {
+
+		private final RenderContext context;
+		private final List<CharSequence> target;
+		private @Nullable ExpressionVisitor current;
+
+		ValueListVisitor(RenderContext context, List<CharSequence> target) {
+
+			this.context = context;
+			this.target = target;
+		}
+
+		@Override
+		Delegation enterNested(Visitable segment) {
+
+			if (segment instanceof Expression) {
+				this.current = new ExpressionVisitor(context);
+				return Delegation.delegateTo(this.current);
+			}
+
+			return super.enterNested(segment);
+		}
+
+		@Override
+		Delegation leaveNested(Visitable segment) {
+
+			if (this.current != null) {
+
+				target.add(this.current.getRenderedPart().toString());
+				this.current = null;
+			}
+
+			return super.leaveNested(segment);
+		}
+	}
+}
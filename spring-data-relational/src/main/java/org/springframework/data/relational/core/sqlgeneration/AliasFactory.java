@@ -36,6 +36,11 @@ public class AliasFactory {
 	private final SingleAliasFactory rowCountAliases = new SingleAliasFactory("rc");
 	private final SingleAliasFactory backReferenceAliases = new SingleAliasFactory("br");
 	private final SingleAliasFactory keyAliases = new SingleAliasFactory("key");
+	private final SingleAliasFactory rootOrderAliases = new SingleAliasFactory("ro");
+	private final SingleAliasFactory elementTableAliases = new SingleAliasFactory("te");
+	private final SingleAliasFactory joinAliases = new SingleAliasFactory("tj");
+	private final SingleAliasFactory elementNumberAliases = new SingleAliasFactory("en");
+	private final SingleAliasFactory elementRowNumberAliases = new SingleAliasFactory("ern");
 	private final AtomicInteger counter = new AtomicInteger();
 
 	private static String sanitize(String name) {
@@ -66,6 +71,51 @@ public class AliasFactory {
 		return keyAliases.getOrCreateFor(path);
 	}
 
+	/**
+	 * @param path the path of an aggregate root.
+	 * @return the alias for the column holding the position of an aggregate root when loading sorted or paged results.
+	 * @since 4.1
+	 */
+	public String getRootOrderAlias(AggregatePath path) {
+		return rootOrderAliases.getOrCreateFor(path);
+	}
+
+	/**
+	 * @param path the path of an entity referenced by other entities.
+	 * @return the alias for the inline query selecting only the rows of the table of the entity.
+	 * @since 4.1
+	 */
+	public String getElementTableAlias(AggregatePath path) {
+		return elementTableAliases.getOrCreateFor(path);
+	}
+
+	/**
+	 * @param path the path of an entity referenced by other entities.
+	 * @return the alias for the inline query joining the entity with the entities referencing it.
+	 * @since 4.1
+	 */
+	public String getJoinAlias(AggregatePath path) {
+		return joinAliases.getOrCreateFor(path);
+	}
+
+	/**
+	 * @param path the path of an entity referenced by other entities.
+	 * @return the alias for the column numbering the entities per back reference.
+	 * @since 4.1
+	 */
+	public String getElementNumberAlias(AggregatePath path) {
+		return elementNumberAliases.getOrCreateFor(path);
+	}
+
+	/**
+	 * @param path the path of an entity referenced by other entities.
+	 * @return the alias for the column numbering the rows belonging to a single entity.
+	 * @since 4.1
+	 */
+	public String getElementRowNumberAlias(AggregatePath path) {
+		return elementRowNumberAliases.getOrCreateFor(path);
+	}
+
 	private class SingleAliasFactory {
 		private final String prefix;
 		private final Map<AggregatePath, String> cache = new ConcurrentHashMap<>();
@@ -17,21 +17,25 @@ package org.springframework.data.relational.core.sqlgeneration;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.PersistentPropertyPaths;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.dialect.RenderContextFactory;
 import org.springframework.data.relational.core.mapping.AggregatePath;
+import org.springframework.data.relational.core.mapping.AggregatePathTraversal;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.sql.*;
 import org.springframework.data.relational.core.sql.render.SqlRenderer;
+import org.springframework.util.Assert;
 
 /**
  * A {@link SqlGenerator} that creates SQL statements for loading complete aggregates with a single statement.
@@ -57,19 +61,53 @@ public class SingleQuerySqlGenerator implements SqlGenerator {
 		return createSelect(aggregate, condition);
 	}
 
+	/**
+	 * Creates a statement loading the aggregates matching {@code condition} in the order defined by {@code sort}. Sorting,
+	 * {@code limit} and {@code offset} apply to aggregate roots, not to rows of the result.
+	 *
+	 * @param aggregate the aggregate root to load.
+	 * @param condition the condition to apply, may be {@literal null}.
+	 * @param sort the sort to apply. Must not be {@literal null}.
+	 * @param limit the maximum number of aggregate roots to load. Negative values indicate no limit.
+	 * @param offset the number of aggregate roots to skip.
+	 * @return the SQL statement.
+	 * @since 4.1
+	 */
+	public String findAll(RelationalPersistentEntity<?> aggregate, @Nullable Condition condition, Sort sort, int limit,
+			long offset) {
+		return createSelect(aggregate, condition, sort, limit, offset);
+	}
+
 	String createSelect(RelationalPersistentEntity<?> aggregate, @Nullable Condition condition) {
+		return createSelect(aggregate, condition, Sort.unsorted(), -1, -1);
+	}
+
+	/**
+	 * Creates the select for loading aggregates. Sorting, limit and offset get applied to the subselect for the aggregate
+	 * root, so they affect aggregate roots and not rows of the final result. The position of each aggregate root is kept
+	 * in a {@code row_number()} column, which takes precedence when ordering the final result.
+	 */
+	String createSelect(RelationalPersistentEntity<?> aggregate, @Nullable Condition condition, Sort sort, int limit,
+			long offset) {
 
 		AggregatePath rootPath = context.getAggregatePath(aggregate);
-		QueryMeta queryMeta = createInlineQuery(rootPath, condition);
+		boolean restricted = sort.isSorted() || limit >= 0 || offset > 0;
+		List<OrderByField> rootOrder = restricted ? createRootOrder(rootPath, sort) : List.of();
+
+		QueryMeta queryMeta = createInlineQuery(rootPath, condition, rootOrder, limit, offset);
 		InlineQuery rootQuery = queryMeta.inlineQuery;
 		List<Expression> columns = new ArrayList<>(queryMeta.selectableExpressions);
 
+		Expression rootOrderColumn = restricted ? just(aliases.getRootOrderAlias(rootPath)) : null;
+		if (rootOrderColumn != null) {
+			columns.add(rootOrderColumn);
+		}
+
 		List<Expression> rownumbers = new ArrayList<>();
 		rownumbers.add(queryMeta.rowNumber);
 
-		PersistentPropertyPaths<?, RelationalPersistentProperty> entityPaths = context
-				.findPersistentPropertyPaths(aggregate.getType(), PersistentProperty::isEntity);
-		List<QueryMeta> inlineQueries = createInlineQueries(entityPaths);
+		Map<AggregatePath, List<AggregatePath>> tables = getTablesByParent(aggregate);
+		List<QueryMeta> inlineQueries = createInlineQueries(rootPath, tables);
 		inlineQueries.forEach(qm -> {
 			columns.addAll(qm.selectableExpressions);
 			rownumbers.add(qm.rowNumber);
@@ -79,15 +117,58 @@ public class SingleQuerySqlGenerator implements SqlGenerator {
 				: new AliasedExpression(rownumbers.get(0), "rn");
 		columns.add(totalRownumber);
 
-		InlineQuery inlineQuery = createMainSelect(columns, rootPath, rootQuery, inlineQueries);
 		Expression rootId = just(aliases.getColumnAlias(rootPath.append(aggregate.getRequiredIdProperty())));
+		InlineQuery inlineQuery = createMainSelect(columns, rootId, rootQuery, inlineQueries);
 
 		List<Expression> selectList = getSelectList(queryMeta, inlineQueries, rootId);
-		Select fullQuery = StatementBuilder.select(selectList).from(inlineQuery).orderBy(rootId, just("rn")).build(false);
+		Expression[] orderBy = rootOrderColumn != null ? new Expression[] { rootOrderColumn, rootId, just("rn") }
+				: new Expression[] { rootId, just("rn") };
+		Select fullQuery = StatementBuilder.select(selectList).from(inlineQuery).orderBy(orderBy).build(false);
 
 		return SqlRenderer.create(new RenderContextFactory(dialect).createRenderContext()).render(fullQuery);
 	}
 
+	/**
+	 * Maps the {@link Sort} to columns of the table of the aggregate root. The id of the aggregate root is always added as
+	 * the last criteria, so the order of aggregate roots is deterministic, which is required for stable paging.
+	 *
+	 * @param rootPath the path of the aggregate root.
+	 * @param sort the requested sort. Must not reference properties stored outside the table of the aggregate root.
+	 * @return the fields to order the aggregate roots by.
+	 */
+	private List<OrderByField> createRootOrder(AggregatePath rootPath, Sort sort) {
+
+		RelationalPersistentEntity<?> entity = rootPath.getRequiredLeafEntity();
+		Table table = Table.create(entity.getQualifiedTableName());
+		AggregatePath idPath = rootPath.append(entity.getRequiredIdProperty());
+
+		List<OrderByField> orderBy = new ArrayList<>();
+		boolean orderedById = false;
+
+		for (Sort.Order order : sort) {
+
+			AggregatePath path = context
+					.getAggregatePath(context.getPersistentPropertyPath(order.getProperty(), entity.getType()));
+
+			if (path.isEntity() || !AggregatePathTraversal.getTableOwningPath(path).isRoot()) {
+				throw new IllegalArgumentException(String.format(
+						"Cannot sort aggregates of type %s by '%s'; Only properties stored in the table of the aggregate root are supported",
+						entity.getType().getName(), order.getProperty()));
+			}
+
+			Expression column = table.column(path.getColumnInfo().name());
+			orderBy.add(OrderByField.from(order.isIgnoreCase() ? Functions.upper(column) : column, order.getDirection())
+					.withNullHandling(order.getNullHandling()));
+			orderedById |= path.equals(idPath);
+		}
+
+		if (!orderedById) {
+			orderBy.add(OrderByField.from(table.column(idPath.getColumnInfo().name())));
+		}
+
+		return orderBy;
+	}
+
 	private static List<Expression> getSelectList(QueryMeta queryMeta, List<QueryMeta> inlineQueries, Expression rootId) {
 
 		List<Expression> expressions = new ArrayList<>(inlineQueries.size() + queryMeta.simpleColumns.size() + 8);
@@ -96,51 +177,164 @@ public class SingleQuerySqlGenerator implements SqlGenerator {
 				.forEach(e -> expressions.add(filteredColumnExpression(queryMeta.rowNumber.toString(), e.toString())));
 
 		for (QueryMeta meta : inlineQueries) {
-
-			meta.simpleColumns
-					.forEach(e -> expressions.add(filteredColumnExpression(meta.rowNumber.toString(), e.toString())));
-
-			if (meta.id != null) {
-				expressions.add(meta.id);
-			}
-			if (meta.key != null) {
-				expressions.add(meta.key);
-			}
+			filteredColumns(meta)
+					.forEach(alias -> expressions.add(filteredColumnExpression(meta.rowNumber.toString(), alias)));
 		}
 
 		expressions.add(rootId);
 		return expressions;
 	}
 
-	private InlineQuery createMainSelect(List<Expression> columns, AggregatePath rootPath, InlineQuery rootQuery,
+	/**
+	 * Returns the aliases of all columns of an inline query that must only show up in rows belonging to that inline
+	 * query. Besides the simple columns this includes the id and the key, so that repeated rows of shorter collections
+	 * don't look like the start of a new element. The back reference is only used for joining and not included.
+	 */
+	private static List<String> filteredColumns(QueryMeta meta) {
+
+		List<String> columns = new ArrayList<>(meta.simpleColumns.size() + 2);
+		meta.simpleColumns.forEach(e -> columns.add(e.toString()));
+
+		if (meta.id != null) {
+			columns.add(meta.id.toString());
+		}
+		if (meta.key != null) {
+			columns.add(meta.key.toString());
+		}
+
+		return columns;
+	}
+
+	private InlineQuery createMainSelect(List<Expression> columns, Expression rootId, InlineQuery rootQuery,
 			List<QueryMeta> inlineQueries) {
 
 		SelectBuilder.SelectJoin select = StatementBuilder.select(columns).from(rootQuery);
-		select = applyJoins(rootPath, inlineQueries, select);
+		select = applyJoins(rootId, inlineQueries, select);
 
 		SelectBuilder.BuildSelect buildSelect = applyWhereCondition(inlineQueries, select);
 		return InlineQuery.create(buildSelect.build(false), "main");
 	}
 
 	/**
-	 * Creates inline queries for all entities referenced by the paths passed as an argument.
+	 * Groups all tables of the aggregate by the table they reference. Embedded entities don't have a table of their own,
+	 * their columns get selected with the table owning them.
+	 *
+	 * @param aggregate the aggregate root.
+	 * @return the paths of tables, indexed by the path of the table owning the referenced entity.
+	 */
+	private Map<AggregatePath, List<AggregatePath>> getTablesByParent(RelationalPersistentEntity<?> aggregate) {
+
+		Map<AggregatePath, List<AggregatePath>> tables = new LinkedHashMap<>();
+
+		PersistentPropertyPaths<?, RelationalPersistentProperty> entityPaths = context
+				.findPersistentPropertyPaths(aggregate.getType(), PersistentProperty::isEntity);
+		for (PersistentPropertyPath<? extends RelationalPersistentProperty> ppp : entityPaths) {
+
+			AggregatePath path = context.getAggregatePath(ppp);
+			if (path.isEmbedded()) {
+				continue;
+			}
+
+			AggregatePath parent = AggregatePathTraversal.getTableOwningPath(path.getParentPath());
+			tables.computeIfAbsent(parent, __ -> new ArrayList<>()).add(path);
+		}
+
+		return tables;
+	}
+
+	/**
+	 * Creates inline queries for all tables directly referencing the table of the given path. Tables that are
+	 * referenced by other tables in turn are combined with those by {@link #createNestedInlineQuery(AggregatePath, Map)}.
 	 *
-	 * @param paths the paths to consider.
-	 * @return a {@link Map} that contains all the inline queries indexed by the path to the entity that gets loaded by
-	 *         the subquery.
+	 * @param parent the path owning the table referenced by the inline queries to create.
+	 * @param tables all tables of the aggregate as returned by {@link #getTablesByParent(RelationalPersistentEntity)}.
+	 * @return the inline queries for the tables referencing the table of {@code parent}.
 	 */
-	private List<QueryMeta> createInlineQueries(PersistentPropertyPaths<?, RelationalPersistentProperty> paths) {
+	private List<QueryMeta> createInlineQueries(AggregatePath parent, Map<AggregatePath, List<AggregatePath>> tables) {
 
 		List<QueryMeta> inlineQueries = new ArrayList<>();
 
-		for (PersistentPropertyPath<? extends RelationalPersistentProperty> ppp : paths) {
+		for (AggregatePath path : tables.getOrDefault(parent, List.of())) {
 
-			QueryMeta queryMeta = createInlineQuery(context.getAggregatePath(ppp), null);
+			QueryMeta queryMeta = tables.containsKey(path) ? createNestedInlineQuery(path, tables)
+					: createInlineQuery(path, null, List.of(), -1, -1);
 			inlineQueries.add(queryMeta);
 		}
 		return inlineQueries;
 	}
 
+	/**
+	 * Creates an inline query for an entity which is referenced by further entities. The rows of the entity are joined
+	 * with the inline queries of the referencing entities, in the same way the aggregate root is joined with its
+	 * children. This results in multiple rows per entity, which are then numbered per back reference, ordered by the
+	 * entity and the rows belonging to it. The resulting query therefore has the same shape as a simple inline query and
+	 * can be joined to its parent in the same way.
+	 * <p>
+	 * The columns of the referencing entities are replaced by {@literal null} in all rows except their own, analogous to
+	 * {@link #filteredColumnExpression(String, String, String)}.
+	 *
+	 * @param basePath the path for which to create the inline query.
+	 * @param tables all tables of the aggregate as returned by {@link #getTablesByParent(RelationalPersistentEntity)}.
+	 * @return an inline query for the given path, including all entities referencing it.
+	 */
+	private QueryMeta createNestedInlineQuery(AggregatePath basePath, Map<AggregatePath, List<AggregatePath>> tables) {
+
+		String elementNumberAlias = aliases.getElementNumberAlias(basePath);
+		QueryMeta element = createInlineQuery(basePath, null, List.of(), -1, -1, elementNumberAlias, null);
+
+		Assert.state(element.id != null, () -> "Entity at %s must have an id to be referenced by other entities"
+				.formatted(basePath.toDotPath()));
+
+		List<QueryMeta> nested = createInlineQueries(basePath, tables);
+
+		List<Expression> joinedColumns = new ArrayList<>(element.selectableExpressions);
+		List<Expression> rownumbers = new ArrayList<>();
+		nested.forEach(qm -> {
+			joinedColumns.addAll(qm.selectableExpressions);
+			rownumbers.add(qm.rowNumber);
+		});
+
+		String elementRowNumberAlias = aliases.getElementRowNumberAlias(basePath);
+		Expression elementRowNumber = rownumbers.size() > 1 ? greatest(rownumbers)
+				: Functions.coalesce(rownumbers.get(0), SQL.literalOf(1));
+		joinedColumns.add(new AliasedExpression(elementRowNumber, elementRowNumberAlias));
+
+		SelectBuilder.SelectJoin joinSelect = StatementBuilder.select(joinedColumns).from(element.inlineQuery);
+		joinSelect = applyJoins(element.id, nested, joinSelect);
+		InlineQuery joined = InlineQuery.create(applyWhereCondition(nested, joinSelect).build(false),
+				aliases.getJoinAlias(basePath));
+
+		List<Expression> simpleColumns = new ArrayList<>(element.simpleColumns);
+		List<Expression> columns = new ArrayList<>(element.simpleColumns);
+		columns.add(element.id);
+		columns.add(element.backReference);
+		columns.add(element.key);
+
+		for (QueryMeta meta : nested) {
+			for (String alias : filteredColumns(meta)) {
+
+				simpleColumns.add(just(alias));
+				columns.add(filteredColumnExpression(meta.rowNumber.toString(), alias, elementRowNumberAlias));
+			}
+		}
+
+		String rowNumberAlias = aliases.getRowNumberAlias(basePath);
+		columns.add(AnalyticFunction.create("row_number") //
+				.partitionBy(element.backReference) //
+				.orderBy(just(elementNumberAlias), just(elementRowNumberAlias)) //
+				.as(rowNumberAlias));
+
+		String rowCountAlias = aliases.getRowCountAlias(basePath);
+		columns.add(AnalyticFunction.create("count", Expressions.just("*")) //
+				.partitionBy(element.backReference) //
+				.as(rowCountAlias));
+
+		InlineQuery inlineQuery = InlineQuery.create(StatementBuilder.select(columns).from(joined).build(false),
+				aliases.getTableAlias(basePath));
+		return QueryMeta.of(basePath, inlineQuery, simpleColumns, element.id, element.backReference, element.key,
+				just(rowNumberAlias), just(rowCountAlias));
+	}
+
 	/**
 	 * Creates a single inline query for the given basePath. The query selects all the columns for the entity plus a
 	 * rownumber and a rowcount expression. The first numbers all rows of the subselect sequentially starting from 1. The
@@ -151,27 +345,39 @@ public class SingleQuerySqlGenerator implements SqlGenerator {
 	 *
 	 * @param basePath the path for which to create the inline query.
 	 * @param condition a condition that is to be applied to the query. May be {@literal null}.
+	 * @param order the order of the aggregate roots. Only used for the aggregate root, where it gets exposed as a
+	 *          {@code row_number()} column. Empty when the aggregate roots aren't ordered.
+	 * @param limit the maximum number of aggregate roots to select. Negative for no limit.
+	 * @param offset the number of aggregate roots to skip.
 	 * @return an inline query for the given path.
 	 */
-	private QueryMeta createInlineQuery(AggregatePath basePath, @Nullable Condition condition) {
+	private QueryMeta createInlineQuery(AggregatePath basePath, @Nullable Condition condition, List<OrderByField> order,
+			int limit, long offset) {
+		return createInlineQuery(basePath, condition, order, limit, offset, aliases.getRowNumberAlias(basePath),
+				aliases.getRowCountAlias(basePath));
+	}
+
+	private QueryMeta createInlineQuery(AggregatePath basePath, @Nullable Condition condition, List<OrderByField> order,
+			int limit, long offset, String rowNumberAlias, @Nullable String rowCountAlias) {
 
 		RelationalPersistentEntity<?> entity = basePath.getRequiredLeafEntity();
 		Table table = Table.create(entity.getQualifiedTableName());
 
-		List<AggregatePath> paths = getAggregatePaths(basePath, entity);
+		List<AggregatePath> paths = getAggregatePaths(basePath, basePath);
 		List<Expression> columns = new ArrayList<>();
 
-		String rowNumberAlias = aliases.getRowNumberAlias(basePath);
 		Expression rownumber = basePath.isRoot() ? new AliasedExpression(SQL.literalOf(1), rowNumberAlias)
 				: createRowNumberExpression(basePath, table, rowNumberAlias);
 		columns.add(rownumber);
 
-		String rowCountAlias = aliases.getRowCountAlias(basePath);
-		Expression count = basePath.isRoot() ? new AliasedExpression(SQL.literalOf(1), rowCountAlias) //
-				: AnalyticFunction.create("count", Expressions.just("*")) //
-						.partitionBy(basePath.getTableInfo().backReferenceColumnInfos().toColumnList(table) //
-						).as(rowCountAlias);
-		columns.add(count);
+		if (rowCountAlias != null) {
+
+			Expression count = basePath.isRoot() ? new AliasedExpression(SQL.literalOf(1), rowCountAlias) //
+					: AnalyticFunction.create("count", Expressions.just("*")) //
+							.partitionBy(basePath.getTableInfo().backReferenceColumnInfos().toColumnList(table) //
+							).as(rowCountAlias);
+			columns.add(count);
+		}
 
 		String backReferenceAlias = null;
 		String keyAlias = null;
@@ -189,23 +395,48 @@ public class SingleQuerySqlGenerator implements SqlGenerator {
 			columns.add(keyExpression);
 		}
 
-		String id = getIdentifierProperty(paths);
-		List<Expression> columnAliases = getColumnAliases(table, paths, columns);
-		SelectBuilder.SelectWhere select = StatementBuilder.select(columns).from(table);
-		SelectBuilder.BuildSelect buildSelect = condition != null ? select.where(condition) : select;
+		if (!order.isEmpty()) {
+			columns.add(AnalyticFunction.create("row_number") //
+					.orderBy(order.toArray(new OrderByField[0])) //
+					.as(aliases.getRootOrderAlias(basePath)));
+		}
 
-		InlineQuery inlineQuery = InlineQuery.create(buildSelect.build(false), aliases.getTableAlias(basePath));
+		String id = getIdentifierProperty(basePath, paths);
+		List<Expression> columnAliases = getColumnAliases(basePath, table, paths, columns);
+		SelectBuilder.SelectWhere select = StatementBuilder.select(columns).from(table);
+		SelectBuilder.SelectOrdered selectOrdered = condition != null ? select.where(condition) : select;
+		SelectBuilder.BuildSelect buildSelect = limit >= 0 || offset > 0
+				? applyLimitOffset(selectOrdered.orderBy(order), limit, offset)
+				: selectOrdered;
+
+		String tableAlias = rowCountAlias != null ? aliases.getTableAlias(basePath)
+				: aliases.getElementTableAlias(basePath);
+		InlineQuery inlineQuery = InlineQuery.create(buildSelect.build(false), tableAlias);
 		return QueryMeta.of(basePath, inlineQuery, columnAliases, just(id), just(backReferenceAlias), just(keyAlias),
-				just(rowNumberAlias), just(rowCountAlias));
+				just(rowNumberAlias), rowCountAlias == null ? null : just(rowCountAlias));
+	}
+
+	private static SelectBuilder.BuildSelect applyLimitOffset(SelectBuilder.SelectOrdered select, int limit,
+			long offset) {
+
+		Assert.isTrue(select instanceof SelectBuilder.SelectLimitOffset,
+				() -> String.format("Can't apply limit clause to statement of type %s", select.getClass()));
+
+		SelectBuilder.SelectLimitOffset limitable = (SelectBuilder.SelectLimitOffset) select;
+		SelectBuilder.SelectLimitOffset result = limit >= 0 ? limitable.limitOffset(limit, offset)
+				: limitable.offset(offset);
+
+		return (SelectBuilder.BuildSelect) result;
 	}
 
-	private List<Expression> getColumnAliases(Table table, List<AggregatePath> paths, List<Expression> columns) {
+	private List<Expression> getColumnAliases(AggregatePath basePath, Table table, List<AggregatePath> paths,
+			List<Expression> columns) {
 
 		List<Expression> columnAliases = new ArrayList<>();
 		for (AggregatePath path : paths) {
 
 			String alias = aliases.getColumnAlias(path);
-			if (!path.getRequiredLeafProperty().isIdProperty()) {
+			if (!isIdentifier(basePath, path)) {
 				columnAliases.add(just(alias));
 			}
 			columns.add(table.column(path.getColumnInfo().name()).as(alias));
@@ -213,13 +444,25 @@ public class SingleQuerySqlGenerator implements SqlGenerator {
 		return columnAliases;
 	}
 
-	private static List<AggregatePath> getAggregatePaths(AggregatePath basePath, RelationalPersistentEntity<?> entity) {
+	/**
+	 * Collects the paths of all columns stored in the table of the entity. This includes the properties of embedded
+	 * entities, but not the ones of referenced entities, which are stored in tables of their own.
+	 *
+	 * @param basePath the path owning the table.
+	 * @param entityPath the path to the entity to inspect. Either {@code basePath} or an embedded entity within it.
+	 * @return the paths of all columns.
+	 */
+	private static List<AggregatePath> getAggregatePaths(AggregatePath basePath, AggregatePath entityPath) {
 
 		List<AggregatePath> paths = new ArrayList<>();
 
-		for (RelationalPersistentProperty property : entity) {
-			if (!property.isEntity()) {
-				paths.add(basePath.append(property));
+		for (RelationalPersistentProperty property : entityPath.getRequiredLeafEntity()) {
+
+			AggregatePath path = entityPath.append(property);
+			if (property.isEmbedded()) {
+				paths.addAll(getAggregatePaths(basePath, path));
+			} else if (!property.isEntity()) {
+				paths.add(path);
 			}
 		}
 
@@ -227,10 +470,10 @@ public class SingleQuerySqlGenerator implements SqlGenerator {
 	}
 
 	@Nullable
-	private String getIdentifierProperty(List<AggregatePath> paths) {
+	private String getIdentifierProperty(AggregatePath basePath, List<AggregatePath> paths) {
 
 		for (AggregatePath path : paths) {
-			if (path.getRequiredLeafProperty().isIdProperty()) {
+			if (isIdentifier(basePath, path)) {
 				return aliases.getColumnAlias(path);
 			}
 		}
@@ -238,6 +481,10 @@ public class SingleQuerySqlGenerator implements SqlGenerator {
 		return null;
 	}
 
+	private static boolean isIdentifier(AggregatePath basePath, AggregatePath path) {
+		return path.getRequiredLeafProperty().isIdProperty() && path.getParentPath().equals(basePath);
+	}
+
 	private static AnalyticFunction createRowNumberExpression(AggregatePath basePath, Table table,
 			String rowNumberAlias) {
 		AggregatePath.ColumnInfos reverseColumnInfos = basePath.getTableInfo().backReferenceColumnInfos();
@@ -250,23 +497,21 @@ public class SingleQuerySqlGenerator implements SqlGenerator {
 	/**
 	 * Adds joins to a select.
 	 *
-	 * @param rootPath the AggregatePath that gets selected by the select in question.
+	 * @param id the id of the entity that gets selected by the select in question and is referenced by the inline
+	 *          queries.
 	 * @param inlineQueries all the inline queries to added as joins as returned by
-	 *          {@link #createInlineQueries(PersistentPropertyPaths)}
+	 *          {@link #createInlineQueries(AggregatePath, Map)}
 	 * @param select the select to modify.
 	 * @return the original select but with added joins
 	 */
-	private SelectBuilder.SelectJoin applyJoins(AggregatePath rootPath, List<QueryMeta> inlineQueries,
+	private SelectBuilder.SelectJoin applyJoins(Expression id, List<QueryMeta> inlineQueries,
 			SelectBuilder.SelectJoin select) {
 
-		RelationalPersistentProperty rootIdProperty = rootPath.getRequiredIdProperty();
-		AggregatePath rootIdPath = rootPath.append(rootIdProperty);
 		for (QueryMeta queryMeta : inlineQueries) {
 
 			AggregatePath path = queryMeta.basePath();
 			String backReferenceAlias = aliases.getBackReferenceAlias(path);
-			Comparison joinCondition = Conditions.isEqual(Expressions.just(aliases.getColumnAlias(rootIdPath)),
-					Expressions.just(backReferenceAlias));
+			Comparison joinCondition = Conditions.isEqual(id, Expressions.just(backReferenceAlias));
 			select = select.leftOuterJoin(queryMeta.inlineQuery).on(joinCondition);
 		}
 
@@ -284,7 +529,7 @@ public class SingleQuerySqlGenerator implements SqlGenerator {
 	 * </ol>
 	 *
 	 * @param inlineQueries all in the inline queries for all the children, as returned by
-	 *          {@link #createInlineQueries(PersistentPropertyPaths)}
+	 *          {@link #createInlineQueries(AggregatePath, Map)}
 	 * @param select the select to which the where clause gets added.
 	 * @return the modified select.
 	 */
@@ -392,7 +637,22 @@ public class SingleQuerySqlGenerator implements SqlGenerator {
 	 * @return a SQL expression.
 	 */
 	private static Expression filteredColumnExpression(String rowNumberAlias, String alias) {
-		return just(String.format("case when %s = rn THEN %s else null end as %s", rowNumberAlias, alias, alias));
+		return filteredColumnExpression(rowNumberAlias, alias, "rn");
+	}
+
+	/**
+	 * Constructs SQL of the form {@code CASE WHEN x = y THEN alias ELSE NULL END AS ALIAS}.
+	 *
+	 * @param rowNumberAlias the alias of the rownumber column of the subselect under consideration.
+	 * @param alias the column potentially to be replaced by null
+	 * @param currentRowNumberAlias the alias of the rownumber of the row under consideration.
+	 * @return a SQL expression.
+	 * @see #filteredColumnExpression(String, String)
+	 */
+	private static Expression filteredColumnExpression(String rowNumberAlias, String alias,
+			String currentRowNumberAlias) {
+		return just(String.format("case when %s = %s THEN %s else null end as %s", rowNumberAlias, currentRowNumberAlias,
+				alias, alias));
 	}
 
 	private static Expression just(String alias) {
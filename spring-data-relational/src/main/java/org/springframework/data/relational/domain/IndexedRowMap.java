@@ -0,0 +1,295 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.domain;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+/**
+ * {@link Map} storing the values of a row in an array. The position of each column is defined by
+ * {@link RowDocument.Columns} which get shared by all rows of a result. Keys are case-insensitive. Entries for keys not
+ * contained in the columns are held in a {@link LinkedCaseInsensitiveMap}, which only gets created when such an entry
+ * gets added.
+ *
+ * @since 4.1
+ */
+class IndexedRowMap extends AbstractMap<String, Object> {
+
+	/**
+	 * Marker for slots of columns that have been removed.
+	 */
+	private static final Object ABSENT = new Object();
+
+	private final RowDocument.Columns columns;
+	private final @Nullable Object[] values;
+	private int absent;
+	private @Nullable LinkedCaseInsensitiveMap<Object> additionalValues;
+
+	IndexedRowMap(RowDocument.Columns columns, @Nullable Object[] values) {
+
+		this.columns = columns;
+		this.values = values;
+	}
+
+	@Override
+	public int size() {
+		return values.length - absent + (additionalValues != null ? additionalValues.size() : 0);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+
+		int index = indexOf(key);
+
+		if (index >= 0) {
+			return values[index] != ABSENT;
+		}
+
+		return additionalValues != null && additionalValues.containsKey(key);
+	}
+
+	@Override
+	public @Nullable Object get(Object key) {
+
+		int index = indexOf(key);
+
+		if (index >= 0) {
+
+			Object value = values[index];
+			return value == ABSENT ? null : value;
+		}
+
+		return additionalValues != null ? additionalValues.get(key) : null;
+	}
+
+	@Override
+	public @Nullable Object put(String key, @Nullable Object value) {
+
+		int index = columns.indexOf(key);
+
+		if (index >= 0) {
+
+			Object previous = values[index];
+			values[index] = value;
+
+			if (previous == ABSENT) {
+				absent--;
+				return null;
+			}
+
+			return previous;
+		}
+
+		if (additionalValues == null) {
+			additionalValues = new LinkedCaseInsensitiveMap<>();
+		}
+
+		return additionalValues.put(key, value);
+	}
+
+	@Override
+	public @Nullable Object remove(Object key) {
+
+		int index = indexOf(key);
+
+		if (index >= 0) {
+			return removeAt(index);
+		}
+
+		return additionalValues != null ? additionalValues.remove(key) : null;
+	}
+
+	@Override
+	public void clear() {
+
+		for (int i = 0; i < values.length; i++) {
+			values[i] = ABSENT;
+		}
+
+		absent = values.length;
+		additionalValues = null;
+	}
+
+	@Override
+	public Set<Entry<String, Object>> entrySet() {
+		return new EntrySet();
+	}
+
+	private int indexOf(Object key) {
+		return key instanceof String name ? columns.indexOf(name) : -1;
+	}
+
+	private @Nullable Object removeAt(int index) {
+
+		Object previous = values[index];
+
+		if (previous == ABSENT) {
+			return null;
+		}
+
+		values[index] = ABSENT;
+		absent++;
+
+		return previous;
+	}
+
+	private class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+		@Override
+		public Iterator<Entry<String, Object>> iterator() {
+			return new EntryIterator();
+		}
+
+		@Override
+		public int size() {
+			return IndexedRowMap.this.size();
+		}
+	}
+
+	private class EntryIterator implements Iterator<Entry<String, Object>> {
+
+		private int next = advance(0);
+		private int current = -1;
+		private @Nullable Iterator<Entry<String, Object>> additional;
+
+		@Override
+		public boolean hasNext() {
+			return next < values.length || additionalIterator().hasNext();
+		}
+
+		@Override
+		public Entry<String, Object> next() {
+
+			if (next < values.length) {
+
+				current = next;
+				next = advance(next + 1);
+
+				return new IndexedEntry(current);
+			}
+
+			current = -1;
+
+			Iterator<Entry<String, Object>> iterator = additionalIterator();
+			if (!iterator.hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			return iterator.next();
+		}
+
+		@Override
+		public void remove() {
+
+			if (current >= 0) {
+
+				removeAt(current);
+				current = -1;
+				return;
+			}
+
+			additionalIterator().remove();
+		}
+
+		private int advance(int index) {
+
+			int result = index;
+			while (result < values.length && values[result] == ABSENT) {
+				result++;
+			}
+
+			return result;
+		}
+
+		private Iterator<Entry<String, Object>> additionalIterator() {
+
+			if (additional == null) {
+				additional = additionalValues != null ? additionalValues.entrySet().iterator()
+						: Collections.emptyIterator();
+			}
+
+			return additional;
+		}
+	}
+
+	private class IndexedEntry implements Entry<String, Object> {
+
+		private final int index;
+
+		IndexedEntry(int index) {
+			this.index = index;
+		}
+
+		@Override
+		public String getKey() {
+			return columns.getName(index);
+		}
+
+		@Override
+		public @Nullable Object getValue() {
+
+			Object value = values[index];
+			return value == ABSENT ? null : value;
+		}
+
+		@Override
+		public @Nullable Object setValue(@Nullable Object value) {
+
+			Object previous = values[index];
+			values[index] = value;
+
+			if (previous == ABSENT) {
+				absent--;
+				return null;
+			}
+
+			return previous;
+		}
+
+		@Override
+		public boolean equals(@Nullable Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof Entry<?, ?> that)) {
+				return false;
+			}
+
+			return getKey().equals(that.getKey()) && Objects.equals(getValue(), that.getValue());
+		}
+
+		@Override
+		public int hashCode() {
+			return getKey().hashCode() ^ Objects.hashCode(getValue());
+		}
+
+		@Override
+		public String toString() {
+			return getKey() + "=" + getValue();
+		}
+	}
+}
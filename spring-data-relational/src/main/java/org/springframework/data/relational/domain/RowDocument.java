@@ -16,9 +16,12 @@
 package org.springframework.data.relational.domain;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -52,6 +55,24 @@ public class RowDocument implements Map<String, Object> {
 		this.delegate.putAll(map);
 	}
 
+	/**
+	 * Creates a new {@link RowDocument} for a row of a tabular result. The values are stored in the given array, in the
+	 * order defined by {@link Columns}. {@link Columns} are meant to be shared by all rows of the same result, so looking
+	 * up column names happens once per result and not once per row.
+	 *
+	 * @param columns the columns of the result. Must not be {@literal null}.
+	 * @param values the values of the row, one for each column. Must not be {@literal null}.
+	 * @since 4.1
+	 */
+	public RowDocument(Columns columns, @Nullable Object[] values) {
+
+		Assert.notNull(columns, "Columns must not be null");
+		Assert.notNull(values, "Values must not be null");
+		Assert.isTrue(columns.size() == values.length, "Number of values must match the number of columns");
+
+		this.delegate = new IndexedRowMap(columns, values);
+	}
+
 	/**
 	 * Factory method to create a RowDocument from a field and value.
 	 *
@@ -272,4 +293,88 @@ public class RowDocument implements Map<String, Object> {
 		return getClass().getSimpleName() + delegate.toString();
 	}
 
+	/**
+	 * The columns of a tabular result, defining the position of each column in the value array of a
+	 * {@link RowDocument}. Column names are matched case-insensitively. Lookups are cached, so resolving the position of
+	 * a column is a single hash lookup after it was resolved once.
+	 *
+	 * @since 4.1
+	 */
+	public static final class Columns {
+
+		private static final Integer NOT_FOUND = -1;
+
+		private final String[] names;
+		private final Map<String, Integer> positions;
+		private final Map<String, Integer> lowerCasePositions;
+
+		private Columns(String[] names) {
+
+			this.names = names;
+			this.positions = new ConcurrentHashMap<>(names.length);
+			this.lowerCasePositions = new HashMap<>(names.length);
+
+			for (int i = 0; i < names.length; i++) {
+
+				Assert.notNull(names[i], "Column names must not be null");
+
+				if (lowerCasePositions.putIfAbsent(toLowerCase(names[i]), i) != null) {
+					throw new IllegalArgumentException("Duplicate column name %s".formatted(names[i]));
+				}
+
+				positions.put(names[i], i);
+			}
+		}
+
+		/**
+		 * Creates {@link Columns} for the given column names.
+		 *
+		 * @param names the column names in the order of the result. Must not be {@literal null} and must not contain names
+		 *          differing only in case.
+		 * @return the {@link Columns} for the given names.
+		 */
+		public static Columns of(List<String> names) {
+
+			Assert.notNull(names, "Names must not be null");
+
+			return new Columns(names.toArray(new String[0]));
+		}
+
+		/**
+		 * @return the number of columns.
+		 */
+		public int size() {
+			return names.length;
+		}
+
+		/**
+		 * @param index the position of the column.
+		 * @return the name of the column at the given position.
+		 */
+		public String getName(int index) {
+			return names[index];
+		}
+
+		/**
+		 * Returns the position of the column with the given name.
+		 *
+		 * @param name the name of the column. Must not be {@literal null}.
+		 * @return the position of the column or {@literal -1} if there is no such column.
+		 */
+		public int indexOf(String name) {
+
+			Integer position = positions.get(name);
+
+			if (position == null) {
+				position = positions.computeIfAbsent(name,
+						key -> lowerCasePositions.getOrDefault(toLowerCase(key), NOT_FOUND));
+			}
+
+			return position;
+		}
+
+		private static String toLowerCase(String name) {
+			return name.toLowerCase(Locale.ROOT);
+		}
+	}
 }
@@ -19,11 +19,14 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.CollectionUpdateStrategy;
+import org.springframework.data.relational.core.mapping.MappedCollection;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 
 /**
@@ -57,6 +60,47 @@ public class RelationalEntityUpdateWriterUnitTests {
 				);
 	}
 
+	@Test
+	void synchronizedCollectionGetsConvertedToSynchronizeInsteadOfDeletePlusInsert() {
+
+		SynchronizedSetEntity entity = new SynchronizedSetEntity(SOME_ENTITY_ID,
+				Set.of(new Element(1L), new Element(null)));
+
+		RootAggregateChange<SynchronizedSetEntity> aggregateChange = MutableAggregateChange.forSave(entity);
+
+		new RelationalEntityUpdateWriter<SynchronizedSetEntity>(context).write(entity, aggregateChange);
+
+		List<DbAction<?>> actions = extractActions(aggregateChange);
+		assertThat(actions) //
+				.extracting(DbAction::getClass, DbAction::getEntityType, DbActionTestSupport::extractPath) //
+				.containsExactly( //
+						tuple(DbAction.UpdateRoot.class, SynchronizedSetEntity.class, ""), //
+						tuple(DbAction.SynchronizeReferenced.class, Element.class, "elements") //
+				);
+		assertThat(((DbAction.SynchronizeReferenced<?>) actions.get(1)).elements()).hasSize(2);
+	}
+
+	@Test
+	void synchronizationFallsBackToDeletePlusInsertForNestedReferences() {
+
+		SynchronizedNestedEntity entity = new SynchronizedNestedEntity(SOME_ENTITY_ID,
+				Set.of(new SingleReferenceEntity(1L, new Element(2L), "x")));
+
+		RootAggregateChange<SynchronizedNestedEntity> aggregateChange = MutableAggregateChange.forSave(entity);
+
+		new RelationalEntityUpdateWriter<SynchronizedNestedEntity>(context).write(entity, aggregateChange);
+
+		assertThat(extractActions(aggregateChange)) //
+				.extracting(DbAction::getClass, DbActionTestSupport::extractPath) //
+				.containsExactlyInAnyOrder( //
+						tuple(DbAction.UpdateRoot.class, ""), //
+						tuple(DbAction.Delete.class, "elements.other"), //
+						tuple(DbAction.Delete.class, "elements"), //
+						tuple(DbAction.Insert.class, "elements"), //
+						tuple(DbAction.Insert.class, "elements.other") //
+				);
+	}
+
 	private List<DbAction<?>> extractActions(MutableAggregateChange<?> aggregateChange) {
 
 		List<DbAction<?>> actions = new ArrayList<>();
@@ -74,4 +118,12 @@ public class RelationalEntityUpdateWriterUnitTests {
 	record Element(@Id Long id) {
 	}
 
+	record SynchronizedSetEntity(@Id Long id,
+			@MappedCollection(updateStrategy = CollectionUpdateStrategy.SYNCHRONIZE) Set<Element> elements) {
+	}
+
+	record SynchronizedNestedEntity(@Id Long id,
+			@MappedCollection(updateStrategy = CollectionUpdateStrategy.SYNCHRONIZE) Set<SingleReferenceEntity> elements) {
+	}
+
 }
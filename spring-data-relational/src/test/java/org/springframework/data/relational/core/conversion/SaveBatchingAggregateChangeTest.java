@@ -118,6 +118,98 @@ class SaveBatchingAggregateChangeTest {
 					.containsExactly(root1Insert, root2Insert);
 		}
 
+		@Test
+		void yieldsMultipleUpdateRoot_asBatchUpdateRootAction_groupedByVersioning() {
+
+			Root root1 = new Root(1L, null);
+			DbAction.UpdateRoot<Root> root1Update = new DbAction.UpdateRoot<>(root1, null);
+			RootAggregateChange<Root> aggregateChange1 = MutableAggregateChange.forSave(root1);
+			aggregateChange1.setRootAction(root1Update);
+
+			Root root2 = new Root(2L, null);
+			DbAction.UpdateRoot<Root> root2Update = new DbAction.UpdateRoot<>(root2, null);
+			RootAggregateChange<Root> aggregateChange2 = MutableAggregateChange.forSave(root2);
+			aggregateChange2.setRootAction(root2Update);
+
+			Root root3 = new Root(3L, null);
+			DbAction.UpdateRoot<Root> root3Update = new DbAction.UpdateRoot<>(root3, 1);
+			RootAggregateChange<Root> aggregateChange3 = MutableAggregateChange.forSave(root3, 1);
+			aggregateChange3.setRootAction(root3Update);
+
+			BatchingAggregateChange<Root, RootAggregateChange<Root>> change = BatchingAggregateChange.forSave(Root.class);
+			change.add(aggregateChange1);
+			change.add(aggregateChange2);
+			change.add(aggregateChange3);
+
+			List<DbAction<?>> actions = extractActions(change);
+			assertThat(actions).extracting(DbAction::getClass, DbAction::getEntityType).containsExactly( //
+					Tuple.tuple(DbAction.BatchUpdateRoot.class, Root.class), //
+					Tuple.tuple(DbAction.UpdateRoot.class, Root.class));
+			DbAction.BatchWithValue<Root, DbAction<Root>, Object> batch = getBatchWithValueAction(actions, Root.class,
+					DbAction.BatchUpdateRoot.class);
+			assertThat(batch.getActions()).containsExactly(root1Update, root2Update);
+			assertThat(batch.getBatchValue()).isEqualTo(false);
+		}
+
+		@Test
+		void yieldsUpdateRootBatch_followedByInsertRoot_inOrderOfAddition() {
+
+			Root root1 = new Root(1L, null);
+			DbAction.UpdateRoot<Root> root1Update = new DbAction.UpdateRoot<>(root1, null);
+			RootAggregateChange<Root> aggregateChange1 = MutableAggregateChange.forSave(root1);
+			aggregateChange1.setRootAction(root1Update);
+
+			Root root2 = new Root(2L, null);
+			DbAction.UpdateRoot<Root> root2Update = new DbAction.UpdateRoot<>(root2, null);
+			RootAggregateChange<Root> aggregateChange2 = MutableAggregateChange.forSave(root2);
+			aggregateChange2.setRootAction(root2Update);
+
+			Root root3 = new Root(null, null);
+			DbAction.InsertRoot<Root> root3Insert = new DbAction.InsertRoot<>(root3, IdValueSource.GENERATED);
+			RootAggregateChange<Root> aggregateChange3 = MutableAggregateChange.forSave(root3);
+			aggregateChange3.setRootAction(root3Insert);
+
+			BatchingAggregateChange<Root, RootAggregateChange<Root>> change = BatchingAggregateChange.forSave(Root.class);
+			change.add(aggregateChange1);
+			change.add(aggregateChange2);
+			change.add(aggregateChange3);
+
+			assertThat(extractActions(change)).extracting(DbAction::getClass, DbAction::getEntityType).containsExactly( //
+					Tuple.tuple(DbAction.BatchUpdateRoot.class, Root.class), //
+					Tuple.tuple(DbAction.InsertRoot.class, Root.class));
+		}
+
+		@Test
+		void yieldsMultipleUpsertRoot_asBatchUpsertRootAction_inOrderOfAddition() {
+
+			Root root1 = new Root(1L, null);
+			DbAction.UpsertRoot<Root> root1Upsert = new DbAction.UpsertRoot<>(root1);
+			RootAggregateChange<Root> aggregateChange1 = MutableAggregateChange.forSave(root1);
+			aggregateChange1.setRootAction(root1Upsert);
+
+			Root root2 = new Root(2L, null);
+			DbAction.UpsertRoot<Root> root2Upsert = new DbAction.UpsertRoot<>(root2);
+			RootAggregateChange<Root> aggregateChange2 = MutableAggregateChange.forSave(root2);
+			aggregateChange2.setRootAction(root2Upsert);
+
+			Root root3 = new Root(3L, null);
+			DbAction.UpdateRoot<Root> root3Update = new DbAction.UpdateRoot<>(root3, null);
+			RootAggregateChange<Root> aggregateChange3 = MutableAggregateChange.forSave(root3);
+			aggregateChange3.setRootAction(root3Update);
+
+			BatchingAggregateChange<Root, RootAggregateChange<Root>> change = BatchingAggregateChange.forSave(Root.class);
+			change.add(aggregateChange1);
+			change.add(aggregateChange2);
+			change.add(aggregateChange3);
+
+			List<DbAction<?>> actions = extractActions(change);
+			assertThat(actions).extracting(DbAction::getClass, DbAction::getEntityType).containsExactly( //
+					Tuple.tuple(DbAction.BatchUpsertRoot.class, Root.class), //
+					Tuple.tuple(DbAction.UpdateRoot.class, Root.class));
+			assertThat(getBatchWithValueAction(actions, Root.class, DbAction.BatchUpsertRoot.class).getActions())
+					.containsExactly(root1Upsert, root2Upsert);
+		}
+
 		@Test // GH-537
 		void yieldsInsertRoot() {
 
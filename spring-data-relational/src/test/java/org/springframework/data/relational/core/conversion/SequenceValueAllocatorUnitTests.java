@@ -0,0 +1,148 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.conversion;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+
+/**
+ * Unit tests for {@link SequenceValueAllocator}.
+ */
+class SequenceValueAllocatorUnitTests {
+
+	SqlIdentifier sequence = SqlIdentifier.quoted("my_seq");
+	SequenceValueAllocator allocator = new SequenceValueAllocator();
+
+	@Test
+	void handsOutBlockBeforeQueryingSequenceAgain() {
+
+		AtomicLong sequenceValue = new AtomicLong(1);
+		AtomicInteger calls = new AtomicInteger();
+
+		List<Long> ids = Stream.generate(() -> allocator.next(sequence, 3, () -> {
+			calls.incrementAndGet();
+			return sequenceValue.getAndAdd(3);
+		})).limit(7).toList();
+
+		assertThat(ids).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+		assertThat(calls).hasValue(3);
+	}
+
+	@Test
+	void pollsRegisteredBlock() {
+
+		assertThat(allocator.poll(sequence)).isNull();
+		assertThat(allocator.allocate(sequence, 10, 2)).isEqualTo(10L);
+		assertThat(allocator.poll(sequence)).isEqualTo(11L);
+		assertThat(allocator.poll(sequence)).isNull();
+	}
+
+	@Test
+	void queuesBlocksAllocatedConcurrently() {
+
+		allocator.allocate(sequence, 10, 3);
+
+		assertThat(allocator.allocate(sequence, 13, 3)).isEqualTo(13L);
+		assertThat(allocator.poll(sequence)).isEqualTo(11L);
+		assertThat(allocator.poll(sequence)).isEqualTo(12L);
+		assertThat(allocator.poll(sequence)).isEqualTo(14L);
+		assertThat(allocator.poll(sequence)).isEqualTo(15L);
+		assertThat(allocator.poll(sequence)).isNull();
+	}
+
+	@Test
+	void keepsPoolsPerSequence() {
+
+		allocator.allocate(sequence, 10, 3);
+
+		assertThat(allocator.poll(SqlIdentifier.quoted("other_seq"))).isNull();
+		assertThat(allocator.poll(sequence)).isEqualTo(11L);
+	}
+
+	@Test
+	void rejectsNonNumericSequenceValues() {
+		assertThatIllegalStateException().isThrownBy(() -> allocator.next(sequence, 3, () -> "foo"));
+	}
+
+	@Test
+	void handsOutUniqueIdsConcurrently() throws InterruptedException {
+
+		AtomicLong sequenceValue = new AtomicLong(1);
+		Set<Long> ids = ConcurrentHashMap.newKeySet();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		CountDownLatch latch = new CountDownLatch(8);
+
+		try {
+			for (int thread = 0; thread < 8; thread++) {
+				executor.execute(() -> {
+					for (int i = 0; i < 1000; i++) {
+						ids.add(allocator.next(sequence, 10, () -> sequenceValue.getAndAdd(10)));
+					}
+					latch.countDown();
+				});
+			}
+
+			assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(ids).hasSize(8000);
+		assertThat(sequenceValue.get()).isGreaterThanOrEqualTo(8001);
+	}
+
+	@Test
+	void queriesSequenceWithoutBlockingOtherCallers() throws Exception {
+
+		CountDownLatch querying = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		CompletableFuture<Long> slow = CompletableFuture.supplyAsync(() -> allocator.next(sequence, 3, () -> {
+
+			querying.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return 4L;
+		}));
+
+		assertThat(querying.await(10, TimeUnit.SECONDS)).isTrue();
+
+		CompletableFuture<Long> fast = CompletableFuture.supplyAsync(() -> allocator.next(sequence, 3, () -> 1L));
+
+		assertThat(fast.get(10, TimeUnit.SECONDS)).isEqualTo(1L);
+
+		release.countDown();
+
+		assertThat(slow.get(10, TimeUnit.SECONDS)).isEqualTo(4L);
+		assertThat(Stream.generate(() -> allocator.poll(sequence)).limit(5)).containsExactly(2L, 3L, 5L, 6L, null);
+	}
+}
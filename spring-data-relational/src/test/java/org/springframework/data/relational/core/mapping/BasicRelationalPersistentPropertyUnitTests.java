@@ -190,6 +190,22 @@ class BasicRelationalPersistentPropertyUnitTests {
 				.isEqualTo(SqlIdentifier.from(SqlIdentifier.quoted("public"), SqlIdentifier.quoted("my_seq")));
 	}
 
+	@Test
+	void determinesSequenceAllocationSize() {
+
+		assertThat(context.getRequiredPersistentEntity(EntityWithSequence.class).getRequiredIdProperty()
+				.getSequenceAllocationSize()).isEqualTo(1);
+		assertThat(context.getRequiredPersistentEntity(EntityWithPooledSequence.class).getRequiredIdProperty()
+				.getSequenceAllocationSize()).isEqualTo(50);
+	}
+
+	@Test
+	void rejectsNonPositiveSequenceAllocationSize() {
+
+		assertThatThrownBy(() -> context.getRequiredPersistentEntity(EntityWithInvalidAllocationSize.class))
+				.hasStackTraceContaining("allocation size");
+	}
+
 	@SuppressWarnings("unused")
 	static class DummyEntity {
 
@@ -526,4 +542,16 @@ class BasicRelationalPersistentPropertyUnitTests {
 		@Column("myId")
 		@Sequence(sequence = "my_seq", schema = "public") Long id;
 	}
+
+	@Table("entity_with_pooled_sequence")
+	static class EntityWithPooledSequence {
+		@Id
+		@Sequence(sequence = "my_seq", allocationSize = 50) Long id;
+	}
+
+	@Table("entity_with_invalid_allocation_size")
+	static class EntityWithInvalidAllocationSize {
+		@Id
+		@Sequence(sequence = "my_seq", allocationSize = 0) Long id;
+	}
 }
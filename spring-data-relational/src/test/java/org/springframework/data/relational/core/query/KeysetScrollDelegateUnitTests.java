@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+
+/**
+ * Unit tests for {@link KeysetScrollDelegate}.
+ */
+class KeysetScrollDelegateUnitTests {
+
+	RelationalPersistentEntity<?> entity = new RelationalMappingContext().getRequiredPersistentEntity(Person.class);
+
+	@Test
+	void appendsIdentifierToSort() {
+
+		KeysetScrollDelegate delegate = KeysetScrollDelegate.of(ScrollPosition.Direction.FORWARD);
+
+		assertThat(delegate.getSortOrders(Sort.by(Sort.Direction.DESC, "name"), entity))
+				.containsExactly(Sort.Order.desc("name"), Sort.Order.asc("id"));
+		assertThat(delegate.getSortOrders(Sort.by("id"), entity)).containsExactly(Sort.Order.asc("id"));
+	}
+
+	@Test
+	void reversesSortForBackwardScrolling() {
+
+		KeysetScrollDelegate delegate = KeysetScrollDelegate.of(ScrollPosition.Direction.BACKWARD);
+
+		assertThat(delegate.getSortOrders(Sort.by(Sort.Direction.DESC, "name"), entity))
+				.containsExactly(Sort.Order.asc("name"), Sort.Order.desc("id"));
+	}
+
+	@Test
+	void createsCriteriaForEachSortPrefix() {
+
+		KeysetScrollDelegate delegate = KeysetScrollDelegate.of(ScrollPosition.Direction.FORWARD);
+		Sort sort = delegate.getSortOrders(Sort.by(Sort.Direction.DESC, "name"), entity);
+
+		Criteria criteria = delegate.createCriteria(Criteria.where("age").is(42),
+				ScrollPosition.forward(Map.of("name", "Walter", "id", 7L)), sort);
+
+		assertThat(criteria.toString()).contains("age = 42", "name < 'Walter'", "name = 'Walter'", "id > 7");
+	}
+
+	@Test
+	void doesNotRestrictInitialPosition() {
+
+		KeysetScrollDelegate delegate = KeysetScrollDelegate.of(ScrollPosition.Direction.FORWARD);
+
+		Criteria criteria = delegate.createCriteria(null, ScrollPosition.keyset(), Sort.by("id"));
+
+		assertThat(criteria.isEmpty()).isTrue();
+	}
+
+	@Test
+	void rejectsPositionWithoutKeyForSortProperty() {
+
+		KeysetScrollDelegate delegate = KeysetScrollDelegate.of(ScrollPosition.Direction.FORWARD);
+
+		assertThatIllegalStateException().isThrownBy(() -> delegate.createCriteria(null,
+				ScrollPosition.forward(Map.of("name", "Walter")), Sort.by("name").and(Sort.by("id"))));
+	}
+
+	@Test
+	void createsWindowWithKeysOfEachElement() {
+
+		KeysetScrollDelegate delegate = KeysetScrollDelegate.of(ScrollPosition.Direction.FORWARD);
+		Sort sort = delegate.getSortOrders(Sort.by("name"), entity);
+
+		Window<Person> window = delegate.createWindow(
+				List.of(new Person(1L, "Jesse", 20), new Person(2L, "Walter", 50), new Person(3L, "Skyler", 40)), 2, sort,
+				entity);
+
+		assertThat(window.hasNext()).isTrue();
+		assertThat(window.getContent()).extracting(Person::id).containsExactly(1L, 2L);
+		assertThat(window.positionAt(1)).isEqualTo(ScrollPosition.forward(Map.of("name", "Walter", "id", 2L)));
+	}
+
+	@Test
+	void restoresOrderOfBackwardWindow() {
+
+		KeysetScrollDelegate delegate = KeysetScrollDelegate.of(ScrollPosition.Direction.BACKWARD);
+		Sort sort = delegate.getSortOrders(Sort.by("id"), entity);
+
+		// rows returned in reverse order, including one row more than requested
+		Window<Person> window = delegate.createWindow(
+				List.of(new Person(5L, "Jesse", 20), new Person(4L, "Walter", 50), new Person(3L, "Skyler", 40)), 2, sort,
+				entity);
+
+		assertThat(window.hasNext()).isTrue();
+		assertThat(window.getContent()).extracting(Person::id).containsExactly(4L, 5L);
+		assertThat(window.positionAt(0)).isInstanceOfSatisfying(KeysetScrollPosition.class, it -> {
+			assertThat(it.getDirection()).isEqualTo(ScrollPosition.Direction.BACKWARD);
+			assertThat(it.getKeys()).containsEntry("id", 4L);
+		});
+	}
+
+	record Person(@Id Long id, String name, int age) {
+	}
+}
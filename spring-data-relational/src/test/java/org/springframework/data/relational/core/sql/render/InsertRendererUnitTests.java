@@ -61,6 +61,19 @@ public class InsertRendererUnitTests {
 		assertThat(SqlRenderer.toString(insert)).isEqualTo("INSERT INTO bar (foo, baz) VALUES (?, 'foo')");
 	}
 
+	@Test
+	void shouldRenderInsertWithMultipleRows() {
+
+		Table bar = SQL.table("bar");
+
+		Insert insert = Insert.builder().into(bar).columns(bar.columns("foo", "baz")) //
+				.values(SQL.bindMarker(":foo0"), SQL.bindMarker(":baz0")).row() //
+				.values(SQL.bindMarker(":foo1"), SQL.bindMarker(":baz1")).build();
+
+		assertThat(SqlRenderer.toString(insert)).isEqualTo("INSERT INTO bar (foo, baz) VALUES (:foo0, :baz0), (:foo1, :baz1)");
+		assertThat(insert).hasToString("INSERT INTO bar (bar.foo, bar.baz) VALUES(:foo0, :baz0), (:foo1, :baz1)");
+	}
+
 	@Test // DATAJDBC-340
 	public void shouldRenderInsertWithZeroColumns() {
 
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql.render;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.MySqlDialect;
+import org.springframework.data.relational.core.dialect.OracleDialect;
+import org.springframework.data.relational.core.dialect.PostgresDialect;
+import org.springframework.data.relational.core.dialect.RenderContextFactory;
+import org.springframework.data.relational.core.dialect.SqlServerDialect;
+import org.springframework.data.relational.core.sql.SQL;
+import org.springframework.data.relational.core.sql.StatementBuilder;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.core.sql.Upsert;
+
+/**
+ * Unit tests for rendering {@link Upsert} statements with {@link SqlRenderer}.
+ */
+@SuppressWarnings("removal")
+class UpsertRendererUnitTests {
+
+	Table person = SQL.table("person");
+
+	Upsert upsert = StatementBuilder.upsert(person) //
+			.columns(person.columns("id", "name", "age")) //
+			.values(SQL.bindMarker(":id"), SQL.bindMarker(":name"), SQL.bindMarker(":age")) //
+			.key(person.column("id")) //
+			.build();
+
+	@Test
+	void rendersStandardMerge() {
+
+		assertThat(SqlRenderer.toString(upsert)).isEqualTo("MERGE INTO person" //
+				+ " USING (VALUES (:id, :name, :age)) AS src (id, name, age) ON (person.id = src.id)" //
+				+ " WHEN MATCHED THEN UPDATE SET name = src.name, age = src.age" //
+				+ " WHEN NOT MATCHED THEN INSERT (id, name, age) VALUES (src.id, src.name, src.age)");
+	}
+
+	@Test
+	void rendersMergeFromDualForOracle() {
+
+		assertThat(render(OracleDialect.INSTANCE)).isEqualTo("MERGE INTO person" //
+				+ " USING (SELECT :id AS id, :name AS name, :age AS age FROM DUAL) src ON (person.id = src.id)" //
+				+ " WHEN MATCHED THEN UPDATE SET name = src.name, age = src.age" //
+				+ " WHEN NOT MATCHED THEN INSERT (id, name, age) VALUES (src.id, src.name, src.age)");
+	}
+
+	@Test
+	void terminatesMergeForSqlServer() {
+		assertThat(render(SqlServerDialect.INSTANCE)).startsWith("MERGE INTO person USING (VALUES").endsWith(";");
+	}
+
+	@Test
+	void rendersOnConflictForPostgres() {
+
+		assertThat(render(PostgresDialect.INSTANCE)).isEqualTo(
+				"INSERT INTO person (id, name, age) VALUES (:id, :name, :age)" //
+						+ " ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name, age = EXCLUDED.age");
+	}
+
+	@Test
+	void rendersOnDuplicateKeyForMySql() {
+
+		assertThat(render(MySqlDialect.INSTANCE)).isEqualTo("INSERT INTO person (id, name, age) VALUES (:id, :name, :age)" //
+				+ " ON DUPLICATE KEY UPDATE name = VALUES(name), age = VALUES(age)");
+	}
+
+	@Test
+	void doesNotUpdateIfAllColumnsArePartOfTheKey() {
+
+		Upsert keyOnly = StatementBuilder.upsert(person).columns(person.column("id")).values(SQL.bindMarker(":id"))
+				.key(person.column("id")).build();
+
+		assertThat(SqlRenderer.toString(keyOnly)).doesNotContain("WHEN MATCHED");
+		assertThat(SqlRenderer.create(new RenderContextFactory(PostgresDialect.INSTANCE).createRenderContext())
+				.render(keyOnly)).endsWith("ON CONFLICT (id) DO NOTHING");
+	}
+
+	@Test
+	void rejectsKeyColumnThatIsNotWritten() {
+
+		assertThatIllegalStateException().isThrownBy(() -> StatementBuilder.upsert(person).columns(person.column("name"))
+				.values(SQL.bindMarker(":name")).key(person.column("id")).build());
+	}
+
+	private String render(Dialect dialect) {
+		return SqlRenderer.create(new RenderContextFactory(dialect).createRenderContext()).render(upsert);
+	}
+}
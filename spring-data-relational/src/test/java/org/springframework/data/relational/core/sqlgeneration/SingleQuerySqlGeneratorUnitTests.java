@@ -15,6 +15,7 @@
  */
 package org.springframework.data.relational.core.sqlgeneration;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.springframework.data.relational.core.sqlgeneration.SqlAssert.*;
 
 import java.util.List;
@@ -22,10 +23,12 @@ import java.util.List;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.dialect.PostgresDialect;
 import org.springframework.data.relational.core.mapping.AggregatePath;
+import org.springframework.data.relational.core.mapping.Embedded;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
@@ -125,6 +128,20 @@ class SingleQuerySqlGeneratorUnitTests {
 					.extractWhereClause().isEqualTo("\"trivial_aggregate\".id IN (:ids)");
 		}
 
+		@Test
+		void createSelectForSortedPage() {
+
+			String sql = sqlGenerator.findAll(persistentEntity, null, Sort.by(Sort.Direction.DESC, "name"), 10, 20);
+
+			SqlAssert fullSelect = assertThatParsed(sql);
+			fullSelect.extractOrderBy().isEqualTo(aliases.getRootOrderAlias(path()) + ", " + alias("id") + ", rn");
+
+			fullSelect.hasInlineView() //
+					.hasInlineViewSelectingFrom("\"trivial_aggregate\"") //
+					.extractOrderBy().isEqualTo("\"trivial_aggregate\".\"name\" DESC, \"trivial_aggregate\".\"id\"");
+
+			assertThat(sql).contains("LIMIT 10 OFFSET 20");
+		}
 	}
 
 	@Nested
@@ -182,6 +199,68 @@ class SingleQuerySqlGeneratorUnitTests {
 			baseSelect.hasJoin().on(alias("id"), backref);
 		}
 
+		@Test
+		void rejectsSortByPropertyOutsideOfRootTable() {
+
+			assertThatIllegalArgumentException()
+					.isThrownBy(() -> sqlGenerator.findAll(persistentEntity, null, Sort.by("trivials.name"), -1, -1));
+		}
+
+	}
+
+	@Nested
+	class AggregateWithEmbedded extends AbstractTestFixture {
+
+		AggregateWithEmbedded() {
+			super(EmbeddingAggregate.class);
+		}
+
+		@Test
+		void selectsEmbeddedColumnsFromTableOfOwningEntity() {
+
+			String sql = sqlGenerator.findAll(persistentEntity);
+
+			assertThatParsed(sql).hasInlineView() //
+					.hasExactlyColumns( //
+							col(rnAlias()).as("rn"), //
+							col(rnAlias()), //
+							col(alias("id")), //
+							col(alias("name")), //
+							col(alias("address.street")) //
+					) //
+					.hasInlineViewSelectingFrom("\"embedding_aggregate\"") //
+					.hasExactlyColumns( //
+							lit(1).as(rnAlias()), //
+							lit(1).as(rcAlias()), //
+							col("\"id\"").as(alias("id")), //
+							col("\"name\"").as(alias("name")), //
+							col("\"address_street\"").as(alias("address.street")) //
+					);
+		}
+	}
+
+	@Nested
+	class AggregateWithNestedCollection extends AbstractTestFixture {
+
+		AggregateWithNestedCollection() {
+			super(NestedAggregate.class);
+		}
+
+		@Test
+		void joinsNestedEntitiesOnIdOfReferencedEntity() {
+
+			String sql = sqlGenerator.findAll(persistentEntity);
+
+			SqlAssert baseSelect = assertThatParsed(sql).hasInlineView();
+			baseSelect.hasJoin().on(alias("id"), backRefAlias("children"));
+
+			assertThat(sql) //
+					.contains(alias("children.id") + " = " + backRefAlias("children.trivials")) //
+					.contains(aliases.getElementTableAlias(path("children"))) //
+					.contains(aliases.getJoinAlias(path("children"))) //
+					.contains("case when %s = %s THEN %s else null end".formatted(rnAlias("children.trivials"),
+							aliases.getElementRowNumberAlias(path("children")), alias("children.trivials.name")));
+		}
 	}
 
 	private AggregatePath path(Class<?> type) {
@@ -205,6 +284,18 @@ class SingleQuerySqlGeneratorUnitTests {
 	record SingleReferenceAggregate(@Id Long id, String name, List<TrivialAggregate> trivials) {
 	}
 
+	record Address(String street) {
+	}
+
+	record EmbeddingAggregate(@Id Long id, String name, @Embedded.Nullable(prefix = "address_") Address address) {
+	}
+
+	record Child(@Id Long id, String name, List<TrivialAggregate> trivials) {
+	}
+
+	record NestedAggregate(@Id Long id, String name, List<Child> children) {
+	}
+
 	private class AbstractTestFixture {
 		final Class<?> aggregateRootType;
 		final SingleQuerySqlGenerator sqlGenerator;
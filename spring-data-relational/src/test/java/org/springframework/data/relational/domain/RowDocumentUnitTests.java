@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link RowDocument}.
+ */
+class RowDocumentUnitTests {
+
+	RowDocument.Columns columns = RowDocument.Columns.of(List.of("ID", "name"));
+
+	@Test
+	void columnBackedDocumentLooksUpValuesIgnoringCase() {
+
+		RowDocument document = new RowDocument(columns, new Object[] { 23L, "Alfred" });
+
+		assertThat(document.get("id")).isEqualTo(23L);
+		assertThat(document.get("NAME")).isEqualTo("Alfred");
+		assertThat(document.get("other")).isNull();
+		assertThat(document.containsKey("Id")).isTrue();
+		assertThat(document.containsKey("other")).isFalse();
+		assertThat(document).hasSize(2);
+	}
+
+	@Test
+	void columnBackedDocumentEqualsMapBackedDocument() {
+
+		RowDocument document = new RowDocument(columns, new Object[] { 23L, null });
+		RowDocument expected = new RowDocument().append("ID", 23L).append("name", null);
+
+		assertThat(document).isEqualTo(expected);
+		assertThat(expected).isEqualTo(document);
+		assertThat(document.hashCode()).isEqualTo(expected.hashCode());
+	}
+
+	@Test
+	void columnBackedDocumentAcceptsAdditionalEntries() {
+
+		RowDocument document = new RowDocument(columns, new Object[] { 23L, "Alfred" });
+
+		document.put("Name", "Batman");
+		document.put("alias", "Bruce");
+		document.remove("id");
+
+		assertThat(document).containsExactly(Map.entry("name", "Batman"), Map.entry("alias", "Bruce"));
+		assertThat(document.get("ALIAS")).isEqualTo("Bruce");
+		assertThat(document.containsKey("ID")).isFalse();
+	}
+
+	@Test
+	void rejectsColumnsDifferingOnlyInCase() {
+		assertThatIllegalArgumentException().isThrownBy(() -> RowDocument.Columns.of(List.of("id", "ID")));
+	}
+
+	@Test
+	void rejectsValuesNotMatchingColumns() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new RowDocument(columns, new Object[] { 23L }));
+	}
+}